@@ -1,20 +1,18 @@
 package api;
 
-import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.SplittableRandom;
 
 /*
 * stock data base from alpha vantage to fetch stock data from external database
@@ -23,12 +21,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class AlphaStockDataBase implements StockDataBase {
 
     private static final String BASE_URL = "https://www.alphavantage.co/query";
+    public static final String OUTPUT_COMPACT = "compact";
+    public static final String OUTPUT_FULL = "full";
     private final String apiKey;
+    private final String baseUrl;
     private final HttpClient httpClient;
+    private volatile String outputSize = OUTPUT_COMPACT;
 
     // intialise things
     public AlphaStockDataBase(String apiKey) {
+        this(apiKey, BASE_URL);
+    }
+
+    // intialise things with a different server (e.g. a local stub server in tests)
+    public AlphaStockDataBase(String apiKey, String baseUrl) {
         this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
         this.httpClient = HttpClient.newHttpClient();
     }
 
@@ -39,34 +47,68 @@ public class AlphaStockDataBase implements StockDataBase {
      * @throws Exception if something goes wrong (api call doesn't work)
      */
     public void getStockPrices(String symbol, String month) throws Exception {
+        // send the request and stream the body instead of buffering it into a string
+        HttpResponse<InputStream> response = httpClient.send(buildRequest(symbol), HttpResponse.BodyHandlers.ofInputStream());
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) { // if the api call not successful...
+                throw new RuntimeException("API request failed with code: " + response.statusCode());
+            }
+            // For daily data, we'll use "recent" as the identifier since we can't specify month with free tier
+            String filename = symbol + "_recent";
+            saveToStore(body, filename);
+            System.out.println("Fetched " + symbol + " data and saved to " + filename + ".json");
+        }
+    }
+
+    /**
+     * sets how much history to request: "compact" (100 most recent days) or "full" (20+ years).
+     * full responses are streamed straight into the price store, so their size is not a problem
+     * @param outputSize "compact" or "full"
+     */
+    public void setOutputSize(String outputSize) {
+        if (!OUTPUT_COMPACT.equals(outputSize) && !OUTPUT_FULL.equals(outputSize)) {
+            throw new IllegalArgumentException("Output size must be compact or full: " + outputSize);
+        }
+        this.outputSize = outputSize;
+    }
+
+    public String getOutputSize() {
+        return outputSize;
+    }
+
+    /**
+     * builds the request for the recent daily prices of a stock
+     * @param symbol the symbol of the stock
+     * @return the GET request to send
+     */
+    public HttpRequest buildRequest(String symbol) {
         // For free tier, use TIME_SERIES_DAILY which gives 100 days of data with compact
         // This is much more useful than 100 5-minute data points
-        String url = BASE_URL +
+        String url = baseUrl +
                 "?function=TIME_SERIES_DAILY" +
-                "&outputsize=compact" + // Compact gives 100 most recent days (works for free tier)
+                "&outputsize=" + outputSize + // Compact gives 100 most recent days (works for free tier)
                 "&symbol=" + symbol +
                 "&apikey=" + apiKey;
 
         // Note: month parameter doesn't work well with free tier, so we just fetch recent data
         // The compact daily data will give us ~100 trading days (about 5 months worth)
 
-        HttpRequest request = HttpRequest.newBuilder()
+        return HttpRequest.newBuilder()
                 .uri(URI.create(url)) // url to go to
                 .GET()                 // get method from http
                 .build();               // build the request
+    }
 
-        // send the request, convert returned json to string, store response in response object
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) { // if the api call not successful...
-            throw new RuntimeException("API request failed with code: " + response.statusCode());
-        }
-        else { // otherwise (api call successful, can save data to a JSON file)
-            // For daily data, we'll use "recent" as the identifier since we can't specify month with free tier
-            String filename = symbol + "_recent";
-            saveToFile(response.body(), filename);
-            System.out.println("Fetched " + symbol + " data and saved to " + filename + ".json");
-        }
+    /**
+     * stream an api response into the json file and its binary price store in one pass,
+     * without ever holding the whole payload in memory
+     * @param body the response body
+     * @param filename the filename (without extension) to save to
+     * @throws IOException if the body cannot be read or the files cannot be written
+     */
+    public void saveToStore(InputStream body, String filename) throws IOException {
+        StockPriceStore.ingest(body, Paths.get(StockPriceStore.STOCK_DATA_DIR + filename + ".json"));
     }
 
     /**
@@ -96,107 +138,16 @@ public class AlphaStockDataBase implements StockDataBase {
      * @throws Exception if JSON data doesn't exist or doesn't have the specified day
      */
     public static List<Double> getIntradayOpensForDay(String symbol, String month, int dayIndex) throws Exception {
-        String filename = symbol + "_" + month;
-
-        // use mapper to parse json file
-        ObjectMapper mapper = new ObjectMapper();
-
-        // Load from classpath resources (works in both development and production)
-        String resourcePath = "/stock_data/" + filename + ".json";
-        java.io.InputStream inputStream = AlphaStockDataBase.class.getResourceAsStream(resourcePath);
-
-        if (inputStream == null) {
-            // Fallback to file system for development
-            String filePath = "src/main/resources/stock_data/" + filename + ".json";
-            File file = new File(filePath);
-            if (file.exists()) {
-                inputStream = new java.io.FileInputStream(file);
-            } else {
-                throw new RuntimeException("Stock data file not found for symbol: " + symbol + " month: " + month);
-            }
-        }
-
-        // Parse JSON from input stream
-        JsonNode rootNode = mapper.readTree(inputStream);
-        JsonNode timeSeries = rootNode.get("Time Series (5min)");
+        StockPriceStore store = openStore(symbol, month,
+                "Stock data file not found for symbol: " + symbol + " month: " + month);
 
-        // If 5min data not found, try daily data
-        if (timeSeries == null) {
-            timeSeries = rootNode.get("Time Series (Daily)");
+        // Validate we have enough days
+        if (dayIndex >= store.getDayCount()) {
+            throw new RuntimeException("Day index " + dayIndex + " exceeds available data. Only "
+                    + store.getDayCount() + " days available.");
         }
 
-        if (timeSeries == null) { // if time series data not found
-            throw new RuntimeException("No 'Time Series (5min)' or 'Time Series (Daily)' found.");
-        }
-
-        // Check if we have daily or intraday data
-        boolean isDailyData = rootNode.get("Time Series (Daily)") != null;
-
-        if (isDailyData) {
-            // Handle daily data - simulate intraday by creating multiple prices from daily open
-            List<String> dates = new ArrayList<>();
-            timeSeries.fieldNames().forEachRemaining(dates::add);
-
-            // sort dates from most recent to the least recent
-            Collections.sort(dates, Collections.reverseOrder());
-
-            // Validate we have enough days
-            if (dayIndex >= dates.size()) {
-                throw new RuntimeException("Day index " + dayIndex + " exceeds available data. Only " + dates.size() + " days available.");
-            }
-
-            // Get data for the specified day
-            String targetDate = dates.get(dayIndex);
-            JsonNode dayData = timeSeries.get(targetDate);
-
-            // Get the open price for the day
-            double openPrice = dayData.get("1. open").asDouble();
-            double highPrice = dayData.get("2. high").asDouble();
-            double lowPrice = dayData.get("3. low").asDouble();
-            double closePrice = dayData.get("4. close").asDouble();
-
-            // Simulate intraday data by creating a price progression from open to close
-            List<Double> prices = new ArrayList<>();
-            int numDataPoints = 78; // Simulate ~78 5-minute intervals in a trading day
-
-            for (int i = 0; i < numDataPoints; i++) {
-                double progress = (double) i / (numDataPoints - 1);
-                // Create a simulated price that moves from open to close with some variation
-                double basePrice = openPrice + (closePrice - openPrice) * progress;
-                // Add some random variation within the day's range
-                double variation = (Math.random() - 0.5) * (highPrice - lowPrice) * 0.3;
-                double price = Math.max(lowPrice, Math.min(highPrice, basePrice + variation));
-                prices.add(price);
-            }
-
-            return prices;
-        } else {
-            // Handle intraday 5min data
-            List<String> dates = new ArrayList<>();
-            timeSeries.fieldNames().forEachRemaining(timestamp -> {
-                String date = timestamp.substring(0, 10);
-                if (!dates.contains(date)) dates.add(date);
-            });
-
-            Collections.sort(dates, Collections.reverseOrder());
-
-            if (dayIndex >= dates.size()) {
-                throw new RuntimeException("Day index " + dayIndex + " exceeds available data. Only " + dates.size() + " days available.");
-            }
-
-            String targetDate = dates.get(dayIndex);
-
-            final List<Double> prices = new ArrayList<>();
-            final JsonNode finalTimeSeries = timeSeries;
-            timeSeries.fieldNames().forEachRemaining(timestamp -> {
-                if (timestamp.startsWith(targetDate)) {
-                    prices.add(finalTimeSeries.get(timestamp).get("1. open").asDouble());
-                }
-            });
-
-            Collections.reverse(prices);
-            return prices;
-        }
+        return pricesForDay(store, dayIndex, new SplittableRandom());
     }
 
     /**
@@ -209,14 +160,36 @@ public class AlphaStockDataBase implements StockDataBase {
      * @throws Exception if data is insufficient
      */
     public static Map<Integer, List<Double>> getFiveDayPrices(String symbol, String month, int startDayIndex) throws Exception {
+        return getFiveDayPrices(symbol, month, startDayIndex, new SplittableRandom());
+    }
+
+    /**
+     * Returns stock prices for 5 consecutive days starting from the given day index, taking
+     * the variation of prices simulated from daily data from the given generator, so the
+     * same generator state gives the same prices.
+     * @param symbol the stock's symbol
+     * @param month the month in YYYY-MM format
+     * @param startDayIndex the starting day index (0-based)
+     * @param random the generator for simulated intraday prices, used only by this call
+     * @return a map where keys are game day numbers (1-5) and values are lists of prices
+     * @throws Exception if data is insufficient
+     */
+    public static Map<Integer, List<Double>> getFiveDayPrices(String symbol, String month, int startDayIndex,
+                                                              SplittableRandom random) throws Exception {
+        // open the store once and slice all five days out of it
+        StockPriceStore store = openStore(symbol, month,
+                "Stock data file not found for symbol: " + symbol + " month: " + month);
         Map<Integer, List<Double>> gameDayPrices = new HashMap<>();
 
         for (int i = 0; i < 5; i++) {
             int dayIndex = startDayIndex + i;
             int gameDay = i + 1;  // Game days are 1-indexed
 
-            List<Double> prices = getIntradayOpensForDay(symbol, month, dayIndex);
-            gameDayPrices.put(gameDay, prices);
+            if (dayIndex >= store.getDayCount()) {
+                throw new RuntimeException("Day index " + dayIndex + " exceeds available data. Only "
+                        + store.getDayCount() + " days available.");
+            }
+            gameDayPrices.put(gameDay, pricesForDay(store, dayIndex, random));
         }
 
         return gameDayPrices;
@@ -234,101 +207,71 @@ public class AlphaStockDataBase implements StockDataBase {
         if (5 < gameDay || gameDay < 1)
             throw new IllegalArgumentException("Invalid day of game: " + gameDay);
 
-        // use mapper to parse json file
-        ObjectMapper mapper = new ObjectMapper();
-        
-        // Load from classpath resources (works in both development and production)
-        String resourcePath = "/stock_data/" + symbol;
-        java.io.InputStream inputStream = AlphaStockDataBase.class.getResourceAsStream(resourcePath);
-        
-        if (inputStream == null) {
-            // Fallback to file system for development
-            String filePath = "src/main/resources/stock_data/" + symbol;
-            File file = new File(filePath);
-            if (file.exists()) {
-                inputStream = new java.io.FileInputStream(file);
-            } else {
-                throw new RuntimeException("Stock data file not found for symbol: " + symbol);
-            }
-        }
-        
-        // Parse JSON from input stream
-        JsonNode rootNode = mapper.readTree(inputStream);
-        JsonNode timeSeries = rootNode.get("Time Series (5min)");
-        
-        // If 5min data not found, try daily data
-        if (timeSeries == null) {
-            timeSeries = rootNode.get("Time Series (Daily)");
+        StockPriceStore store = openStore(symbol, null, "Stock data file not found for symbol: " + symbol);
+
+        // Validate we have enough days
+        if (store.getDayCount() < 5) {
+            throw new RuntimeException("Not enough " + (store.isDaily() ? "daily" : "intraday")
+                    + " data. Need at least 5 days, found: " + store.getDayCount());
         }
 
-        // if time series data not found
-        if (timeSeries == null) {
-            throw new RuntimeException("No 'Time Series (5min)' or 'Time Series (Daily)' found.");
+        // get data from the right day, where day 1 is the 5th most recent day, day 5 is the most recent past day
+        return pricesForDay(store, 5 - gameDay, new SplittableRandom());
+    }
+
+    /**
+     * gets the price store for a stock data file from the shared cache, converting the JSON on first use
+     * @param symbol the stock's symbol
+     * @param month the data identifier (month or "recent"), or null for legacy game-day files
+     * @param notFoundMessage the error message if there is no such file
+     * @return the store
+     * @throws Exception if the file is missing or has no time series
+     */
+    private static StockPriceStore openStore(String symbol, String month, String notFoundMessage) throws Exception {
+        StockPriceStore store = TimeSeriesCache.getInstance().get(symbol, month);
+        if (store == null) {
+            throw new RuntimeException(notFoundMessage);
         }
+        return store;
+    }
+
+    /**
+     * returns the open prices of one day from the store
+     * @param store the price store
+     * @param dayIndex the day index, where 0 is the most recent day
+     * @param random the generator for the variation of prices simulated from daily data
+     * @return list of stock prices (double)
+     */
+    private static List<Double> pricesForDay(StockPriceStore store, int dayIndex, SplittableRandom random) {
+        List<Double> prices = new ArrayList<>();
 
-        // Check if we have daily or intraday data
-        boolean isDailyData = rootNode.get("Time Series (Daily)") != null;
-        
-        if (isDailyData) {
+        if (store.isDaily()) {
             // Handle daily data - simulate intraday by creating multiple prices from daily open
-            List<String> dates = new ArrayList<>();
-            timeSeries.fieldNames().forEachRemaining(dates::add);
-            
-            // sort dates from most recent to the least recent
-            Collections.sort(dates, Collections.reverseOrder());
-            
-            // Validate we have enough days
-            if (dates.size() < 5) {
-                throw new RuntimeException("Not enough daily data. Need at least 5 days, found: " + dates.size());
-            }
-            
-            // get data from the right day, where day 1 is the 5th most recent day, day 5 is the most recent past day
-            String targetDate = dates.get(5 - gameDay);
-            JsonNode dayData = timeSeries.get(targetDate);
-            
-            // Get the open price for the day
-            double openPrice = dayData.get("1. open").asDouble();
-            double highPrice = dayData.get("2. high").asDouble();
-            double lowPrice = dayData.get("3. low").asDouble();
-            double closePrice = dayData.get("4. close").asDouble();
-            
-            // Simulate intraday data by creating a price progression from open to close
-            List<Double> prices = new ArrayList<>();
+            int row = store.dayStart(dayIndex);
+            double openPrice = store.open(row);
+            double highPrice = store.high(row);
+            double lowPrice = store.low(row);
+            double closePrice = store.close(row);
+
             int numDataPoints = 78; // Simulate ~78 5-minute intervals in a trading day
-            
+
             for (int i = 0; i < numDataPoints; i++) {
                 double progress = (double) i / (numDataPoints - 1);
                 // Create a simulated price that moves from open to close with some variation
                 double basePrice = openPrice + (closePrice - openPrice) * progress;
                 // Add some random variation within the day's range
-                double variation = (Math.random() - 0.5) * (highPrice - lowPrice) * 0.3;
+                double variation = (random.nextDouble() - 0.5) * (highPrice - lowPrice) * 0.3;
                 double price = Math.max(lowPrice, Math.min(highPrice, basePrice + variation));
                 prices.add(price);
             }
-            
-            return prices;
         } else {
-            // Handle intraday 5min data (original logic)
-            List<String> dates = new ArrayList<>();
-            timeSeries.fieldNames().forEachRemaining(timestamp -> {
-                String date = timestamp.substring(0, 10);
-                if (!dates.contains(date)) dates.add(date);
-            });
-
-            Collections.sort(dates, Collections.reverseOrder());
-            String targetDate = dates.get(5 - gameDay);
-
-            final List<Double> prices = new ArrayList<>();
-            final JsonNode finalTimeSeries = timeSeries;
-            timeSeries.fieldNames().forEachRemaining(timestamp -> {
-                if (timestamp.startsWith(targetDate)) {
-                    prices.add(finalTimeSeries.get(timestamp).get("1. open").asDouble());
-                }
-            });
-
-            Collections.reverse(prices);
-            return prices;
+            // Handle intraday 5min data, bars are already in chronological order
+            for (double open : store.opensForDay(dayIndex)) {
+                prices.add(open);
+            }
         }
+
+        return prices;
     }
 
 }
@@ -0,0 +1,136 @@
+package api;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the 5-day windows in one stock data file, tracking which ones are unplayed.
+ *
+ * Window i starts at day index i, so a file with N trading days has N - 4 windows.
+ * Unplayed windows are kept both in a BitSet (membership) and in a dense array with
+ * swap-remove, so picking a random unplayed window and marking one played are O(1).
+ */
+public class PeriodIndex {
+    public static final int PERIOD_DAYS = 5;
+
+    private static final Pattern PERIOD_ID = Pattern.compile("(.+)_day(\\d+)-(\\d+)");
+
+    private final String dataIdentifier;
+    private final int dayCount;
+    private final BitSet unplayed;
+    private final int[] unplayedStarts;
+    private final int[] positions;
+    private int unplayedCount;
+
+    /**
+     * Builds the index for one data file.
+     * @param dataIdentifier the data identifier (month or "recent")
+     * @param dayCount the number of trading days in the file
+     * @param playedPeriods the period ids already played for this stock
+     */
+    public PeriodIndex(String dataIdentifier, int dayCount, List<String> playedPeriods) {
+        this.dataIdentifier = dataIdentifier;
+        this.dayCount = dayCount;
+        int windows = Math.max(0, dayCount - PERIOD_DAYS + 1);
+        this.unplayed = new BitSet(windows);
+        this.unplayedStarts = new int[windows];
+        this.positions = new int[windows];
+
+        unplayed.set(0, windows);
+        for (int start = 0; start < windows; start++) {
+            unplayedStarts[start] = start;
+            positions[start] = start;
+        }
+        unplayedCount = windows;
+
+        for (String periodId : playedPeriods) {
+            markPlayed(periodId);
+        }
+    }
+
+    /**
+     * Creates the period id for a window, e.g. "recent_day3-7".
+     */
+    public static String periodId(String dataIdentifier, int startDay) {
+        return dataIdentifier + "_day" + startDay + "-" + (startDay + PERIOD_DAYS - 1);
+    }
+
+    /**
+     * Marks a window as played. Ids of other data files, replays or
+     * windows outside this file are ignored.
+     * @param periodId the period id
+     * @return true if an unplayed window was marked
+     */
+    public boolean markPlayed(String periodId) {
+        Matcher matcher = PERIOD_ID.matcher(periodId);
+        if (!matcher.matches() || !matcher.group(1).equals(dataIdentifier)) {
+            return false;
+        }
+        int start = Integer.parseInt(matcher.group(2));
+        if (Integer.parseInt(matcher.group(3)) != start + PERIOD_DAYS - 1) {
+            return false;
+        }
+        return markPlayed(start);
+    }
+
+    /**
+     * Marks the window starting at the given day as played.
+     * @param startDay the first day index of the window
+     * @return true if an unplayed window was marked
+     */
+    public boolean markPlayed(int startDay) {
+        if (startDay < 0 || startDay >= positions.length || !unplayed.get(startDay)) {
+            return false;
+        }
+        unplayed.clear(startDay);
+
+        // move the last unplayed start into the freed slot
+        int slot = positions[startDay];
+        int last = unplayedStarts[--unplayedCount];
+        unplayedStarts[slot] = last;
+        positions[last] = slot;
+        return true;
+    }
+
+    /**
+     * Picks a random unplayed window.
+     * @param random the random source
+     * @return the start day of the window, or -1 if every window has been played
+     */
+    public int randomUnplayedStart(Random random) {
+        if (unplayedCount == 0) {
+            return -1;
+        }
+        return unplayedStarts[random.nextInt(unplayedCount)];
+    }
+
+    /**
+     * Gets the start day of the n-th unplayed window (in no particular order).
+     */
+    public int unplayedStart(int n) {
+        return unplayedStarts[n];
+    }
+
+    public boolean isUnplayed(int startDay) {
+        return unplayed.get(startDay);
+    }
+
+    public int getUnplayedCount() {
+        return unplayedCount;
+    }
+
+    public int getWindowCount() {
+        return positions.length;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public String getDataIdentifier() {
+        return dataIdentifier;
+    }
+}
@@ -0,0 +1,93 @@
+package api;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import use_case.stock_backtest.BacktestWindow;
+import use_case.stock_backtest.StockBacktestDataAccessInterface;
+
+/**
+ * Data access object for the stock backtest: lists the 5-day windows of every
+ * SYMBOL_identifier.json file in the stock data folder and reads prices like the game does.
+ */
+public class StockBacktestDataAccessObject extends AlphaStockDataAccessObject
+        implements StockBacktestDataAccessInterface {
+    private static final String METADATA_FILE = "src/main/resources/stock_metadata.json";
+    private static final String UNKNOWN_RISK = "UNKNOWN";
+
+    private final File stockDataDir;
+    private final File metadataFile;
+
+    public StockBacktestDataAccessObject() {
+        this(new File(StockPriceStore.STOCK_DATA_DIR), new File(METADATA_FILE));
+    }
+
+    public StockBacktestDataAccessObject(File stockDataDir, File metadataFile) {
+        this.stockDataDir = stockDataDir;
+        this.metadataFile = metadataFile;
+    }
+
+    @Override
+    public List<BacktestWindow> getAllWindows() throws Exception {
+        Map<String, String> riskLevels = loadRiskLevels();
+        List<BacktestWindow> windows = new ArrayList<>();
+
+        File[] files = stockDataDir.listFiles((dir, name) -> name.endsWith(".json") && name.indexOf('_') > 0);
+        if (files == null) {
+            throw new IOException("Stock data folder not found: " + stockDataDir);
+        }
+        Arrays.sort(files);
+
+        for (File file : files) {
+            String name = file.getName().substring(0, file.getName().length() - ".json".length());
+            int split = name.lastIndexOf('_');
+            String symbol = name.substring(0, split);
+            String dataIdentifier = name.substring(split + 1);
+
+            int dayCount;
+            try {
+                StockPriceStore store = TimeSeriesCache.getInstance().get(symbol, dataIdentifier);
+                dayCount = store == null ? 0 : store.getDayCount();
+            } catch (IOException | RuntimeException e) {
+                // not a time series file
+                continue;
+            }
+
+            String riskLevel = riskLevels.getOrDefault(symbol, UNKNOWN_RISK);
+            for (int start = 0; start + 5 <= dayCount; start++) {
+                windows.add(new BacktestWindow(symbol, dataIdentifier, start, riskLevel));
+            }
+        }
+        return windows;
+    }
+
+    @Override
+    public Map<Integer, List<Double>> getFiveDayPrices(String symbol, String month, int startDayIndex,
+                                                       SplittableRandom random) throws Exception {
+        return AlphaStockDataBase.getFiveDayPrices(symbol, month, startDayIndex, random);
+    }
+
+    private Map<String, String> loadRiskLevels() throws IOException {
+        Map<String, String> riskLevels = new HashMap<>();
+        if (!metadataFile.exists()) {
+            return riskLevels;
+        }
+        JsonNode stocks = new ObjectMapper().readTree(metadataFile).get("stocks");
+        if (stocks != null) {
+            stocks.fields().forEachRemaining(entry -> {
+                JsonNode risk = entry.getValue().get("riskLevel");
+                riskLevels.put(entry.getKey(), risk == null ? UNKNOWN_RISK : risk.asText());
+            });
+        }
+        return riskLevels;
+    }
+}
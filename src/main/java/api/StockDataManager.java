@@ -10,6 +10,7 @@ import java.io.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages stock data, metadata, and tracking of played periods.
@@ -19,11 +20,17 @@ public class StockDataManager {
     private static final String STOCK_DATA_DIR = "src/main/resources/stock_data/";
     private final ObjectMapper mapper;
     private final AlphaStockDataBase stockDataBase;
+    private final TimeSeriesCache seriesCache;
+    private final StockDataPrefetcher prefetcher;
+    private final Map<String, PeriodIndex> periodIndexes = new HashMap<>();
+    private final Random random = new Random();
     private Map<String, StockInfo> stockMetadata;
 
     public StockDataManager(String apiKey) {
         this.mapper = new ObjectMapper();
         this.stockDataBase = new AlphaStockDataBase(apiKey);
+        this.seriesCache = TimeSeriesCache.getInstance();
+        this.prefetcher = new StockDataPrefetcher(stockDataBase);
         loadMetadata();
     }
 
@@ -81,7 +88,7 @@ public class StockDataManager {
     /**
      * Saves stock metadata to JSON file.
      */
-    public void saveMetadata() {
+    public synchronized void saveMetadata() {
         try {
             ObjectNode root = mapper.createObjectNode();
             ObjectNode stocksNode = mapper.createObjectNode();
@@ -118,15 +125,15 @@ public class StockDataManager {
     /**
      * Gets all available stocks.
      */
-    public List<StockInfo> getAllStocks() {
+    public synchronized List<StockInfo> getAllStocks() {
         return new ArrayList<>(stockMetadata.values());
     }
 
     /**
-     * Ensures stock has data available. Fetches data if needed.
+     * Ensures stock has data available. Fetches data if needed, blocking the calling thread.
      * @return true if data is available, false otherwise
      */
-    public boolean ensureStockData(String symbol) throws Exception {
+    public synchronized boolean ensureStockData(String symbol) throws Exception {
         StockInfo info = stockMetadata.get(symbol);
         if (info == null) {
             throw new IllegalArgumentException("Unknown stock symbol: " + symbol);
@@ -136,20 +143,88 @@ public class StockDataManager {
         if (info.getAvailableMonths().isEmpty()) {
             System.out.println("No data available for " + symbol + ", fetching...");
 
-            // Fetch recent data (will get ~100 days)
+            // Fetch recent data (will get ~100 days), dropping any cached copy of the file first
+            seriesCache.invalidate(symbol, "recent");
             stockDataBase.getStockPrices(symbol, null);
+            recordFetchedData(symbol);
+            return true;
+        }
 
-            // Add "recent" as available data identifier
-            info.addAvailableMonth("recent");
+        return true;
+    }
 
-            // Calculate volatility from the fetched data
-            calculateAndUpdateVolatility(symbol, "recent");
+    /**
+     * Ensures stock has data available without blocking. Fetches data in the background if needed.
+     * @return a future completed with true once data is available
+     */
+    public CompletableFuture<Boolean> ensureStockDataAsync(String symbol) {
+        synchronized (this) {
+            StockInfo info = stockMetadata.get(symbol);
+            if (info == null) {
+                return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown stock symbol: " + symbol));
+            }
+            if (!info.getAvailableMonths().isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+        }
 
-            saveMetadata();
+        System.out.println("No data available for " + symbol + ", fetching in the background...");
+        seriesCache.invalidate(symbol, "recent");
+        return prefetcher.fetch(symbol).thenApply(ignored -> {
+            recordFetchedData(symbol);
             return true;
+        });
+    }
+
+    /**
+     * Warms every stock in the metadata in the background: fetches stocks that have no data yet
+     * and loads the series of the others into the shared cache.
+     * @return a future completed when every stock has been handled (failures are logged, not thrown)
+     */
+    public CompletableFuture<Void> prefetchAllStocks() {
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (StockInfo info : getAllStocks()) {
+            String symbol = info.getSymbol();
+            List<String> dataIdentifiers;
+            synchronized (this) {
+                dataIdentifiers = new ArrayList<>(info.getAvailableMonths());
+            }
+
+            CompletableFuture<?> task;
+            if (dataIdentifiers.isEmpty()) {
+                task = ensureStockDataAsync(symbol);
+            } else {
+                task = prefetcher.runAsync(() -> {
+                    for (String dataId : dataIdentifiers) {
+                        try {
+                            seriesCache.get(symbol, dataId);
+                        } catch (IOException | RuntimeException e) {
+                            throw new IllegalStateException(e.getMessage(), e);
+                        }
+                    }
+                });
+            }
+            tasks.add(task.exceptionally(error -> {
+                System.err.println("Could not prefetch " + symbol + ": " + error.getMessage());
+                return null;
+            }));
         }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]));
+    }
 
-        return true;
+    /**
+     * Records freshly fetched "recent" data for a stock and saves the metadata.
+     */
+    private synchronized void recordFetchedData(String symbol) {
+        StockInfo info = stockMetadata.get(symbol);
+
+        // Add "recent" as available data identifier
+        info.addAvailableMonth("recent");
+
+        // Calculate volatility from the fetched data
+        calculateAndUpdateVolatility(symbol, "recent");
+
+        saveMetadata();
     }
 
     /**
@@ -183,31 +258,19 @@ public class StockDataManager {
      */
     private void calculateAndUpdateVolatility(String symbol, String dataIdentifier) {
         try {
-            String filePath = STOCK_DATA_DIR + symbol + "_" + dataIdentifier + ".json";
-            File file = new File(filePath);
+            StockPriceStore series = seriesCache.get(symbol, dataIdentifier);
 
-            if (!file.exists()) {
+            if (series == null) {
                 return;
             }
 
-            JsonNode root = mapper.readTree(file);
-            JsonNode timeSeries = root.get("Time Series (5min)");
-
-            if (timeSeries == null) {
-                timeSeries = root.get("Time Series (Daily)");
-            }
-
-            if (timeSeries == null) {
-                return;
-            }
-
-            // Extract closing prices
+            // Extract closing prices (chronological order, intraday bars may have no close)
             List<Double> closingPrices = new ArrayList<>();
-            timeSeries.fields().forEachRemaining(entry -> {
-                JsonNode priceData = entry.getValue();
-                double closePrice = priceData.get("4. close").asDouble();
-                closingPrices.add(closePrice);
-            });
+            for (double closePrice : series.closes()) {
+                if (!Double.isNaN(closePrice)) {
+                    closingPrices.add(closePrice);
+                }
+            }
 
             if (closingPrices.size() < 2) {
                 return;
@@ -243,7 +306,7 @@ public class StockDataManager {
                 }
             }
 
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             System.err.println("Error calculating volatility: " + e.getMessage());
         }
     }
@@ -254,64 +317,52 @@ public class StockDataManager {
      * @param allowReplay if true, allows replaying previously played periods
      * @return a map containing the data identifier and start day index, or null if no data at all
      */
-    public Map<String, Object> selectRandomUnplayedPeriod(String symbol, boolean allowReplay) throws Exception {
+    public synchronized Map<String, Object> selectRandomUnplayedPeriod(String symbol, boolean allowReplay)
+            throws Exception {
         StockInfo info = stockMetadata.get(symbol);
         if (info == null || info.getAvailableMonths().isEmpty()) {
             System.err.println("No available data for " + symbol);
             return null;
         }
 
-        Random random = new Random();
         List<String> dataIdentifiers = info.getAvailableMonths(); // This will be ["recent"] for free tier
 
-        // First, try to find an unplayed period
-        for (int attempt = 0; attempt < 50; attempt++) {
-            String dataId = dataIdentifiers.get(random.nextInt(dataIdentifiers.size()));
-
-            // Get the number of available days in this data
-            int availableDays = getAvailableDaysInData(symbol, dataId);
-
-            System.out.println("Data '" + dataId + "' has " + availableDays + " days for " + symbol);
-
-            if (availableDays < 5) {
-                System.out.println("Not enough days in " + dataId + " (need 5, have " + availableDays + ")");
-                continue;  // Not enough data
+        // Count unplayed windows across all data files for this stock
+        List<PeriodIndex> indexes = new ArrayList<>();
+        int totalUnplayed = 0;
+        for (String dataId : dataIdentifiers) {
+            PeriodIndex index = getPeriodIndex(symbol, dataId);
+            if (index.getDayCount() < PeriodIndex.PERIOD_DAYS) {
+                System.out.println("Not enough days in " + dataId + " (need 5, have " + index.getDayCount() + ")");
             }
+            indexes.add(index);
+            totalUnplayed += index.getUnplayedCount();
+        }
 
-            // Pick a random start day (0-indexed)
-            int maxStartDay = availableDays - 5;
-            int startDay = random.nextInt(maxStartDay + 1);
-
-            // Create period identifier
-            String periodId = dataId + "_day" + startDay + "-" + (startDay + 4);
-
-            // Check if this period has been played
-            if (!info.getPlayedPeriods().contains(periodId)) {
-                System.out.println("Found unplayed period: " + periodId);
-                Map<String, Object> result = new HashMap<>();
-                result.put("month", dataId);  // Keep "month" key for backward compatibility
-                result.put("startDay", startDay);
-                result.put("periodId", periodId);
-                return result;
+        // Pick uniformly among every unplayed window
+        if (totalUnplayed > 0) {
+            int pick = random.nextInt(totalUnplayed);
+            for (PeriodIndex index : indexes) {
+                if (pick < index.getUnplayedCount()) {
+                    int startDay = index.unplayedStart(pick);
+                    String periodId = PeriodIndex.periodId(index.getDataIdentifier(), startDay);
+                    System.out.println("Found unplayed period: " + periodId);
+                    return periodResult(index.getDataIdentifier(), startDay, periodId);
+                }
+                pick -= index.getUnplayedCount();
             }
         }
 
         // If no unplayed period found and replay is allowed, select any valid period
         if (allowReplay) {
             System.out.println("No unplayed periods found, allowing replay for " + symbol);
-            for (String dataId : dataIdentifiers) {
-                int availableDays = getAvailableDaysInData(symbol, dataId);
-                if (availableDays >= 5) {
-                    int maxStartDay = availableDays - 5;
-                    int startDay = random.nextInt(maxStartDay + 1);
-                    String periodId = dataId + "_day" + startDay + "-" + (startDay + 4) + "_REPLAY";
+            for (PeriodIndex index : indexes) {
+                if (index.getWindowCount() > 0) {
+                    int startDay = random.nextInt(index.getWindowCount());
+                    String periodId = PeriodIndex.periodId(index.getDataIdentifier(), startDay) + "_REPLAY";
 
                     System.out.println("Selected replay period: " + periodId);
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("month", dataId);  // Keep "month" key for backward compatibility
-                    result.put("startDay", startDay);
-                    result.put("periodId", periodId);
-                    return result;
+                    return periodResult(index.getDataIdentifier(), startDay, periodId);
                 }
             }
         }
@@ -320,6 +371,29 @@ public class StockDataManager {
         return null;  // No valid period found at all
     }
 
+    private Map<String, Object> periodResult(String dataId, int startDay, String periodId) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("month", dataId);  // Keep "month" key for backward compatibility
+        result.put("startDay", startDay);
+        result.put("periodId", periodId);
+        return result;
+    }
+
+    /**
+     * Gets the period index for a data file, building it when the file is first seen
+     * or when its number of trading days has changed.
+     */
+    private PeriodIndex getPeriodIndex(String symbol, String dataIdentifier) throws Exception {
+        int availableDays = getAvailableDaysInData(symbol, dataIdentifier);
+        String key = symbol + "_" + dataIdentifier;
+        PeriodIndex index = periodIndexes.get(key);
+        if (index == null || index.getDayCount() != availableDays) {
+            index = new PeriodIndex(dataIdentifier, availableDays, stockMetadata.get(symbol).getPlayedPeriods());
+            periodIndexes.put(key, index);
+        }
+        return index;
+    }
+
     /**
      * Selects a random unplayed 5-day period (with replay fallback enabled by default).
      */
@@ -331,45 +405,35 @@ public class StockDataManager {
      * Gets the number of trading days available in a data file.
      */
     private int getAvailableDaysInData(String symbol, String dataIdentifier) throws Exception {
-        String filePath = STOCK_DATA_DIR + symbol + "_" + dataIdentifier + ".json";
-        File file = new File(filePath);
-
-        if (!file.exists()) {
-            System.err.println("File not found: " + filePath);
+        StockPriceStore series;
+        try {
+            series = seriesCache.get(symbol, dataIdentifier);
+        } catch (RuntimeException e) {
+            System.err.println("No time series data found for " + symbol + "_" + dataIdentifier + ": " + e.getMessage());
             return 0;
         }
 
-        JsonNode root = mapper.readTree(file);
-        JsonNode timeSeries = root.get("Time Series (5min)");
-
-        if (timeSeries == null) {
-            timeSeries = root.get("Time Series (Daily)");
-        }
-
-        if (timeSeries == null) {
-            System.err.println("No time series data found in: " + filePath);
+        if (series == null) {
+            System.err.println("File not found: " + STOCK_DATA_DIR + symbol + "_" + dataIdentifier + ".json");
             return 0;
         }
 
-        // Count unique dates
-        Set<String> uniqueDates = new HashSet<>();
-        timeSeries.fieldNames().forEachRemaining(timestamp -> {
-            String date = timestamp.length() >= 10 ? timestamp.substring(0, 10) : timestamp;  // Extract YYYY-MM-DD
-            uniqueDates.add(date);
-        });
-
-        int count = uniqueDates.size();
-        System.out.println("Found " + count + " unique trading days in " + filePath);
-        return count;
+        return series.getDayCount();
     }
 
     /**
      * Marks a period as played.
      */
-    public void markPeriodAsPlayed(String symbol, String periodId) {
+    public synchronized void markPeriodAsPlayed(String symbol, String periodId) {
         StockInfo info = stockMetadata.get(symbol);
         if (info != null) {
             info.addPlayedPeriod(periodId);
+            for (String dataId : info.getAvailableMonths()) {
+                PeriodIndex index = periodIndexes.get(symbol + "_" + dataId);
+                if (index != null) {
+                    index.markPlayed(periodId);
+                }
+            }
             saveMetadata();
         }
     }
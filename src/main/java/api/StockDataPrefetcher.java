@@ -0,0 +1,229 @@
+package api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches stock data from Alpha Vantage in the background so the Swing thread never
+ * blocks on the network.
+ *
+ * Requests go through HttpClient.sendAsync, and response bodies are streamed straight into
+ * the price store on a small bounded pool. The client keeps its own executor: reading a body
+ * blocks until the client's threads hand over the bytes, so they must not share a pool.
+ * Requests are spaced out to stay within the free-tier quota (5 requests per minute, 25 per
+ * day, counted from local midnight), and failed or throttled requests are retried with
+ * exponential backoff. Concurrent fetches of the same symbol share one future.
+ */
+public class StockDataPrefetcher {
+    public static final long FREE_TIER_INTERVAL_MS = 12_000;  // 5 requests per minute
+    public static final int FREE_TIER_DAILY_QUOTA = 25;
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_BACKOFF_MS = 2_000;
+
+    private static final int POOL_THREADS = 2;
+
+    private final AlphaStockDataBase stockDataBase;
+    private final long minIntervalMs;
+    private final int dailyQuota;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final HttpClient httpClient;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final AtomicInteger requestsSent = new AtomicInteger();
+    private long nextRequestAt;
+    private LocalDate quotaDay;    // day requestsToday counts (guarded by this)
+    private int requestsToday;
+
+    /**
+     * Creates a prefetcher using the Alpha Vantage free-tier limits.
+     * @param stockDataBase the database that builds requests and saves responses
+     */
+    public StockDataPrefetcher(AlphaStockDataBase stockDataBase) {
+        this(stockDataBase, FREE_TIER_INTERVAL_MS, FREE_TIER_DAILY_QUOTA, DEFAULT_MAX_ATTEMPTS, DEFAULT_BACKOFF_MS);
+    }
+
+    /**
+     * Creates a prefetcher with custom limits.
+     * @param stockDataBase the database that builds requests and saves responses
+     * @param minIntervalMs minimum time between two requests
+     * @param dailyQuota maximum number of requests sent per day
+     * @param maxAttempts attempts per symbol before giving up
+     * @param baseBackoffMs delay before the first retry, doubled for each further retry
+     */
+    public StockDataPrefetcher(AlphaStockDataBase stockDataBase, long minIntervalMs, int dailyQuota,
+                               int maxAttempts, long baseBackoffMs) {
+        this(stockDataBase, minIntervalMs, dailyQuota, maxAttempts, baseBackoffMs, Clock.systemDefaultZone());
+    }
+
+    StockDataPrefetcher(AlphaStockDataBase stockDataBase, long minIntervalMs, int dailyQuota,
+                        int maxAttempts, long baseBackoffMs, Clock clock) {
+        this.stockDataBase = stockDataBase;
+        this.clock = clock;
+        this.minIntervalMs = minIntervalMs;
+        this.dailyQuota = dailyQuota;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+
+        ThreadFactory daemonThreads = runnable -> {
+            Thread thread = new Thread(runnable, "stock-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(POOL_THREADS, POOL_THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads);
+        ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(true);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, daemonThreads);
+        // default executor: handleResponse blocks reading the body on this pool
+        this.httpClient = HttpClient.newHttpClient();
+    }
+
+    /**
+     * Fetches the recent daily prices of a stock and saves them to SYMBOL_recent.json.
+     * @param symbol the stock symbol
+     * @return a future completed once the file is written, or completed exceptionally
+     *         if every attempt failed or the quota is used up
+     */
+    public CompletableFuture<Void> fetch(String symbol) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(symbol, result);
+        if (existing != null) {
+            return existing;
+        }
+        result.whenComplete((ignored, error) -> inFlight.remove(symbol, result));
+        attempt(symbol, 1, result);
+        return result;
+    }
+
+    /**
+     * Runs a task on the prefetch pool.
+     * @param task the task to run
+     * @return a future completed when the task finishes
+     */
+    public CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    private void attempt(String symbol, int attempt, CompletableFuture<Void> result) {
+        if (!takeQuota()) {
+            result.completeExceptionally(new IllegalStateException(
+                    "Alpha Vantage request quota reached, not fetching " + symbol));
+            return;
+        }
+
+        scheduler.schedule(() -> {
+            httpClient.sendAsync(stockDataBase.buildRequest(symbol), HttpResponse.BodyHandlers.ofInputStream())
+                    .thenAcceptAsync(response -> handleResponse(symbol, response), executor)
+                    .whenComplete((ignored, error) -> {
+                        if (error == null) {
+                            result.complete(null);
+                            return;
+                        }
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        if (cause instanceof UncheckedIOException) {
+                            cause = cause.getCause();
+                        }
+                        boolean retryable = cause instanceof RetryableException || cause instanceof IOException;
+                        if (retryable && attempt < maxAttempts) {
+                            long backoff = baseBackoffMs << (attempt - 1);
+                            System.err.println("Fetching " + symbol + " failed (" + cause.getMessage()
+                                    + "), retrying in " + backoff + "ms");
+                            scheduler.schedule(() -> attempt(symbol, attempt + 1, result), backoff,
+                                    TimeUnit.MILLISECONDS);
+                        } else {
+                            result.completeExceptionally(cause);
+                        }
+                    });
+        }, reserveSlot(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Counts a request against today's quota, starting a new count at local midnight.
+     * @return false if today's quota is used up
+     */
+    private synchronized boolean takeQuota() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(quotaDay)) {
+            quotaDay = today;
+            requestsToday = 0;
+        }
+        if (requestsToday >= dailyQuota) {
+            return false;
+        }
+        requestsToday++;
+        requestsSent.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Reserves the next free request slot and returns how long to wait for it.
+     */
+    private synchronized long reserveSlot() {
+        long now = System.currentTimeMillis();
+        long slot = Math.max(now, nextRequestAt);
+        nextRequestAt = slot + minIntervalMs;
+        return slot - now;
+    }
+
+    private void handleResponse(String symbol, HttpResponse<InputStream> response) {
+        String filename = symbol + "_recent";
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new RetryableException("API request failed with code: " + response.statusCode());
+            }
+            stockDataBase.saveToStore(body, filename);
+        } catch (TimeSeriesStreamParser.NoTimeSeriesException e) {
+            // Alpha Vantage answers throttled calls with 200 and a "Note"/"Information" message
+            if (e.isThrottled()) {
+                throw new RetryableException("API rate limit reached");
+            }
+            throw new IllegalStateException("No time series returned for " + symbol, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.println("Prefetched " + symbol + " data and saved to " + filename + ".json");
+    }
+
+    /**
+     * Gets the number of requests sent or scheduled so far.
+     */
+    public int getRequestsSent() {
+        return requestsSent.get();
+    }
+
+    /**
+     * Stops the background threads. Pending fetches are abandoned.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * A failure that is worth retrying (server error or throttling).
+     */
+    static class RetryableException extends RuntimeException {
+        RetryableException(String message) {
+            super(message);
+        }
+    }
+}
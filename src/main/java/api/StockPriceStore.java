@@ -0,0 +1,441 @@
+package api;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.BufferedOutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Columnar binary copy of an Alpha Vantage time series.
+ *
+ * The store is built once from the JSON file (with a streaming parse, see
+ * TimeSeriesStreamParser) and then memory-mapped, so looking up the bars of a trading
+ * day is an O(1) slice instead of a full Jackson parse.
+ *
+ * File layout (big-endian):
+ * header (magic, version, flags, rowCount, dayCount, source length, source mtime),
+ * long[rowCount] epoch seconds (ascending), int[dayCount + 1] row offset of each day,
+ * then double[rowCount] columns for open, high, low, close and volume.
+ * Missing fields (5min test data often only has an open) are stored as NaN.
+ */
+public final class StockPriceStore {
+    public static final String EXTENSION = ".prices";
+
+    static final String RESOURCE_DIR = "/stock_data/";
+    static final String STOCK_DATA_DIR = "src/main/resources/stock_data/";
+
+    private static final int MAGIC = 0x53505331; // "SPS1"
+    private static final int VERSION = 1;
+    private static final int FLAG_DAILY = 1;
+    private static final int HEADER_BYTES = 5 * Integer.BYTES + 2 * Long.BYTES;
+    static final int COLUMNS = 5;
+    private static final String RETIRED_SUFFIX = ".old";
+
+    private final boolean daily;
+    private final int rowCount;
+    private final int dayCount;
+    private final LongBuffer timestamps;
+    private final IntBuffer dayOffsets;
+    private final DoubleBuffer[] columns;
+
+    private StockPriceStore(MappedByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a stock price store");
+        }
+        this.daily = (buffer.getInt(8) & FLAG_DAILY) != 0;
+        this.rowCount = buffer.getInt(12);
+        this.dayCount = buffer.getInt(16);
+
+        int position = HEADER_BYTES;
+        this.timestamps = slice(buffer, position, rowCount * Long.BYTES).asLongBuffer();
+        position += rowCount * Long.BYTES;
+        this.dayOffsets = slice(buffer, position, (dayCount + 1) * Integer.BYTES).asIntBuffer();
+        position += (dayCount + 1) * Integer.BYTES;
+
+        this.columns = new DoubleBuffer[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            columns[c] = slice(buffer, position, rowCount * Double.BYTES).asDoubleBuffer();
+            position += rowCount * Double.BYTES;
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int position, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.limit(position + length);
+        return view.slice();
+    }
+
+    /**
+     * Opens the store for a data file in the stock_data resources, building or rebuilding it
+     * from the JSON when the binary copy is missing or older than the source.
+     * @param resourceName the file name inside stock_data (e.g. "KO_recent.json" or "MSFT")
+     * @return the memory-mapped store, or null if the source file does not exist
+     * @throws IOException if the source cannot be read or the store cannot be written
+     */
+    public static StockPriceStore open(String resourceName) throws IOException {
+        Path source = locateSource(resourceName);
+        if (source != null) {
+            return open(source);
+        }
+
+        // Resource packaged inside a jar: cache the store in the temp directory, keyed on the
+        // jar entry's size and time so a new build of the jar does not reuse an old store
+        URL url = StockPriceStore.class.getResource(RESOURCE_DIR + resourceName);
+        if (url == null) {
+            return null;
+        }
+        URLConnection connection = url.openConnection();
+        long length = connection.getContentLengthLong();
+        long modified = connection.getLastModified();
+        Path storePath = Paths.get(System.getProperty("java.io.tmpdir"), "stock_data", baseName(resourceName) + EXTENSION);
+        // without a modification time the store cannot be checked, so it is always rebuilt
+        StockPriceStore store = modified > 0 ? openIfFresh(storePath, length, modified) : null;
+        if (store == null) {
+            Files.createDirectories(storePath.getParent());
+            try (InputStream in = connection.getInputStream()) {
+                build(in, storePath, length, modified);
+            }
+            store = map(storePath);
+        }
+        return store;
+    }
+
+    /**
+     * Opens the store for a JSON file on disk, building or rebuilding it next to the file
+     * when the binary copy is missing or older than the source.
+     * @param source the JSON file
+     * @return the memory-mapped store
+     * @throws IOException if the source cannot be read or the store cannot be written
+     */
+    public static StockPriceStore open(Path source) throws IOException {
+        Path storePath = storePathFor(source);
+        long length = Files.size(source);
+        long modified = Files.getLastModifiedTime(source).toMillis();
+        StockPriceStore store = openIfFresh(storePath, length, modified);
+        if (store == null) {
+            try (InputStream in = new FileInputStream(source.toFile())) {
+                build(in, storePath, length, modified);
+            }
+            store = map(storePath);
+        }
+        return store;
+    }
+
+    /**
+     * Finds the JSON source on disk: the classpath copy first, then the development folder.
+     */
+    static Path locateSource(String resourceName) {
+        URL url = StockPriceStore.class.getResource(RESOURCE_DIR + resourceName);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return Paths.get(url.toURI());
+            } catch (URISyntaxException e) {
+                // fall through to the development folder
+            }
+        }
+        File file = new File(STOCK_DATA_DIR + resourceName);
+        if (url == null && file.exists()) {
+            return file.toPath();
+        }
+        return null;
+    }
+
+    /**
+     * Returns where the binary copy of the given JSON source lives (next to it).
+     */
+    public static Path storePathFor(Path source) {
+        return source.resolveSibling(baseName(source.getFileName().toString()) + EXTENSION);
+    }
+
+    private static String baseName(String fileName) {
+        return fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+    }
+
+    private static StockPriceStore openIfFresh(Path storePath, long sourceLength, long sourceModified)
+            throws IOException {
+        if (!Files.exists(storePath)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(storePath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || header.getLong(20) != sourceLength || header.getLong(28) != sourceModified) {
+                return null;
+            }
+        }
+        return map(storePath);
+    }
+
+    /**
+     * Memory-maps an existing store file.
+     * @param storePath the store file
+     * @return the store
+     * @throws IOException if the file is missing or is not a store
+     */
+    public static StockPriceStore map(Path storePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(storePath, StandardOpenOption.READ)) {
+            return new StockPriceStore(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Converts Alpha Vantage JSON into a store file.
+     * @param json the Alpha Vantage response
+     * @param storePath where to write the store
+     * @param sourceLength length of the source file, used to detect stale stores (0 if unknown)
+     * @param sourceModified modification time of the source file in millis (0 if unknown)
+     * @throws IOException if the JSON cannot be read or the store cannot be written
+     */
+    public static void build(InputStream json, Path storePath, long sourceLength, long sourceModified)
+            throws IOException {
+        write(storePath, TimeSeriesStreamParser.parse(json), sourceLength, sourceModified);
+    }
+
+    /**
+     * Ingests an Alpha Vantage response in one streaming pass: the body is copied to the JSON
+     * file while its bars are parsed into the store, so the payload is never held in memory.
+     * Nothing is replaced unless the response contains a time series.
+     * @param body the response body
+     * @param jsonPath where to keep the JSON copy (the store is written next to it)
+     * @return the store path
+     * @throws IOException if the body cannot be read or the files cannot be written
+     * @throws TimeSeriesStreamParser.NoTimeSeriesException if the response has no time series
+     */
+    public static Path ingest(InputStream body, Path jsonPath) throws IOException {
+        Path directory = jsonPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "ingest", ".tmp");
+        try {
+            TimeSeriesStreamParser.Columns series;
+            try (OutputStream copy = Files.newOutputStream(temp);
+                 InputStream in = new TeeInputStream(body, copy)) {
+                series = TimeSeriesStreamParser.parse(in);
+                in.transferTo(OutputStream.nullOutputStream());  // keep trailing bytes in the copy
+            }
+            Files.move(temp, jsonPath, StandardCopyOption.REPLACE_EXISTING);
+
+            Path storePath = storePathFor(jsonPath);
+            write(storePath, series, Files.size(jsonPath), Files.getLastModifiedTime(jsonPath).toMillis());
+            return storePath;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static void write(Path storePath, TimeSeriesStreamParser.Columns series, long sourceLength, long sourceModified)
+            throws IOException {
+        write(storePath, series.daily, series.epochSeconds, series.dayStarts, series.dayCount, series.values,
+                sourceLength, sourceModified);
+    }
+
+    static void write(Path storePath, boolean isDaily, long[] epochSeconds, int[] dayStarts, int days,
+                      double[][] values, long sourceLength, long sourceModified) throws IOException {
+        Path temp = Files.createTempFile(storePath.toAbsolutePath().getParent(), "store", ".tmp");
+        try {
+            writeTo(temp, isDaily, epochSeconds, dayStarts, days, values, sourceLength, sourceModified);
+            replace(temp, storePath);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeTo(Path temp, boolean isDaily, long[] epochSeconds, int[] dayStarts, int days,
+                                double[][] values, long sourceLength, long sourceModified) throws IOException {
+        int rows = epochSeconds.length;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(isDaily ? FLAG_DAILY : 0);
+            out.writeInt(rows);
+            out.writeInt(days);
+            out.writeLong(sourceLength);
+            out.writeLong(sourceModified);
+            for (long epochSecond : epochSeconds) {
+                out.writeLong(epochSecond);
+            }
+            for (int d = 0; d <= days; d++) {
+                out.writeInt(dayStarts[d]);
+            }
+            for (double[] column : values) {
+                for (int i = 0; i < rows; i++) {
+                    out.writeDouble(column[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves a freshly written store over the old one.
+     *
+     * A mapping cannot be released explicitly, it goes away when its buffer is collected, and
+     * Windows refuses to replace a file that is still mapped. It does allow renaming one, so
+     * the old store is moved aside under a fresh name first and deleted once nothing maps it
+     * (here if possible, otherwise by a later replace).
+     */
+    private static void replace(Path temp, Path storePath) throws IOException {
+        Path directory = storePath.toAbsolutePath().getParent();
+        String retiredPrefix = storePath.getFileName() + ".";
+        deleteRetired(directory, retiredPrefix);
+        try {
+            Files.move(temp, storePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileSystemException e) {
+            Path retired = Files.createTempFile(directory, retiredPrefix, RETIRED_SUFFIX);
+            Files.move(storePath, retired, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, storePath);
+            deleteRetired(directory, retiredPrefix);
+        }
+    }
+
+    /**
+     * Deletes the stores moved aside by replace that are no longer mapped.
+     */
+    private static void deleteRetired(Path directory, String retiredPrefix) throws IOException {
+        String glob = retiredPrefix + "*" + RETIRED_SUFFIX;
+        try (DirectoryStream<Path> retired = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : retired) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // still mapped, tried again on the next replace
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies everything read from a stream to an output stream.
+     */
+    private static final class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        TeeInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                copy.write(buffer, offset, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes still have to reach the copy
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+    }
+
+    public boolean isDaily() {
+        return daily;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of distinct trading days in the store.
+     */
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Gets the first row of a trading day, where day 0 is the most recent day.
+     */
+    public int dayStart(int dayIndex) {
+        return dayOffsets.get(dayCount - 1 - dayIndex);
+    }
+
+    /**
+     * Gets the row after the last row of a trading day, where day 0 is the most recent day.
+     */
+    public int dayEnd(int dayIndex) {
+        return dayOffsets.get(dayCount - dayIndex);
+    }
+
+    public long epochSecond(int row) {
+        return timestamps.get(row);
+    }
+
+    public double open(int row) {
+        return columns[0].get(row);
+    }
+
+    public double high(int row) {
+        return columns[1].get(row);
+    }
+
+    public double low(int row) {
+        return columns[2].get(row);
+    }
+
+    public double close(int row) {
+        return columns[3].get(row);
+    }
+
+    public double volume(int row) {
+        return columns[4].get(row);
+    }
+
+    /**
+     * Copies the opens of one trading day (oldest bar first).
+     * @param dayIndex the day index, where 0 is the most recent day
+     * @return the opens for that day
+     */
+    public double[] opensForDay(int dayIndex) {
+        int start = dayStart(dayIndex);
+        double[] opens = new double[dayEnd(dayIndex) - start];
+        columns[0].get(start, opens);
+        return opens;
+    }
+
+    /**
+     * Copies all closing prices in chronological order.
+     */
+    public double[] closes() {
+        double[] closes = new double[rowCount];
+        columns[3].get(0, closes);
+        return closes;
+    }
+}
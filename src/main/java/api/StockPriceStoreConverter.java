@@ -0,0 +1,57 @@
+package api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command line tool that converts the downloaded Alpha Vantage files in stock_data
+ * (SYMBOL_recent.json) into binary price stores, so the game never has to parse them.
+ * Usage: StockPriceStoreConverter [directory]
+ */
+public class StockPriceStoreConverter {
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : StockPriceStore.STOCK_DATA_DIR);
+        int converted = convertDirectory(directory);
+        System.out.println("Converted " + converted + " stock data files in " + directory);
+    }
+
+    /**
+     * Converts every *_recent.json file in a directory.
+     * @param directory the stock data directory
+     * @return the number of files converted
+     * @throws IOException if the directory cannot be listed
+     */
+    public static int convertDirectory(Path directory) throws IOException {
+        int converted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*_recent.json")) {
+            for (Path source : files) {
+                try {
+                    convert(source);
+                    converted++;
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Could not convert " + source + ": " + e.getMessage());
+                }
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Converts one Alpha Vantage JSON file into a store written next to it.
+     * @param source the JSON file
+     * @return the store file that was written
+     * @throws IOException if the file cannot be read or written
+     */
+    public static Path convert(Path source) throws IOException {
+        Path storePath = StockPriceStore.storePathFor(source);
+        try (InputStream in = Files.newInputStream(source)) {
+            StockPriceStore.build(in, storePath, Files.size(source), Files.getLastModifiedTime(source).toMillis());
+        }
+        return storePath;
+    }
+}
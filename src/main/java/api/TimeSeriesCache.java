@@ -0,0 +1,164 @@
+package api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide LRU cache of parsed stock time series, keyed by (symbol, data identifier).
+ *
+ * StockDataManager and AlphaStockDataBase (and through it AlphaStockDataAccessObject) all
+ * read through this cache, so a data file is converted and mapped at most once until it
+ * changes on disk. An entry is dropped when its source file's mtime or length changes.
+ *
+ * This is a singleton class so every caller shares the same entries and counters.
+ */
+public class TimeSeriesCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static TimeSeriesCache instance;
+
+    private final Map<String, Entry> entries;
+    private final Path dataDir;  // null for the stock_data resources
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * A cached series and the state of its source file when it was loaded.
+     */
+    private static class Entry {
+        final StockPriceStore store;
+        final long sourceModified;
+        final long sourceLength;
+
+        Entry(StockPriceStore store, long sourceModified, long sourceLength) {
+            this.store = store;
+            this.sourceModified = sourceModified;
+            this.sourceLength = sourceLength;
+        }
+    }
+
+    /**
+     * Creates a cache that holds at most the given number of series.
+     * @param capacity the maximum number of series kept in memory
+     */
+    public TimeSeriesCache(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Creates a cache that reads the data files from a folder instead of the stock_data
+     * resources, writing the binary stores next to them.
+     * @param capacity the maximum number of series kept in memory
+     * @param dataDir the folder with the SYMBOL_dataIdentifier.json files
+     */
+    public TimeSeriesCache(int capacity, Path dataDir) {
+        this.dataDir = dataDir;
+        // access-ordered map so the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared instance used by all stock data classes.
+     * @return the TimeSeriesCache instance
+     */
+    public static synchronized TimeSeriesCache getInstance() {
+        if (instance == null) {
+            instance = new TimeSeriesCache(DEFAULT_CAPACITY);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the series stored in SYMBOL_dataIdentifier.json, or in the file named after the
+     * symbol when dataIdentifier is null (legacy game-day files).
+     * @param symbol the stock symbol
+     * @param dataIdentifier the month or "recent", or null for legacy files
+     * @return the series, or null if there is no such data file
+     * @throws IOException if the file cannot be read
+     */
+    public StockPriceStore get(String symbol, String dataIdentifier) throws IOException {
+        String resourceName = dataIdentifier == null ? symbol : symbol + "_" + dataIdentifier + ".json";
+        Path source = locateSource(resourceName);
+        long modified = source == null ? 0 : Files.getLastModifiedTime(source).toMillis();
+        long length = source == null ? 0 : Files.size(source);
+
+        synchronized (entries) {
+            Entry entry = entries.get(resourceName);
+            if (entry != null && entry.sourceModified == modified && entry.sourceLength == length) {
+                hits.incrementAndGet();
+                return entry.store;
+            }
+        }
+
+        misses.incrementAndGet();
+        StockPriceStore store;
+        if (source != null) {
+            store = StockPriceStore.open(source);
+        } else {
+            // packaged in a jar, or missing
+            store = dataDir == null ? StockPriceStore.open(resourceName) : null;
+        }
+        if (store != null) {
+            synchronized (entries) {
+                entries.put(resourceName, new Entry(store, modified, length));
+            }
+        }
+        return store;
+    }
+
+    private Path locateSource(String resourceName) {
+        if (dataDir == null) {
+            return StockPriceStore.locateSource(resourceName);
+        }
+        Path source = dataDir.resolve(resourceName);
+        return Files.exists(source) ? source : null;
+    }
+
+    /**
+     * Drops the cached series of one data file, so a rewritten file is loaded again instead of
+     * the old store being served (and kept mapped) until the cache notices the change.
+     * @param symbol the stock symbol
+     * @param dataIdentifier the month or "recent", or null for legacy files
+     */
+    public void invalidate(String symbol, String dataIdentifier) {
+        String resourceName = dataIdentifier == null ? symbol : symbol + "_" + dataIdentifier + ".json";
+        synchronized (entries) {
+            entries.remove(resourceName);
+        }
+    }
+
+    /**
+     * Drops every cached series and resets the counters.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
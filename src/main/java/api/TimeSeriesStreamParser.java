@@ -0,0 +1,238 @@
+package api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streaming reader for Alpha Vantage time series JSON.
+ *
+ * Walks the tokens with Jackson's JsonParser and pulls each bar straight into primitive
+ * columns, so neither the raw payload nor a JsonNode tree is ever held in memory. This keeps
+ * outputsize=full responses (20+ years of daily bars) cheap to ingest.
+ */
+public class TimeSeriesStreamParser {
+    static final String INTRADAY_KEY = "Time Series (5min)";
+    static final String DAILY_KEY = "Time Series (Daily)";
+
+    // callers own the stream, so they can keep reading (or close it) after the parse
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    private static final DateTimeFormatter INTRADAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final int INDEX_BITS = 24;
+
+    /**
+     * The parsed series in chronological order.
+     */
+    public static class Columns {
+        public final boolean daily;
+        public final long[] epochSeconds;
+        public final double[][] values;   // open, high, low, close, volume
+        public final int[] dayStarts;     // first row of each day, plus the row count at the end
+        public final int dayCount;
+
+        Columns(boolean daily, long[] epochSeconds, double[][] values, int[] dayStarts, int dayCount) {
+            this.daily = daily;
+            this.epochSeconds = epochSeconds;
+            this.values = values;
+            this.dayStarts = dayStarts;
+            this.dayCount = dayCount;
+        }
+    }
+
+    /**
+     * Thrown when the JSON has no time series. Alpha Vantage answers throttled or invalid
+     * calls this way, with the reason in a "Note", "Information" or "Error Message" field.
+     */
+    public static class NoTimeSeriesException extends RuntimeException {
+        private final String apiMessage;
+        private final boolean throttled;
+
+        NoTimeSeriesException(String apiMessage, boolean throttled) {
+            super("No 'Time Series (5min)' or 'Time Series (Daily)' found."
+                    + (apiMessage == null ? "" : " API message: " + apiMessage));
+            this.apiMessage = apiMessage;
+            this.throttled = throttled;
+        }
+
+        public String getApiMessage() {
+            return apiMessage;
+        }
+
+        /**
+         * Whether the API refused the call because of rate limiting.
+         */
+        public boolean isThrottled() {
+            return throttled;
+        }
+    }
+
+    private int rows;
+    private long[] epochSeconds = new long[128];
+    private double[][] values = new double[StockPriceStore.COLUMNS][128];
+
+    private TimeSeriesStreamParser() {
+    }
+
+    /**
+     * Parses an Alpha Vantage response.
+     * @param json the response body
+     * @return the bars in chronological order
+     * @throws IOException if the stream is not valid JSON
+     * @throws NoTimeSeriesException if there is no 5min or daily time series
+     */
+    public static Columns parse(InputStream json) throws IOException {
+        return new TimeSeriesStreamParser().read(json);
+    }
+
+    private Columns read(InputStream json) throws IOException {
+        boolean found = false;
+        boolean daily = false;
+        String apiMessage = null;
+        boolean throttled = false;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new NoTimeSeriesException(null, false);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                boolean intraday = INTRADAY_KEY.equals(field);
+                // 5min data wins over daily data when a file has both
+                if (value == JsonToken.START_OBJECT && (intraday || (DAILY_KEY.equals(field) && !(found && !daily)))) {
+                    rows = 0;
+                    readBars(parser);
+                    found = true;
+                    daily = !intraday;
+                } else if (value == JsonToken.VALUE_STRING
+                        && ("Note".equals(field) || "Information".equals(field) || "Error Message".equals(field))) {
+                    apiMessage = parser.getText();
+                    throttled = !"Error Message".equals(field);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (!found) {
+            throw new NoTimeSeriesException(apiMessage, throttled);
+        }
+        return toColumns(daily);
+    }
+
+    private void readBars(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String timestamp = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            ensureCapacity(rows + 1);
+            epochSeconds[rows] = toEpochSecond(timestamp);
+            for (double[] column : values) {
+                column[rows] = Double.NaN;  // fields missing from the bar stay NaN
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int column = columnOf(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (column >= 0 && value.isScalarValue()) {
+                    values[column][rows] = parser.getValueAsDouble(Double.NaN);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            rows++;
+        }
+    }
+
+    private static int columnOf(String field) {
+        switch (field) {
+            case "1. open":
+                return 0;
+            case "2. high":
+                return 1;
+            case "3. low":
+                return 2;
+            case "4. close":
+                return 3;
+            case "5. volume":
+                return 4;
+            default:
+                return -1;
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= epochSeconds.length) {
+            return;
+        }
+        int capacity = Math.max(needed, epochSeconds.length * 2);
+        epochSeconds = Arrays.copyOf(epochSeconds, capacity);
+        for (int c = 0; c < values.length; c++) {
+            values[c] = Arrays.copyOf(values[c], capacity);
+        }
+    }
+
+    /**
+     * Sorts the rows chronologically (Alpha Vantage sends newest first) and groups them by day.
+     */
+    private Columns toColumns(boolean daily) {
+        // sort (epoch, original row) pairs packed into one long, so no boxing is needed
+        long[] order = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            order[i] = (epochSeconds[i] << INDEX_BITS) | i;
+        }
+        Arrays.sort(order);
+
+        long[] sortedEpochs = new long[rows];
+        double[][] sortedValues = new double[values.length][rows];
+        int[] dayStarts = new int[rows + 1];
+        int days = 0;
+        long previousDay = Long.MIN_VALUE;
+
+        for (int i = 0; i < rows; i++) {
+            int source = (int) (order[i] & ((1L << INDEX_BITS) - 1));
+            sortedEpochs[i] = epochSeconds[source];
+            for (int c = 0; c < values.length; c++) {
+                sortedValues[c][i] = values[c][source];
+            }
+            long day = Math.floorDiv(sortedEpochs[i], SECONDS_PER_DAY);
+            if (day != previousDay) {
+                dayStarts[days++] = i;
+                previousDay = day;
+            }
+        }
+        dayStarts[days] = rows;
+
+        return new Columns(daily, sortedEpochs, sortedValues, dayStarts, days);
+    }
+
+    /**
+     * Converts an Alpha Vantage timestamp ("2024-02-05" or "2024-02-05 09:30:00") to epoch
+     * seconds, reading the local exchange time as UTC so calendar days line up.
+     * @throws IOException if the timestamp is in neither format, rather than letting a bad
+     *         bar land in 1970 and shift every day index
+     */
+    static long toEpochSecond(String timestamp) throws IOException {
+        try {
+            if (timestamp.length() > 10) {
+                return LocalDateTime.parse(timestamp, INTRADAY_FORMAT).toEpochSecond(ZoneOffset.UTC);
+            }
+            return LocalDate.parse(timestamp).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IOException("Malformed timestamp in time series: \"" + timestamp + "\"", e);
+        }
+    }
+}
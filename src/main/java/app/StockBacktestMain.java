@@ -0,0 +1,75 @@
+package app;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import api.StockBacktestDataAccessObject;
+import entity.GameEnding;
+import use_case.stock_backtest.EquityDistribution;
+import use_case.stock_backtest.ScriptedStrategy;
+import use_case.stock_backtest.StockBacktestInputData;
+import use_case.stock_backtest.StockBacktestInteractor;
+import use_case.stock_backtest.StockBacktestOutputBoundary;
+import use_case.stock_backtest.StockBacktestOutputData;
+
+/**
+ * Command line entry point for the stock backtester.
+ *
+ * Usage: StockBacktestMain [runsPerWindow] [startAmount] [seed]
+ * Prints the final equity distribution of every scripted strategy per symbol and
+ * per risk level, for tuning GameEnding thresholds and stock risk levels.
+ */
+public class StockBacktestMain {
+
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        double startAmount = args.length > 1 ? Double.parseDouble(args[1]) : 1000.0;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        new StockBacktestInteractor(new StockBacktestDataAccessObject(), new ConsolePresenter())
+                .execute(new StockBacktestInputData(Arrays.asList(ScriptedStrategy.values()), startAmount, runs, seed));
+    }
+
+    /**
+     * Prints backtest results as plain text tables.
+     */
+    static class ConsolePresenter implements StockBacktestOutputBoundary {
+        // the game's ending thresholds, so the report follows any tuning of GameEnding
+        private static final double[] THRESHOLDS = {GameEnding.STRUGGLING_THRESHOLD,
+                GameEnding.COMFORTABLE_THRESHOLD, GameEnding.WEALTHY_THRESHOLD};
+
+        @Override
+        public void presentResults(StockBacktestOutputData outputData) {
+            System.out.printf("%d windows, %d sessions in %.1f ms%n", outputData.getWindowCount(),
+                    outputData.getSessionCount(), outputData.getElapsedNanos() / 1e6);
+            printTable("SYMBOL", outputData.getBySymbol());
+            printTable("RISK", outputData.getByRiskLevel());
+        }
+
+        private void printTable(String title, Map<String, Map<String, EquityDistribution>> table) {
+            System.out.printf("%n%-8s %-13s %7s %9s %9s %9s %9s %9s %9s", title, "STRATEGY", "N",
+                    "MEAN", "STDDEV", "P5", "P50", "P95", "MAX");
+            for (double threshold : THRESHOLDS) {
+                System.out.printf(" %7s", String.format(">=%.0f", threshold));
+            }
+            System.out.println();
+            for (Map.Entry<String, Map<String, EquityDistribution>> row : table.entrySet()) {
+                for (Map.Entry<String, EquityDistribution> cell : row.getValue().entrySet()) {
+                    EquityDistribution d = cell.getValue();
+                    System.out.printf("%-8s %-13s %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f", row.getKey(),
+                            cell.getKey(), d.getCount(), d.getMean(), d.getStandardDeviation(),
+                            d.getPercentile(5), d.getPercentile(50), d.getPercentile(95), d.getMax());
+                    for (double threshold : THRESHOLDS) {
+                        System.out.printf(" %6.1f%%", d.getFractionAtLeast(threshold) * 100);
+                    }
+                    System.out.println();
+                }
+            }
+        }
+
+        @Override
+        public void presentError(String message) {
+            System.err.println("Backtest failed: " + message);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package data_access;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import entity.InteractionZone;
+import use_case.proximity.InteractionZoneDataAccessInterface;
+
+import static data_access.LoadFileUserDataAccessObject.JSONFileReader;
+
+/**
+ * Data access object for interaction zones - the areas where the player can sleep,
+ * trade stocks, check bills, etc.
+ * Loads them from interaction_zones.json.
+ */
+public class InteractionZoneDataAccessObject implements InteractionZoneDataAccessInterface {
+    public static final String INTERACTION_ZONES_FILE = "src/main/resources/interaction_zones.json";
+
+    private final List<InteractionZone> interactionZones = new ArrayList<>();
+
+    public InteractionZoneDataAccessObject() {
+        this(INTERACTION_ZONES_FILE);
+    }
+
+    public InteractionZoneDataAccessObject(String filePath) {
+        loadInteractionZones(filePath);
+    }
+
+    private void loadInteractionZones(String filePath) {
+        try {
+            JSONArray data = JSONFileReader(filePath);
+            for (int i = 0; i < data.length(); i++) {
+                JSONObject zoneData = data.getJSONObject(i);
+                InteractionZone.Type type;
+                try {
+                    type = InteractionZone.Type.valueOf(zoneData.getString("type"));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Skipping interaction zone with unknown type: " + zoneData.getString("type"));
+                    continue;
+                }
+                JSONArray color = zoneData.getJSONArray("color");
+                interactionZones.add(new InteractionZone(
+                        type,
+                        zoneData.getString("zone"),
+                        zoneData.getDouble("x"),
+                        zoneData.getDouble("y"),
+                        zoneData.getDouble("width"),
+                        zoneData.getDouble("height"),
+                        zoneData.getString("prompt"),
+                        new Color(color.getInt(0), color.getInt(1), color.getInt(2))
+                ));
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load interaction zones: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<InteractionZone> getInteractionZones() {
+        return new ArrayList<>(interactionZones);
+    }
+}
@@ -39,6 +39,28 @@ public class ItemDataAccessObject implements ItemDataAccessInterface {
         }
     }
 
+    /**
+     * Reads the sprite image of every item that has one.
+     * @return item name -> resource path of its sprite
+     */
+    public HashMap<String, String> getSpritePaths() {
+        try {
+            JSONArray data = JSONFileReader(ITEM_FILE);
+            HashMap<String, String> spritePaths = new HashMap<>();
+            for (int i = 0; i < data.length(); i++) {
+                JSONObject itemData = data.getJSONObject(i);
+                String sprite = itemData.optString("sprite", null);
+                if (sprite != null) {
+                    spritePaths.put(itemData.getString("name"), sprite);
+                }
+            }
+            return spritePaths;
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static void main(String[] args) {
         ItemDataAccessObject itemDataAccessObject = new ItemDataAccessObject();
         HashMap<String, Item> ItemMap = itemDataAccessObject.getItemMap();
@@ -1,14 +1,18 @@
 package data_access;
 
+import data_access.SaveFileFormat.Section;
 import entity.*;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import use_case.load_progress.LoadProgressDataAccessInterface;
 
+import java.io.DataInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,9 +34,23 @@ public class LoadFileUserDataAccessObject implements LoadProgressDataAccessInter
         }
     }
 
+    /**
+     * Loads a save in the binary {@link SaveFileFormat}, or a JSON save from before it.
+     */
     @Override
     public Player load(GameMap gameMap, String SAVE_FILE) throws IOException {
-        JSONArray data = JSONFileReader(SAVE_FILE);
+        byte[] file;
+        try {
+            file = Files.readAllBytes(Paths.get(SAVE_FILE));
+        }
+        catch (IOException e) {
+            throw new FileNotFoundException("Save File not found! Cannot load progress into Game!");
+        }
+        if (SaveFileFormat.isSaveFile(file)) {
+            return loadBinary(gameMap, SaveFileFormat.parse(file));
+        }
+
+        JSONArray data = new JSONArray(new String(file, StandardCharsets.UTF_8));
         List<Event> events = eventDataAccessObject.createEventList();
         HashMap<String, Item> items = itemDataAccessObject.getItemMap();
         HashMap<String, NPC> npcMap = (HashMap<String, NPC>) npcDataAccessObject.getAllNpcs();
@@ -50,6 +68,81 @@ public class LoadFileUserDataAccessObject implements LoadProgressDataAccessInter
         return player;
     }
 
+    private Player loadBinary(GameMap gameMap, EnumMap<Section, DataInputStream> sections) throws IOException {
+        DataInputStream in = section(sections, Section.PLAYER);
+        String name = in.readUTF();
+        double balance = in.readDouble();
+        double x = in.readDouble();
+        double y = in.readDouble();
+        Day day = Day.valueOf(in.readUTF());
+        Map<String, Integer> stats = new HashMap<>();
+        for (int i = in.readUnsignedByte(); i > 0; i--) {
+            stats.put(in.readUTF(), in.readInt());
+        }
+        Player player = new Player(name, balance, x, y, stats);
+        player.setCurrentDay(day);
+
+        HashMap<String, Item> items = itemDataAccessObject.getItemMap();
+        in = section(sections, Section.INVENTORY);
+        for (int i = in.readUnsignedByte(); i > 0; i--) {
+            int slot = in.readUnsignedByte();
+            Item item = items.get(in.readUTF());
+            if (item != null) {
+                player.addInventory(slot, item);
+            }
+        }
+
+        Map<String, Event> events = new HashMap<>();
+        for (Event event : eventDataAccessObject.createEventList()) {
+            events.put(event.getEventName(), event);
+        }
+        in = section(sections, Section.EVENTS);
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            Event event = events.get(in.readUTF());
+            if (event != null) {
+                player.addEvent(event);
+            }
+        }
+
+        Map<String, NPC> npcMap = npcDataAccessObject.getAllNpcs();
+        in = section(sections, Section.RELATIONSHIPS);
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            NPC npc = npcMap.get(in.readUTF());
+            int score = in.readInt();
+            if (npc != null) {
+                player.addNPCScore(npc, score);
+            }
+        }
+
+        in = section(sections, Section.PORTFOLIO);
+        double equity = in.readDouble();
+        HashMap<Stock, Double> investments = new HashMap<>();
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            String symbol = in.readUTF();
+            String companyName = in.readUTF();
+            double price = in.readDouble();
+            Stock stock = new Stock(symbol, companyName.isEmpty() ? null : companyName,
+                    Double.isNaN(price) ? null : price);
+            investments.put(stock, in.readDouble());
+        }
+        player.setPortfolio(new Portfolio(equity, investments));
+
+        in = section(sections, Section.LOCATION);
+        gameMap.setCurrentZone(in.readUTF());
+        recentSaveDate = in.readUTF();
+
+        return player;
+    }
+
+    private static DataInputStream section(EnumMap<Section, DataInputStream> sections, Section section)
+            throws IOException {
+        DataInputStream in = sections.get(section);
+        if (in == null) {
+            throw new IOException("Save file is missing its " + section.name().toLowerCase() + " section");
+        }
+        return in;
+    }
+
     @Override
     public String getRecentSaveDate(){
         return recentSaveDate;
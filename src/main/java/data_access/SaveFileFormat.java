@@ -0,0 +1,240 @@
+package data_access;
+
+import entity.GameSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The binary save file.
+ *
+ * A file is a header (magic, schema id), the sections of the save, each tagged with its id
+ * and length, and a CRC32 of everything before it. Readers skip sections they do not know,
+ * so sections can be added without a new schema id; a new schema id is only needed when an
+ * existing section changes layout. Saves are written from a {@link GameSnapshot}, so they
+ * can be encoded on any thread.
+ *
+ * Files are replaced atomically: the new contents go to a temporary file next to the save,
+ * which is flushed to disk and then renamed over it, so a crash mid-save leaves the old
+ * save intact.
+ */
+final class SaveFileFormat {
+    static final byte[] MAGIC = {'P', '6', '5', 'S'};
+    static final int SCHEMA_ID = 1;
+
+    private static final int HEADER_BYTES = MAGIC.length + 2 + 1;
+    private static final int SECTION_HEADER_BYTES = 1 + 4;
+    private static final int CHECKSUM_BYTES = 4;
+
+    /**
+     * The parts of a save, written and compared separately.
+     */
+    enum Section {
+        PLAYER(1),
+        RELATIONSHIPS(2),
+        EVENTS(3),
+        INVENTORY(4),
+        PORTFOLIO(5),
+        LOCATION(6);
+
+        final int id;
+
+        Section(int id) {
+            this.id = id;
+        }
+
+        static Section byId(int id) {
+            for (Section section : values()) {
+                if (section.id == id) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    private SaveFileFormat() {
+    }
+
+    /**
+     * Encodes every section of a save.
+     *
+     * @param snapshot the game to save
+     * @param saveDate the date shown when loading, as yyyy-mm-dd
+     * @return the encoded sections, in file order
+     */
+    static EnumMap<Section, byte[]> encode(GameSnapshot snapshot, String saveDate) {
+        EnumMap<Section, byte[]> sections = new EnumMap<>(Section.class);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(snapshot.getName());
+            out.writeDouble(snapshot.getBalance());
+            out.writeDouble(snapshot.getX());
+            out.writeDouble(snapshot.getY());
+            out.writeUTF(snapshot.getCurrentDay().name());
+            out.writeByte(snapshot.getStats().size());
+            for (Map.Entry<String, Integer> stat : snapshot.getStats().entrySet()) {
+                out.writeUTF(stat.getKey());
+                out.writeInt(stat.getValue());
+            }
+            sections.put(Section.PLAYER, take(bytes));
+
+            out.writeShort(snapshot.getRelationships().size());
+            for (Map.Entry<String, Integer> relationship : snapshot.getRelationships().entrySet()) {
+                out.writeUTF(relationship.getKey());
+                out.writeInt(relationship.getValue());
+            }
+            sections.put(Section.RELATIONSHIPS, take(bytes));
+
+            out.writeShort(snapshot.getEvents().size());
+            for (String event : snapshot.getEvents()) {
+                out.writeUTF(event);
+            }
+            sections.put(Section.EVENTS, take(bytes));
+
+            out.writeByte(snapshot.getInventory().size());
+            for (Map.Entry<Integer, String> slot : snapshot.getInventory().entrySet()) {
+                out.writeByte(slot.getKey());
+                out.writeUTF(slot.getValue());
+            }
+            sections.put(Section.INVENTORY, take(bytes));
+
+            out.writeDouble(snapshot.getTotalEquity());
+            out.writeShort(snapshot.getHoldings().size());
+            for (GameSnapshot.Holding holding : snapshot.getHoldings()) {
+                out.writeUTF(holding.getTicketSymbol());
+                out.writeUTF(holding.getCompanyName() != null ? holding.getCompanyName() : "");
+                out.writeDouble(holding.getStockPrice() != null ? holding.getStockPrice() : Double.NaN);
+                out.writeDouble(holding.getShares());
+            }
+            sections.put(Section.PORTFOLIO, take(bytes));
+
+            out.writeUTF(snapshot.getCurrentZone());
+            out.writeUTF(saveDate);
+            sections.put(Section.LOCATION, take(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);   // writing to memory does not fail
+        }
+        return sections;
+    }
+
+    private static byte[] take(ByteArrayOutputStream bytes) {
+        byte[] section = bytes.toByteArray();
+        bytes.reset();
+        return section;
+    }
+
+    /**
+     * Puts encoded sections together into a whole file.
+     */
+    static byte[] assemble(Map<Section, byte[]> sections) {
+        int size = HEADER_BYTES + CHECKSUM_BYTES;
+        for (byte[] section : sections.values()) {
+            size += SECTION_HEADER_BYTES + section.length;
+        }
+        ByteBuffer file = ByteBuffer.allocate(size);
+        file.put(MAGIC).putShort((short) SCHEMA_ID).put((byte) sections.size());
+        for (Map.Entry<Section, byte[]> section : sections.entrySet()) {
+            file.put((byte) section.getKey().id).putInt(section.getValue().length).put(section.getValue());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(file.array(), 0, file.position());
+        file.putInt((int) crc.getValue());
+        return file.array();
+    }
+
+    /**
+     * @return true if the data starts like a binary save (older saves are JSON)
+     */
+    static boolean isSaveFile(byte[] data) {
+        return data.length >= MAGIC.length && Arrays.equals(data, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * Splits a file into its sections, checking the header and checksum.
+     *
+     * @param data the whole file
+     * @return a reader for each known section
+     * @throws IOException if the file is damaged or from an unknown schema
+     */
+    static EnumMap<Section, DataInputStream> parse(byte[] data) throws IOException {
+        if (!isSaveFile(data) || data.length < HEADER_BYTES + CHECKSUM_BYTES) {
+            throw new IOException("Not a save file");
+        }
+        ByteBuffer file = ByteBuffer.wrap(data);
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - CHECKSUM_BYTES);
+        if (file.getInt(data.length - CHECKSUM_BYTES) != (int) crc.getValue()) {
+            throw new IOException("Save file is damaged");
+        }
+
+        file.position(MAGIC.length);
+        int schemaId = file.getShort() & 0xFFFF;
+        if (schemaId != SCHEMA_ID) {
+            throw new IOException("Save file schema " + schemaId + " is not supported");
+        }
+        int count = file.get() & 0xFF;
+        EnumMap<Section, DataInputStream> sections = new EnumMap<>(Section.class);
+        for (int i = 0; i < count; i++) {
+            if (file.remaining() < SECTION_HEADER_BYTES + CHECKSUM_BYTES) {
+                throw new IOException("Save file is damaged");
+            }
+            Section section = Section.byId(file.get() & 0xFF);
+            int length = file.getInt();
+            if (length < 0 || length > file.remaining() - CHECKSUM_BYTES) {
+                throw new IOException("Save file is damaged");
+            }
+            if (section != null) {
+                sections.put(section, new DataInputStream(new ByteArrayInputStream(data, file.position(), length)));
+            }
+            file.position(file.position() + length);
+        }
+        return sections;
+    }
+
+    /**
+     * Replaces a file with new contents, so that it holds either the old or the new
+     * contents even if the game or the machine stops halfway.
+     *
+     * @param file the file to replace
+     * @param data the new contents
+     * @throws IOException if the file cannot be written
+     */
+    static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -1,92 +1,148 @@
 package data_access;
 
-import entity.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import data_access.SaveFileFormat.Section;
+import entity.GameSnapshot;
 import use_case.save_progress.SaveProgressDataAccessInterface;
 
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes saves in the binary {@link SaveFileFormat}.
+ *
+ * Saves are written from a {@link GameSnapshot}, so neither encoding nor writing needs the
+ * game thread: {@link #save} writes on the calling thread (the save use case runs it on its
+ * I/O executor) and {@link #autosave} on a background writer, and writes never overlap.
+ * The DAO remembers the sections it last wrote to each file, and an autosave whose sections
+ * are all unchanged does not touch the disk (a changed file is still rewritten whole, since
+ * the atomic rename needs a complete file). Pending autosaves are coalesced: only the
+ * latest one is written.
+ */
 public class SaveFileUserDataAccessObject implements SaveProgressDataAccessInterface {
-    EventDataAccessObject eventDataAccessObject = new EventDataAccessObject();
+    private final ThreadPoolExecutor writer;
+    private final AtomicReference<Autosave> pendingAutosave = new AtomicReference<>();
+    // the sections last written to each file; writes hold its lock
+    private final Map<String, EnumMap<Section, byte[]>> written = new HashMap<>();
+    private volatile long autosavesWritten;
+    private volatile long autosavesSkipped;
+
+    public SaveFileUserDataAccessObject() {
+        writer = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.allowCoreThreadTimeOut(true);
+    }
 
     @Override
-    public void save(Player player, String currentZone, String SAVE_FILE) throws IOException {
-        try{
-            FileWriter file = new FileWriter(SAVE_FILE, false);
-            file.write(JSONFileWriter(player, eventDataAccessObject.createEventList(), currentZone).toString(4));
-            file.close();
+    public void save(GameSnapshot snapshot, String SAVE_FILE) throws IOException {
+        EnumMap<Section, byte[]> sections = SaveFileFormat.encode(snapshot, LocalDate.now().toString());
+        try {
+            write(SAVE_FILE, sections, true);
         }
-        catch(IOException e){
+        catch (IOException e) {
             throw new FileNotFoundException("Invalid Filepath! Unable to save!");
         }
     }
 
-    public JSONArray JSONFileWriter(Player player, List<Event> events, String currentZone) {
-        JSONArray saveData = new JSONArray();
+    /**
+     * Saves in the background, without waiting for the file to be written. Sections that
+     * have not changed since the last write to the file are not written again, and nothing
+     * is written if no section changed. Failures are only logged.
+     *
+     * @param snapshot the game to save
+     * @param saveFile the file to write
+     */
+    @Override
+    public void autosave(GameSnapshot snapshot, String saveFile) {
+        Autosave autosave = new Autosave(saveFile, snapshot);
+        if (pendingAutosave.getAndSet(autosave) == null) {
+            writer.execute(this::writePendingAutosave);
+        }
+    }
 
-        Map <NPC, Integer> npcMap = player.getRelationships();
-        List<Event> eventList = player.getEvents();
-        Map <Integer, Item> inventory = player.getInventory();
-        Portfolio portfolio = player.getPortfolio();
-        Map<Stock, Double> investments = portfolio.getInvestments();
+    long getAutosavesWritten() {
+        return autosavesWritten;
+    }
 
-        JSONObject playerData = new JSONObject();
-        playerData.put("name", player.getName());
-        playerData.put("balance", player.getBalance());
-        playerData.put("xLocation", player.getX());
-        playerData.put("yLocation", player.getY());
-        playerData.put("currentDay", player.getCurrentDay());
+    long getAutosavesSkipped() {
+        return autosavesSkipped;
+    }
 
-        JSONObject stats = new JSONObject();
-        for (String stat: player.getStats().keySet()) {
-            stats.put(stat, player.getStats().get(stat));
+    /**
+     * Waits until every autosave queued so far has been written.
+     */
+    void flush() throws InterruptedException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
         }
-        playerData.put("stats", stats);
+    }
 
-        JSONObject npcData = new JSONObject();
-        for (NPC npc : npcMap.keySet()) {
-            npcData.put(npc.getName(), npcMap.get(npc));
+    private void writePendingAutosave() {
+        Autosave autosave = pendingAutosave.getAndSet(null);
+        if (autosave == null) {
+            return;
         }
-
-        JSONObject eventData = new JSONObject();
-        for (Event event : eventList) {
-            eventData.put(event.getEventName(), events.indexOf(event));
+        try {
+            EnumMap<Section, byte[]> sections = SaveFileFormat.encode(autosave.snapshot, LocalDate.now().toString());
+            if (write(autosave.file, sections, false)) {
+                autosavesWritten++;
+            } else {
+                autosavesSkipped++;
+            }
+        } catch (IOException e) {
+            System.err.println("Autosave to " + autosave.file + " failed: " + e.getMessage());
         }
+    }
 
-        JSONObject inventoryData = new JSONObject();
-        for(int index: inventory.keySet()){
-            inventoryData.put(String.valueOf(index), inventory.get(index).getName());
+    /**
+     * Writes a save.
+     *
+     * @param always false to skip the write if the file already holds exactly these sections
+     * @return true if the file was written
+     */
+    private boolean write(String file, EnumMap<Section, byte[]> sections, boolean always) throws IOException {
+        synchronized (written) {
+            EnumMap<Section, byte[]> previous = written.get(file);
+            if (!always && previous != null && unchanged(previous, sections)) {
+                return false;
+            }
+            SaveFileFormat.writeAtomically(Paths.get(file), SaveFileFormat.assemble(sections));
+            written.put(file, sections);
+            return true;
         }
+    }
 
-        JSONObject portfolioData = new JSONObject();
-        portfolioData.put("totalEquity", portfolio.getTotalEquity());
-        JSONObject investmentData = new JSONObject();
-        for (Stock stock: investments.keySet()) {
-            JSONObject stockData = new JSONObject();
-            stockData.put("ticketSymbol", stock.getTicketSymbol());
-            stockData.put("companyName", stock.getCompanyName());
-            stockData.put("stockPrice", stock.getStockPrice());
-
-            investmentData.put(String.valueOf(investments.get(stock)), stockData);
+    private static boolean unchanged(EnumMap<Section, byte[]> previous, EnumMap<Section, byte[]> sections) {
+        for (Map.Entry<Section, byte[]> section : sections.entrySet()) {
+            if (!Arrays.equals(previous.get(section.getKey()), section.getValue())) {
+                return false;
+            }
         }
-        portfolioData.put("investments", investmentData);
+        return previous.size() == sections.size();
+    }
 
-        saveData.put(playerData);
-        saveData.put(npcData);
-        saveData.put(eventData);
-        saveData.put(inventoryData);
-        saveData.put(portfolioData);
-        saveData.put(currentZone);
-        saveData.put(LocalDate.now().toString());
+    private static final class Autosave {
+        final String file;
+        final GameSnapshot snapshot;
 
-        return saveData;
+        Autosave(String file, GameSnapshot snapshot) {
+            this.file = file;
+            this.snapshot = snapshot;
+        }
     }
-
 }
-
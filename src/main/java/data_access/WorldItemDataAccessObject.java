@@ -10,12 +10,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static data_access.LoadFileUserDataAccessObject.JSONFileReader;
 
 /**
  * Data access object for world items - items placed in the game world.
  * Loads item placements from world_items.json.
+ *
+ * Items are collected and dropped on the EDT while the game loop thread reads them, so the
+ * map items are kept in a copy-on-write list (drops are rare) and the version is atomic.
  */
 public class WorldItemDataAccessObject {
     public static final String WORLD_ITEMS_FILE = "src/main/resources/world_items.json";
@@ -23,10 +28,11 @@ public class WorldItemDataAccessObject {
     private final Map<String, Item> itemMap;
     private final List<WorldItem> mapItems;
     private final List<WorldItem> storeItems;
+    private final AtomicInteger version = new AtomicInteger();  // bumped whenever an item is collected or dropped
 
     public WorldItemDataAccessObject(Map<String, Item> itemMap) {
         this.itemMap = itemMap;
-        this.mapItems = new ArrayList<>();
+        this.mapItems = new CopyOnWriteArrayList<>();
         this.storeItems = new ArrayList<>();
         loadWorldItems();
     }
@@ -117,6 +123,15 @@ public class WorldItemDataAccessObject {
         return new ArrayList<>(storeItems);
     }
 
+    /**
+     * Gets a counter that changes whenever the items in the world change, so views can
+     * keep what they drew until it does.
+     * @return the current version
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
     /**
      * Marks a map item as collected.
      * @param worldItem the item to mark as collected
@@ -124,6 +139,7 @@ public class WorldItemDataAccessObject {
     public void collectItem(WorldItem worldItem) {
         if (!worldItem.isStoreItem()) {
             worldItem.setCollected(true);
+            version.incrementAndGet();
         }
     }
 
@@ -138,5 +154,6 @@ public class WorldItemDataAccessObject {
     public void addDroppedItem(Item item, String zoneName, double x, double y) {
         WorldItem worldItem = new WorldItem(item, zoneName, x, y, false);
         mapItems.add(worldItem);
+        version.incrementAndGet();
     }
 }
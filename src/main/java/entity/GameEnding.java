@@ -5,6 +5,11 @@ package entity;
  * Different endings are shown based on final balance after Friday.
  */
 public class GameEnding {
+
+    // lowest final balance for each ending above BROKE
+    public static final double WEALTHY_THRESHOLD = 5000.0;
+    public static final double COMFORTABLE_THRESHOLD = 2000.0;
+    public static final double STRUGGLING_THRESHOLD = 1000.0;
     
     /**
      * Types of endings based on player's financial success.
@@ -86,10 +91,10 @@ public class GameEnding {
      * Determines which ending the player gets based on their final balance.
      * 
      * Thresholds:
-     * - WEALTHY: >= $5000
-     * - COMFORTABLE: >= $2000
-     * - STRUGGLING: >= $1000
-     * - BROKE: < $1000
+     * - WEALTHY: >= WEALTHY_THRESHOLD ($5000)
+     * - COMFORTABLE: >= COMFORTABLE_THRESHOLD ($2000)
+     * - STRUGGLING: >= STRUGGLING_THRESHOLD ($1000)
+     * - BROKE: below that
      * 
      * @param balance the player's final balance
      * @return a GameEnding object for the appropriate tier
@@ -97,11 +102,11 @@ public class GameEnding {
     public static GameEnding determineEnding(double balance) {
         EndingType type;
         
-        if (balance >= 5000.0) {
+        if (balance >= WEALTHY_THRESHOLD) {
             type = EndingType.WEALTHY;
-        } else if (balance >= 2000.0) {
+        } else if (balance >= COMFORTABLE_THRESHOLD) {
             type = EndingType.COMFORTABLE;
-        } else if (balance >= 1000.0) {
+        } else if (balance >= STRUGGLING_THRESHOLD) {
             type = EndingType.STRUGGLING;
         } else {
             type = EndingType.BROKE;
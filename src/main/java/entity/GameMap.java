@@ -2,7 +2,7 @@ package entity;
 
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -11,14 +11,19 @@ import java.util.Map;
  * Also manages special transitions like subway tunnels.
  */
 public class GameMap {
-    private final Map<String, Zone> zones = new HashMap<>();
+    private static final double SUBWAY_TRIGGER_DEPTH = 300;   // player y at or beyond 900 / 300
+    private static final double SUBWAY_SPAWN_OFFSET = 350;    // player y of 350 / 850
+
+    private final Map<String, Zone> zones = new LinkedHashMap<>();
     private final List<Transition> specialTransitions = new ArrayList<>();
-    private String currentZoneName;
+    private final ZoneGraph graph;
+    private int currentZoneId;
 
     public GameMap() {
         // Initialize all zones and their connections
         createZones();
-        currentZoneName = "Home";
+        graph = new ZoneGraph(new ArrayList<>(zones.values()), specialTransitions);
+        currentZoneId = graph.getId("Home");
     }
 
     private void createZones() {
@@ -61,8 +66,15 @@ public class GameMap {
         subway1.setNeighbor(Zone.Edge.UP, "Street 1");
 
         // Subway Station 1 <-> Subway Station 2
-        // NOTE: These use special zone-based transitions, not edge-based
-        // Handled specially in GamePanel with 300-pixel trigger zones
+        // The tunnel triggers once the player's position is in the 300-pixel band at the
+        // tracks and drops them just past the band on the other side, so they do not
+        // bounce straight back
+        specialTransitions.add(new Transition("Subway Station 1", Zone.Edge.DOWN,
+                "Subway Station 2", Zone.Edge.DOWN, "Subway Tunnel",
+                SUBWAY_TRIGGER_DEPTH, SUBWAY_SPAWN_OFFSET));
+        specialTransitions.add(new Transition("Subway Station 2", Zone.Edge.UP,
+                "Subway Station 1", Zone.Edge.UP, "Subway Tunnel",
+                SUBWAY_TRIGGER_DEPTH, SUBWAY_SPAWN_OFFSET));
 
         // Street 2 <-> Grocery Store
         street2.setNeighbor(Zone.Edge.RIGHT, "Grocery Store");
@@ -94,13 +106,27 @@ public class GameMap {
 
 
     public Zone getCurrentZone() {
-        return zones.get(currentZoneName);
+        return graph.getZone(currentZoneId);
     }
-    
+
+    public int getCurrentZoneId() {
+        return currentZoneId;
+    }
+
+    /**
+     * Moves to a zone by its id in {@link #getGraph()}.
+     */
+    public void setCurrentZone(int zoneId) {
+        if (zoneId < 0 || zoneId >= graph.getZoneCount()) {
+            throw new IllegalArgumentException("No zone with id " + zoneId);
+        }
+        currentZoneId = zoneId;
+    }
+
     public void setCurrentZone(String zoneName) {
-        if (zones.containsKey(zoneName)) {
-            System.out.println("GameMap: Transitioning to zone: " + zoneName);
-            currentZoneName = zoneName;
+        int zoneId = graph.getId(zoneName);
+        if (zoneId != ZoneGraph.NO_ZONE) {
+            currentZoneId = zoneId;
         } else {
             System.err.println("ERROR: Attempted to transition to non-existent zone: '" + zoneName + "'");
             System.err.println("Available zones: " + zones.keySet());
@@ -111,6 +137,13 @@ public class GameMap {
         return zones.get(zoneName);
     }
 
+    /**
+     * @return the zones and transitions compiled for fast traversal
+     */
+    public ZoneGraph getGraph() {
+        return graph;
+    }
+
     /**
      * Gets a special transition from the current zone in a given direction.
      * Returns null if no special transition exists for that direction.
@@ -119,6 +152,7 @@ public class GameMap {
      * @return the Transition object if one exists, or null
      */
     public Transition getSpecialTransition(Zone.Edge edge) {
+        String currentZoneName = getCurrentZone().getName();
         for (Transition t : specialTransitions) {
             if (t.getFromZone().equals(currentZoneName) && t.getFromEdge() == edge) {
                 return t;
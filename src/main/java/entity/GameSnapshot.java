@@ -0,0 +1,172 @@
+package entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable copy of everything a save holds: the player, their portfolio and the zone
+ * they are in.
+ *
+ * It is captured on the thread that owns the game state and can then be written out on any
+ * thread while the game goes on. Events, items and NPCs are kept by name, and the maps are
+ * sorted, so two snapshots of the same state serialize to the same bytes.
+ */
+public final class GameSnapshot {
+
+    /**
+     * One position of the portfolio.
+     */
+    public static final class Holding {
+        private final String ticketSymbol;
+        private final String companyName;
+        private final Double stockPrice;
+        private final double shares;
+
+        public Holding(String ticketSymbol, String companyName, Double stockPrice, double shares) {
+            this.ticketSymbol = ticketSymbol;
+            this.companyName = companyName;
+            this.stockPrice = stockPrice;
+            this.shares = shares;
+        }
+
+        public String getTicketSymbol() {
+            return ticketSymbol;
+        }
+
+        /** @return the company name, or null if it was never known */
+        public String getCompanyName() {
+            return companyName;
+        }
+
+        /** @return the last known price, or null if there is none */
+        public Double getStockPrice() {
+            return stockPrice;
+        }
+
+        public double getShares() {
+            return shares;
+        }
+    }
+
+    private final String name;
+    private final double balance;
+    private final double x;
+    private final double y;
+    private final Day currentDay;
+    private final SortedMap<String, Integer> stats;
+    private final SortedMap<String, Integer> relationships;
+    private final List<String> events;
+    private final SortedMap<Integer, String> inventory;
+    private final double totalEquity;
+    private final List<Holding> holdings;
+    private final String currentZone;
+
+    private GameSnapshot(Player player, String currentZone) {
+        this.name = player.getName();
+        this.balance = player.getBalance();
+        this.x = player.getX();
+        this.y = player.getY();
+        this.currentDay = player.getCurrentDay();
+        this.stats = Collections.unmodifiableSortedMap(new TreeMap<>(player.getStats()));
+
+        TreeMap<String, Integer> relationships = new TreeMap<>();
+        for (Map.Entry<NPC, Integer> relationship : player.getRelationships().entrySet()) {
+            relationships.put(relationship.getKey().getName(), relationship.getValue());
+        }
+        this.relationships = Collections.unmodifiableSortedMap(relationships);
+
+        List<String> events = new ArrayList<>(player.getEvents().size());
+        for (Event event : player.getEvents()) {
+            events.add(event.getEventName());
+        }
+        this.events = Collections.unmodifiableList(events);
+
+        TreeMap<Integer, String> inventory = new TreeMap<>();
+        for (Map.Entry<Integer, Item> slot : player.getInventory().entrySet()) {
+            inventory.put(slot.getKey(), slot.getValue().getName());
+        }
+        this.inventory = Collections.unmodifiableSortedMap(inventory);
+
+        Portfolio portfolio = player.getPortfolio();
+        this.totalEquity = portfolio.getTotalEquity();
+        List<Holding> holdings = new ArrayList<>();
+        for (Map.Entry<Stock, Double> investment : portfolio.getInvestments().entrySet()) {
+            Stock stock = investment.getKey();
+            holdings.add(new Holding(stock.getTicketSymbol(), stock.companyName, stock.priceOrNull(),
+                    investment.getValue()));
+        }
+        holdings.sort(Comparator.comparing(Holding::getTicketSymbol));
+        this.holdings = Collections.unmodifiableList(holdings);
+
+        this.currentZone = currentZone;
+    }
+
+    /**
+     * Copies the state of a player. Must be called on the thread that changes the player.
+     *
+     * @param player the player to copy
+     * @param currentZone the name of the zone the player is in
+     * @return the snapshot
+     */
+    public static GameSnapshot capture(Player player, String currentZone) {
+        return new GameSnapshot(player, currentZone);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public Day getCurrentDay() {
+        return currentDay;
+    }
+
+    public SortedMap<String, Integer> getStats() {
+        return stats;
+    }
+
+    /** @return relationship scores by NPC name */
+    public SortedMap<String, Integer> getRelationships() {
+        return relationships;
+    }
+
+    /** @return the names of the events the player has seen, in order */
+    public List<String> getEvents() {
+        return events;
+    }
+
+    /** @return item names by inventory slot */
+    public SortedMap<Integer, String> getInventory() {
+        return inventory;
+    }
+
+    /** @return the total equity of the portfolio when the snapshot was taken */
+    public double getTotalEquity() {
+        return totalEquity;
+    }
+
+    /** @return the positions of the portfolio, by ticket symbol */
+    public List<Holding> getHoldings() {
+        return holdings;
+    }
+
+    public String getCurrentZone() {
+        return currentZone;
+    }
+}
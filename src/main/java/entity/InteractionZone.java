@@ -0,0 +1,55 @@
+package entity;
+
+import java.awt.Color;
+
+/**
+ * A rectangular area of a zone where the player can interact with something,
+ * e.g. the bed in Home or the trading desk in the office cubicle.
+ * Loaded from interaction_zones.json, so areas can be added or moved without code changes.
+ */
+public class InteractionZone {
+    /**
+     * What happens when the player presses E inside the area.
+     */
+    public enum Type { SLEEP, STOCK_TRADING, MAILBOX }
+
+    private final Type type;
+    private final String zoneName;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    private final String prompt;
+    private final Color fillColor;    // overlay shown while the player is inside
+    private final Color borderColor;
+
+    public InteractionZone(Type type, String zoneName, double x, double y, double width, double height,
+                           String prompt, Color color) {
+        this.type = type;
+        this.zoneName = zoneName;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.prompt = prompt;
+        this.fillColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), 77);  // 30% opacity
+        this.borderColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), 200);
+    }
+
+    public Type getType() { return type; }
+    public String getZoneName() { return zoneName; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+    public String getPrompt() { return prompt; }
+    public Color getFillColor() { return fillColor; }
+    public Color getBorderColor() { return borderColor; }
+
+    /**
+     * Checks if a point is inside the area (edges included).
+     */
+    public boolean contains(double px, double py) {
+        return px >= x && px <= x + width && py >= y && py <= y + height;
+    }
+}
@@ -1,67 +1,171 @@
 package entity;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-// this is a class to represent the portfolio of the playet
-// current only has one type of stock, but could be altered to add more?
+// this is a class to represent the portfolio of the player
+// it can hold any number of stocks: each symbol is interned to an int id, and the shares and
+// prices are kept in double arrays indexed by that id
+// total equity is updated whenever a price or position changes, so reading it is O(1); the running
+// sum is recomputed from the arrays whenever a position is closed and every RECOMPUTE_INTERVAL
+// updates, so rounding errors do not pile up over a long game
 public class Portfolio {
 
-    public double cash;   // starting cash
-    public double totalEquity;  // total equity field
-    public HashMap<Stock, Double> investments = new HashMap<>();
-    // investments is a hashmap from the stock (which includes symbol and price)
-    // to the number of shares they have of that stock (open for extension)
+    // symbol -> id, shared by every portfolio so ids can be cached by callers
+    private static final Map<String, Integer> SYMBOL_IDS = new ConcurrentHashMap<>();
+    private static final List<String> SYMBOLS = new CopyOnWriteArrayList<>();
+    private static final int RECOMPUTE_INTERVAL = 1024;
+
+    public double totalEquity;  // total equity recorded when the portfolio was saved
+
+    private double cash;   // starting cash
+    private Stock[] stocks = new Stock[4];    // stock loaded for each symbol id (null if none)
+    private double[] shares = new double[4];  // number of shares of each symbol id
+    private double[] prices = new double[4];  // last known price of each symbol id
+    private int[] loadedIds = new int[4];     // ids of the loaded stocks, in load order
+    private int loadedCount;
+    private double holdingsValue;             // sum of shares * price over all stocks
+    private int updatesSinceRecompute;
 
 
     public Portfolio() {}
 
     public Portfolio(Double totalEquity, HashMap<Stock, Double> investments) {
         this.totalEquity = totalEquity;
-        this.investments = investments;
+        setInvestments(investments);
     }
 
     /**
-     * GET the total equity (total money).
+     * Gets the id of a symbol, assigning the next free id the first time a symbol is seen.
+     * @param symbol the ticket symbol
+     * @return the id
      */
-    // TODO: should this be in the portfolio class or somewhere else?
-    //  need to load the api data into the stock class
+    public static int symbolId(String symbol) {
+        Integer id = SYMBOL_IDS.get(symbol);
+        if (id != null) {
+            return id;
+        }
+        synchronized (SYMBOLS) {
+            return SYMBOL_IDS.computeIfAbsent(symbol, s -> {
+                SYMBOLS.add(s);
+                return SYMBOLS.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Gets the symbol for an id returned by symbolId.
+     */
+    public static String symbolOf(int id) {
+        return SYMBOLS.get(id);
+    }
 
     public void loadStock(Stock stock){
         // add to the investments portfolio, with currently 0.0 shares bought
-        investments.put(stock, 0.0);
-
+        int id = register(stock);
+        setShares(id, 0.0);
     }
 
-    public Double getTotalEquity() {
-        Double equity = 0.0; // initialise equity
-        for (Stock stock: investments.keySet()) { // for each stock
-            equity +=  investments.get(stock)*stock.stockPrice;
-            // multiple number of shares by price per share
-        }
-        return cash + equity;  // sum up and return total
+    /**
+     * GET the total equity (total money): cash plus the value of every position.
+     */
+    public double getTotalEquity() {
+        return cash + holdingsValue;
     }
 
     public void buy(Stock stock) {
-        investments.put(stock, cash/stock.stockPrice);
-        // add the number of shares bought in the investments dict
-        cash = 0; // no more cash (use all of it to buy)
+        int id = register(stock);
+        // add the number of shares bought with all the cash
+        setShares(id, cash / prices[id]);
+        setCash(0); // no more cash (use all of it to buy)
     }
 
     public void sell(Stock stock) {
-        cash = investments.get(stock)*stock.stockPrice;
+        int id = register(stock);
         // sell all shares, so cash will be number of shares * share price
-        investments.put(stock, 0.0);
+        setCash(shares[id] * prices[id]);
+        setShares(id, 0.0);
         // then re-initialise number of shares to be 0.0 (sold all of them)
     }
 
-    public Double getShares(Stock stock) {
-        return investments.getOrDefault(stock, 0.0);
-        // either return the share number, or 0.0 if the stock is not in investments dict
+    /**
+     * Buys part of a position at the stock's current price.
+     * @param stock the stock to buy
+     * @param quantity the number of shares (may be fractional)
+     * @throws IllegalArgumentException if the quantity is negative or costs more than the cash
+     */
+    public void buy(Stock stock, double quantity) {
+        int id = register(stock);
+        double cost = quantity * prices[id];
+        if (quantity < 0 || cost > cash) {
+            throw new IllegalArgumentException("Cannot buy " + quantity + " shares of " + stock.getTicketSymbol()
+                    + " with " + cash + " cash");
+        }
+        setShares(id, shares[id] + quantity);
+        setCash(cash - cost);
+    }
+
+    /**
+     * Sells part of a position at the stock's current price.
+     * @param stock the stock to sell
+     * @param quantity the number of shares (may be fractional)
+     * @throws IllegalArgumentException if the quantity is negative or more than the shares held
+     */
+    public void sell(Stock stock, double quantity) {
+        int id = register(stock);
+        if (quantity < 0 || quantity > shares[id]) {
+            throw new IllegalArgumentException("Cannot sell " + quantity + " shares of " + stock.getTicketSymbol()
+                    + ", only " + shares[id] + " held");
+        }
+        setCash(cash + quantity * prices[id]);
+        setShares(id, shares[id] - quantity);
+    }
+
+    /**
+     * Updates the price of a stock (and the stock itself) and adjusts the equity.
+     * @param stock the stock
+     * @param price the new price
+     */
+    public void updatePrice(Stock stock, double price) {
+        stock.setStockPrice(price);
+        updatePrice(register(stock), price);
+    }
+
+    /**
+     * Updates the price of a symbol id and adjusts the equity.
+     * @param id the symbol id
+     * @param price the new price
+     */
+    public void updatePrice(int id, double price) {
+        ensureCapacity(id);
+        holdingsValue += shares[id] * (price - prices[id]);
+        prices[id] = price;
+        if (stocks[id] != null) {
+            stocks[id].setStockPrice(price);
+        }
+        if (++updatesSinceRecompute >= RECOMPUTE_INTERVAL) {
+            recomputeHoldings();
+        }
+    }
+
+    public double getShares(Stock stock) {
+        // either return the share number, or 0.0 if the stock is not in the portfolio
+        return getShares(symbolId(stock.getTicketSymbol()));
+    }
+
+    public double getShares(int id) {
+        return id < shares.length ? shares[id] : 0.0;
+    }
+
+    public double getPrice(int id) {
+        return id < prices.length ? prices[id] : 0.0;
     }
 
-    public Double getCash() {
+    public double getCash() {
         return cash;
     }
 
@@ -69,12 +173,79 @@ public class Portfolio {
         this.cash = cash;
     }
 
+    /**
+     * Gets the holdings as a map from stock to number of shares (a copy).
+     */
     public Map<Stock, Double> getInvestments() {
+        HashMap<Stock, Double> investments = new HashMap<>();
+        for (int i = 0; i < loadedCount; i++) {
+            int id = loadedIds[i];
+            investments.put(stocks[id], shares[id]);
+        }
         return investments;
     }
 
     public void  setInvestments(Map<Stock, Double> investments) {
-        this.investments = (HashMap<Stock, Double>) investments;
+        Arrays.fill(stocks, null);
+        Arrays.fill(shares, 0.0);
+        Arrays.fill(prices, 0.0);
+        loadedCount = 0;
+        holdingsValue = 0;
+        for (Map.Entry<Stock, Double> investment : investments.entrySet()) {
+            int id = register(investment.getKey());
+            setShares(id, investment.getValue());
+        }
+    }
+
+    /**
+     * Adds a stock to the portfolio if needed and takes its current price.
+     */
+    private int register(Stock stock) {
+        int id = symbolId(stock.getTicketSymbol());
+        ensureCapacity(id);
+        if (stocks[id] == null) {
+            if (loadedCount == loadedIds.length) {
+                loadedIds = Arrays.copyOf(loadedIds, loadedCount * 2);
+            }
+            loadedIds[loadedCount++] = id;
+        }
+        stocks[id] = stock;
+        Double price = stock.priceOrNull();
+        if (price != null && price != prices[id]) {
+            updatePrice(id, price);
+        }
+        return id;
+    }
+
+    private void setShares(int id, double newShares) {
+        holdingsValue += (newShares - shares[id]) * prices[id];
+        shares[id] = newShares;
+        if (newShares == 0 || ++updatesSinceRecompute >= RECOMPUTE_INTERVAL) {
+            recomputeHoldings();
+        }
+    }
+
+    /**
+     * Sums the holdings again from the shares and prices, dropping the running sum's rounding error.
+     */
+    private void recomputeHoldings() {
+        double value = 0;
+        for (int i = 0; i < loadedCount; i++) {
+            int id = loadedIds[i];
+            value += shares[id] * prices[id];
+        }
+        holdingsValue = value;
+        updatesSinceRecompute = 0;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < shares.length) {
+            return;
+        }
+        int capacity = Math.max(id + 1, shares.length * 2);
+        stocks = Arrays.copyOf(stocks, capacity);
+        shares = Arrays.copyOf(shares, capacity);
+        prices = Arrays.copyOf(prices, capacity);
     }
 
     @Override
@@ -89,15 +260,15 @@ public class Portfolio {
         if (totalEquity != portfolio.totalEquity) {
             return false;
         }
-        if (investments.size() != portfolio.investments.size()) {
+        if (loadedCount != portfolio.loadedCount) {
             return false;
         }
-        Map <Stock, Double> other_investments = portfolio.getInvestments();
-        for (Stock stock: investments.keySet()) {
-            if (!other_investments.containsKey(stock)) {
+        for (int i = 0; i < loadedCount; i++) {
+            int id = loadedIds[i];
+            if (id >= portfolio.stocks.length || portfolio.stocks[id] == null) {
                 return false;
             }
-            if (!investments.get(stock).equals(other_investments.get(stock))) {
+            if (Double.compare(shares[id], portfolio.shares[id]) != 0) {
                 return false;
             }
         }
@@ -105,4 +276,3 @@ public class Portfolio {
     }
 
 }
-
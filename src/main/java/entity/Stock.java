@@ -7,8 +7,9 @@ import java.util.Objects;
 public class Stock {
     public String ticketSymbol;
     public String companyName;
-    public Double stockPrice;
-    // stock price gets constantly reupdated to the next values in the priceHistory
+    // stock price gets constantly reupdated to the next values in the priceHistory,
+    // always through Portfolio.updatePrice so the portfolio's equity stays in step
+    private Double stockPrice;
 
     public Stock(String ticketSymbol, Double stockPrice) {
         // need to call another method to load the data? load data from Stock history
@@ -26,6 +27,15 @@ public class Stock {
         return stockPrice;
     }
 
+    // null if the price is not known (e.g. a save that did not record it)
+    Double priceOrNull() {
+        return stockPrice;
+    }
+
+    void setStockPrice(Double stockPrice) {
+        this.stockPrice = stockPrice;
+    }
+
     public void setTicketSymbol(String ticketSymbol) {
         this.ticketSymbol = ticketSymbol;
     }
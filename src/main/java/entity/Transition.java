@@ -7,11 +7,19 @@ package entity;
  * Example: Subway tunnel connecting Subway Station 1 (top) to Subway Station 2 (bottom)
  */
 public class Transition {
+    /** Distance from an edge at which the player's leading side counts as having reached it. */
+    public static final double EDGE_TRIGGER_DEPTH = 0;
+    /** Distance from the entry edge at which the player's near side appears in the new zone. */
+    public static final double EDGE_SPAWN_OFFSET = 5;
+
     private final String fromZone;
     private final Zone.Edge fromEdge;
     private final String toZone;
     private final Zone.Edge toEdge;
     private final String transitionName;
+    private final double triggerDepth;
+    private final double spawnOffset;
+    private final boolean positional;
 
     /**
      * Creates a special transition between two zones.
@@ -25,11 +33,39 @@ public class Transition {
     public Transition(String fromZone, Zone.Edge fromEdge, 
                       String toZone, Zone.Edge toEdge, 
                       String transitionName) {
+        this(fromZone, fromEdge, toZone, toEdge, transitionName, EDGE_TRIGGER_DEPTH, EDGE_SPAWN_OFFSET, false);
+    }
+
+    /**
+     * Creates a special transition that triggers in a band along the edge instead of at it.
+     * Both distances are measured to the player's position (their top-left corner), not to
+     * their sides, so they do not depend on the player's size.
+     *
+     * @param fromZone the zone to transition from
+     * @param fromEdge the edge of fromZone to trigger the transition
+     * @param toZone the zone to transition to
+     * @param toEdge the edge of toZone to enter from
+     * @param transitionName descriptive name (e.g., "Subway Tunnel", "Elevator")
+     * @param triggerDepth how far from fromEdge the player's position triggers the transition
+     * @param spawnOffset how far from the entry edge the player's position is placed in toZone
+     */
+    public Transition(String fromZone, Zone.Edge fromEdge,
+                      String toZone, Zone.Edge toEdge,
+                      String transitionName, double triggerDepth, double spawnOffset) {
+        this(fromZone, fromEdge, toZone, toEdge, transitionName, triggerDepth, spawnOffset, true);
+    }
+
+    private Transition(String fromZone, Zone.Edge fromEdge,
+                       String toZone, Zone.Edge toEdge,
+                       String transitionName, double triggerDepth, double spawnOffset, boolean positional) {
         this.fromZone = fromZone;
         this.fromEdge = fromEdge;
         this.toZone = toZone;
         this.toEdge = toEdge;
         this.transitionName = transitionName;
+        this.triggerDepth = triggerDepth;
+        this.spawnOffset = spawnOffset;
+        this.positional = positional;
     }
 
     public String getFromZone() { return fromZone; }
@@ -37,4 +73,8 @@ public class Transition {
     public String getToZone() { return toZone; }
     public Zone.Edge getToEdge() { return toEdge; }
     public String getTransitionName() { return transitionName; }
+    public double getTriggerDepth() { return triggerDepth; }
+    public double getSpawnOffset() { return spawnOffset; }
+    /** @return true if the distances are measured to the player's position rather than their sides */
+    public boolean isPositional() { return positional; }
 }
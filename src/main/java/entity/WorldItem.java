@@ -66,6 +66,6 @@ public class WorldItem {
     public boolean isInRange(double playerX, double playerY, double range) {
         double dx = playerX - x;
         double dy = playerY - y;
-        return Math.sqrt(dx * dx + dy * dy) < range;
+        return dx * dx + dy * dy < range * range;
     }
 }
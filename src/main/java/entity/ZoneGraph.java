@@ -0,0 +1,137 @@
+package entity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The zones of a map compiled into an array-indexed graph.
+ *
+ * Every zone gets an integer id (its position in the map) and every (zone, edge) pair a
+ * slot in flat tables holding the zone it leads to, the edge the player enters through,
+ * how close to the edge the transition triggers, where the player appears and whether
+ * those distances are measured to the player's position or to their sides (see
+ * {@link Transition}). Special transitions override the plain neighbour on the same edge. Looking up a transition is
+ * then a few array reads instead of string comparisons and map lookups.
+ */
+public final class ZoneGraph {
+    public static final int NO_ZONE = -1;
+    public static final int EDGE_COUNT = Zone.Edge.values().length;
+
+    private static final Zone.Edge[] EDGES = Zone.Edge.values();
+
+    private final Zone[] zones;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final int[] targets;            // [zone * EDGE_COUNT + edge] -> zone id or NO_ZONE
+    private final Zone.Edge[] entryEdges;
+    private final double[] triggerDepths;
+    private final double[] spawnOffsets;
+    private final boolean[] positional;
+
+    /**
+     * Compiles a graph.
+     * @param zones the zones, in id order
+     * @param specialTransitions transitions that replace the neighbour on their edge
+     */
+    public ZoneGraph(List<Zone> zones, List<Transition> specialTransitions) {
+        this.zones = zones.toArray(new Zone[0]);
+        for (int id = 0; id < this.zones.length; id++) {
+            ids.put(this.zones[id].getName(), id);
+        }
+
+        int slots = this.zones.length * EDGE_COUNT;
+        this.targets = new int[slots];
+        this.entryEdges = new Zone.Edge[slots];
+        this.triggerDepths = new double[slots];
+        this.spawnOffsets = new double[slots];
+        this.positional = new boolean[slots];
+        Arrays.fill(targets, NO_ZONE);
+
+        for (int id = 0; id < this.zones.length; id++) {
+            for (Zone.Edge edge : EDGES) {
+                String neighbor = this.zones[id].getNeighbor(edge);
+                if (neighbor != null) {
+                    link(id, edge, neighbor, edge, Transition.EDGE_TRIGGER_DEPTH, Transition.EDGE_SPAWN_OFFSET,
+                            false);
+                }
+            }
+        }
+        for (Transition transition : specialTransitions) {
+            Integer from = ids.get(transition.getFromZone());
+            if (from == null) {
+                System.err.println("Skipping transition from unknown zone: " + transition.getFromZone());
+                continue;
+            }
+            link(from, transition.getFromEdge(), transition.getToZone(), transition.getToEdge(),
+                    transition.getTriggerDepth(), transition.getSpawnOffset(), transition.isPositional());
+        }
+    }
+
+    private void link(int from, Zone.Edge edge, String toZone, Zone.Edge entryEdge,
+                      double triggerDepth, double spawnOffset, boolean positionalSlot) {
+        Integer to = ids.get(toZone);
+        if (to == null) {
+            System.err.println("Skipping transition to unknown zone: " + toZone);
+            return;
+        }
+        int slot = from * EDGE_COUNT + edge.ordinal();
+        targets[slot] = to;
+        entryEdges[slot] = entryEdge;
+        triggerDepths[slot] = triggerDepth;
+        spawnOffsets[slot] = spawnOffset;
+        positional[slot] = positionalSlot;
+    }
+
+    public int getZoneCount() {
+        return zones.length;
+    }
+
+    /**
+     * @return the id of the named zone, or NO_ZONE if there is none
+     */
+    public int getId(String zoneName) {
+        Integer id = ids.get(zoneName);
+        return id == null ? NO_ZONE : id;
+    }
+
+    public Zone getZone(int id) {
+        return zones[id];
+    }
+
+    /**
+     * @return the id of the zone the edge leads to, or NO_ZONE if it leads nowhere
+     */
+    public int getTarget(int zoneId, Zone.Edge edge) {
+        return targets[zoneId * EDGE_COUNT + edge.ordinal()];
+    }
+
+    /**
+     * @return the direction the player travels in when entering the target zone
+     */
+    public Zone.Edge getEntryEdge(int zoneId, Zone.Edge edge) {
+        return entryEdges[zoneId * EDGE_COUNT + edge.ordinal()];
+    }
+
+    /**
+     * @return how far from the edge the player triggers the transition
+     */
+    public double getTriggerDepth(int zoneId, Zone.Edge edge) {
+        return triggerDepths[zoneId * EDGE_COUNT + edge.ordinal()];
+    }
+
+    /**
+     * @return how far from the entry edge the player appears in the target zone
+     */
+    public double getSpawnOffset(int zoneId, Zone.Edge edge) {
+        return spawnOffsets[zoneId * EDGE_COUNT + edge.ordinal()];
+    }
+
+    /**
+     * @return true if the trigger depth and spawn offset are measured to the player's
+     *         position, false if they are measured to the player's leading and near sides
+     */
+    public boolean isPositional(int zoneId, Zone.Edge edge) {
+        return positional[zoneId * EDGE_COUNT + edge.ordinal()];
+    }
+}
@@ -14,6 +14,14 @@ public class LoadProgressPresenter implements LoadProgressOutputBoundary {
     public void prepareSuccessView(LoadProgressOutputData data) {
         loadProgressViewModel.setPlayerName(data.getName());
         loadProgressViewModel.setRecentSaveDate(data.getRecentSaveDate());
+        loadProgressViewModel.setLoadedGame(data.getPlayer(), data.getGameMap());
+        loadProgressViewModel.firePropertyChange(LoadProgressViewModel.LOADED);
+    }
+
+    @Override
+    public void prepareFailureView(String errorMessage) {
+        loadProgressViewModel.setError(errorMessage);
+        loadProgressViewModel.firePropertyChange(LoadProgressViewModel.LOAD_FAILED);
     }
 
 }
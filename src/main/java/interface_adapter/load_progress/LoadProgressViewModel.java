@@ -1,12 +1,21 @@
 package interface_adapter.load_progress;
 
+import entity.GameMap;
+import entity.Player;
 import interface_adapter.ViewModel;
 
 import java.util.Random;
 
 public class LoadProgressViewModel extends ViewModel {
+    // property names fired once loading has finished
+    public static final String LOADED = "loaded";
+    public static final String LOAD_FAILED = "loadFailed";
+
     private String playerName;
     private String recentSaveDate;
+    private Player loadedPlayer;
+    private GameMap loadedGameMap;
+    private String error;
 
     private String[] loadingMessages = {
             "Generating Global Recession...",
@@ -42,4 +51,25 @@ public class LoadProgressViewModel extends ViewModel {
         return recentSaveDate;
     }
 
+    public void setLoadedGame(Player player, GameMap gameMap) {
+        this.loadedPlayer = player;
+        this.loadedGameMap = gameMap;
+    }
+
+    public Player getLoadedPlayer() {
+        return loadedPlayer;
+    }
+
+    public GameMap getLoadedGameMap() {
+        return loadedGameMap;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getError() {
+        return error;
+    }
+
 }
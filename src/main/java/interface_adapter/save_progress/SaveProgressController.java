@@ -1,19 +1,21 @@
 package interface_adapter.save_progress;
 
-import entity.Player;
+import entity.GameSnapshot;
 import use_case.save_progress.SaveProgressInputBoundary;
 import use_case.save_progress.SaveProgressInputData;
 
-import java.io.IOException;
-
 public class SaveProgressController {
     SaveProgressInputBoundary saveProgressInteractor;
     public SaveProgressController(SaveProgressInputBoundary saveProgressInteractor) {
         this.saveProgressInteractor = saveProgressInteractor;
     }
 
-    public void saveGame(Player player, String filePath, String currentZone) throws IOException {
-        SaveProgressInputData saveProgressInputData = new SaveProgressInputData(player, filePath, currentZone);
+    public void saveGame(GameSnapshot snapshot, String filePath) {
+        SaveProgressInputData saveProgressInputData = new SaveProgressInputData(snapshot, filePath);
         saveProgressInteractor.saveGame(saveProgressInputData);
     }
+
+    public void autosave(GameSnapshot snapshot, String filePath) {
+        saveProgressInteractor.autosave(new SaveProgressInputData(snapshot, filePath));
+    }
 }
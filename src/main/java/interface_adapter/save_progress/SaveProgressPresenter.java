@@ -13,5 +13,12 @@ public class SaveProgressPresenter implements SaveProgressOutputBoundary {
     @Override
     public void prepareSuccessView(SaveProgressOutputData saveProgressOutputData) {
         saveProgressViewModel.setData(saveProgressOutputData.getPlayerName(), saveProgressOutputData.getCurrentDay());
+        saveProgressViewModel.firePropertyChange(SaveProgressViewModel.SAVED);
+    }
+
+    @Override
+    public void prepareFailureView(String errorMessage) {
+        saveProgressViewModel.setError(errorMessage);
+        saveProgressViewModel.firePropertyChange(SaveProgressViewModel.SAVE_FAILED);
     }
 }
@@ -6,9 +6,14 @@ import java.time.LocalDate;
 import java.util.Random;
 
 public class SaveProgressViewModel extends ViewModel {
+    // property names fired once a save has finished
+    public static final String SAVED = "saved";
+    public static final String SAVE_FAILED = "saveFailed";
+
     private String playerName;
     private String currentDay;
     private String saveDate;
+    private String error;
 
     private String[] savingMessages = {
             "Don't quit the game! Currently saving your recent progress...",
@@ -45,4 +50,12 @@ public class SaveProgressViewModel extends ViewModel {
     public String getSaveDate() {
         return saveDate;
     }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getError() {
+        return error;
+    }
 }
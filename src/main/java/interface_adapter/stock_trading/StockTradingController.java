@@ -1,6 +1,7 @@
 package interface_adapter.stock_trading;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import api.StockDataManager;
 import entity.Player;
@@ -29,38 +30,65 @@ public class StockTradingController {
     public StockTradingController(PlayStockGameInputBoundary stockGameInteractor, String apiKey) {
         this.stockGameInteractor = stockGameInteractor;
         this.stockDataManager = new StockDataManager(apiKey);
+
+        // Warm every stock in the background so selecting one rarely has to wait for the network
+        stockDataManager.prefetchAllStocks();
     }
     
     /**
      * Initiates the stock trading game for the player.
      * Shows stock selection dialog, prompts for investment amount, and starts the game.
+     * If the selected stock still has to be downloaded, the rest of the flow continues
+     * on the event thread once the data arrives, so the game window never blocks.
      *
      * @param player the player who wants to trade stocks
      */
     public void startStockTrading(Player player) {
-        try {
-            // Step 1: Show stock selection dialog
-            List<StockInfo> availableStocks = stockDataManager.getAllStocks();
-            StockInfo selectedStock = StockSelectionDialog.selectStock(null, availableStocks);
-
-            if (selectedStock == null) {
-                // User canceled stock selection
-                return;
-            }
+        // Step 1: Show stock selection dialog
+        List<StockInfo> availableStocks = stockDataManager.getAllStocks();
+        StockInfo selectedStock = StockSelectionDialog.selectStock(null, availableStocks);
 
-            // Step 2: Ensure stock has data available (fetch if needed)
-            boolean hasData = stockDataManager.ensureStockData(selectedStock.getSymbol());
+        if (selectedStock == null) {
+            // User canceled stock selection
+            return;
+        }
 
-            if (!hasData) {
-                JOptionPane.showMessageDialog(
-                        null,
-                        "Failed to fetch stock data. Please try again later.",
-                        "Data Error",
-                        JOptionPane.ERROR_MESSAGE
-                );
-                return;
-            }
+        // Step 2: Ensure stock has data available (fetch in the background if needed)
+        stockDataManager.ensureStockDataAsync(selectedStock.getSymbol())
+                .whenComplete((hasData, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        JOptionPane.showMessageDialog(
+                                null,
+                                "An error occurred: " + cause.getMessage(),
+                                "Error",
+                                JOptionPane.ERROR_MESSAGE
+                        );
+                        return;
+                    }
+
+                    if (!hasData) {
+                        JOptionPane.showMessageDialog(
+                                null,
+                                "Failed to fetch stock data. Please try again later.",
+                                "Data Error",
+                                JOptionPane.ERROR_MESSAGE
+                        );
+                        return;
+                    }
+
+                    playSelectedStock(player, selectedStock);
+                }));
+    }
 
+    /**
+     * Picks a period for the selected stock, asks for the investment amount and starts the game.
+     *
+     * @param player the player who wants to trade stocks
+     * @param selectedStock the stock the player picked
+     */
+    private void playSelectedStock(Player player, StockInfo selectedStock) {
+        try {
             // Step 3: Select a random period (will use unplayed if available, otherwise replay)
             Map<String, Object> periodInfo = stockDataManager.selectRandomUnplayedPeriod(selectedStock.getSymbol());
 
@@ -29,10 +29,11 @@ public class PlayerMovementUseCase implements PlayerMovementInputBoundary {
     private static final double PLAYER_HEIGHT = 64.0;
     
     // Movement state flags: which directions are currently active
-    private boolean movingUp = false;
-    private boolean movingDown = false;
-    private boolean movingLeft = false;
-    private boolean movingRight = false;
+    // (set by the key handlers on the EDT, read by the game loop thread)
+    private volatile boolean movingUp = false;
+    private volatile boolean movingDown = false;
+    private volatile boolean movingLeft = false;
+    private volatile boolean movingRight = false;
     
     /**
      * Constructs a PlayerMovementUseCase with the given player entity.
@@ -21,6 +21,7 @@ public class GameLoopInteractor implements GameLoopInputBoundary {
     private final ZoneTransitionInputBoundary zoneTransitionUseCase;
     private final ProximityDetectionInputBoundary proximityDetectionUseCase;
 
+    private GameLoopTimings timings = GameLoopTimings.NONE;
     private boolean zoneTransitionOccurred;
 
     /**
@@ -38,10 +39,22 @@ public class GameLoopInteractor implements GameLoopInputBoundary {
         this.proximityDetectionUseCase = proximityDetectionUseCase;
     }
 
+    /**
+     * Sets where the duration of each phase of an update is reported.
+     *
+     * @param timings the receiver, or GameLoopTimings.NONE
+     */
+    public void setTimings(GameLoopTimings timings) {
+        this.timings = timings;
+    }
+
     @Override
     public void update(double deltaTime) {
         // 1. Update player position based on input
+        long start = System.nanoTime();
         movementUseCase.updatePosition(deltaTime);
+        long end = System.nanoTime();
+        timings.record(GameLoopTimings.Phase.MOVEMENT, start, end);
 
         // 2. Get current player position
         Player player = movementUseCase.getPlayer();
@@ -49,12 +62,17 @@ public class GameLoopInteractor implements GameLoopInputBoundary {
         double playerY = player.getY();
 
         // 3. Check for zone transitions
+        start = end;
         zoneTransitionOccurred = zoneTransitionUseCase.checkAndPerformTransition(
                 playerX, playerY, PLAYER_WIDTH, PLAYER_HEIGHT);
+        end = System.nanoTime();
+        timings.record(GameLoopTimings.Phase.ZONE_TRANSITION, start, end);
 
         // 4. Check all proximity conditions
+        start = end;
         String currentZoneName = zoneTransitionUseCase.getCurrentZoneName();
         proximityDetectionUseCase.checkAllProximities(playerX, playerY, currentZoneName);
+        timings.record(GameLoopTimings.Phase.PROXIMITY, start, System.nanoTime());
     }
 
     @Override
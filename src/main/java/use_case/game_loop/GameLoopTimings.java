@@ -0,0 +1,27 @@
+package use_case.game_loop;
+
+/**
+ * GameLoopTimings receives how long each phase of a game loop update took.
+ *
+ * Implemented by whatever profiles the game (outside the use case layer), so the
+ * interactor can report its phases without depending on it.
+ */
+public interface GameLoopTimings {
+
+    /**
+     * The phases of one update, in the order they run.
+     */
+    enum Phase { MOVEMENT, ZONE_TRANSITION, PROXIMITY }
+
+    /** Timings that are thrown away. */
+    GameLoopTimings NONE = (phase, startNanos, endNanos) -> { };
+
+    /**
+     * Records one phase.
+     *
+     * @param phase the phase
+     * @param startNanos System.nanoTime() when it started
+     * @param endNanos System.nanoTime() when it ended
+     */
+    void record(Phase phase, long startNanos, long endNanos);
+}
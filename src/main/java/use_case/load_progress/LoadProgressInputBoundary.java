@@ -1,9 +1,8 @@
 package use_case.load_progress;
 
-import entity.Player;
-
-import java.io.IOException;
-
 public interface LoadProgressInputBoundary {
-    Player loadGame(LoadProgressInputData loadProgressInputData) throws IOException;
+    /**
+     * Starts loading a save. The loaded game is delivered to the presenter once it is read.
+     */
+    void loadGame(LoadProgressInputData loadProgressInputData);
 }
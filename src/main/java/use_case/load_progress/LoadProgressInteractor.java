@@ -2,32 +2,58 @@ package use_case.load_progress;
 
 import entity.Player;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
+/**
+ * Loads a save.
+ *
+ * The file is read and parsed into a new player and game map on the I/O executor, away from
+ * the game; the presenter receives them on the presenter executor (the event thread in the
+ * game), where they replace the running game in one step.
+ */
 public class LoadProgressInteractor implements LoadProgressInputBoundary{
     LoadProgressDataAccessInterface loadProgressDataAccessObject;
     LoadProgressOutputBoundary loadProgressPresenter;
+    private final Executor ioExecutor;
+    private final Executor presenterExecutor;
 
+    /**
+     * Creates an interactor that loads on the calling thread.
+     */
     public LoadProgressInteractor(LoadProgressDataAccessInterface loadProgressDataAccessObject,
                                   LoadProgressOutputBoundary loadProgressPresenter) {
+        this(loadProgressDataAccessObject, loadProgressPresenter, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * @param ioExecutor runs the reads
+     * @param presenterExecutor runs the presenter once a save is loaded
+     */
+    public LoadProgressInteractor(LoadProgressDataAccessInterface loadProgressDataAccessObject,
+                                  LoadProgressOutputBoundary loadProgressPresenter,
+                                  Executor ioExecutor, Executor presenterExecutor) {
         this.loadProgressDataAccessObject = loadProgressDataAccessObject;
         this.loadProgressPresenter = loadProgressPresenter;
+        this.ioExecutor = ioExecutor;
+        this.presenterExecutor = presenterExecutor;
     }
 
     @Override
-    public Player loadGame(LoadProgressInputData loadProgressInputData) throws IOException {
-        try{
-            Player player = loadProgressDataAccessObject.load(loadProgressInputData.getGameMap(),
-                    loadProgressInputData.getFileName());
-            LoadProgressOutputData outputData = new LoadProgressOutputData(player.getName(),
-                    loadProgressDataAccessObject.getRecentSaveDate());
-            loadProgressPresenter.prepareSuccessView(outputData);
-            return player;
-        }
-        catch (IOException e){
-            throw new FileNotFoundException(e.getMessage());
-        }
+    public void loadGame(LoadProgressInputData loadProgressInputData) {
+        ioExecutor.execute(() -> {
+            try {
+                Player player = loadProgressDataAccessObject.load(loadProgressInputData.getGameMap(),
+                        loadProgressInputData.getFileName());
+                LoadProgressOutputData outputData = new LoadProgressOutputData(player,
+                        loadProgressInputData.getGameMap(), loadProgressDataAccessObject.getRecentSaveDate());
+                presenterExecutor.execute(() -> loadProgressPresenter.prepareSuccessView(outputData));
+            }
+            catch (IOException | RuntimeException e) {
+                String message = e.getMessage();
+                presenterExecutor.execute(() -> loadProgressPresenter.prepareFailureView(message));
+            }
+        });
     }
 
 }
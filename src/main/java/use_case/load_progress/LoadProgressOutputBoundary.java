@@ -3,4 +3,9 @@ package use_case.load_progress;
 public interface LoadProgressOutputBoundary {
     void prepareSuccessView(LoadProgressOutputData data);
 
+    /**
+     * Prepares the failure view when the save could not be read.
+     * @param errorMessage why loading failed
+     */
+    void prepareFailureView(String errorMessage);
 }
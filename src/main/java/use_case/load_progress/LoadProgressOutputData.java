@@ -1,15 +1,24 @@
 package use_case.load_progress;
 
+import entity.GameMap;
+import entity.Player;
+
 public class LoadProgressOutputData {
-    String name;
+    Player player;
+    GameMap gameMap;
     String recentSaveDate;
 
-    public LoadProgressOutputData(String name, String recentSaveDate) {
-        this.name = name;
+    public LoadProgressOutputData(Player player, GameMap gameMap, String recentSaveDate) {
+        this.player = player;
+        this.gameMap = gameMap;
         this.recentSaveDate = recentSaveDate;
     }
 
-    public String getName() { return name; }
+    public String getName() { return player.getName(); }
+
+    public Player getPlayer() { return player; }
+
+    public GameMap getGameMap() { return gameMap; }
 
     public String getRecentSaveDate() { return recentSaveDate; }
 
@@ -0,0 +1,13 @@
+package use_case.proximity;
+
+import java.util.List;
+
+import entity.InteractionZone;
+
+/**
+ * Interface for accessing the interaction zones of the game map.
+ * Clean Architecture principle: use-case depends only on this interface, not concrete implementation.
+ */
+public interface InteractionZoneDataAccessInterface {
+    List<InteractionZone> getInteractionZones();
+}
@@ -0,0 +1,67 @@
+package use_case.proximity;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import entity.InteractionZone;
+
+/**
+ * Static interval index over the interaction zones of one map zone.
+ *
+ * The areas are sorted by their left edge, with a running maximum of the right edges. A
+ * query binary-searches the last area starting at or before the point and walks back only
+ * while some earlier area can still reach it, so it touches the candidate areas instead of
+ * every area, and returns all areas containing the point without allocating.
+ */
+public class InteractionZoneIndex {
+    private final InteractionZone[] zones;
+    private final double[] minX;
+    private final double[] maxXPrefix;   // largest right edge among zones[0..i]
+
+    public InteractionZoneIndex(List<InteractionZone> interactionZones) {
+        this.zones = interactionZones.toArray(new InteractionZone[0]);
+        Arrays.sort(zones, Comparator.comparingDouble(InteractionZone::getX));
+        this.minX = new double[zones.length];
+        this.maxXPrefix = new double[zones.length];
+        double maxX = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < zones.length; i++) {
+            minX[i] = zones[i].getX();
+            maxX = Math.max(maxX, zones[i].getX() + zones[i].getWidth());
+            maxXPrefix[i] = maxX;
+        }
+    }
+
+    /**
+     * Finds every area containing a point.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param out receives the areas (at most out.length of them)
+     * @return the number of areas written to out
+     */
+    public int query(double x, double y, InteractionZone[] out) {
+        // last zone whose left edge is <= x
+        int low = 0;
+        int high = zones.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minX[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int count = 0;
+        for (int i = low - 1; i >= 0 && maxXPrefix[i] >= x && count < out.length; i--) {
+            if (zones[i].contains(x, y)) {
+                out[count++] = zones[i];
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return zones.length;
+    }
+}
@@ -1,5 +1,6 @@
 package use_case.proximity;
 
+import entity.InteractionZone;
 import entity.NPC;
 import entity.WorldItem;
 
@@ -54,4 +55,12 @@ public interface ProximityDetectionInputBoundary {
      * @return true if in mailbox zone, false otherwise
      */
     boolean isInMailboxZone();
+
+    /**
+     * Copies the interaction zones the player was in at the last check.
+     *
+     * @param out receives the zones (at most out.length of them)
+     * @return the number of zones copied
+     */
+    int getActiveInteractionZones(InteractionZone[] out);
 }
@@ -1,9 +1,14 @@
 package use_case.proximity;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import data_access.InteractionZoneDataAccessObject;
 import data_access.NPCDataAccessObject;
 import data_access.WorldItemDataAccessObject;
+import entity.InteractionZone;
 import entity.NPC;
 import entity.WorldItem;
 
@@ -12,6 +17,13 @@ import entity.WorldItem;
  *
  * This use case was extracted from GamePanel to follow Clean Architecture principles.
  * It centralizes all proximity detection logic for NPCs, items, and special zones.
+ *
+ * NPCs and world items are indexed per zone in a SpatialGrid, so a check only looks at the
+ * entities around the player and does not allocate. NPC grids are built once per zone (NPCs
+ * do not move); item grids are rebuilt when the world items change.
+ *
+ * The sleep, stock trading and mailbox areas come from interaction_zones.json and are
+ * looked up with one InteractionZoneIndex query per check.
  */
 public class ProximityDetectionInteractor implements ProximityDetectionInputBoundary {
 
@@ -19,45 +31,58 @@ public class ProximityDetectionInteractor implements ProximityDetectionInputBoun
     private static final double VIRTUAL_WIDTH = 1920.0;
     private static final double VIRTUAL_HEIGHT = 1200.0;
 
-    // Sleep zone (top-right 400x400px in Home)
-    private static final int SLEEP_ZONE_X = (int) VIRTUAL_WIDTH - 400;
-    private static final int SLEEP_ZONE_Y = 0;
-    private static final int SLEEP_ZONE_WIDTH = 400;
-    private static final int SLEEP_ZONE_HEIGHT = 400;
-
-    // Stock trading zone (in Office cubicle)
-    private static final int STOCK_TRADING_ZONE_X = 1188;
-    private static final int STOCK_TRADING_ZONE_Y = 244;
-    private static final int STOCK_TRADING_ZONE_WIDTH = 239;
-    private static final int STOCK_TRADING_ZONE_HEIGHT = 226;
-
-    // Mailbox zone (bottom middle of Home)
-    private static final int MAILBOX_ZONE_X = 760;
-    private static final int MAILBOX_ZONE_Y = 900;
-    private static final int MAILBOX_ZONE_WIDTH = 400;
-    private static final int MAILBOX_ZONE_HEIGHT = 300;
-
     // Interaction radii
     private static final double NPC_INTERACTION_RADIUS = 100.0;
     private static final double ITEM_INTERACTION_RADIUS = 80.0;
+    private static final double GRID_CELL_SIZE = 128.0;
+
+    /** The most interaction zones reported as containing the player at once. */
+    public static final int MAX_ACTIVE_ZONES = 8;
+    private static final InteractionZoneIndex NO_INTERACTION_ZONES = new InteractionZoneIndex(List.of());
 
     private final NPCDataAccessObject npcDataAccess;
+    private final Map<String, InteractionZoneIndex> interactionZoneIndexes = new HashMap<>();
     private WorldItemDataAccessObject worldItemDataAccess;
 
+    // Spatial indexes by zone name
+    private final Map<String, SpatialGrid<NPC>> npcGrids = new HashMap<>();
+    private final Map<String, SpatialGrid<WorldItem>> itemGrids = new HashMap<>();
+    private int itemGridsVersion;
+
     // Current proximity state
     private NPC nearbyNPC;
     private WorldItem nearbyWorldItem;
     private boolean inSleepZone;
     private boolean inStockTradingZone;
     private boolean inMailboxZone;
+    private final InteractionZone[] activeZones = new InteractionZone[MAX_ACTIVE_ZONES];
+    private int activeZoneCount;
 
     /**
-     * Constructs a ProximityDetectionInteractor.
+     * Constructs a ProximityDetectionInteractor with the interaction zones from interaction_zones.json.
      *
      * @param npcDataAccess the NPC data access object
      */
     public ProximityDetectionInteractor(NPCDataAccessObject npcDataAccess) {
+        this(npcDataAccess, new InteractionZoneDataAccessObject());
+    }
+
+    /**
+     * Constructs a ProximityDetectionInteractor.
+     *
+     * @param npcDataAccess the NPC data access object
+     * @param interactionZoneDataAccess the source of the interaction zones
+     */
+    public ProximityDetectionInteractor(NPCDataAccessObject npcDataAccess,
+                                        InteractionZoneDataAccessInterface interactionZoneDataAccess) {
         this.npcDataAccess = npcDataAccess;
+        Map<String, List<InteractionZone>> byZone = new HashMap<>();
+        for (InteractionZone zone : interactionZoneDataAccess.getInteractionZones()) {
+            byZone.computeIfAbsent(zone.getZoneName(), name -> new ArrayList<>()).add(zone);
+        }
+        for (Map.Entry<String, List<InteractionZone>> entry : byZone.entrySet()) {
+            interactionZoneIndexes.put(entry.getKey(), new InteractionZoneIndex(entry.getValue()));
+        }
     }
 
     /**
@@ -67,13 +92,15 @@ public class ProximityDetectionInteractor implements ProximityDetectionInputBoun
      */
     public void setWorldItemDataAccess(WorldItemDataAccessObject worldItemDataAccess) {
         this.worldItemDataAccess = worldItemDataAccess;
+        itemGrids.clear();
+        if (worldItemDataAccess != null) {
+            itemGridsVersion = worldItemDataAccess.getVersion();
+        }
     }
 
     @Override
     public void checkAllProximities(double playerX, double playerY, String currentZoneName) {
-        checkSleepZone(playerX, playerY, currentZoneName);
-        checkStockTradingZone(playerX, playerY, currentZoneName);
-        checkMailboxZone(playerX, playerY, currentZoneName);
+        checkInteractionZones(playerX, playerY, currentZoneName);
         checkNPCProximity(playerX, playerY, currentZoneName);
         checkWorldItemProximity(playerX, playerY, currentZoneName);
     }
@@ -103,49 +130,39 @@ public class ProximityDetectionInteractor implements ProximityDetectionInputBoun
         return inMailboxZone;
     }
 
-    /**
-     * Checks if the player is in the sleep zone.
-     */
-    private void checkSleepZone(double playerX, double playerY, String currentZoneName) {
-        if (!"Home".equals(currentZoneName)) {
-            inSleepZone = false;
-            return;
-        }
-
-        inSleepZone = playerX >= SLEEP_ZONE_X &&
-                      playerX <= SLEEP_ZONE_X + SLEEP_ZONE_WIDTH &&
-                      playerY >= SLEEP_ZONE_Y &&
-                      playerY <= SLEEP_ZONE_Y + SLEEP_ZONE_HEIGHT;
+    @Override
+    public int getActiveInteractionZones(InteractionZone[] out) {
+        int count = Math.min(activeZoneCount, out.length);
+        System.arraycopy(activeZones, 0, out, 0, count);
+        return count;
     }
 
     /**
-     * Checks if the player is in the stock trading zone.
+     * Finds the interaction zones containing the player with one index query.
      */
-    private void checkStockTradingZone(double playerX, double playerY, String currentZoneName) {
-        if (!"Office (Your Cubicle)".equals(currentZoneName)) {
-            inStockTradingZone = false;
-            return;
+    private void checkInteractionZones(double playerX, double playerY, String currentZoneName) {
+        InteractionZoneIndex index = currentZoneName == null ? null : interactionZoneIndexes.get(currentZoneName);
+        if (index == null) {
+            index = NO_INTERACTION_ZONES;
         }
-
-        inStockTradingZone = playerX >= STOCK_TRADING_ZONE_X &&
-                             playerX <= STOCK_TRADING_ZONE_X + STOCK_TRADING_ZONE_WIDTH &&
-                             playerY >= STOCK_TRADING_ZONE_Y &&
-                             playerY <= STOCK_TRADING_ZONE_Y + STOCK_TRADING_ZONE_HEIGHT;
-    }
-
-    /**
-     * Checks if the player is in the mailbox zone.
-     */
-    private void checkMailboxZone(double playerX, double playerY, String currentZoneName) {
-        if (!"Home".equals(currentZoneName)) {
-            inMailboxZone = false;
-            return;
+        activeZoneCount = index.query(playerX, playerY, activeZones);
+
+        inSleepZone = false;
+        inStockTradingZone = false;
+        inMailboxZone = false;
+        for (int i = 0; i < activeZoneCount; i++) {
+            switch (activeZones[i].getType()) {
+                case SLEEP:
+                    inSleepZone = true;
+                    break;
+                case STOCK_TRADING:
+                    inStockTradingZone = true;
+                    break;
+                case MAILBOX:
+                    inMailboxZone = true;
+                    break;
+            }
         }
-
-        inMailboxZone = playerX >= MAILBOX_ZONE_X &&
-                        playerX <= MAILBOX_ZONE_X + MAILBOX_ZONE_WIDTH &&
-                        playerY >= MAILBOX_ZONE_Y &&
-                        playerY <= MAILBOX_ZONE_Y + MAILBOX_ZONE_HEIGHT;
     }
 
     /**
@@ -157,20 +174,15 @@ public class ProximityDetectionInteractor implements ProximityDetectionInputBoun
             return;
         }
 
-        List<NPC> npcsInZone = npcDataAccess.getNPCsInZone(currentZoneName);
-        nearbyNPC = null;
-
-        for (NPC npc : npcsInZone) {
-            double distance = Math.sqrt(
-                    Math.pow(playerX - npc.getX(), 2) +
-                    Math.pow(playerY - npc.getY(), 2)
-            );
-
-            if (distance < NPC_INTERACTION_RADIUS) {
-                nearbyNPC = npc;
-                break;
+        SpatialGrid<NPC> grid = npcGrids.get(currentZoneName);
+        if (grid == null) {
+            grid = newGrid();
+            for (NPC npc : npcDataAccess.getNPCsInZone(currentZoneName)) {
+                grid.add(npc, npc.getX(), npc.getY());
             }
+            npcGrids.put(currentZoneName, grid);
         }
+        nearbyNPC = grid.findNearest(playerX, playerY, NPC_INTERACTION_RADIUS);
     }
 
     /**
@@ -182,14 +194,24 @@ public class ProximityDetectionInteractor implements ProximityDetectionInputBoun
             return;
         }
 
-        List<WorldItem> items = worldItemDataAccess.getItemsInZone(currentZoneName);
-        nearbyWorldItem = null;
-
-        for (WorldItem item : items) {
-            if (item.isInRange(playerX, playerY, ITEM_INTERACTION_RADIUS)) {
-                nearbyWorldItem = item;
-                break;
+        if (worldItemDataAccess.getVersion() != itemGridsVersion) {
+            // An item was collected or dropped somewhere
+            itemGrids.clear();
+            itemGridsVersion = worldItemDataAccess.getVersion();
+        }
+        SpatialGrid<WorldItem> grid = itemGrids.get(currentZoneName);
+        if (grid == null) {
+            grid = newGrid();
+            List<WorldItem> items = worldItemDataAccess.getItemsInZone(currentZoneName);
+            for (WorldItem item : items) {
+                grid.add(item, item.getX(), item.getY());
             }
+            itemGrids.put(currentZoneName, grid);
         }
+        nearbyWorldItem = grid.findNearest(playerX, playerY, ITEM_INTERACTION_RADIUS);
+    }
+
+    private static <T> SpatialGrid<T> newGrid() {
+        return new SpatialGrid<>(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, GRID_CELL_SIZE);
     }
 }
@@ -0,0 +1,120 @@
+package use_case.proximity;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid of points for nearest-within-radius queries.
+ *
+ * The area is split into square cells and every entry is linked into the cell containing
+ * it, so a query only looks at the cells the search circle overlaps instead of every entry.
+ * Entries are kept in parallel arrays and distances are compared squared, so queries do
+ * not allocate. Positions outside the area are kept in the nearest edge cell.
+ *
+ * @param <T> the type of the entries (e.g. NPC or WorldItem)
+ */
+public class SpatialGrid<T> {
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHeads;   // first entry of each cell, -1 if empty
+
+    private Object[] entries = new Object[8];
+    private double[] xs = new double[8];
+    private double[] ys = new double[8];
+    private int[] next = new int[8];   // next entry in the same cell, -1 at the end
+    private int size;
+
+    /**
+     * Creates an empty grid.
+     * @param width the width of the area
+     * @param height the height of the area
+     * @param cellSize the side of a cell, best around the typical query radius
+     */
+    public SpatialGrid(double width, double height, double cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.cellHeads = new int[columns * rows];
+        Arrays.fill(cellHeads, -1);
+    }
+
+    /**
+     * Adds an entry at a position.
+     */
+    public void add(T entry, double x, double y) {
+        if (size == entries.length) {
+            int capacity = size * 2;
+            entries = Arrays.copyOf(entries, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        int cell = row(y) * columns + column(x);
+        entries[size] = entry;
+        xs[size] = x;
+        ys[size] = y;
+        next[size] = cellHeads[cell];
+        cellHeads[cell] = size;
+        size++;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(entries, 0, size, null);
+        Arrays.fill(cellHeads, -1);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the entry closest to a point, if it is closer than the radius.
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param radius the search radius (exclusive)
+     * @return the nearest entry, or null if there is none within the radius
+     */
+    @SuppressWarnings("unchecked")
+    public T findNearest(double x, double y, double radius) {
+        int firstColumn = column(x - radius);
+        int lastColumn = column(x + radius);
+        int firstRow = row(y - radius);
+        int lastRow = row(y + radius);
+
+        double bestDistanceSquared = radius * radius;
+        int best = -1;
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                for (int i = cellHeads[r * columns + c]; i >= 0; i = next[i]) {
+                    double dx = xs[i] - x;
+                    double dy = ys[i] - y;
+                    double distanceSquared = dx * dx + dy * dy;
+                    if (distanceSquared < bestDistanceSquared) {
+                        bestDistanceSquared = distanceSquared;
+                        best = i;
+                    }
+                }
+            }
+        }
+        return best < 0 ? null : (T) entries[best];
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int index, int count) {
+        return index < 0 ? 0 : (index >= count ? count - 1 : index);
+    }
+}
@@ -1,6 +1,6 @@
 package use_case.save_progress;
 
-import entity.Player;
+import entity.GameSnapshot;
 
 import java.io.IOException;
 
@@ -8,5 +8,13 @@ import java.io.IOException;
  * DAO interface for the Save Progress Use Case.
  */
 public interface SaveProgressDataAccessInterface {
-    void save(Player player, String currentZone, String SAVE_FILE) throws IOException;
+    /**
+     * Writes a save. Called on the save I/O thread, never on the event thread.
+     */
+    void save(GameSnapshot snapshot, String SAVE_FILE) throws IOException;
+
+    /**
+     * Queues a save without waiting for it. Called on the event thread, so it must not block.
+     */
+    void autosave(GameSnapshot snapshot, String saveFile);
 }
@@ -1,7 +1,14 @@
 package use_case.save_progress;
 
-import java.io.IOException;
-
 public interface SaveProgressInputBoundary {
-    void saveGame(SaveProgressInputData saveProgressInputData) throws IOException;
+    /**
+     * Starts saving the game. The result is delivered to the presenter once the file is written.
+     */
+    void saveGame(SaveProgressInputData saveProgressInputData);
+
+    /**
+     * Saves the game in the background without reporting back. Autosaves that would not
+     * change the file are skipped, and failures are only logged.
+     */
+    void autosave(SaveProgressInputData saveProgressInputData);
 }
@@ -1,27 +1,21 @@
 package use_case.save_progress;
-import entity.Player;
+import entity.GameSnapshot;
 
 public class SaveProgressInputData {
-    Player player;
+    private final GameSnapshot snapshot;
     private final String fileName;
-    String currentZone;
 
-    public SaveProgressInputData(Player player, String filePath, String currentZone) {
-        this.player = player;
+    public SaveProgressInputData(GameSnapshot snapshot, String filePath) {
+        this.snapshot = snapshot;
         this.fileName = filePath;
-        this.currentZone = currentZone;
     }
 
-    public Player getPlayer() {
-        return player;
+    public GameSnapshot getSnapshot() {
+        return snapshot;
     }
 
     public String getFileName() {
         return fileName;
     }
 
-    public String getCurrentZone() {
-        return currentZone;
-    }
-
 }
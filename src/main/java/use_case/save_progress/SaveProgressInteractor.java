@@ -1,34 +1,67 @@
 package use_case.save_progress;
 
-import entity.Player;
-import use_case.load_progress.LoadProgressOutputData;
+import entity.GameSnapshot;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
+/**
+ * Saves a snapshot of the game.
+ *
+ * The snapshot is taken by the caller, so the game can go on while it is written: the file
+ * is written on the I/O executor and the result is handed to the presenter on the presenter
+ * executor (the event thread in the game).
+ */
 public class SaveProgressInteractor implements SaveProgressInputBoundary{
 
     SaveProgressDataAccessInterface saveProgressDataAccessObject;
     SaveProgressOutputBoundary saveProgressPresenter;
+    private final Executor ioExecutor;
+    private final Executor presenterExecutor;
 
+    /**
+     * Creates an interactor that saves on the calling thread.
+     */
     public SaveProgressInteractor(SaveProgressDataAccessInterface saveProgressDataAccessObject,
                                   SaveProgressOutputBoundary saveProgressPresenter) {
+        this(saveProgressDataAccessObject, saveProgressPresenter, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * @param ioExecutor runs the writes
+     * @param presenterExecutor runs the presenter once a write is done
+     */
+    public SaveProgressInteractor(SaveProgressDataAccessInterface saveProgressDataAccessObject,
+                                  SaveProgressOutputBoundary saveProgressPresenter,
+                                  Executor ioExecutor, Executor presenterExecutor) {
         this.saveProgressDataAccessObject = saveProgressDataAccessObject;
         this.saveProgressPresenter = saveProgressPresenter;
+        this.ioExecutor = ioExecutor;
+        this.presenterExecutor = presenterExecutor;
+    }
+
+    @Override
+    public void saveGame(SaveProgressInputData saveProgressInputData) {
+        GameSnapshot snapshot = saveProgressInputData.getSnapshot();
+        String fileName = saveProgressInputData.getFileName();
+        ioExecutor.execute(() -> {
+            try {
+                saveProgressDataAccessObject.save(snapshot, fileName);
+                SaveProgressOutputData saveProgressOutputData = new SaveProgressOutputData(
+                        snapshot.getName(), snapshot.getCurrentDay().getDisplayName());
+                presenterExecutor.execute(() -> saveProgressPresenter.prepareSuccessView(saveProgressOutputData));
+            }
+            catch (IOException e) {
+                String message = e.getMessage();
+                presenterExecutor.execute(() -> saveProgressPresenter.prepareFailureView(message));
+            }
+        });
     }
 
     @Override
-    public void saveGame(SaveProgressInputData saveProgressInputData) throws IOException {
-        try {
-            saveProgressDataAccessObject.save(saveProgressInputData.player, saveProgressInputData.getCurrentZone(),
-                    saveProgressInputData.getFileName());
-            SaveProgressOutputData saveProgressOutputData = new SaveProgressOutputData(
-                    saveProgressInputData.player.getName(),
-                    saveProgressInputData.player.getCurrentDay().getDisplayName());
-            saveProgressPresenter.prepareSuccessView(saveProgressOutputData);
-        }
-        catch (IOException e) {
-            throw new FileNotFoundException(e.getMessage());
-        }
+    public void autosave(SaveProgressInputData saveProgressInputData) {
+        // the DAO writes autosaves on its own thread and coalesces them, so nothing waits here
+        saveProgressDataAccessObject.autosave(saveProgressInputData.getSnapshot(),
+                saveProgressInputData.getFileName());
     }
 }
@@ -2,4 +2,10 @@ package use_case.save_progress;
 
 public interface SaveProgressOutputBoundary {
     void prepareSuccessView(SaveProgressOutputData saveProgressOutputData);
+
+    /**
+     * Prepares the failure view when the save could not be written.
+     * @param errorMessage why the save failed
+     */
+    void prepareFailureView(String errorMessage);
 }
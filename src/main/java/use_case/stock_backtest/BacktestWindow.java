@@ -0,0 +1,41 @@
+package use_case.stock_backtest;
+
+/**
+ * One 5-day window of one stock data file that the backtester replays.
+ */
+public class BacktestWindow {
+    private final String symbol;
+    private final String dataIdentifier;
+    private final int startDayIndex;
+    private final String riskLevel;
+
+    /**
+     * Constructs a BacktestWindow.
+     * @param symbol the stock symbol
+     * @param dataIdentifier the data identifier of the file (month or "recent")
+     * @param startDayIndex the first day index of the window
+     * @param riskLevel the stock's risk level (LOW, MEDIUM, HIGH)
+     */
+    public BacktestWindow(String symbol, String dataIdentifier, int startDayIndex, String riskLevel) {
+        this.symbol = symbol;
+        this.dataIdentifier = dataIdentifier;
+        this.startDayIndex = startDayIndex;
+        this.riskLevel = riskLevel;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getDataIdentifier() {
+        return dataIdentifier;
+    }
+
+    public int getStartDayIndex() {
+        return startDayIndex;
+    }
+
+    public String getRiskLevel() {
+        return riskLevel;
+    }
+}
@@ -0,0 +1,107 @@
+package use_case.stock_backtest;
+
+import java.util.Arrays;
+
+/**
+ * The final equities of many backtest sessions, kept in a primitive array.
+ * Percentiles sort the values in place the first time one is asked for after an add.
+ */
+public class EquityDistribution {
+    private double[] values = new double[64];
+    private int count;
+    private boolean sorted;
+
+    /**
+     * Records one session result.
+     */
+    public void add(double finalEquity) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count++] = finalEquity;
+        sorted = false;
+    }
+
+    /**
+     * Adds all results of another distribution (used to merge fork/join partial results).
+     */
+    public void addAll(EquityDistribution other) {
+        if (count + other.count > values.length) {
+            values = Arrays.copyOf(values, Math.max(count + other.count, values.length * 2));
+        }
+        System.arraycopy(other.values, 0, values, count, other.count);
+        count += other.count;
+        sorted = false;
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(values, 0, count);
+            sorted = true;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    public double getStandardDeviation() {
+        double mean = getMean();
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += (values[i] - mean) * (values[i] - mean);
+        }
+        return count == 0 ? Double.NaN : Math.sqrt(sum / count);
+    }
+
+    /**
+     * Gets a percentile (nearest rank).
+     * @param percent between 0 and 100
+     * @return the value, or NaN if there are no results
+     */
+    public double getPercentile(double percent) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        sort();
+        int rank = (int) Math.ceil(percent / 100.0 * count);
+        return values[Math.min(count - 1, Math.max(0, rank - 1))];
+    }
+
+    public double getMin() {
+        return getPercentile(0);
+    }
+
+    public double getMax() {
+        return getPercentile(100);
+    }
+
+    /**
+     * Gets the share of sessions that ended with at least the given equity.
+     * @param threshold the equity threshold
+     * @return a fraction between 0 and 1
+     */
+    public double getFractionAtLeast(double threshold) {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        int index = Arrays.binarySearch(values, 0, count, threshold);
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            while (index > 0 && values[index - 1] == threshold) {
+                index--;
+            }
+        }
+        return (double) (count - index) / count;
+    }
+}
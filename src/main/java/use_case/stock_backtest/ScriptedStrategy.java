@@ -0,0 +1,46 @@
+package use_case.stock_backtest;
+
+/**
+ * Simple scripted strategies covering the ways people play the stock game.
+ */
+public enum ScriptedStrategy implements TradingStrategy {
+    /** never invests, the baseline */
+    HOLD_CASH {
+        @Override
+        public Action decide(int tick, double price, double previousPrice, double cash, double shares) {
+            return Action.HOLD;
+        }
+    },
+    /** buys on the first update and keeps the shares until the game ends */
+    BUY_AND_HOLD {
+        @Override
+        public Action decide(int tick, double price, double previousPrice, double cash, double shares) {
+            return tick == 1 ? Action.BUY : Action.HOLD;
+        }
+    },
+    /** buys when the price goes up and sells when it goes down */
+    MOMENTUM {
+        @Override
+        public Action decide(int tick, double price, double previousPrice, double cash, double shares) {
+            if (price > previousPrice) {
+                return Action.BUY;
+            }
+            return price < previousPrice ? Action.SELL : Action.HOLD;
+        }
+    },
+    /** buys dips and sells rallies */
+    CONTRARIAN {
+        @Override
+        public Action decide(int tick, double price, double previousPrice, double cash, double shares) {
+            if (price < previousPrice) {
+                return Action.BUY;
+            }
+            return price > previousPrice ? Action.SELL : Action.HOLD;
+        }
+    };
+
+    @Override
+    public String getName() {
+        return name();
+    }
+}
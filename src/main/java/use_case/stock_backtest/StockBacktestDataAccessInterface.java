@@ -0,0 +1,35 @@
+package use_case.stock_backtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import use_case.stock_game.PlayStockGameDataAccessInterface;
+
+/**
+ * DAO interface for the stock backtest use case.
+ * Prices are read exactly like the stock game reads them.
+ */
+public interface StockBacktestDataAccessInterface extends PlayStockGameDataAccessInterface {
+
+    /**
+     * Lists every 5-day window in every stock data file.
+     * @return the windows
+     * @throws Exception if the stock data cannot be read
+     */
+    List<BacktestWindow> getAllWindows() throws Exception;
+
+    /**
+     * Returns the prices of a window like getFiveDayPrices, taking any simulated variation
+     * (intraday prices made up from daily data) from the given generator, so a backtest
+     * can be reproduced from its seed.
+     * @param symbol the stock symbol
+     * @param month the data identifier of the file (month or "recent")
+     * @param startDayIndex the starting day index (0-based)
+     * @param random the generator of the window
+     * @return a map where keys are game day numbers (1-5) and values are lists of prices
+     * @throws Exception if there is an error accessing the data
+     */
+    Map<Integer, List<Double>> getFiveDayPrices(String symbol, String month, int startDayIndex,
+                                                SplittableRandom random) throws Exception;
+}
@@ -0,0 +1,13 @@
+package use_case.stock_backtest;
+
+/**
+ * Input boundary for the stock backtest use case.
+ */
+public interface StockBacktestInputBoundary {
+
+    /**
+     * Runs the backtest.
+     * @param inputData the backtest settings
+     */
+    void execute(StockBacktestInputData inputData);
+}
@@ -0,0 +1,43 @@
+package use_case.stock_backtest;
+
+import java.util.List;
+
+/**
+ * Input data for the stock backtest use case.
+ */
+public class StockBacktestInputData {
+    private final List<TradingStrategy> strategies;
+    private final double startAmount;
+    private final int runsPerWindow;
+    private final long seed;
+
+    /**
+     * Constructs StockBacktestInputData.
+     * @param strategies the strategies to replay
+     * @param startAmount the cash invested at the start of each session
+     * @param runsPerWindow the number of sessions (noise seeds) per window and strategy
+     * @param seed the base seed, the same seed reproduces the same results
+     */
+    public StockBacktestInputData(List<TradingStrategy> strategies, double startAmount, int runsPerWindow, long seed) {
+        this.strategies = List.copyOf(strategies);
+        this.startAmount = startAmount;
+        this.runsPerWindow = runsPerWindow;
+        this.seed = seed;
+    }
+
+    public List<TradingStrategy> getStrategies() {
+        return strategies;
+    }
+
+    public double getStartAmount() {
+        return startAmount;
+    }
+
+    public int getRunsPerWindow() {
+        return runsPerWindow;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
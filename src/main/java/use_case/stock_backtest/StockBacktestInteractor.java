@@ -0,0 +1,244 @@
+package use_case.stock_backtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import entity.Portfolio;
+import entity.Stock;
+import use_case.stock_game.PriceTickEngine;
+
+/**
+ * The stock backtest use case interactor.
+ *
+ * Replays scripted strategies against every 5-day window of every stock data file using the
+ * stock game's own price model (PriceTickEngine) and the same Portfolio.buy/sell rules as the
+ * game's buttons, many noise seeds per window. Windows are split across cores with fork/join.
+ * Everything random, including intraday prices made up from daily data, comes from the input
+ * seed, so the same seed gives the same results.
+ */
+public class StockBacktestInteractor implements StockBacktestInputBoundary {
+    private static final int WINDOWS_PER_TASK = 2;
+
+    final StockBacktestDataAccessInterface dataAccess;
+    final StockBacktestOutputBoundary presenter;
+    private final ForkJoinPool pool;
+
+    // initialise using the common fork/join pool
+    public StockBacktestInteractor(StockBacktestDataAccessInterface dataAccess,
+                                   StockBacktestOutputBoundary presenter) {
+        this(dataAccess, presenter, ForkJoinPool.commonPool());
+    }
+
+    // initialise with a specific pool (e.g. a single thread in tests)
+    public StockBacktestInteractor(StockBacktestDataAccessInterface dataAccess,
+                                   StockBacktestOutputBoundary presenter, ForkJoinPool pool) {
+        this.dataAccess = dataAccess;
+        this.presenter = presenter;
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(StockBacktestInputData inputData) {
+        try {
+            long start = System.nanoTime();
+            List<BacktestWindow> windows = dataAccess.getAllWindows();
+            if (windows.isEmpty()) {
+                presenter.presentError("No stock data with at least 5 days to backtest.");
+                return;
+            }
+
+            // one generator per window, split in window order so scheduling does not matter
+            SplittableRandom seedRandom = new SplittableRandom(inputData.getSeed());
+            SplittableRandom[] windowRandoms = new SplittableRandom[windows.size()];
+            for (int i = 0; i < windowRandoms.length; i++) {
+                windowRandoms[i] = seedRandom.split();
+            }
+
+            Results results = pool.invoke(new WindowTask(windows, windowRandoms, 0, windows.size(), inputData));
+            if (results.windows == 0) {
+                presenter.presentError("None of the " + windows.size() + " windows could be loaded.");
+                return;
+            }
+
+            presenter.presentResults(new StockBacktestOutputData(sorted(results.bySymbol),
+                    sorted(results.byRiskLevel), results.windows, results.sessions, System.nanoTime() - start));
+        } catch (Exception ex) {
+            presenter.presentError(ex.getMessage());
+        }
+    }
+
+    /**
+     * Plays one session of the stock game with a scripted strategy, exactly like a player
+     * pressing BUY and SELL in the stock game view.
+     * @param realPrices the real prices of the window
+     * @param strategy the strategy
+     * @param startAmount the cash at the start
+     * @param seed the noise seed
+     * @return the final equity after the automatic sell at game over
+     */
+    public static double playSession(double[] realPrices, TradingStrategy strategy, double startAmount, long seed) {
+        Portfolio portfolio = new Portfolio();
+        Stock stock = new Stock("BACKTEST", realPrices[0]);
+        portfolio.loadStock(stock);
+        portfolio.setCash(startAmount);
+
+        PriceTickEngine engine = new PriceTickEngine(realPrices, PriceTickEngine.MAX_TICKS, seed, portfolio, stock);
+        double previousPrice = realPrices[0];
+        while (engine.tick()) {
+            double price = engine.getUpdate().getPrice();
+            portfolio.updatePrice(stock, price);  // the view updates the stock on every tick
+
+            switch (strategy.decide(engine.getTicks(), price, previousPrice, portfolio.getCash(),
+                    portfolio.getShares(stock))) {
+                case BUY:
+                    if (portfolio.getCash() > 0) {
+                        portfolio.buy(stock);
+                    }
+                    break;
+                case SELL:
+                    if (portfolio.getShares(stock) > 0) {
+                        portfolio.sell(stock);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            previousPrice = price;
+        }
+
+        // game over sells everything at the last price
+        portfolio.updatePrice(stock, engine.getGameOver().getPrice());
+        if (portfolio.getShares(stock) > 0) {
+            portfolio.sell(stock);
+        }
+        return portfolio.getCash();
+    }
+
+    /**
+     * Derives an independent seed for each session so results do not depend on scheduling.
+     */
+    static long sessionSeed(long seed, int window, int strategy, int run) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long) window << 32) ^ ((long) strategy << 20) ^ run);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static Map<String, Map<String, EquityDistribution>> sorted(Map<String, Map<String, EquityDistribution>> map) {
+        Map<String, Map<String, EquityDistribution>> result = new TreeMap<>();
+        map.forEach((key, byStrategy) -> result.put(key, new TreeMap<>(byStrategy)));
+        return result;
+    }
+
+    /**
+     * Partial results of a range of windows.
+     */
+    private static class Results {
+        final Map<String, Map<String, EquityDistribution>> bySymbol = new HashMap<>();
+        final Map<String, Map<String, EquityDistribution>> byRiskLevel = new HashMap<>();
+        int windows;
+        long sessions;
+
+        EquityDistribution distribution(Map<String, Map<String, EquityDistribution>> map, String key,
+                                        String strategy) {
+            return map.computeIfAbsent(key, k -> new HashMap<>())
+                    .computeIfAbsent(strategy, k -> new EquityDistribution());
+        }
+
+        void merge(Results other) {
+            mergeInto(bySymbol, other.bySymbol);
+            mergeInto(byRiskLevel, other.byRiskLevel);
+            windows += other.windows;
+            sessions += other.sessions;
+        }
+
+        private void mergeInto(Map<String, Map<String, EquityDistribution>> target,
+                               Map<String, Map<String, EquityDistribution>> source) {
+            source.forEach((key, byStrategy) -> byStrategy.forEach(
+                    (strategy, values) -> distribution(target, key, strategy).addAll(values)));
+        }
+    }
+
+    /**
+     * Backtests a range of windows, splitting it in half until it is small enough.
+     */
+    private class WindowTask extends RecursiveTask<Results> {
+        private final List<BacktestWindow> windows;
+        private final SplittableRandom[] windowRandoms;
+        private final int from;
+        private final int to;
+        private final StockBacktestInputData inputData;
+
+        WindowTask(List<BacktestWindow> windows, SplittableRandom[] windowRandoms, int from, int to,
+                   StockBacktestInputData inputData) {
+            this.windows = windows;
+            this.windowRandoms = windowRandoms;
+            this.from = from;
+            this.to = to;
+            this.inputData = inputData;
+        }
+
+        @Override
+        protected Results compute() {
+            if (to - from <= WINDOWS_PER_TASK) {
+                Results results = new Results();
+                for (int i = from; i < to; i++) {
+                    backtestWindow(i, results);
+                }
+                return results;
+            }
+            int middle = (from + to) >>> 1;
+            WindowTask left = new WindowTask(windows, windowRandoms, from, middle, inputData);
+            left.fork();
+            Results results = new WindowTask(windows, windowRandoms, middle, to, inputData).compute();
+            Results leftResults = left.join();
+            leftResults.merge(results);
+            return leftResults;
+        }
+
+        private void backtestWindow(int index, Results results) {
+            BacktestWindow window = windows.get(index);
+            double[] realPrices;
+            try {
+                Map<Integer, List<Double>> fiveDayPrices = dataAccess.getFiveDayPrices(
+                        window.getSymbol(), window.getDataIdentifier(), window.getStartDayIndex(),
+                        windowRandoms[index]);
+                List<Double> prices = new ArrayList<>();
+                for (int day = 1; day <= 5; day++) {
+                    prices.addAll(fiveDayPrices.get(day));
+                }
+                realPrices = PriceTickEngine.toArray(prices);
+            } catch (Exception e) {
+                System.err.println("Skipping " + window.getSymbol() + " " + window.getDataIdentifier()
+                        + " day " + window.getStartDayIndex() + ": " + e.getMessage());
+                return;
+            }
+            if (realPrices.length == 0) {
+                return;
+            }
+
+            List<TradingStrategy> strategies = inputData.getStrategies();
+            for (int s = 0; s < strategies.size(); s++) {
+                TradingStrategy strategy = strategies.get(s);
+                EquityDistribution bySymbol = results.distribution(results.bySymbol, window.getSymbol(),
+                        strategy.getName());
+                EquityDistribution byRisk = results.distribution(results.byRiskLevel, window.getRiskLevel(),
+                        strategy.getName());
+                for (int run = 0; run < inputData.getRunsPerWindow(); run++) {
+                    double equity = playSession(realPrices, strategy, inputData.getStartAmount(),
+                            sessionSeed(inputData.getSeed(), index, s, run));
+                    bySymbol.add(equity);
+                    byRisk.add(equity);
+                    results.sessions++;
+                }
+            }
+            results.windows++;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package use_case.stock_backtest;
+
+/**
+ * Output boundary for the stock backtest use case.
+ */
+public interface StockBacktestOutputBoundary {
+
+    /**
+     * Presents the final equity distributions.
+     * @param outputData the results
+     */
+    void presentResults(StockBacktestOutputData outputData);
+
+    /**
+     * Presents an error that stopped the backtest.
+     * @param message the error message
+     */
+    void presentError(String message);
+}
@@ -0,0 +1,45 @@
+package use_case.stock_backtest;
+
+import java.util.Map;
+
+/**
+ * Output data for the stock backtest use case.
+ * Distributions are keyed by symbol (or risk level), then by strategy name.
+ */
+public class StockBacktestOutputData {
+    private final Map<String, Map<String, EquityDistribution>> bySymbol;
+    private final Map<String, Map<String, EquityDistribution>> byRiskLevel;
+    private final int windowCount;
+    private final long sessionCount;
+    private final long elapsedNanos;
+
+    public StockBacktestOutputData(Map<String, Map<String, EquityDistribution>> bySymbol,
+                                   Map<String, Map<String, EquityDistribution>> byRiskLevel,
+                                   int windowCount, long sessionCount, long elapsedNanos) {
+        this.bySymbol = bySymbol;
+        this.byRiskLevel = byRiskLevel;
+        this.windowCount = windowCount;
+        this.sessionCount = sessionCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Map<String, Map<String, EquityDistribution>> getBySymbol() {
+        return bySymbol;
+    }
+
+    public Map<String, Map<String, EquityDistribution>> getByRiskLevel() {
+        return byRiskLevel;
+    }
+
+    public int getWindowCount() {
+        return windowCount;
+    }
+
+    public long getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package use_case.stock_backtest;
+
+/**
+ * A scripted player for the stock game. It is asked what to do after every price update,
+ * and its orders are applied with the same rules as the BUY and SELL buttons.
+ */
+public interface TradingStrategy {
+
+    /**
+     * What the player does after a price update.
+     */
+    enum Action { HOLD, BUY, SELL }
+
+    /**
+     * Decides what to do after a price update.
+     * @param tick the tick number (1 for the first update)
+     * @param price the new price
+     * @param previousPrice the price before this update
+     * @param cash the cash the player has
+     * @param shares the number of shares the player has
+     * @return the action to take
+     */
+    Action decide(int tick, double price, double previousPrice, double cash, double shares);
+
+    /**
+     * Gets the name used in reports.
+     */
+    String getName();
+}
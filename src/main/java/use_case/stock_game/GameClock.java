@@ -0,0 +1,38 @@
+package use_case.stock_game;
+
+/**
+ * A clock that drives the ticks of the stock game.
+ *
+ * The use case only depends on this interface, so the game can run on the Swing timer
+ * in the UI or on a virtual clock in headless simulations and tests.
+ */
+public interface GameClock {
+
+    /**
+     * Creates clocks for game sessions.
+     */
+    @FunctionalInterface
+    interface Factory {
+        /**
+         * Creates a stopped clock.
+         * @param intervalMs the time between two ticks in milliseconds
+         * @param onTick called on every tick
+         * @return the clock
+         */
+        GameClock create(int intervalMs, Runnable onTick);
+    }
+
+    /**
+     * Starts ticking.
+     */
+    void start();
+
+    /**
+     * Stops ticking. Safe to call from inside a tick.
+     */
+    void stop();
+
+    boolean isRunning();
+
+    int getIntervalMs();
+}
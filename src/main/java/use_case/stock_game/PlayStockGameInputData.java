@@ -1,5 +1,7 @@
 package use_case.stock_game;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * input data for START stock game use case
 **/
@@ -12,6 +14,7 @@ public class PlayStockGameInputData {
     public final int startDayIndex;  // Starting day index for the 5-day period
     public final String periodId;  // Period identifier for tracking played periods
     public final int timerIntervalMs;  // Timer interval in milliseconds (250 normal, 500 slowed)
+    public final long seed;  // Seed for the price noise, the same seed replays the same session
 
     // Legacy constructor for backward compatibility
     @Deprecated
@@ -23,6 +26,7 @@ public class PlayStockGameInputData {
         this.startDayIndex = 0;
         this.periodId = null;
         this.timerIntervalMs = 250;  // Default normal speed
+        this.seed = randomSeed();
     }
 
     // New constructor with month and period information
@@ -33,6 +37,12 @@ public class PlayStockGameInputData {
     // Constructor with timer interval for buff effects
     public PlayStockGameInputData(String symbol, double startAmount,
                                   String month, int startDayIndex, String periodId, int timerIntervalMs) {
+        this(symbol, startAmount, month, startDayIndex, periodId, timerIntervalMs, randomSeed());
+    }
+
+    // Constructor with a fixed seed, to replay a session exactly
+    public PlayStockGameInputData(String symbol, double startAmount,
+                                  String month, int startDayIndex, String periodId, int timerIntervalMs, long seed) {
         this.symbol = symbol;
         this.startAmount = startAmount;
         this.days = 5;  // Stock game always spans 5 days
@@ -40,5 +50,10 @@ public class PlayStockGameInputData {
         this.startDayIndex = startDayIndex;
         this.periodId = periodId;
         this.timerIntervalMs = timerIntervalMs;
+        this.seed = seed;
+    }
+
+    private static long randomSeed() {
+        return ThreadLocalRandom.current().nextLong();
     }
 }
@@ -1,9 +1,6 @@
 package use_case.stock_game;
 
 import java.util.List;
-import java.util.Random;
-
-import javax.swing.Timer;
 
 import entity.Portfolio;
 import entity.Stock;
@@ -16,12 +13,16 @@ public class PlayStockGameInteractor implements PlayStockGameInputBoundary {
 
     final PlayStockGameDataAccessInterface dataAccess;
     final PlayStockGameOutputBoundary presenter;
+    final GameClock.Factory clockFactory;
 
-    // initialise
+    // initialise with the clock that drives the ticks (e.g. a Swing timer in the UI,
+    // or VirtualGameClock::new for headless runs where ticks only happen when it is advanced)
     public PlayStockGameInteractor(PlayStockGameDataAccessInterface dataAccess,
-                                   PlayStockGameOutputBoundary presenter) {
+                                   PlayStockGameOutputBoundary presenter,
+                                   GameClock.Factory clockFactory) {
         this.dataAccess = dataAccess;
         this.presenter = presenter;
+        this.clockFactory = clockFactory;
     }
     /**
      * play the game! until it ends
@@ -59,14 +60,12 @@ public class PlayStockGameInteractor implements PlayStockGameInputBoundary {
             portfolio.loadStock(stock); // add stock to portfolio
             portfolio.setCash(inputData.startAmount); // set portfolio cash to starting amount (at the very start)
 
-            double[] lastPrice = {startingPrice};
-            int[] ticks = {0}; // counter to eventually end game
-            final int MAX_TICKS = 120; // 120 ticks * 250ms = 30 seconds
-
-            Timer timer = createTimer(lastPrice, realPrices, ticks, MAX_TICKS, timerInterval, portfolio, stock);
+            PriceTickEngine engine = new PriceTickEngine(realPrices, PriceTickEngine.MAX_TICKS, inputData.seed,
+                    portfolio, stock);
+            GameClock clock = createClock(engine, timerInterval);
 
             // present start game view
-            presenter.presentGameStart(portfolio, stock, timer);
+            presenter.presentGameStart(portfolio, stock, clock);
 
             // if error, present error message
         } catch (Exception ex) {
@@ -74,33 +73,18 @@ public class PlayStockGameInteractor implements PlayStockGameInputBoundary {
         }
     }
     // helper function
-    public Timer createTimer(double[] lastPrice, List<Double> realPrices, int[] ticks,
-                            int MAX_TICKS, int timerInterval,Portfolio portfolio, Stock stock){
-        return new Timer(timerInterval, e -> {
-            ticks[0]++;
-
-            // check to make sure it is not game over yet (limit to ~30 seconds or 120 ticks)
-            if (ticks[0] >= MAX_TICKS || ticks[0] >= realPrices.size() || portfolio.getTotalEquity() <= 0) {
-                ((Timer) e.getSource()).stop();
-
+    public GameClock createClock(PriceTickEngine engine, int timerInterval) {
+        GameClock[] clock = new GameClock[1];
+        clock[0] = clockFactory.create(timerInterval, () -> {
+            if (engine.tick()) {
+                // update view with new price
+                presenter.presentPriceUpdate(engine.getUpdate().toOutputData());
+            } else {
+                clock[0].stop();
                 // present game-over view
-                presenter.presentGameOver(new PlayStockGameOutputData(portfolio.getCash(),portfolio.getShares(stock),
-                        portfolio.getTotalEquity(),lastPrice[0]));
-                return;
+                presenter.presentGameOver(engine.getGameOver().toOutputData());
             }
-
-            // move to next price in list of stock prices
-            realPrices.add(realPrices.remove(0));
-            double nextRealPrice = realPrices.get(0);
-            double diff = nextRealPrice - lastPrice[0];
-
-            Random random = new Random(); // make random object to use in algorithm for next price
-            double price = nextRealPrice + diff * 0.04 + diff * 0.3 + random.nextGaussian() * 0.01 * nextRealPrice;
-
-            lastPrice[0] = price;
-            // update view with new price
-            presenter.presentPriceUpdate(new PlayStockGameOutputData(portfolio.getCash(),portfolio.getShares(stock),
-                    portfolio.getTotalEquity(),price));
         });
+        return clock[0];
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,6 @@ package use_case.stock_game;
 import entity.Portfolio;
 import entity.Stock;
 
-import javax.swing.Timer;
-
 /**
  * output boundary for the PLAY stock game Use Case.
  * (preparing the views)
@@ -14,7 +12,8 @@ public interface PlayStockGameOutputBoundary {
     // when the price is updated (during the game)
     // and when the game ends
     // as well as when there is an error
-    void presentGameStart(Portfolio portfolio, Stock stock, Timer timer);
+    // (the view starts the clock once it is ready to show ticks)
+    void presentGameStart(Portfolio portfolio, Stock stock, GameClock clock);
     void presentPriceUpdate(PlayStockGameOutputData data);
     void presentGameOver(PlayStockGameOutputData data);
     void presentError(String message);
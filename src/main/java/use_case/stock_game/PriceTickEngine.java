@@ -0,0 +1,194 @@
+package use_case.stock_game;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import entity.Portfolio;
+import entity.Stock;
+
+/**
+ * Generates the simulated price for each tick of the stock game.
+ *
+ * The real prices are copied once into a primitive array and walked with a ring buffer
+ * cursor, the noise comes from a single SplittableRandom seeded per session, and the
+ * state after each tick is written into two snapshots that are reused for every tick. A
+ * tick therefore allocates nothing (output data for presenters is only built on request),
+ * and the same seed always replays the same session.
+ */
+public class PriceTickEngine {
+    /**
+     * The state of the game after a tick. The engine overwrites it on later ticks, so
+     * anything handed to presenters is copied out with toOutputData.
+     */
+    public static final class Snapshot {
+        private double cash;
+        private double shares;
+        private double totalEquity;
+        private double price;
+
+        private void set(double cash, double shares, double totalEquity, double price) {
+            this.cash = cash;
+            this.shares = shares;
+            this.totalEquity = totalEquity;
+            this.price = price;
+        }
+
+        public double getCash() {
+            return cash;
+        }
+
+        public double getShares() {
+            return shares;
+        }
+
+        public double getTotalEquity() {
+            return totalEquity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        /**
+         * Copies the snapshot into output data for the presenter.
+         */
+        public PlayStockGameOutputData toOutputData() {
+            return new PlayStockGameOutputData(cash, shares, totalEquity, price);
+        }
+    }
+
+    public static final int MAX_TICKS = 120; // 120 ticks * 250ms = 30 seconds
+
+    private static final double MOMENTUM = 0.04 + 0.3;
+    private static final double NOISE = 0.01;
+
+    private final double[] realPrices;
+    private final int maxTicks;
+    private final SplittableRandom random;
+    private final Portfolio portfolio;
+    private final int stockId;
+
+    // reused for every tick
+    private final Snapshot update = new Snapshot();
+    private final Snapshot gameOver = new Snapshot();
+
+    private int cursor;
+    private int ticks;
+    private double lastPrice;
+    private boolean over;
+    private double spareGaussian;
+    private boolean hasSpareGaussian;
+
+    /**
+     * Creates an engine for one session.
+     * @param realPrices the real prices to follow, the first one is the starting price
+     * @param maxTicks the number of ticks before the game ends
+     * @param seed the seed for the price noise
+     * @param portfolio the player's portfolio, checked for bankruptcy
+     * @param stock the traded stock
+     */
+    public PriceTickEngine(List<Double> realPrices, int maxTicks, long seed, Portfolio portfolio, Stock stock) {
+        this(toArray(realPrices), maxTicks, seed, portfolio, stock);
+    }
+
+    /**
+     * Creates an engine for one session over prices that are already unboxed. The array is
+     * only read, so many sessions (e.g. backtest runs) can share it.
+     */
+    public PriceTickEngine(double[] realPrices, int maxTicks, long seed, Portfolio portfolio, Stock stock) {
+        this.realPrices = realPrices;
+        this.maxTicks = maxTicks;
+        this.random = new SplittableRandom(seed);
+        this.portfolio = portfolio;
+        this.stockId = Portfolio.symbolId(stock.getTicketSymbol());
+        this.lastPrice = this.realPrices[0];
+    }
+
+    /**
+     * Copies boxed prices into a primitive array.
+     */
+    public static double[] toArray(List<Double> prices) {
+        double[] array = new double[prices.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = prices.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Advances the game by one tick.
+     * @return true if a new price was generated (see getUpdate), false once the game is over (see getGameOver)
+     */
+    public boolean tick() {
+        ticks++;
+
+        // check to make sure it is not game over yet (limit to ~30 seconds or 120 ticks)
+        if (over || ticks >= maxTicks || ticks >= realPrices.length || portfolio.getTotalEquity() <= 0) {
+            over = true;
+            gameOver.set(portfolio.getCash(), portfolio.getShares(stockId), portfolio.getTotalEquity(), lastPrice);
+            return false;
+        }
+
+        // move to next price in list of stock prices
+        cursor++;
+        if (cursor == realPrices.length) {
+            cursor = 0;
+        }
+        double nextRealPrice = realPrices[cursor];
+        double diff = nextRealPrice - lastPrice;
+        double price = nextRealPrice + diff * MOMENTUM + nextGaussian() * NOISE * nextRealPrice;
+
+        lastPrice = price;
+        update.set(portfolio.getCash(), portfolio.getShares(stockId), portfolio.getTotalEquity(), price);
+        return true;
+    }
+
+    /**
+     * Standard normal sample (Marsaglia polar method). SplittableRandom has no
+     * nextGaussian before Java 17, and this keeps the spare value instead of allocating.
+     */
+    private double nextGaussian() {
+        if (hasSpareGaussian) {
+            hasSpareGaussian = false;
+            return spareGaussian;
+        }
+        double u;
+        double v;
+        double s;
+        do {
+            u = random.nextDouble() * 2 - 1;
+            v = random.nextDouble() * 2 - 1;
+            s = u * u + v * v;
+        } while (s >= 1 || s == 0);
+        double scale = Math.sqrt(-2 * Math.log(s) / s);
+        spareGaussian = v * scale;
+        hasSpareGaussian = true;
+        return u * scale;
+    }
+
+    /**
+     * Gets the snapshot of the last price update. It is overwritten by the next tick.
+     */
+    public Snapshot getUpdate() {
+        return update;
+    }
+
+    /**
+     * Gets the snapshot of the final state once tick has returned false.
+     */
+    public Snapshot getGameOver() {
+        return gameOver;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public double getLastPrice() {
+        return lastPrice;
+    }
+}
@@ -0,0 +1,97 @@
+package use_case.stock_game;
+
+/**
+ * A game clock that runs on virtual time.
+ *
+ * Nothing happens until the time is advanced, and advancing fires every due tick
+ * synchronously on the calling thread, so a full session runs in microseconds.
+ */
+public class VirtualGameClock implements GameClock {
+    private final int intervalMs;
+    private final Runnable onTick;
+
+    private boolean running;
+    private long now;
+    private long nextTickAt;
+    private long tickCount;
+
+    public VirtualGameClock(int intervalMs, Runnable onTick) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalMs);
+        }
+        this.intervalMs = intervalMs;
+        this.onTick = onTick;
+    }
+
+    @Override
+    public void start() {
+        if (!running) {
+            running = true;
+            nextTickAt = now + intervalMs;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getIntervalMs() {
+        return intervalMs;
+    }
+
+    /**
+     * Fires one tick right away, whether or not the clock is running.
+     */
+    public void tick() {
+        tickCount++;
+        onTick.run();
+    }
+
+    /**
+     * Moves virtual time forward, firing every tick that falls due while the clock runs.
+     * @param millis how far to move
+     */
+    public void advance(long millis) {
+        long target = now + millis;
+        while (running && nextTickAt <= target) {
+            now = nextTickAt;
+            nextTickAt += intervalMs;
+            tick();
+        }
+        now = target;
+    }
+
+    /**
+     * Fires ticks until the clock is stopped (normally by the game ending).
+     * @param maxTicks a safety limit on the number of ticks
+     * @return the number of ticks fired
+     */
+    public long runUntilStopped(long maxTicks) {
+        long fired = 0;
+        while (running && fired < maxTicks) {
+            now = nextTickAt;
+            nextTickAt += intervalMs;
+            tick();
+            fired++;
+        }
+        return fired;
+    }
+
+    /**
+     * Gets the virtual time in milliseconds since the clock was created.
+     */
+    public long getNow() {
+        return now;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -2,26 +2,27 @@ package use_case.zone_transition;
 
 import entity.GameMap;
 import entity.Player;
-import entity.Transition;
 import entity.Zone;
+import entity.ZoneGraph;
 
 /**
  * ZoneTransitionInteractor handles the business logic for zone transitions.
  *
  * This use case was extracted from GamePanel to follow Clean Architecture principles.
  * It contains all the logic for determining when and how zone transitions occur.
+ * Transitions are read from the map's compiled {@link ZoneGraph}, and the output for each
+ * zone is built once, so the check that runs every tick does not allocate.
  */
 public class ZoneTransitionInteractor implements ZoneTransitionInputBoundary {
 
     private static final double VIRTUAL_WIDTH = 1920.0;
     private static final double VIRTUAL_HEIGHT = 1200.0;
-    private static final int SUBWAY_TRANSITION_ZONE = 300;
-    private static final int SUBWAY_SPAWN_OFFSET = 50;
-    private static final int EDGE_OFFSET = 5;
+    private static final Zone.Edge[] EDGES = Zone.Edge.values();
 
     private final GameMap gameMap;
     private final Player player;
     private final ZoneTransitionOutputBoundary outputBoundary;
+    private final ZoneTransitionOutputData[] outputByZone;
 
     /**
      * Constructs a ZoneTransitionInteractor.
@@ -35,71 +36,38 @@ public class ZoneTransitionInteractor implements ZoneTransitionInputBoundary {
         this.gameMap = gameMap;
         this.player = player;
         this.outputBoundary = outputBoundary;
+
+        ZoneGraph graph = gameMap.getGraph();
+        this.outputByZone = new ZoneTransitionOutputData[graph.getZoneCount()];
+        for (int id = 0; id < outputByZone.length; id++) {
+            Zone zone = graph.getZone(id);
+            outputByZone[id] = new ZoneTransitionOutputData(
+                    zone.getName(), zone.getBackgroundColor(), zone.getBackgroundMusicPath());
+        }
     }
 
     @Override
     public boolean checkAndPerformTransition(double playerX, double playerY,
                                               double playerWidth, double playerHeight) {
-        Zone currentZone = gameMap.getCurrentZone();
-        if (currentZone == null) {
-            return false;
-        }
-
-        String currentZoneName = currentZone.getName();
-        boolean transitioned = false;
-
-        // Special handling for subway station transitions (300-pixel trigger zones)
-        if ("Subway Station 1".equals(currentZoneName)) {
-            if (playerY >= VIRTUAL_HEIGHT - SUBWAY_TRANSITION_ZONE) {
-                gameMap.setCurrentZone("Subway Station 2");
-                player.setY(SUBWAY_TRANSITION_ZONE + SUBWAY_SPAWN_OFFSET);
-                transitioned = true;
-            }
-        } else if ("Subway Station 2".equals(currentZoneName)) {
-            if (playerY <= SUBWAY_TRANSITION_ZONE) {
-                gameMap.setCurrentZone("Subway Station 1");
-                player.setY(VIRTUAL_HEIGHT - SUBWAY_TRANSITION_ZONE - SUBWAY_SPAWN_OFFSET);
-                transitioned = true;
-            }
-        }
-
-        // If no subway transition occurred, check normal edge-based transitions
-        if (!transitioned) {
-            Zone.Edge edgeReached = determineEdgeReached(playerX, playerY, playerWidth, playerHeight);
-
-            if (edgeReached != null) {
-                // First check for special transitions (tunnels, elevators, etc.)
-                Transition specialTransition = gameMap.getSpecialTransition(edgeReached);
-                if (specialTransition != null) {
-                    gameMap.setCurrentZone(specialTransition.getToZone());
-                    repositionPlayerFromTransition(specialTransition.getToEdge(), playerWidth, playerHeight);
-                    transitioned = true;
-                } else {
-                    // Fall back to normal zone connection
-                    String nextZone = currentZone.getNeighbor(edgeReached);
-                    if (nextZone != null) {
-                        gameMap.setCurrentZone(nextZone);
-                        repositionPlayerFromEdge(edgeReached, playerWidth, playerHeight);
-                        transitioned = true;
-                    }
-                }
+        ZoneGraph graph = gameMap.getGraph();
+        int zoneId = gameMap.getCurrentZoneId();
+
+        // Transitions that trigger in a band (the subway tunnel) come first, measured to
+        // the player's position
+        for (Zone.Edge edge : EDGES) {
+            if (graph.isPositional(zoneId, edge)
+                    && positionDistance(edge, playerX, playerY) <= graph.getTriggerDepth(zoneId, edge)) {
+                return transition(graph, zoneId, edge, playerWidth, playerHeight);
             }
         }
 
-        // Notify presenter if zone changed
-        if (transitioned) {
-            Zone newZone = gameMap.getCurrentZone();
-            if (newZone != null) {
-                ZoneTransitionOutputData outputData = new ZoneTransitionOutputData(
-                        newZone.getName(),
-                        newZone.getBackgroundColor(),
-                        newZone.getBackgroundMusicPath()
-                );
-                outputBoundary.presentZoneTransition(outputData);
-            }
+        // Otherwise only the first edge the player's leading side has reached counts,
+        // checked in the order bottom, top, right, left
+        Zone.Edge edgeReached = determineEdgeReached(playerX, playerY, playerWidth, playerHeight);
+        if (edgeReached == null || graph.isPositional(zoneId, edgeReached)) {
+            return false;
         }
-
-        return transitioned;
+        return transition(graph, zoneId, edgeReached, playerWidth, playerHeight);
     }
 
     @Override
@@ -126,41 +94,56 @@ public class ZoneTransitionInteractor implements ZoneTransitionInputBoundary {
     }
 
     /**
-     * Repositions the player when entering a zone via a normal edge connection.
+     * Gets the distance from an edge to the player's position (their top-left corner).
      */
-    private void repositionPlayerFromEdge(Zone.Edge edgeExited, double playerWidth, double playerHeight) {
-        switch (edgeExited) {
+    private static double positionDistance(Zone.Edge edge, double playerX, double playerY) {
+        switch (edge) {
             case DOWN:
-                player.setY(EDGE_OFFSET);
-                break;
+                return VIRTUAL_HEIGHT - playerY;
             case UP:
-                player.setY(VIRTUAL_HEIGHT - playerHeight - EDGE_OFFSET);
-                break;
+                return playerY;
             case RIGHT:
-                player.setX(EDGE_OFFSET);
-                break;
-            case LEFT:
-                player.setX(VIRTUAL_WIDTH - playerWidth - EDGE_OFFSET);
-                break;
+                return VIRTUAL_WIDTH - playerX;
+            default:
+                return playerX;
+        }
+    }
+
+    /**
+     * Moves to the zone an edge leads to, if it leads somewhere.
+     */
+    private boolean transition(ZoneGraph graph, int zoneId, Zone.Edge edge,
+                               double playerWidth, double playerHeight) {
+        int target = graph.getTarget(zoneId, edge);
+        if (target == ZoneGraph.NO_ZONE) {
+            return false;
         }
+        gameMap.setCurrentZone(target);
+        // a positional offset is to the player's position, whatever their size
+        boolean positional = graph.isPositional(zoneId, edge);
+        placePlayer(graph.getEntryEdge(zoneId, edge), graph.getSpawnOffset(zoneId, edge),
+                positional ? 0 : playerWidth, positional ? 0 : playerHeight);
+        outputBoundary.presentZoneTransition(outputByZone[target]);
+        return true;
     }
 
     /**
-     * Repositions the player when entering a zone via a special transition.
+     * Places the player in the new zone, offset from the side they entered through.
+     * The player's near side is placed at the offset; pass a size of 0 to place their position.
      */
-    private void repositionPlayerFromTransition(Zone.Edge toEdge, double playerWidth, double playerHeight) {
-        switch (toEdge) {
+    private void placePlayer(Zone.Edge entryEdge, double offset, double playerWidth, double playerHeight) {
+        switch (entryEdge) {
             case DOWN:
-                player.setY(EDGE_OFFSET);
+                player.setY(offset);
                 break;
             case UP:
-                player.setY(VIRTUAL_HEIGHT - playerHeight - EDGE_OFFSET);
+                player.setY(VIRTUAL_HEIGHT - playerHeight - offset);
                 break;
             case RIGHT:
-                player.setX(EDGE_OFFSET);
+                player.setX(offset);
                 break;
             case LEFT:
-                player.setX(VIRTUAL_WIDTH - playerWidth - EDGE_OFFSET);
+                player.setX(VIRTUAL_WIDTH - playerWidth - offset);
                 break;
         }
     }
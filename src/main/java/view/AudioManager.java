@@ -1,19 +1,17 @@
 package view;
 
-import javazoom.jl.decoder.Bitstream;
-import javazoom.jl.decoder.Decoder;
-import javazoom.jl.decoder.Header;
-import javazoom.jl.decoder.SampleBuffer;
-
-import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.DataLine;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.Mixer;
 import javax.sound.sampled.SourceDataLine;
-import java.io.InputStream;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AudioManager handles all audio playback using JLayer for MP3 decoding
@@ -22,24 +20,51 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Using SourceDataLine (instead of Clip) allows the audio to appear
  * in system volume mixers on Linux (PulseAudio/PipeWire).
  *
+ * Everything plays through one {@link AudioMixer}: a single thread and a single line,
+ * however many sounds overlap. Sound effects are decoded once into a PCM cache; music is
+ * kept encoded in memory and decoded ahead of playback by a {@link MusicDecoder} thread,
+ * and a new track crossfades with the old one. Files are read and decoded on one loader
+ * thread, so callers (usually the EDT) never wait for them.
+ *
+ * The output is chosen with the {@value #OUTPUT_PROPERTY} system property: a sound card
+ * line by default, "null" to decode and mix without playing (headless machines), or the
+ * path of a .wav file to record into.
+ *
  * This is a singleton class to ensure consistent audio management across the game.
  */
 public class AudioManager {
 
     private static AudioManager instance;
 
-    private volatile Thread backgroundMusicThread;
-    private volatile boolean stopBackgroundMusic = false;
-    private volatile String currentMusicPath;
-    private volatile SourceDataLine currentLine;
-    private double masterVolume = 0.5;
+    static final String OUTPUT_PROPERTY = "audio.output";
+
+    /** How long two tracks overlap when the music changes: 1.5 s. */
+    private static final int CROSSFADE_FRAMES = (int) (AudioMixer.SAMPLE_RATE * 1.5f);
+
+    private final AudioMixer mixer;
+    private final MusicDecoder musicDecoder = new MusicDecoder();
+    private final ThreadPoolExecutor loader;
+    // decoded sound effects and encoded music, by resource path
+    private final Map<String, short[]> effectCache = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> musicCache = new ConcurrentHashMap<>();
+
     private final Object musicLock = new Object();
+    private MusicStream music;             // guarded by musicLock
+    private String currentMusicPath;       // guarded by musicLock
+    private double masterVolume = 0.5;
 
     /**
      * Private constructor for singleton pattern.
      */
     private AudioManager() {
-        printAvailableMixers();
+        mixer = new AudioMixer(createOutput(System.getProperty(OUTPUT_PROPERTY, "line")));
+        mixer.setMasterGain((float) masterVolume);
+        loader = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "AudioLoader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loader.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -53,6 +78,21 @@ public class AudioManager {
         return instance;
     }
 
+    /**
+     * Creates the output named by the {@value #OUTPUT_PROPERTY} property.
+     */
+    private AudioOutput createOutput(String name) {
+        if (name.equals("null")) {
+            System.out.println("Audio output disabled, mixing into a null sink");
+            return new NullAudioOutput(true);
+        }
+        if (name.toLowerCase().endsWith(".wav")) {
+            return new WavFileAudioOutput(Paths.get(name), true);
+        }
+        printAvailableMixers();
+        return new LineAudioOutput(this::findBestSourceDataLine);
+    }
+
     /**
      * Prints available audio mixers for debugging.
      */
@@ -84,33 +124,7 @@ public class AudioManager {
      */
     public void setMasterVolume(double volume) {
         this.masterVolume = Math.max(0.0, Math.min(1.0, volume));
-        applyVolumeToCurrentLine();
-    }
-
-    /**
-     * Applies the current master volume to the active audio line.
-     */
-    private void applyVolumeToCurrentLine() {
-        SourceDataLine line = currentLine;
-        if (line != null && line.isOpen()) {
-            try {
-                if (line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                    FloatControl gainControl = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-                    // Convert linear volume (0.0-1.0) to decibels
-                    // -80dB is essentially silent, 0dB is full volume
-                    float dB;
-                    if (masterVolume <= 0.0) {
-                        dB = gainControl.getMinimum();
-                    } else {
-                        dB = (float) (20.0 * Math.log10(masterVolume));
-                        dB = Math.max(gainControl.getMinimum(), Math.min(gainControl.getMaximum(), dB));
-                    }
-                    gainControl.setValue(dB);
-                }
-            } catch (Exception e) {
-                System.err.println("Could not apply volume: " + e.getMessage());
-            }
-        }
+        mixer.setMasterGain((float) masterVolume);
     }
 
     /**
@@ -124,7 +138,7 @@ public class AudioManager {
     /**
      * Plays background music in a loop.
      * If the same music is already playing, does nothing.
-     * If different music is playing, stops it and starts the new track.
+     * If different music is playing, fades it out while the new track fades in.
      *
      * @param resourcePath the path to the music file (e.g., "/audio/music.mp3")
      */
@@ -135,134 +149,52 @@ public class AudioManager {
         }
 
         synchronized (musicLock) {
-            // Check if same music is already playing
-            if (resourcePath.equals(currentMusicPath) && backgroundMusicThread != null && backgroundMusicThread.isAlive()) {
-                System.out.println("Music already playing: " + resourcePath);
+            // Check if same music is already playing (or still loading)
+            if (resourcePath.equals(currentMusicPath) && (music == null || music.isPlaying())) {
                 return;
             }
 
-            // Stop current music
-            stopBackgroundMusicInternal();
-            currentMusicPath = resourcePath;
-            stopBackgroundMusic = false;
-
-            // Start new music thread
-            backgroundMusicThread = new Thread(() -> {
-                playMusicLoop(resourcePath);
-            }, "BackgroundMusic");
-            backgroundMusicThread.setDaemon(true);
-            backgroundMusicThread.start();
-        }
-    }
-
-    /**
-     * Plays music in a loop until stopped.
-     */
-    private void playMusicLoop(String resourcePath) {
-        System.out.println("Starting music loop for: " + resourcePath);
-
-        while (!stopBackgroundMusic) {
-            try {
-                playMP3Once(resourcePath);
-            } catch (Exception e) {
-                if (!stopBackgroundMusic) {
-                    System.err.println("Error playing music: " + e.getMessage());
-                    e.printStackTrace();
-                }
-                break;
-            }
-
-            // Small delay before looping
-            if (!stopBackgroundMusic) {
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    break;
-                }
+            // Fade out the current music; the new track fades in once it is loaded
+            if (music != null) {
+                music.fadeOut(CROSSFADE_FRAMES);
+                music = null;
             }
+            currentMusicPath = resourcePath;
         }
-
-        System.out.println("Music loop ended for: " + resourcePath);
+        loader.execute(() -> startMusic(resourcePath));
     }
 
     /**
-     * Plays an MP3 file once using JLayer decoder and SourceDataLine.
+     * Loads a track and starts it, unless other music was requested meanwhile.
+     * Runs on the loader thread.
      */
-    private void playMP3Once(String resourcePath) throws Exception {
-        InputStream inputStream = getClass().getResourceAsStream(resourcePath);
-        if (inputStream == null) {
-            throw new Exception("Resource not found: " + resourcePath);
-        }
-
-        Bitstream bitstream = new Bitstream(inputStream);
-        Decoder decoder = new Decoder();
-        SourceDataLine line = null;
-
+    private void startMusic(String resourcePath) {
+        byte[] mp3;
         try {
-            Header header;
-            boolean lineInitialized = false;
-
-            while (!stopBackgroundMusic && (header = bitstream.readFrame()) != null) {
-                // Decode the frame
-                SampleBuffer output = (SampleBuffer) decoder.decodeFrame(header, bitstream);
-
-                // Initialize audio line on first frame
-                if (!lineInitialized) {
-                    AudioFormat format = new AudioFormat(
-                            decoder.getOutputFrequency(),
-                            16,
-                            decoder.getOutputChannels(),
-                            true,  // signed
-                            false  // little-endian
-                    );
-
-                    DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
-
-                    // Try to find a mixer that supports this format
-                    line = findBestSourceDataLine(info, format);
-                    if (line == null) {
-                        throw new LineUnavailableException("No suitable audio output found");
-                    }
-
-                    line.open(format);
-                    currentLine = line;
-                    applyVolumeToCurrentLine();
-                    line.start();
-                    lineInitialized = true;
-
-                    System.out.println("Audio line opened: " + line.getLineInfo());
-                    System.out.println("Audio format: " + format);
-                }
-
-                // Convert samples to bytes and write to line
-                short[] samples = output.getBuffer();
-                int length = output.getBufferLength();
-                byte[] buffer = new byte[length * 2];
-
-                for (int i = 0; i < length; i++) {
-                    short sample = samples[i];
-                    buffer[i * 2] = (byte) (sample & 0xFF);
-                    buffer[i * 2 + 1] = (byte) ((sample >> 8) & 0xFF);
+            mp3 = musicCache.computeIfAbsent(resourcePath, path -> {
+                try {
+                    return Mp3FrameDecoder.readResource(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-
-                if (line != null && !stopBackgroundMusic) {
-                    line.write(buffer, 0, buffer.length);
+            });
+        } catch (UncheckedIOException e) {
+            System.err.println("Error playing music: " + e.getCause().getMessage());
+            synchronized (musicLock) {
+                if (resourcePath.equals(currentMusicPath)) {
+                    currentMusicPath = null;
                 }
-
-                bitstream.closeFrame();
             }
+            return;
+        }
 
-        } finally {
-            if (line != null) {
-                line.drain();
-                line.stop();
-                line.close();
-                if (currentLine == line) {
-                    currentLine = null;
-                }
+        synchronized (musicLock) {
+            if (!resourcePath.equals(currentMusicPath) || music != null) {
+                return;
             }
-            bitstream.close();
-            inputStream.close();
+            music = new MusicStream(new Mp3StreamVoice(mp3, true, 1f), musicDecoder, CROSSFADE_FRAMES);
+            musicDecoder.add(music);
+            mixer.play(music);
         }
     }
 
@@ -270,7 +202,7 @@ public class AudioManager {
      * Finds the best SourceDataLine for the given format.
      * Prefers PulseAudio/PipeWire mixers for better system integration.
      */
-    private SourceDataLine findBestSourceDataLine(DataLine.Info info, AudioFormat format) {
+    private SourceDataLine findBestSourceDataLine(DataLine.Info info) {
         // First, try to find a PulseAudio or PipeWire mixer explicitly
         for (Mixer.Info mixerInfo : AudioSystem.getMixerInfo()) {
             String name = mixerInfo.getName().toLowerCase();
@@ -349,31 +281,10 @@ public class AudioManager {
      * Must be called within synchronized(musicLock) block.
      */
     private void stopBackgroundMusicInternal() {
-        stopBackgroundMusic = true;
-
-        // Close the current line to interrupt playback
-        SourceDataLine line = currentLine;
-        if (line != null) {
-            try {
-                line.stop();
-                line.close();
-            } catch (Exception e) {
-                // Ignore
-            }
-            currentLine = null;
+        if (music != null) {
+            music.stop();
+            music = null;
         }
-
-        // Wait for thread to finish
-        Thread thread = backgroundMusicThread;
-        if (thread != null && thread.isAlive()) {
-            thread.interrupt();
-            try {
-                thread.join(1000);
-            } catch (InterruptedException e) {
-                // Ignore
-            }
-        }
-        backgroundMusicThread = null;
     }
 
     /**
@@ -387,9 +298,10 @@ public class AudioManager {
 
     /**
      * Plays a one-shot sound effect with a callback when complete.
+     * The effect is decoded the first time it is played and kept for later plays.
      *
      * @param resourcePath the path to the sound file
-     * @param onComplete callback to run when the sound finishes (can be null)
+     * @param onComplete callback to run when the sound finishes, on the audio thread (can be null)
      */
     public void playSoundEffect(String resourcePath, Runnable onComplete) {
         if (resourcePath == null || resourcePath.isEmpty()) {
@@ -399,101 +311,21 @@ public class AudioManager {
             return;
         }
 
-        Thread sfxThread = new Thread(() -> {
+        loader.execute(() -> {
             try {
-                playSFXOnce(resourcePath);
-            } catch (Exception e) {
+                short[] samples = effectCache.get(resourcePath);
+                if (samples == null) {
+                    samples = PcmVoice.decode(Mp3FrameDecoder.readResource(resourcePath));
+                    effectCache.put(resourcePath, samples);
+                }
+                mixer.play(new PcmVoice(samples, 1f, onComplete));
+            } catch (IOException | RuntimeException e) {
                 System.err.println("Error playing sound effect: " + e.getMessage());
-            } finally {
                 if (onComplete != null) {
                     onComplete.run();
                 }
             }
-        }, "SoundEffect");
-        sfxThread.setDaemon(true);
-        sfxThread.start();
-    }
-
-    /**
-     * Plays a sound effect MP3 once.
-     */
-    private void playSFXOnce(String resourcePath) throws Exception {
-        InputStream inputStream = getClass().getResourceAsStream(resourcePath);
-        if (inputStream == null) {
-            throw new Exception("Resource not found: " + resourcePath);
-        }
-
-        Bitstream bitstream = new Bitstream(inputStream);
-        Decoder decoder = new Decoder();
-        SourceDataLine line = null;
-
-        try {
-            Header header;
-            boolean lineInitialized = false;
-
-            while ((header = bitstream.readFrame()) != null) {
-                SampleBuffer output = (SampleBuffer) decoder.decodeFrame(header, bitstream);
-
-                if (!lineInitialized) {
-                    AudioFormat format = new AudioFormat(
-                            decoder.getOutputFrequency(),
-                            16,
-                            decoder.getOutputChannels(),
-                            true,
-                            false
-                    );
-
-                    DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
-                    line = findBestSourceDataLine(info, format);
-                    if (line == null) {
-                        throw new LineUnavailableException("No suitable audio output found");
-                    }
-
-                    line.open(format);
-
-                    // Apply volume
-                    if (line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                        FloatControl gainControl = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-                        float dB;
-                        if (masterVolume <= 0.0) {
-                            dB = gainControl.getMinimum();
-                        } else {
-                            dB = (float) (20.0 * Math.log10(masterVolume));
-                            dB = Math.max(gainControl.getMinimum(), Math.min(gainControl.getMaximum(), dB));
-                        }
-                        gainControl.setValue(dB);
-                    }
-
-                    line.start();
-                    lineInitialized = true;
-                }
-
-                short[] samples = output.getBuffer();
-                int length = output.getBufferLength();
-                byte[] buffer = new byte[length * 2];
-
-                for (int i = 0; i < length; i++) {
-                    short sample = samples[i];
-                    buffer[i * 2] = (byte) (sample & 0xFF);
-                    buffer[i * 2 + 1] = (byte) ((sample >> 8) & 0xFF);
-                }
-
-                if (line != null) {
-                    line.write(buffer, 0, buffer.length);
-                }
-
-                bitstream.closeFrame();
-            }
-
-        } finally {
-            if (line != null) {
-                line.drain();
-                line.stop();
-                line.close();
-            }
-            bitstream.close();
-            inputStream.close();
-        }
+        });
     }
 
     /**
@@ -502,6 +334,7 @@ public class AudioManager {
      */
     public void shutdown() {
         stopBackgroundMusic();
+        mixer.shutdown();
         System.out.println("AudioManager shutdown complete");
     }
 
@@ -510,7 +343,36 @@ public class AudioManager {
      * @return true if music is playing
      */
     public boolean isBackgroundMusicPlaying() {
-        Thread thread = backgroundMusicThread;
-        return thread != null && thread.isAlive();
+        synchronized (musicLock) {
+            return music != null && music.isPlaying();
+        }
+    }
+
+    /**
+     * @return how many times the current track ran out of decoded audio, 0 without music
+     */
+    public long getMusicUnderruns() {
+        synchronized (musicLock) {
+            return music != null ? music.getUnderruns() : 0;
+        }
+    }
+
+    /**
+     * @return milliseconds from the current track being loaded to it being mixed, -1 until then
+     */
+    public double getMusicStartLatencyMillis() {
+        synchronized (musicLock) {
+            long nanos = music != null ? music.getStartLatencyNanos() : -1;
+            return nanos < 0 ? -1 : nanos / 1e6;
+        }
+    }
+
+    /**
+     * @return how much of the current track is decoded ahead, in milliseconds
+     */
+    public double getMusicBufferedMillis() {
+        synchronized (musicLock) {
+            return music != null ? music.getBufferedMillis() : 0;
+        }
     }
 }
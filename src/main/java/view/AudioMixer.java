@@ -0,0 +1,201 @@
+package view;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Mixes every sound of the game into one output on one thread.
+ *
+ * Voices (music, sound effects) add their samples into a shared float buffer, which is
+ * scaled by the master volume, clipped and converted into a reusable byte buffer for the
+ * line. Writing to the {@link AudioOutput} blocks until it has room, which paces the
+ * thread. The output stays open and is fed silence while nothing plays, so a new effect starts within one
+ * chunk instead of waiting for a line to open. Nothing is allocated per chunk.
+ */
+class AudioMixer {
+    static final float SAMPLE_RATE = 44100f;
+    static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+    static final int FRAMES_PER_CHUNK = 1024;     // about 23 ms
+    static final int MAX_VOICES = 16;
+
+    private static final int LINE_BUFFER_CHUNKS = 4;
+
+    /**
+     * Something that plays through the mixer.
+     */
+    interface Voice {
+        /**
+         * Adds the next frames of this voice into a buffer. Called on the mixer thread.
+         *
+         * @param out interleaved stereo samples to add into
+         * @param frames the number of frames to add
+         * @return false once the voice has finished (it is then removed)
+         */
+        boolean mix(float[] out, int frames);
+
+        /**
+         * Called on the mixer thread once the voice has been removed.
+         */
+        default void finished() {
+        }
+    }
+
+    private final AudioOutput output;
+    private final ConcurrentLinkedQueue<Voice> added = new ConcurrentLinkedQueue<>();
+    private final float[] mixBuffer = new float[FRAMES_PER_CHUNK * 2];
+    private final byte[] lineBuffer = new byte[FRAMES_PER_CHUNK * 4];
+    private final Voice[] voices = new Voice[MAX_VOICES];   // owned by the mixer thread
+    private int voiceCount;
+
+    private volatile float masterGain = 1f;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Creates a stopped mixer.
+     * @param output where the mixed audio goes, opened when the thread starts
+     */
+    AudioMixer(AudioOutput output) {
+        this.output = output;
+    }
+
+    /**
+     * Starts playing a voice, starting the mixer thread if needed.
+     */
+    synchronized void play(Voice voice) {
+        add(voice);
+        if (!running) {
+            running = true;
+            thread = new Thread(this::run, "AudioMixer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Queues a voice for the next chunk without starting the thread.
+     */
+    void add(Voice voice) {
+        added.add(voice);
+    }
+
+    void setMasterGain(float gain) {
+        this.masterGain = gain;
+    }
+
+    /**
+     * Stops the mixer thread and closes the output. Voices still playing are finished.
+     */
+    void shutdown() {
+        Thread mixerThread;
+        synchronized (this) {
+            running = false;
+            mixerThread = thread;
+            thread = null;
+        }
+        if (mixerThread != null) {
+            try {
+                mixerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        boolean opened = output.open(FORMAT, lineBuffer.length * LINE_BUFFER_CHUNKS);
+        try {
+            while (running && opened) {
+                mixChunk();
+                output.write(lineBuffer, 0, lineBuffer.length);
+            }
+        } finally {
+            if (opened) {
+                output.close();
+            }
+            boolean restarted;
+            synchronized (this) {
+                if (thread == Thread.currentThread()) {
+                    // the output could not be opened
+                    running = false;
+                    thread = null;
+                }
+                restarted = running;
+            }
+            // nothing plays any more, let every voice finish
+            if (!restarted) {
+                addPendingVoices();
+            }
+            for (int i = 0; i < voiceCount; i++) {
+                voices[i].finished();
+                voices[i] = null;
+            }
+            voiceCount = 0;
+        }
+    }
+
+    /**
+     * Mixes the next chunk of every voice into the line buffer.
+     */
+    void mixChunk() {
+        addPendingVoices();
+        Arrays.fill(mixBuffer, 0f);
+        int kept = 0;
+        for (int i = 0; i < voiceCount; i++) {
+            Voice voice = voices[i];
+            boolean playing;
+            try {
+                playing = voice.mix(mixBuffer, FRAMES_PER_CHUNK);
+            } catch (RuntimeException e) {
+                System.err.println("Audio voice failed: " + e.getMessage());
+                playing = false;
+            }
+            if (playing) {
+                voices[kept++] = voice;
+            } else {
+                voice.finished();
+            }
+        }
+        for (int i = kept; i < voiceCount; i++) {
+            voices[i] = null;
+        }
+        voiceCount = kept;
+
+        toPcm16(mixBuffer, masterGain, lineBuffer);
+    }
+
+    /**
+     * Scales mixed samples by a gain, clips them and packs them as signed 16-bit little-endian.
+     *
+     * @param mix the samples to convert
+     * @param gain the master volume
+     * @param out receives two bytes per sample
+     */
+    static void toPcm16(float[] mix, float gain, byte[] out) {
+        for (int i = 0; i < mix.length; i++) {
+            float sample = mix[i] * gain;
+            int value = sample >= Short.MAX_VALUE ? Short.MAX_VALUE
+                    : (sample <= Short.MIN_VALUE ? Short.MIN_VALUE : (int) sample);
+            out[2 * i] = (byte) value;
+            out[2 * i + 1] = (byte) (value >> 8);
+        }
+    }
+
+    byte[] getLineBuffer() {
+        return lineBuffer;
+    }
+
+    private void addPendingVoices() {
+        Voice voice;
+        while ((voice = added.poll()) != null) {
+            if (voiceCount == MAX_VOICES) {
+                System.err.println("Too many sounds playing, dropping one");
+                voice.finished();
+            } else {
+                voices[voiceCount++] = voice;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package view;
+
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Where the {@link AudioMixer} sends its chunks: a sound card line, a file, or nowhere.
+ *
+ * The mixer thread is paced by {@link #write}. A line blocks until it has room; the other
+ * outputs either return at once (for benchmarks and offline rendering) or wait like a line
+ * would, using a {@link Pacer}.
+ */
+interface AudioOutput {
+
+    /**
+     * Opens the output. Failures are reported here and the mixer then plays nothing.
+     *
+     * @param format the format of every chunk written
+     * @param bufferBytes how much the output should buffer ahead
+     * @return false if the output could not be opened
+     */
+    boolean open(AudioFormat format, int bufferBytes);
+
+    /**
+     * Writes one chunk, waiting while the output is full.
+     */
+    void write(byte[] buffer, int offset, int length);
+
+    /**
+     * Drops anything not yet played and releases the output.
+     */
+    void close();
+
+    /**
+     * Makes writes take as long as playing them would, for outputs without a clock.
+     */
+    final class Pacer {
+        private final long bufferNanos;
+        private final double nanosPerByte;
+        private long startNanos;
+        private long bytesWritten;
+
+        Pacer(AudioFormat format, int bufferBytes) {
+            this.nanosPerByte = 1e9 / (format.getFrameRate() * format.getFrameSize());
+            this.bufferNanos = (long) (bufferBytes * nanosPerByte);
+        }
+
+        /**
+         * Accounts for a write and waits until no more than the buffer is queued ahead.
+         */
+        void wrote(int length) {
+            long now = System.nanoTime();
+            if (bytesWritten == 0) {
+                startNanos = now;
+            }
+            bytesWritten += length;
+            long due = startNanos + (long) (bytesWritten * nanosPerByte) - bufferNanos;
+            if (due - now > 0) {
+                LockSupport.parkNanos(due - now);
+            } else if (now - due > bufferNanos * 4) {
+                // fell far behind (the thread was descheduled): start counting again
+                bytesWritten = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package view;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.imageio.ImageIO;
+
+import entity.GameMap;
+import entity.Zone;
+import entity.ZoneGraph;
+
+/**
+ * Decodes zone backgrounds on demand and keeps only the ones near the player.
+ *
+ * When the player enters a zone its background and those of every zone one transition
+ * away (plain neighbours and special transitions alike, read from the map's
+ * {@link ZoneGraph}) are queued on a small decode pool, so the next zone is usually ready
+ * before the player reaches it. Decoded images are kept in least-recently-used order and
+ * the ones outside that neighbourhood are dropped once the total exceeds the memory
+ * budget. Startup decodes a handful of images instead of the whole map, and memory stays
+ * bounded however many zones there are.
+ */
+class BackgroundAssetStreamer {
+    static final int DEFAULT_DECODE_THREADS = 2;
+    static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L * 1024 * 1024;   // about 7 full-HD backgrounds
+
+    private static final Zone.Edge[] EDGES = Zone.Edge.values();
+
+    private final GameMap gameMap;
+    private final long memoryBudgetBytes;
+    private final Function<String, BufferedImage> decoder;
+    private final Runnable onImageReady;
+    private final ThreadPoolExecutor decodePool;
+
+    // all guarded by this
+    private final Map<String, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> pending = new HashSet<>();
+    private final Set<String> failed = new HashSet<>();
+    private final Set<String> wanted = new HashSet<>();   // current zone and its neighbours
+    private long residentBytes;
+
+    /**
+     * Creates a streamer decoding resources from the classpath.
+     * @param gameMap the map whose zones are streamed
+     * @param memoryBudgetBytes how many bytes of decoded images to keep around
+     * @param decodeThreads the maximum number of images decoded at once
+     * @param onImageReady called from a decode thread when a new image can be drawn
+     */
+    BackgroundAssetStreamer(GameMap gameMap, long memoryBudgetBytes, int decodeThreads, Runnable onImageReady) {
+        this(gameMap, memoryBudgetBytes, decodeThreads, onImageReady, BackgroundAssetStreamer::readResource);
+    }
+
+    BackgroundAssetStreamer(GameMap gameMap, long memoryBudgetBytes, int decodeThreads, Runnable onImageReady,
+                            Function<String, BufferedImage> decoder) {
+        if (memoryBudgetBytes < 0 || decodeThreads <= 0) {
+            throw new IllegalArgumentException("Budget must not be negative and there must be a decode thread");
+        }
+        this.gameMap = gameMap;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.onImageReady = onImageReady;
+        this.decoder = decoder;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.decodePool = new ThreadPoolExecutor(decodeThreads, decodeThreads, 5, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "BackgroundDecoder-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // threads go away between zone changes, so an idle game holds none
+        this.decodePool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets a decoded background, queueing the decode if it is not ready yet.
+     *
+     * @param path the resource path of the image
+     * @return the image, or null while it is being decoded or if it could not be read
+     */
+    synchronized BufferedImage get(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        BufferedImage image = images.get(path);
+        if (image == null) {
+            wanted.add(path);
+            request(path);
+        }
+        return image;
+    }
+
+    /**
+     * Moves the neighbourhood to a zone: queues its background and its neighbours' and
+     * evicts distant backgrounds that no longer fit the budget.
+     *
+     * @param zoneId the id of the zone the player is in
+     */
+    synchronized void focus(int zoneId) {
+        ZoneGraph graph = gameMap.getGraph();
+        wanted.clear();
+        addWanted(graph.getZone(zoneId));
+        for (Zone.Edge edge : EDGES) {
+            int neighbor = graph.getTarget(zoneId, edge);
+            if (neighbor != ZoneGraph.NO_ZONE) {
+                addWanted(graph.getZone(neighbor));
+            }
+        }
+        for (String path : wanted) {
+            request(path);
+        }
+        evict();
+    }
+
+    synchronized boolean isResident(String path) {
+        return images.containsKey(path);
+    }
+
+    synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    private void addWanted(Zone zone) {
+        String path = zone.getBackgroundImagePath();
+        if (path != null && !path.isEmpty()) {
+            wanted.add(path);
+        }
+    }
+
+    private void request(String path) {
+        if (images.containsKey(path) || failed.contains(path) || !pending.add(path)) {
+            return;
+        }
+        decodePool.execute(() -> decode(path));
+    }
+
+    private void decode(String path) {
+        synchronized (this) {
+            if (!wanted.contains(path)) {
+                pending.remove(path);   // the player moved on before it was reached
+                return;
+            }
+        }
+        BufferedImage image = null;
+        try {
+            image = decoder.apply(path);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            System.err.println("Failed to load background image " + path + ": " + e.getMessage());
+        }
+
+        synchronized (this) {
+            pending.remove(path);
+            if (image == null) {
+                failed.add(path);
+                return;
+            }
+            images.put(path, image);
+            residentBytes += sizeOf(image);
+            evict();
+        }
+        onImageReady.run();
+    }
+
+    /**
+     * Drops the least recently used backgrounds outside the neighbourhood until the
+     * budget is met. The neighbourhood itself is always kept.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, BufferedImage>> entries = images.entrySet().iterator();
+        while (residentBytes > memoryBudgetBytes && entries.hasNext()) {
+            Map.Entry<String, BufferedImage> entry = entries.next();
+            if (!wanted.contains(entry.getKey())) {
+                residentBytes -= sizeOf(entry.getValue());
+                entries.remove();
+            }
+        }
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private static BufferedImage readResource(String path) {
+        try (InputStream stream = BackgroundAssetStreamer.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                System.err.println("Background image not found: " + path);
+                return null;
+            }
+            return ImageIO.read(stream);
+        } catch (IOException e) {
+            System.err.println("Failed to read background image " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package view;
+
+import java.awt.Rectangle;
+
+/**
+ * The parts of a view that changed since it was last painted.
+ *
+ * Rectangles are kept separately (overlapping ones are merged) instead of as one bounding
+ * box, because Swing's RepaintManager would union a player at one corner and the HUD at the
+ * other into almost the whole screen. Past {@value #MAX_RECTANGLES} rectangles the region
+ * simply becomes the whole view. Producers and the painting thread may differ, so the
+ * methods are synchronized.
+ */
+class DirtyRegion {
+    static final int MAX_RECTANGLES = 8;
+
+    private final Rectangle[] rectangles = new Rectangle[MAX_RECTANGLES];
+    private int count;
+    private boolean full;
+
+    DirtyRegion() {
+        for (int i = 0; i < MAX_RECTANGLES; i++) {
+            rectangles[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Marks a rectangle as changed.
+     */
+    synchronized void add(int x, int y, int width, int height) {
+        if (full || width <= 0 || height <= 0) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            Rectangle r = rectangles[i];
+            if (x <= r.x + r.width && r.x <= x + width && y <= r.y + r.height && r.y <= y + height) {
+                r.add(x, y);
+                r.add(x + width, y + height);
+                return;
+            }
+        }
+        if (count == MAX_RECTANGLES) {
+            full = true;
+            return;
+        }
+        rectangles[count++].setBounds(x, y, width, height);
+    }
+
+    /**
+     * Marks the whole view as changed.
+     */
+    synchronized void addAll() {
+        full = true;
+    }
+
+    synchronized boolean isEmpty() {
+        return !full && count == 0;
+    }
+
+    /**
+     * Copies the changed rectangles into out and clears the region.
+     *
+     * @param out at least {@value #MAX_RECTANGLES} rectangles to copy into
+     * @return the number of rectangles copied, or -1 if the whole view changed
+     */
+    synchronized int drain(Rectangle[] out) {
+        int drained = full ? -1 : count;
+        for (int i = 0; i < count && !full; i++) {
+            out[i].setBounds(rectangles[i]);
+        }
+        count = 0;
+        full = false;
+        return drained;
+    }
+}
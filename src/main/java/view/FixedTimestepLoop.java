@@ -0,0 +1,182 @@
+package view;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Game loop on a dedicated thread with a fixed simulation step.
+ *
+ * Elapsed time is measured with System.nanoTime and collected in an accumulator that is
+ * drained in steps of exactly 1/{@value #SIMULATION_HZ} s, so the simulation behaves the
+ * same at any frame rate. Each frame then renders with the leftover fraction of a step,
+ * which the renderer uses to interpolate between the last two simulated states. Frames are
+ * paced to the display's refresh rate, independently of the simulation rate.
+ */
+public class FixedTimestepLoop {
+    public static final int SIMULATION_HZ = 60;
+    static final long STEP_NANOS = 1_000_000_000L / SIMULATION_HZ;
+    // longer frames (e.g. after a breakpoint or a sleeping laptop) are not caught up
+    static final long MAX_FRAME_NANOS = 250_000_000L;
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    /**
+     * What the loop drives.
+     */
+    public interface Callbacks {
+        /**
+         * Advances the simulation by one fixed step. Called on the loop thread.
+         * @param stepSeconds the step length in seconds
+         */
+        void step(double stepSeconds);
+
+        /**
+         * Renders a frame. Called on the loop thread after the steps of the frame.
+         * @param alpha how far (0 to 1) the current time is between the last two steps
+         */
+        void render(double alpha);
+    }
+
+    private final Callbacks callbacks;
+    private final long frameNanos;
+    private final FrameStats stats = new FrameStats();
+
+    private volatile Thread thread;
+    private long accumulator;
+    private long previousTime;
+
+    /**
+     * Creates a loop paced to the refresh rate of the default screen.
+     */
+    public FixedTimestepLoop(Callbacks callbacks) {
+        this(callbacks, displayRefreshRate());
+    }
+
+    /**
+     * Creates a loop.
+     * @param callbacks the simulation and renderer
+     * @param framesPerSecond the target frame rate
+     */
+    public FixedTimestepLoop(Callbacks callbacks, int framesPerSecond) {
+        this.callbacks = callbacks;
+        this.frameNanos = 1_000_000_000L / Math.max(1, framesPerSecond);
+    }
+
+    /**
+     * Starts the loop thread, unless it is already running. Time spent stopped is not simulated.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        accumulator = 0;
+        previousTime = System.nanoTime();
+        Thread loopThread = new Thread(this::run, "GameLoop");
+        loopThread.setDaemon(true);
+        thread = loopThread;
+        loopThread.start();
+    }
+
+    /**
+     * Stops the loop. When called from another thread, returns once the loop has finished
+     * its current frame, so no step runs after this returns.
+     */
+    public void stop() {
+        Thread loopThread;
+        synchronized (this) {
+            loopThread = thread;
+            thread = null;
+        }
+        if (loopThread == null || loopThread == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(loopThread);
+        try {
+            loopThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Gets the frame-time statistics.
+     */
+    public FrameStats getStats() {
+        return stats;
+    }
+
+    private void run() {
+        Thread self = Thread.currentThread();
+        try {
+            while (thread == self) {
+                long frameStart = System.nanoTime();
+                long elapsed = frameStart - previousTime;
+                previousTime = frameStart;
+
+                double alpha = advance(elapsed);
+                if (thread != self) {
+                    break;
+                }
+                callbacks.render(alpha);
+
+                long remaining = frameNanos - (System.nanoTime() - frameStart);
+                if (remaining > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Game loop stopped: " + e);
+            e.printStackTrace();
+        } finally {
+            // a loop that died is not running, so start() can bring it back
+            synchronized (this) {
+                if (thread == self) {
+                    thread = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the simulation steps for one frame.
+     * @param elapsedNanos the time since the previous frame
+     * @return the interpolation factor for rendering the frame
+     */
+    double advance(long elapsedNanos) {
+        if (elapsedNanos > MAX_FRAME_NANOS) {
+            stats.recordDropped(elapsedNanos - MAX_FRAME_NANOS);
+            elapsedNanos = MAX_FRAME_NANOS;
+        }
+        accumulator += Math.max(0, elapsedNanos);
+
+        int steps = 0;
+        double stepSeconds = STEP_NANOS / 1_000_000_000.0;
+        while (accumulator >= STEP_NANOS) {
+            callbacks.step(stepSeconds);
+            accumulator -= STEP_NANOS;
+            steps++;
+        }
+        stats.recordFrame(elapsedNanos, steps);
+        return accumulator / (double) STEP_NANOS;
+    }
+
+    /**
+     * Gets the refresh rate of the default screen, or 60 if it is unknown (or there is no screen).
+     */
+    static int displayRefreshRate() {
+        try {
+            if (GraphicsEnvironment.isHeadless()) {
+                return DEFAULT_REFRESH_RATE;
+            }
+            int rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDisplayMode().getRefreshRate();
+            return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : rate;
+        } catch (RuntimeException e) {
+            return DEFAULT_REFRESH_RATE;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package view;
+
+/**
+ * Rolling frame-time statistics of the game loop over the last {@value #WINDOW} frames.
+ *
+ * Written by the loop thread and read by anyone (e.g. a debug overlay), so the methods are
+ * synchronized; they do not allocate.
+ */
+public class FrameStats {
+    static final int WINDOW = 120;
+
+    private final long[] frameNanos = new long[WINDOW];
+    private int next;
+    private int count;
+    private long totalFrames;
+    private long totalSteps;
+    private long droppedNanos;
+
+    /**
+     * Records one rendered frame.
+     * @param nanos the time since the previous frame
+     * @param steps the number of simulation steps run for it
+     */
+    synchronized void recordFrame(long nanos, int steps) {
+        frameNanos[next] = nanos;
+        next = (next + 1) % WINDOW;
+        count = Math.min(count + 1, WINDOW);
+        totalFrames++;
+        totalSteps += steps;
+    }
+
+    /**
+     * Records time the simulation skipped because a frame took too long.
+     */
+    synchronized void recordDropped(long nanos) {
+        droppedNanos += nanos;
+    }
+
+    /**
+     * @return the average frame time over the window in milliseconds, 0 before the first frame
+     */
+    public synchronized double getAverageFrameMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += frameNanos[i];
+        }
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * @return the longest frame time over the window in milliseconds
+     */
+    public synchronized double getMaxFrameMillis() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, frameNanos[i]);
+        }
+        return max / 1_000_000.0;
+    }
+
+    /**
+     * @return the frame rate over the window
+     */
+    public double getFramesPerSecond() {
+        double average = getAverageFrameMillis();
+        return average > 0 ? 1000.0 / average : 0;
+    }
+
+    public synchronized long getTotalFrames() {
+        return totalFrames;
+    }
+
+    public synchronized long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * @return simulation time skipped so far in milliseconds
+     */
+    public synchronized double getDroppedMillis() {
+        return droppedNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f fps (avg %.2f ms, max %.2f ms), %d steps", getFramesPerSecond(),
+                getAverageFrameMillis(), getMaxFrameMillis(), getTotalSteps());
+    }
+}
@@ -7,47 +7,51 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.RenderingHints;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
-import javax.imageio.ImageIO;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
-import javax.swing.Timer;
 
+import data_access.ItemDataAccessObject;
 import data_access.NPCDataAccessObject;
 import data_access.WorldItemDataAccessObject;
 import entity.GameMap;
+import entity.GameSnapshot;
+import entity.InteractionZone;
 import entity.Item;
 import entity.NPC;
 import entity.Player;
-import entity.Transition;
 import entity.WorldItem;
 import entity.Zone;
-import interface_adapter.events.PlayerInputController;
 import interface_adapter.events.StartEventController;
 import use_case.Direction;
+import use_case.game_loop.GameLoopInputBoundary;
+import use_case.game_loop.GameLoopInteractor;
 import use_case.movement.PlayerMovementInputBoundary;
+import use_case.proximity.ProximityDetectionInteractor;
+import use_case.zone_transition.ZoneTransitionInteractor;
+import use_case.zone_transition.ZoneTransitionOutputData;
 
 import java.awt.event.KeyListener;
 
-public class GamePanel extends JPanel implements ActionListener {
+public class GamePanel extends JPanel {
     private final PlayerMovementInputBoundary playerMovementUseCase;
-    private final Timer gameTimer;
+    private final ProximityDetectionInteractor proximityDetection;
+    private final GameLoopInputBoundary gameLoop;
+    private final FixedTimestepLoop loop;
     private final GameMap gameMap;
     private final NPCDataAccessObject npcDataAccess;
     
-    // Background image cache (thread-safe)
-    private final Map<String, BufferedImage> backgroundImageCache = new java.util.concurrent.ConcurrentHashMap<>();
-    // Track which images are currently being loaded to avoid duplicate loads
-    private final java.util.Set<String> imagesBeingLoaded = java.util.concurrent.ConcurrentHashMap.newKeySet();
-
-    // Item sprite cache
-    private final Map<String, BufferedImage> itemSpriteCache = new java.util.concurrent.ConcurrentHashMap<>();
+    // Decodes the backgrounds around the current zone and drops distant ones
+    private final BackgroundAssetStreamer backgroundStreamer;
+    // Backgrounds pre-scaled to the viewport, so paintComponent does not rescale every frame
+    private final ScaledBackgroundCache scaledBackgroundCache = new ScaledBackgroundCache(
+            () -> SwingUtilities.invokeLater(this::repaint));
+
+    // Every item sprite, pre-scaled to the on-screen world and inventory sizes
+    private final ItemSpriteAtlas itemSprites;
     
     // Audio manager (JavaFX-based for better Linux integration)
     private final AudioManager audioManager;
@@ -57,41 +61,27 @@ public class GamePanel extends JPanel implements ActionListener {
     private static final int VIRTUAL_HEIGHT = 1200;
     private static final double ASPECT_RATIO = 16.0 / 10.0;
     
-    // Sleep zone (top-right 400x400px in Home)
-    private static final int SLEEP_ZONE_X = VIRTUAL_WIDTH - 400;
-    private static final int SLEEP_ZONE_Y = 0;
-    private static final int SLEEP_ZONE_WIDTH = 400;
-    private static final int SLEEP_ZONE_HEIGHT = 400;
-    private boolean inSleepZone = false;
-    
-    // Stock trading zone (in Office cubicle)
-    private static final int STOCK_TRADING_ZONE_X = 1188;
-    private static final int STOCK_TRADING_ZONE_Y = 244;
-    private static final int STOCK_TRADING_ZONE_WIDTH = 239;  // 1427 - 1188
-    private static final int STOCK_TRADING_ZONE_HEIGHT = 226; // 470 - 244
-    private boolean inStockTradingZone = false;
-    
-    // Mailbox zone (bottom middle of Home, near front door)
-    private static final int MAILBOX_ZONE_X = 760;  // Center-ish area
-    private static final int MAILBOX_ZONE_Y = 900;  // Bottom area
-    private static final int MAILBOX_ZONE_WIDTH = 400;
-    private static final int MAILBOX_ZONE_HEIGHT = 300;
-    private boolean inMailboxZone = false;
+    // Interaction zones (sleep, stock trading, mailbox) the player is in, from the proximity use case
+    private volatile boolean inSleepZone = false;
+    private volatile boolean inStockTradingZone = false;
+    private volatile boolean inMailboxZone = false;
+    private final InteractionZone[] activeZones = new InteractionZone[ProximityDetectionInteractor.MAX_ACTIVE_ZONES];
+    private int activeZoneCount;
 
     // NPC interaction
-    private static final double NPC_INTERACTION_RADIUS = 100.0;
-    private NPC nearbyNPC = null;
+    private volatile NPC nearbyNPC = null;
 
     // Inventory system
-    private int selectedInventorySlot = -1;  // -1 means no slot selected, 0-4 for slots 1-5
+    // set on the EDT, read by the game loop; -1 means no slot selected, 0-4 for slots 1-5
+    private volatile int selectedInventorySlot = -1;
     private static final int INVENTORY_SLOT_SIZE = 80;
+    private static final int INVENTORY_ITEM_SIZE = INVENTORY_SLOT_SIZE - 20;
     private static final int INVENTORY_SLOT_GAP = 10;
     private static final int INVENTORY_SLOTS = 5;
 
     // World items
     private WorldItemDataAccessObject worldItemDataAccess;
-    private WorldItem nearbyWorldItem = null;
-    private static final double ITEM_INTERACTION_RADIUS = 80.0;
+    private volatile WorldItem nearbyWorldItem = null;
     private static final int WORLD_ITEM_SIZE = 40;
 
     // Viewport dimensions (scaled to fit window with letterboxing/pillarboxing)
@@ -101,20 +91,109 @@ public class GamePanel extends JPanel implements ActionListener {
     private int viewportY;
     private double scale;   // Current scale factor
 
-    // Game loop timing
-    private static final int FRAME_DELAY_MS = 16;  // ~60 FPS (1000ms / 60 ≈ 16.67ms)
-    private long lastUpdateTime;
+    // Game loop state: the loop thread steps the simulation while holding this lock, and
+    // painting holds it while reading the game state
+    private final Object simulationLock = new Object();
+    private final Profiler profiler = new Profiler();
+    private long lastFrameNanos;
+    private boolean drawnProfiler;
+    private double previousPlayerX;  // player position before the last simulation step
+    private double previousPlayerY;
+
+    // Dirty tracking: what the last frame showed, so only the parts that changed are repainted
+    // and an idle scene is not painted at all (loop thread, under the simulation lock)
+    private static final int PLAYER_MARGIN = 4;  // border stroke and direction indicator
+    private final DirtyRegion dirtyRegion = new DirtyRegion();
+    private final java.util.concurrent.atomic.AtomicBoolean dirtyPaintPending =
+            new java.util.concurrent.atomic.AtomicBoolean();
+    private final java.awt.Rectangle[] dirtyRectangles = new java.awt.Rectangle[DirtyRegion.MAX_RECTANGLES];
+    private final java.awt.Rectangle dirtyScreenRectangle = new java.awt.Rectangle();
+    private int drawnPlayerX;  // interpolated player position, also used by drawPlayer
+    private int drawnPlayerY;
+    private boolean drawnMoving;
+    private Direction drawnDirection;
+    private double drawnHudX;
+    private double drawnHudY;
+    private double drawnBalance;
+    private int drawnHealth;
+    private String drawnDay;
+    private final Item[] drawnInventory = new Item[INVENTORY_SLOTS];  // item drawn in each slot
+    private int drawnSelectedSlot = -1;
+    private NPC drawnNearbyNPC;
+    private WorldItem drawnNearbyWorldItem;
+    private final InteractionZone[] drawnZones = new InteractionZone[ProximityDetectionInteractor.MAX_ACTIVE_ZONES];
+    private int drawnZoneCount;
+    private String drawnZoneName;
+    private int drawnItemVersion;
 
     // Rendering constants (scaled for 1920x1200 virtual resolution)
     private static final Color PLAYER_COLOR = Color.BLUE;
     private static final int PLAYER_WIDTH = 64;   // Scaled up from 32 for 1920x1200
     private static final int PLAYER_HEIGHT = 64;  // Scaled up from 32 for 1920x1200
+    private static final int NPC_SIZE = 64;       // Same size as player
+
+    // Fonts, colors and strokes are shared by every frame instead of allocated while painting
+    private static final Font ZONE_NAME_FONT = new Font("Arial", Font.BOLD, 48);
+    private static final Font NPC_PROMPT_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font ZONE_PROMPT_FONT = new Font("Arial", Font.BOLD, 32);
+    private static final Font HUD_FONT = new Font("Arial", Font.BOLD, 28);
+    private static final Font INSTRUCTIONS_FONT = new Font("Arial", Font.PLAIN, 24);
+    private static final Font MOVING_FONT = new Font("Arial", Font.BOLD, 24);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font SMALL_FONT = new Font("Arial", Font.BOLD, 16);
+    private static final Font ITEM_NAME_FONT = new Font("Arial", Font.PLAIN, 12);
+
+    private static final Color PLAYER_HIGHLIGHT_COLOR = new Color(100, 149, 237);  // Cornflower blue
+    private static final Color DIRECTION_COLOR = new Color(255, 255, 0, 150);      // Semi-transparent yellow
+    private static final Color BOB_COLOR = new Color(128, 128, 128);
+    private static final Color DANNY_COLOR = new Color(34, 139, 34);               // Forest green
+    private static final Color SEBESTIAN_COLOR = new Color(138, 43, 226);          // Blue violet
+    private static final Color ARISTOCRAT_COLOR = new Color(218, 165, 32);         // Goldenrod
+    private static final Color SOPHIA_COLOR = new Color(255, 182, 193);            // Light pink
+    private static final Color DEFAULT_NPC_COLOR = new Color(255, 140, 0);         // Dark orange
+    private static final Color PROMPT_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color HUD_BACKGROUND = new Color(0, 0, 0, 100);
+    private static final Color INSTRUCTIONS_COLOR = new Color(200, 200, 200);
+    private static final Color MOVING_COLOR = new Color(0, 255, 0);
+    private static final Color HEALTH_BACKGROUND = new Color(100, 0, 0);
+    private static final Color HEALTH_FILL = new Color(0, 200, 0);
+    private static final Color SLOT_FILL = new Color(50, 50, 50, 180);
+    private static final Color SELECTED_SLOT_FILL = new Color(100, 150, 255, 150);
+    private static final Color SELECTED_SLOT_BORDER = new Color(100, 150, 255);
+    private static final Color HUNGER_ITEM_COLOR = new Color(255, 140, 0);   // Orange
+    private static final Color ENERGY_ITEM_COLOR = new Color(255, 255, 0);   // Yellow
+    private static final Color MOOD_ITEM_COLOR = new Color(255, 182, 193);   // Pink
+    private static final Color SPEED_ITEM_COLOR = new Color(0, 255, 255);    // Cyan
+    private static final Color QUEST_ITEM_COLOR = new Color(148, 0, 211);    // Purple
+    private static final Color SPECIAL_ITEM_COLOR = new Color(50, 205, 50);  // Lime green
+    private static final Color DEFAULT_ITEM_COLOR = new Color(200, 200, 200); // Gray
+    private static final Color PROFILER_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Font PROFILER_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 18);
+
+    // Profiler overlay, toggled with F3 (F4 exports a trace)
+    private static final int PROFILER_X = VIRTUAL_WIDTH - 620;
+    private static final int PROFILER_Y = 70;
+    private static final int PROFILER_WIDTH = 600;
+    private static final int PROFILER_LINE_HEIGHT = 22;
+    private static final int PROFILER_HEIGHT = Profiler.OVERLAY_LINES * PROFILER_LINE_HEIGHT + 10;
+
+    private static final BasicStroke STROKE_1 = new BasicStroke(1);
+    private static final BasicStroke STROKE_2 = new BasicStroke(2);
+    private static final BasicStroke STROKE_3 = new BasicStroke(3);
+    private static final BasicStroke STROKE_4 = new BasicStroke(4);
+
+    // Static layer: background, zone name, NPCs and world items of the current zone, composited
+    // once at viewport size and redrawn only when one of the values it was built from changes
+    private BufferedImage staticLayer;
+    private String staticLayerZone;
+    private BufferedImage staticLayerBackground;
+    private int staticLayerItemVersion;
 
     // Event Controller
     private StartEventController startEventController;
     /**
      * Constructs a GamePanel with the given use case and input controller.
-     * Initializes the game loop timer and sets up the panel.
+     * Sets up the game loop (not started yet) and the panel.
      *
      * @param playerMovementUseCase the use case input boundary managing player movement
      * @param inputController the KeyListener handling keyboard input (abstraction, not concrete class)
@@ -131,6 +210,13 @@ public class GamePanel extends JPanel implements ActionListener {
         // Initialize audio manager
         this.audioManager = AudioManager.getInstance();
 
+        // Decode and pack the item sprites once
+        this.itemSprites = new ItemSpriteAtlas(new ItemDataAccessObject().getSpritePaths(),
+                new int[] {WORLD_ITEM_SIZE, INVENTORY_ITEM_SIZE},
+                java.awt.GraphicsEnvironment.isHeadless() ? null
+                        : java.awt.GraphicsEnvironment.getLocalGraphicsEnvironment()
+                                .getDefaultScreenDevice().getDefaultConfiguration());
+
         // Set panel properties - no preferred size since we're resizable
         this.setBackground(Color.BLACK);  // Black for letterbox bars
         this.setFocusable(true);
@@ -138,18 +224,47 @@ public class GamePanel extends JPanel implements ActionListener {
         // Attach the input controller as a KeyListener
         this.addKeyListener(inputController);
 
-        // Initialize the game loop timer
-        this.gameTimer = new Timer(FRAME_DELAY_MS, this);
-        this.lastUpdateTime = System.currentTimeMillis();
+        // Initialize the game loop: movement, zone transitions and proximity checks
+        Player player = playerMovementUseCase.getPlayer();
+        this.proximityDetection = new ProximityDetectionInteractor(npcDataAccess);
+        GameLoopInteractor gameLoopInteractor = new GameLoopInteractor(playerMovementUseCase,
+                new ZoneTransitionInteractor(gameMap, player,
+                        outputData -> SwingUtilities.invokeLater(() -> onZoneTransition(outputData))),
+                proximityDetection);
+        gameLoopInteractor.setTimings(profiler);
+        this.gameLoop = gameLoopInteractor;
+        this.loop = new FixedTimestepLoop(new FixedTimestepLoop.Callbacks() {
+            @Override
+            public void step(double stepSeconds) {
+                simulationStep(stepSeconds);
+            }
+
+            @Override
+            public void render(double alpha) {
+                renderFrame(alpha);
+            }
+        });
+        this.previousPlayerX = player.getX();
+        this.previousPlayerY = player.getY();
+        this.drawnPlayerX = (int) player.getX();
+        this.drawnPlayerY = (int) player.getY();
+        for (int i = 0; i < dirtyRectangles.length; i++) {
+            dirtyRectangles[i] = new java.awt.Rectangle();
+        }
 
         // Initialize viewport
         calculateViewport();
 
-        // Preload all background images to prevent flashing during transitions
-        preloadAllBackgroundImages();
+        // Decode the first zone and its neighbours so transitions do not flash
+        this.backgroundStreamer = new BackgroundAssetStreamer(gameMap,
+                BackgroundAssetStreamer.DEFAULT_MEMORY_BUDGET_BYTES, BackgroundAssetStreamer.DEFAULT_DECODE_THREADS,
+                () -> SwingUtilities.invokeLater(this::repaint));
+        backgroundStreamer.focus(gameMap.getCurrentZoneId());
 
         // Start background music for initial zone
         audioManager.playBackgroundMusic(gameMap.getCurrentZone().getBackgroundMusicPath());
+
+        bindProfilerKeys();
     }
     
     /**
@@ -157,7 +272,8 @@ public class GamePanel extends JPanel implements ActionListener {
      * Called after the frame is made visible.
      */
     public void startGameLoop() {
-        gameTimer.start();
+        loop.start();
+        repaint();
     }
 
     /**
@@ -166,6 +282,20 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     public void setWorldItemDataAccess(WorldItemDataAccessObject worldItemDataAccess) {
         this.worldItemDataAccess = worldItemDataAccess;
+        synchronized (simulationLock) {
+            proximityDetection.setWorldItemDataAccess(worldItemDataAccess);
+        }
+        invalidateStaticLayer();
+    }
+
+    /**
+     * Redraws the static layer (background, NPCs, world items) on the next frame.
+     * Zone, viewport and world item changes are picked up on their own; this is for
+     * anything else that changes what the layer shows.
+     */
+    public void invalidateStaticLayer() {
+        staticLayerZone = null;
+        repaint();
     }
 
     /**
@@ -199,64 +329,307 @@ public class GamePanel extends JPanel implements ActionListener {
      * Useful for closing the game.
      */
     public void stopGameLoop() {
-        gameTimer.stop();
+        loop.stop();
         audioManager.stopBackgroundMusic();
+        scaledBackgroundCache.clear();
+        staticLayer = null;
     }
     
     /**
      * Pauses the game loop.
-     * Stops the timer but maintains game state.
+     * Stops the loop thread but maintains game state.
      */
     public void pauseGame() {
-        if (gameTimer.isRunning()) {
-            gameTimer.stop();
-        }
+        loop.stop();
     }
     
     /**
      * Resumes the game loop.
-     * Restarts the timer and updates lastUpdateTime to prevent huge delta.
+     * The loop does not simulate the time it was paused, so there is no delta jump.
      */
     public void resumeGame() {
-        if (!gameTimer.isRunning()) {
-            lastUpdateTime = System.currentTimeMillis();  // Reset time to prevent delta jump
-            gameTimer.start();
+        loop.start();
+        repaint();
+    }
+
+    /**
+     * Copies the state of a player for saving, without stopping the game. The loop thread
+     * is held off for the few microseconds this takes, so the position is consistent.
+     * @param player the player to save
+     * @return the snapshot, including the current zone
+     */
+    public GameSnapshot captureSnapshot(Player player) {
+        synchronized (simulationLock) {
+            return GameSnapshot.capture(player, gameMap.getCurrentZone().getName());
+        }
+    }
+
+    /**
+     * Changes game state that the loop thread reads, such as the inventory or the world
+     * items, without racing a simulation step or a frame. Call it on the EDT.
+     * @param change the change to make, run on the calling thread while the loop is held off
+     */
+    public void runOnSimulation(Runnable change) {
+        synchronized (simulationLock) {
+            change.run();
         }
     }
+
+    /**
+     * Checks if the game loop is running (not paused or stopped).
+     * @return true while the game is being played
+     */
+    public boolean isGameRunning() {
+        return loop.isRunning();
+    }
+
+    /**
+     * Gets the frame-time statistics of the game loop.
+     * @return the statistics, updated every frame
+     */
+    public FrameStats getFrameStats() {
+        return loop.getStats();
+    }
+
+    /**
+     * Gets the profiler timing the loop's update, dirty tracking and painting.
+     * @return the profiler, recording only while its overlay is shown
+     */
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    private void bindProfilerKeys() {
+        javax.swing.InputMap inputMap = getInputMap(javax.swing.JComponent.WHEN_IN_FOCUSED_WINDOW);
+        inputMap.put(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_F3, 0), "toggleProfiler");
+        inputMap.put(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_F4, 0), "exportTrace");
+        getActionMap().put("toggleProfiler", new javax.swing.AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                profiler.setEnabled(!profiler.isEnabled());
+            }
+        });
+        getActionMap().put("exportTrace", new javax.swing.AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                java.nio.file.Path file = java.nio.file.Paths.get("trace-" + System.currentTimeMillis() + ".json");
+                // written off the EDT, the file can be a few megabytes
+                java.util.concurrent.CompletableFuture.runAsync(() -> {
+                    try {
+                        profiler.exportChromeTrace(file);
+                        System.out.println("Wrote profiler trace to " + file.toAbsolutePath());
+                    } catch (java.io.IOException ex) {
+                        System.err.println("Failed to write profiler trace: " + ex.getMessage());
+                    }
+                });
+            }
+        });
+    }
     
     /**
-     * Called by the Timer on each game loop tick (~every 16ms).
-     * 
-     * This method orchestrates the game loop:
-     * 1. Calculate elapsed time since last update
-     * 2. UPDATE PHASE: Update game state
-     * 3. RENDER PHASE: Request a repaint
-     * 
-     * @param e the ActionEvent from the Timer
+     * Runs one fixed simulation step on the loop thread.
+     *
+     * The game loop use case moves the player, performs zone transitions and checks
+     * proximity; the results the input handlers ask for are then published to them.
+     *
+     * @param stepSeconds the step length in seconds
      */
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        // Calculate delta time in seconds
-        long currentTime = System.currentTimeMillis();
-        double deltaTime = (currentTime - lastUpdateTime) / 1000.0;
-        lastUpdateTime = currentTime;
-
-        // Cap delta time to prevent huge jumps if frame is delayed
-        if (deltaTime > 0.05) {  // More than 50ms = cap at 50ms
-            deltaTime = 0.05;
+    private void simulationStep(double stepSeconds) {
+        long start = profiler.begin();
+        synchronized (simulationLock) {
+            Player player = playerMovementUseCase.getPlayer();
+            previousPlayerX = player.getX();
+            previousPlayerY = player.getY();
+
+            gameLoop.update(stepSeconds);
+
+            if (gameLoop.didZoneTransitionOccur()) {
+                // New zone: draw the player where they entered, not on the way there
+                previousPlayerX = player.getX();
+                previousPlayerY = player.getY();
+            }
+            inSleepZone = proximityDetection.isInSleepZone();
+            inStockTradingZone = proximityDetection.isInStockTradingZone();
+            inMailboxZone = proximityDetection.isInMailboxZone();
+            activeZoneCount = proximityDetection.getActiveInteractionZones(activeZones);
+            nearbyNPC = proximityDetection.getNearbyNPC();
+            nearbyWorldItem = proximityDetection.getNearbyWorldItem();
+        }
+        profiler.end(Profiler.Section.STEP, start);
+    }
+
+    /**
+     * Updates the background color and music after a zone transition and tries to start a
+     * random event. Runs on the EDT.
+     *
+     * @param outputData the new zone
+     */
+    private void onZoneTransition(ZoneTransitionOutputData outputData) {
+        System.out.println("Successfully transitioned to zone: " + outputData.getNewZoneName());
+        setBackground(outputData.getBackgroundColor());
+        audioManager.playBackgroundMusic(outputData.getBackgroundMusicPath());
+        // Attempt to start a random event
+        if (startEventController != null) {
+            startEventController.execute();
+        }
+    }
+
+    /**
+     * Works out what changed since the last frame and schedules a repaint of just those
+     * regions. Runs on the loop thread; nothing is painted while the scene is idle.
+     *
+     * @param alpha the interpolation factor between the last two simulation steps
+     */
+    private void renderFrame(double alpha) {
+        long start = profiler.begin();
+        if (start != 0 && lastFrameNanos != 0) {
+            profiler.record(Profiler.Section.FRAME, lastFrameNanos, start);
+        }
+        lastFrameNanos = start;
+        synchronized (simulationLock) {
+            Player player = playerMovementUseCase.getPlayer();
+            Zone zone = gameMap.getCurrentZone();
+            String zoneName = zone != null ? zone.getName() : null;
+            int itemVersion = worldItemDataAccess != null ? worldItemDataAccess.getVersion() : 0;
+            if (!java.util.Objects.equals(zoneName, drawnZoneName) || itemVersion != drawnItemVersion) {
+                // The static layer changes, so everything does
+                dirtyRegion.addAll();
+                if (!java.util.Objects.equals(zoneName, drawnZoneName)) {
+                    backgroundStreamer.focus(gameMap.getCurrentZoneId());
+                }
+                drawnZoneName = zoneName;
+                drawnItemVersion = itemVersion;
+            }
+
+            // Player, interpolated between the last two simulation steps
+            int playerX = (int) (previousPlayerX + (player.getX() - previousPlayerX) * alpha);
+            int playerY = (int) (previousPlayerY + (player.getY() - previousPlayerY) * alpha);
+            boolean moving = playerMovementUseCase.isMoving();
+            Direction direction = moving ? playerMovementUseCase.getCurrentDirection() : null;
+            if (playerX != drawnPlayerX || playerY != drawnPlayerY
+                    || moving != drawnMoving || direction != drawnDirection) {
+                addPlayerRegion(drawnPlayerX, drawnPlayerY);
+                addPlayerRegion(playerX, playerY);
+                drawnPlayerX = playerX;
+                drawnPlayerY = playerY;
+                drawnDirection = direction;
+            }
+
+            // HUD
+            String day = player.getCurrentDay().getProgressString();
+            if (player.getX() != drawnHudX || player.getY() != drawnHudY || player.getBalance() != drawnBalance
+                    || player.getHealth() != drawnHealth || !day.equals(drawnDay)) {
+                dirtyRegion.add(10, 10, 500, 180);
+                drawnHudX = player.getX();
+                drawnHudY = player.getY();
+                drawnBalance = player.getBalance();
+                drawnHealth = player.getHealth();
+                drawnDay = day;
+            }
+            if (moving != drawnMoving) {
+                dirtyRegion.add(VIRTUAL_WIDTH - 200, 20, 200, 40);  // "MOVING" indicator
+                drawnMoving = moving;
+            }
+
+            // Zone overlays (the use-item prompt also depends on them)
+            boolean overlaysChanged = activeZoneCount != drawnZoneCount;
+            for (int i = 0; i < activeZoneCount && !overlaysChanged; i++) {
+                overlaysChanged = activeZones[i] != drawnZones[i];
+            }
+            if (overlaysChanged) {
+                for (int i = 0; i < drawnZoneCount; i++) {
+                    addZoneRegion(drawnZones[i]);
+                }
+                for (int i = 0; i < activeZoneCount; i++) {
+                    addZoneRegion(activeZones[i]);
+                    drawnZones[i] = activeZones[i];
+                }
+                drawnZoneCount = activeZoneCount;
+            }
+
+            // Inventory and the prompts above it
+            boolean slotsChanged = updateDrawnInventory(player.getInventory());
+            boolean inventoryChanged = slotsChanged || selectedInventorySlot != drawnSelectedSlot;
+            if (inventoryChanged) {
+                int totalWidth = INVENTORY_SLOTS * INVENTORY_SLOT_SIZE + (INVENTORY_SLOTS - 1) * INVENTORY_SLOT_GAP;
+                dirtyRegion.add((VIRTUAL_WIDTH - totalWidth) / 2 - PLAYER_MARGIN,
+                        VIRTUAL_HEIGHT - INVENTORY_SLOT_SIZE - 20 - PLAYER_MARGIN,
+                        totalWidth + 2 * PLAYER_MARGIN, INVENTORY_SLOT_SIZE + 2 * PLAYER_MARGIN);
+                drawnSelectedSlot = selectedInventorySlot;
+            }
+            if (inventoryChanged || overlaysChanged
+                    || nearbyNPC != drawnNearbyNPC || nearbyWorldItem != drawnNearbyWorldItem) {
+                // NPC, world item and use-item prompt bands
+                dirtyRegion.add(0, VIRTUAL_HEIGHT - 215, VIRTUAL_WIDTH, 140);
+                drawnNearbyNPC = nearbyNPC;
+                drawnNearbyWorldItem = nearbyWorldItem;
+            }
+
+            // Profiler overlay, redrawn only when its numbers are refreshed
+            if (profiler.refresh(System.nanoTime()) || profiler.isEnabled() != drawnProfiler) {
+                dirtyRegion.add(PROFILER_X, PROFILER_Y, PROFILER_WIDTH, PROFILER_HEIGHT);
+                drawnProfiler = profiler.isEnabled();
+            }
         }
+        profiler.end(Profiler.Section.RENDER, start);
 
-        // === UPDATE PHASE ===
-        playerMovementUseCase.updatePosition(deltaTime);
-        checkZoneTransition();
-        checkSleepZone();
-        checkStockTradingZone();
-        checkMailboxZone();
-        checkNPCProximity();
-        checkWorldItemProximity();
-
-        // === RENDER PHASE ===
-        this.repaint();
+        if (!dirtyRegion.isEmpty() && dirtyPaintPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::paintDirtyRegions);
+        }
+    }
+
+    private void addPlayerRegion(int x, int y) {
+        dirtyRegion.add(x - PLAYER_MARGIN, y - PLAYER_MARGIN,
+                PLAYER_WIDTH + 2 * PLAYER_MARGIN, PLAYER_HEIGHT + 2 * PLAYER_MARGIN);
+    }
+
+    private void addZoneRegion(InteractionZone zone) {
+        dirtyRegion.add((int) zone.getX() - PLAYER_MARGIN, (int) zone.getY() - PLAYER_MARGIN,
+                (int) Math.ceil(zone.getWidth()) + 2 * PLAYER_MARGIN + 1,
+                (int) Math.ceil(zone.getHeight()) + 2 * PLAYER_MARGIN + 1);
+    }
+
+    /**
+     * Compares each inventory slot with the item last drawn in it, remembering the new items.
+     * @return true if any slot changed
+     */
+    private boolean updateDrawnInventory(Map<Integer, Item> inventory) {
+        boolean changed = false;
+        for (int i = 0; i < INVENTORY_SLOTS; i++) {
+            Item item = inventory.get(i + 1);  // Inventory uses 1-5
+            if (item != drawnInventory[i]) {
+                drawnInventory[i] = item;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Paints the regions collected by renderFrame. Runs on the EDT. Each rectangle is painted
+     * on its own, so separate changes do not grow into one large repaint.
+     */
+    private void paintDirtyRegions() {
+        dirtyPaintPending.set(false);
+        int count = dirtyRegion.drain(dirtyRectangles);
+        if (!isShowing()) {
+            return;
+        }
+        if (count < 0) {
+            paintImmediately(0, 0, getWidth(), getHeight());
+            return;
+        }
+        calculateViewport();
+        for (int i = 0; i < count; i++) {
+            java.awt.Rectangle r = dirtyRectangles[i];
+            // Virtual to screen coordinates, rounded outwards with a pixel for antialiasing
+            int x = (int) Math.floor(viewportX + r.x * scale) - 1;
+            int y = (int) Math.floor(viewportY + r.y * scale) - 1;
+            int right = (int) Math.ceil(viewportX + (r.x + r.width) * scale) + 1;
+            int bottom = (int) Math.ceil(viewportY + (r.y + r.height) * scale) + 1;
+            dirtyScreenRectangle.setBounds(x, y, right - x, bottom - y);
+            paintImmediately(dirtyScreenRectangle);
+        }
     }
 
     /**
@@ -318,140 +691,11 @@ public class GamePanel extends JPanel implements ActionListener {
         return scale;
     }
 
-    /**
-     * Checks if the player has reached the edge of the screen and transitions to the next zone if needed.
-     * Special handling for subway zones with 300-pixel trigger areas.
-     * Then checks for special transitions (tunnels, elevators), and finally normal zone connections.
-     * Transitions trigger when player reaches the visible edge of the screen.
-     */
-    private void checkZoneTransition() {
-        Player player = playerMovementUseCase.getPlayer();
-        Zone currentZone = gameMap.getCurrentZone();
-        String currentZoneName = currentZone.getName();
-        double x = player.getX();
-        double y = player.getY();
-        boolean transitioned = false;
-
-        // Special handling for subway station transitions (300-pixel trigger zones)
-        final int SUBWAY_TRANSITION_ZONE = 300;
-        final int SUBWAY_SPAWN_OFFSET = 50; // Offset to prevent immediate re-triggering
-        
-        if ("Subway Station 1".equals(currentZoneName)) {
-            // Check if player is in bottom 300 pixels
-            if (y >= VIRTUAL_HEIGHT - SUBWAY_TRANSITION_ZONE) {
-                gameMap.setCurrentZone("Subway Station 2");
-                player.setY(SUBWAY_TRANSITION_ZONE + SUBWAY_SPAWN_OFFSET); // Spawn safely away from transition zone
-                transitioned = true;
-            }
-        } else if ("Subway Station 2".equals(currentZoneName)) {
-            // Check if player is in top 300 pixels
-            if (y <= SUBWAY_TRANSITION_ZONE) {
-                gameMap.setCurrentZone("Subway Station 1");
-                player.setY(VIRTUAL_HEIGHT - SUBWAY_TRANSITION_ZONE - SUBWAY_SPAWN_OFFSET); // Spawn safely away from transition zone
-                transitioned = true;
-            }
-        }
-
-        // If no subway transition occurred, check normal edge-based transitions
-        if (!transitioned) {
-            // Determine which edge the player has reached (at the visible screen bounds)
-            Zone.Edge edgeReached = null;
-            if (y >= VIRTUAL_HEIGHT - PLAYER_HEIGHT) {
-                edgeReached = Zone.Edge.DOWN;
-            } else if (y <= 0) {
-                edgeReached = Zone.Edge.UP;
-            } else if (x >= VIRTUAL_WIDTH - PLAYER_WIDTH) {
-                edgeReached = Zone.Edge.RIGHT;
-            } else if (x <= 0) {
-                edgeReached = Zone.Edge.LEFT;
-            }
-
-            if (edgeReached != null) {
-                // First check for special transitions (tunnels, elevators, etc.)
-                Transition specialTransition = gameMap.getSpecialTransition(edgeReached);
-                if (specialTransition != null) {
-                    // Use special transition
-                    gameMap.setCurrentZone(specialTransition.getToZone());
-                    repositionPlayerFromTransition(player, specialTransition.getToEdge());
-                    transitioned = true;
-                } else {
-                    // Fall back to normal zone connection
-                    String nextZone = currentZone.getNeighbor(edgeReached);
-                    if (nextZone != null) {
-                        gameMap.setCurrentZone(nextZone);
-                        repositionPlayerFromEdge(player, edgeReached);
-                        transitioned = true;
-                    }
-                    // Note: No need to block movement here since PlayerMovementUseCase
-                    // will clamp the position within screen bounds
-                }
-            }
-        }
-
-        // Update background color and music if zone changed
-        if (transitioned) {
-            Zone newZone = gameMap.getCurrentZone();
-            if (newZone != null) {
-                System.out.println("Successfully transitioned to zone: " + newZone.getName());
-                setBackground(newZone.getBackgroundColor());
-                audioManager.playBackgroundMusic(newZone.getBackgroundMusicPath());
-                // Attempt to start a random event
-                startEventController.execute();
-            } else {
-                System.err.println("ERROR: Transition resulted in null zone!");
-            }
-        }
-    }
-
-    /**
-     * Repositions the player when entering a zone via a normal edge connection.
-     * Places player slightly away from edge to prevent immediate re-triggering of transition.
-     */
-    private void repositionPlayerFromEdge(Player player, Zone.Edge edgeExited) {
-        final int EDGE_OFFSET = 5; // Pixels away from edge
-        switch (edgeExited) {
-            case DOWN:
-                player.setY(EDGE_OFFSET); // Enter from top, slightly below edge
-                break;
-            case UP:
-                player.setY(VIRTUAL_HEIGHT - PLAYER_HEIGHT - EDGE_OFFSET); // Enter from bottom, slightly above edge
-                break;
-            case RIGHT:
-                player.setX(EDGE_OFFSET); // Enter from left, slightly right of edge
-                break;
-            case LEFT:
-                player.setX(VIRTUAL_WIDTH - PLAYER_WIDTH - EDGE_OFFSET); // Enter from right, slightly left of edge
-                break;
-        }
-    }
-
-    /**
-     * Repositions the player when entering a zone via a special transition.
-     * The toEdge indicates which edge of the destination zone the player enters from.
-     * Places player slightly away from edge to prevent immediate re-triggering of transition.
-     */
-    private void repositionPlayerFromTransition(Player player, Zone.Edge toEdge) {
-        final int EDGE_OFFSET = 5; // Pixels away from edge
-        switch (toEdge) {
-            case DOWN:
-                player.setY(EDGE_OFFSET); // Enter from top, slightly below edge
-                break;
-            case UP:
-                player.setY(VIRTUAL_HEIGHT - PLAYER_HEIGHT - EDGE_OFFSET); // Enter from bottom, slightly above edge
-                break;
-            case RIGHT:
-                player.setX(EDGE_OFFSET); // Enter from left, slightly right of edge
-                break;
-            case LEFT:
-                player.setX(VIRTUAL_WIDTH - PLAYER_WIDTH - EDGE_OFFSET); // Enter from right, slightly left of edge
-                break;
-        }
-    }
-
     
     /**
      * Renders the current game state.
-     * Called by the Swing EDT after repaint() is called.
+     * Called by the Swing EDT after the loop thread calls repaint(). The game state is read
+     * under the simulation lock, so a frame never shows a half-finished step.
      * 
      * Rendering order:
      * 1. Clear background (handled by Swing)
@@ -471,7 +715,20 @@ public class GamePanel extends JPanel implements ActionListener {
         // Fill entire panel with black (letterbox/pillarbox background)
         g2d.setColor(Color.BLACK);
         g2d.fillRect(0, 0, getWidth(), getHeight());
-        
+
+        long start = profiler.begin();
+        synchronized (simulationLock) {
+            paintGame(g2d);
+        }
+        profiler.end(Profiler.Section.PAINT, start);
+    }
+
+    /**
+     * Paints the viewport: the static layer, then the per-frame elements.
+     *
+     * @param g2d the Graphics2D context of the panel
+     */
+    private void paintGame(Graphics2D g2d) {
         // Draw the game viewport background (image or color fallback)
         Zone currentZone = gameMap.getCurrentZone();
         if (currentZone == null) {
@@ -479,20 +736,13 @@ public class GamePanel extends JPanel implements ActionListener {
             g2d.setColor(Color.GRAY);
             g2d.fillRect(viewportX, viewportY, viewportWidth, viewportHeight);
         } else {
-            BufferedImage backgroundImage = loadBackgroundImage(currentZone.getBackgroundImagePath());
-            
-            if (backgroundImage != null) {
-                // Draw the background image scaled to viewport
-                g2d.drawImage(backgroundImage, viewportX, viewportY, viewportWidth, viewportHeight, null);
-            } else {
-                // Fallback to solid color if image not available
-                g2d.setColor(currentZone.getBackgroundColor());
-                g2d.fillRect(viewportX, viewportY, viewportWidth, viewportHeight);
-            }
+            // Background, NPCs and world items come from the cached layer
+            g2d.drawImage(getStaticLayer(currentZone), viewportX, viewportY, null);
         }
         
         // Create clipped viewport for game content
-        g2d.setClip(viewportX, viewportY, viewportWidth, viewportHeight);
+        // (intersected with the clip of the repainted region, so dirty repaints stay small)
+        g2d.clipRect(viewportX, viewportY, viewportWidth, viewportHeight);
         
         // Save original transform
         java.awt.geom.AffineTransform originalTransform = g2d.getTransform();
@@ -502,9 +752,7 @@ public class GamePanel extends JPanel implements ActionListener {
         g2d.scale(scale, scale);
         
         // Enable high-quality rendering
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        applyRenderingHints(g2d);
         
         // Now draw everything in virtual coordinates (1920x1200)
         drawGame(g2d);
@@ -512,43 +760,100 @@ public class GamePanel extends JPanel implements ActionListener {
         // Restore original transform
         g2d.setTransform(originalTransform);
     }
+
+    private static void applyRenderingHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    }
+
+    /**
+     * Gets the static layer of a zone, rebuilding it if the zone, the viewport size, the
+     * background image or the world items changed since it was drawn.
+     *
+     * @param zone the current zone
+     * @return an image of the viewport's size
+     */
+    private BufferedImage getStaticLayer(Zone zone) {
+        String imagePath = zone.getBackgroundImagePath();
+        BufferedImage backgroundImage = backgroundStreamer.get(imagePath);
+        BufferedImage background = null;
+        if (backgroundImage != null) {
+            background = scaledBackgroundCache.get(imagePath, backgroundImage,
+                    viewportWidth, viewportHeight, getGraphicsConfiguration());
+            if (background == null) {
+                // Scaled copy is still being built, the layer scales the original meanwhile
+                background = backgroundImage;
+            }
+        }
+        int itemVersion = worldItemDataAccess != null ? worldItemDataAccess.getVersion() : 0;
+
+        if (staticLayer != null
+                && staticLayer.getWidth() == viewportWidth && staticLayer.getHeight() == viewportHeight
+                && zone.getName().equals(staticLayerZone)
+                && background == staticLayerBackground
+                && itemVersion == staticLayerItemVersion) {
+            return staticLayer;
+        }
+
+        if (staticLayer == null
+                || staticLayer.getWidth() != viewportWidth || staticLayer.getHeight() != viewportHeight) {
+            java.awt.GraphicsConfiguration config = getGraphicsConfiguration();
+            staticLayer = config != null
+                    ? config.createCompatibleImage(viewportWidth, viewportHeight)
+                    : new BufferedImage(viewportWidth, viewportHeight, BufferedImage.TYPE_INT_RGB);
+        }
+        Graphics2D g = staticLayer.createGraphics();
+        try {
+            if (background != null) {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(background, 0, 0, viewportWidth, viewportHeight, null);
+            } else {
+                // Fallback to solid color if image not available
+                g.setColor(zone.getBackgroundColor());
+                g.fillRect(0, 0, viewportWidth, viewportHeight);
+            }
+            g.scale(scale, scale);
+            applyRenderingHints(g);
+            drawZoneName(g, zone);
+            drawNPCs(g);
+            drawWorldItems(g);
+        } finally {
+            g.dispose();
+        }
+        staticLayerZone = zone.getName();
+        staticLayerBackground = background;
+        staticLayerItemVersion = itemVersion;
+        return staticLayer;
+    }
+
+    /**
+     * Draws the zone name at the top center.
+     *
+     * @param g the Graphics2D context (in virtual coordinates)
+     * @param zone the zone
+     */
+    private void drawZoneName(Graphics2D g, Zone zone) {
+        g.setColor(Color.DARK_GRAY);
+        g.setFont(ZONE_NAME_FONT);  // Scaled up for 1920x1200
+        String zoneName = zone.getName();
+        int zoneNameWidth = g.getFontMetrics().stringWidth(zoneName);
+        g.drawString(zoneName, (VIRTUAL_WIDTH - zoneNameWidth) / 2, 80);
+    }
     
     /**
-     * Draws all game elements in virtual coordinate space (1920x1200).
+     * Draws the per-frame game elements in virtual coordinate space (1920x1200).
+     * The zone name, NPCs and world items are part of the static layer.
      *
      * @param g the Graphics2D context (already scaled and translated)
      */
     private void drawGame(Graphics2D g) {
-        // Draw zone name at top center
-        Zone zone = gameMap.getCurrentZone();
-        if (zone != null) {
-            g.setColor(Color.DARK_GRAY);
-            g.setFont(new Font("Arial", Font.BOLD, 48));  // Scaled up for 1920x1200
-            String zoneName = zone.getName();
-            int zoneNameWidth = g.getFontMetrics().stringWidth(zoneName);
-            g.drawString(zoneName, (VIRTUAL_WIDTH - zoneNameWidth) / 2, 80);
-        }
-
         // Draw player
         drawPlayer(g);
 
-        // Draw NPCs
-        drawNPCs(g);
-
-        // Draw sleep zone indicator if in Home and player is in zone
-        Zone currentZone = gameMap.getCurrentZone();
-        if (currentZone != null && "Home".equals(currentZone.getName()) && inSleepZone) {
-            drawSleepZone(g);
-        }
-        
-        // Draw stock trading zone indicator if in Office and player is in zone
-        if (currentZone != null && "Office (Your Cubicle)".equals(currentZone.getName()) && inStockTradingZone) {
-            drawStockTradingZone(g);
-        }
-        
-        // Draw mailbox zone indicator if in Home and player is in zone
-        if (currentZone != null && "Home".equals(currentZone.getName()) && inMailboxZone) {
-            drawMailboxZone(g);
+        // Draw the indicator of each interaction zone the player is in
+        for (int i = 0; i < activeZoneCount; i++) {
+            drawInteractionZone(g, activeZones[i]);
         }
 
         // Draw NPC interaction prompt if near an NPC
@@ -556,9 +861,6 @@ public class GamePanel extends JPanel implements ActionListener {
             drawNPCPrompt(g);
         }
 
-        // Draw world items in current zone
-        drawWorldItems(g);
-
         // Draw item interaction prompt if near a world item
         if (nearbyWorldItem != null) {
             drawWorldItemPrompt(g);
@@ -566,6 +868,26 @@ public class GamePanel extends JPanel implements ActionListener {
 
         drawUI(g);
         drawInventory(g);
+
+        if (drawnProfiler) {
+            drawProfilerOverlay(g);
+        }
+    }
+
+    /**
+     * Draws the profiler's latest numbers in the top right corner.
+     *
+     * @param g the Graphics2D context
+     */
+    private void drawProfilerOverlay(Graphics2D g) {
+        String[] lines = profiler.getOverlayLines();
+        g.setColor(PROFILER_BACKGROUND);
+        g.fillRect(PROFILER_X, PROFILER_Y, PROFILER_WIDTH, PROFILER_HEIGHT);
+        g.setColor(Color.WHITE);
+        g.setFont(PROFILER_FONT);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], PROFILER_X + 10, PROFILER_Y + (i + 1) * PROFILER_LINE_HEIGHT);
+        }
     }
     
     /**
@@ -574,23 +896,21 @@ public class GamePanel extends JPanel implements ActionListener {
      * @param g the Graphics2D context
      */
     private void drawPlayer(Graphics2D g) {
-        Player player = playerMovementUseCase.getPlayer();
-        
-        // Get player position from entity
-        int playerX = (int) player.getX();
-        int playerY = (int) player.getY();
+        // Position interpolated by renderFrame, so it matches the region marked dirty
+        int playerX = drawnPlayerX;
+        int playerY = drawnPlayerY;
         
         // Draw player as a filled rectangle with gradient effect
         g.setColor(PLAYER_COLOR);
         g.fillRect(playerX, playerY, PLAYER_WIDTH, PLAYER_HEIGHT);
         
         // Add a highlight on the top-left to give depth
-        g.setColor(new Color(100, 149, 237));  // Cornflower blue
+        g.setColor(PLAYER_HIGHLIGHT_COLOR);
         g.fillRect(playerX, playerY, PLAYER_WIDTH / 2, PLAYER_HEIGHT / 2);
         
         // Draw a black border for clarity
         g.setColor(Color.BLACK);
-        g.setStroke(new BasicStroke(2));
+        g.setStroke(STROKE_2);
         g.drawRect(playerX, playerY, PLAYER_WIDTH, PLAYER_HEIGHT);
         
         // Optional: Draw direction indicator if moving
@@ -610,12 +930,12 @@ public class GamePanel extends JPanel implements ActionListener {
         Direction direction = playerMovementUseCase.getCurrentDirection();
         if (direction == null) return;
         
-        g.setColor(new Color(255, 255, 0, 150));  // Semi-transparent yellow
+        g.setColor(DIRECTION_COLOR);
         int centerX = playerX + PLAYER_WIDTH / 2;
         int centerY = playerY + PLAYER_HEIGHT / 2;
         int arrowLength = 30;  // Scaled up for virtual resolution
         
-        g.setStroke(new BasicStroke(4));  // Thicker line for virtual resolution
+        g.setStroke(STROKE_4);  // Thicker line for virtual resolution
         
         switch (direction) {
             case UP:
@@ -647,17 +967,16 @@ public class GamePanel extends JPanel implements ActionListener {
         for (NPC npc : npcsInZone) {
             int npcX = (int) npc.getX();
             int npcY = (int) npc.getY();
-            int npcSize = 64;  // Same size as player
 
             // Draw NPC shape based on personality
-            drawNPCShape(g, npc, npcX, npcY, npcSize);
+            drawNPCShape(g, npc, npcX, npcY, NPC_SIZE);
 
             // Draw name label above NPC
             g.setColor(Color.WHITE);
-            g.setFont(new Font("Arial", Font.BOLD, 20));
+            g.setFont(LABEL_FONT);
             String name = npc.getName();
             int nameWidth = g.getFontMetrics().stringWidth(name);
-            g.drawString(name, npcX + (npcSize - nameWidth) / 2, npcY - 10);
+            g.drawString(name, npcX + (NPC_SIZE - nameWidth) / 2, npcY - 10);
         }
     }
 
@@ -677,36 +996,36 @@ public class GamePanel extends JPanel implements ActionListener {
         switch (name) {
             case "Bob":
                 // Bureaucrat - Gray square (rigid, formal)
-                g.setColor(new Color(128, 128, 128));
+                g.setColor(BOB_COLOR);
                 g.fillRect(x, y, size, size);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(3));
+                g.setStroke(STROKE_3);
                 g.drawRect(x, y, size, size);
                 break;
 
             case "Danny":
                 // CS TA - Green circle (friendly, approachable)
-                g.setColor(new Color(34, 139, 34));  // Forest green
+                g.setColor(DANNY_COLOR);
                 g.fillOval(x, y, size, size);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(3));
+                g.setStroke(STROKE_3);
                 g.drawOval(x, y, size, size);
                 break;
 
             case "Sebestian":
                 // Eccentric - Purple diamond (quirky, unique)
-                g.setColor(new Color(138, 43, 226));  // Blue violet
+                g.setColor(SEBESTIAN_COLOR);
                 int[] xPoints = {x + size/2, x + size, x + size/2, x};
                 int[] yPoints = {y, y + size/2, y + size, y + size/2};
                 g.fillPolygon(xPoints, yPoints, 4);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(3));
+                g.setStroke(STROKE_3);
                 g.drawPolygon(xPoints, yPoints, 4);
                 break;
 
             case "Sir Maximilian Alexander Percival Ignatius Thaddeus Montgomery-Worthington III, Esquire of the Grand Order of the Silver Falcon":
                 // Aristocrat - Gold hexagon (distinguished, complex)
-                g.setColor(new Color(218, 165, 32));  // Goldenrod
+                g.setColor(ARISTOCRAT_COLOR);
                 int[] hexX = new int[6];
                 int[] hexY = new int[6];
                 for (int i = 0; i < 6; i++) {
@@ -716,78 +1035,59 @@ public class GamePanel extends JPanel implements ActionListener {
                 }
                 g.fillPolygon(hexX, hexY, 6);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(3));
+                g.setStroke(STROKE_3);
                 g.drawPolygon(hexX, hexY, 6);
                 break;
 
             case "Sophia":
                 // Curious learner - Pink triangle (dynamic, growing)
-                g.setColor(new Color(255, 182, 193));  // Light pink
+                g.setColor(SOPHIA_COLOR);
                 int[] triX = {x + size/2, x + size, x};
                 int[] triY = {y, y + size, y + size};
                 g.fillPolygon(triX, triY, 3);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(3));
+                g.setStroke(STROKE_3);
                 g.drawPolygon(triX, triY, 3);
                 break;
 
             default:
                 // Default - Orange rectangle
-                g.setColor(new Color(255, 140, 0));  // Dark orange
+                g.setColor(DEFAULT_NPC_COLOR);
                 g.fillRect(x, y, size, size);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(2));
+                g.setStroke(STROKE_2);
                 g.drawRect(x, y, size, size);
                 break;
         }
     }
 
     /**
-     * Checks if the player is in the sleep zone (top-right 400x400px in Home).
-     */
-    private void checkSleepZone() {
-        Player player = playerMovementUseCase.getPlayer();
-        Zone currentZone = gameMap.getCurrentZone();
-        
-        // Only check if in Home zone
-        if (!"Home".equals(currentZone.getName())) {
-            inSleepZone = false;
-            return;
-        }
-        
-        double playerX = player.getX();
-        double playerY = player.getY();
-        
-        // Check if player is within sleep zone bounds
-        inSleepZone = playerX >= SLEEP_ZONE_X &&
-                     playerX <= SLEEP_ZONE_X + SLEEP_ZONE_WIDTH &&
-                     playerY >= SLEEP_ZONE_Y &&
-                     playerY <= SLEEP_ZONE_Y + SLEEP_ZONE_HEIGHT;
-    }
-    
-    /**
-     * Draws the sleep zone indicator and prompt.
+     * Draws an interaction zone indicator and its prompt.
      *
      * @param g the Graphics2D context
+     * @param zone the interaction zone
      */
-    private void drawSleepZone(Graphics2D g) {
+    private void drawInteractionZone(Graphics2D g, InteractionZone zone) {
+        int x = (int) zone.getX();
+        int y = (int) zone.getY();
+        int width = (int) zone.getWidth();
+        int height = (int) zone.getHeight();
+
         // Draw semi-transparent overlay
-        g.setColor(new Color(100, 150, 255, 77));  // Light blue with 30% opacity
-        g.fillRect(SLEEP_ZONE_X, SLEEP_ZONE_Y, SLEEP_ZONE_WIDTH, SLEEP_ZONE_HEIGHT);
+        g.setColor(zone.getFillColor());
+        g.fillRect(x, y, width, height);
         
         // Draw border
-        g.setColor(new Color(100, 150, 255, 200));
-        g.setStroke(new BasicStroke(4));
-        g.drawRect(SLEEP_ZONE_X, SLEEP_ZONE_Y, SLEEP_ZONE_WIDTH, SLEEP_ZONE_HEIGHT);
+        g.setColor(zone.getBorderColor());
+        g.setStroke(STROKE_4);
+        g.drawRect(x, y, width, height);
         
         // Draw prompt text
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 32));
-        String prompt = "Press E to Sleep";
+        g.setFont(ZONE_PROMPT_FONT);
+        String prompt = zone.getPrompt();
         int promptWidth = g.getFontMetrics().stringWidth(prompt);
-        int promptX = SLEEP_ZONE_X + (SLEEP_ZONE_WIDTH - promptWidth) / 2;
-        int promptY = SLEEP_ZONE_Y + SLEEP_ZONE_HEIGHT / 2;
-        g.drawString(prompt, promptX, promptY);
+        g.drawString(prompt, x + (width - promptWidth) / 2, y + height / 2);
     }
     
     /**
@@ -798,54 +1098,6 @@ public class GamePanel extends JPanel implements ActionListener {
         return inSleepZone;
     }
     
-    /**
-     * Checks if the player is in the stock trading zone (specific area in Office cubicle).
-     */
-    private void checkStockTradingZone() {
-        Player player = playerMovementUseCase.getPlayer();
-        Zone currentZone = gameMap.getCurrentZone();
-        
-        // Only check if in Office zone
-        if (!"Office (Your Cubicle)".equals(currentZone.getName())) {
-            inStockTradingZone = false;
-            return;
-        }
-        
-        double playerX = player.getX();
-        double playerY = player.getY();
-        
-        // Check if player is within stock trading zone bounds
-        inStockTradingZone = playerX >= STOCK_TRADING_ZONE_X &&
-                             playerX <= STOCK_TRADING_ZONE_X + STOCK_TRADING_ZONE_WIDTH &&
-                             playerY >= STOCK_TRADING_ZONE_Y &&
-                             playerY <= STOCK_TRADING_ZONE_Y + STOCK_TRADING_ZONE_HEIGHT;
-    }
-    
-    /**
-     * Draws the stock trading zone indicator and prompt.
-     *
-     * @param g the Graphics2D context
-     */
-    private void drawStockTradingZone(Graphics2D g) {
-        // Draw semi-transparent overlay
-        g.setColor(new Color(50, 255, 50, 77));  // Light green with 30% opacity
-        g.fillRect(STOCK_TRADING_ZONE_X, STOCK_TRADING_ZONE_Y, STOCK_TRADING_ZONE_WIDTH, STOCK_TRADING_ZONE_HEIGHT);
-        
-        // Draw border
-        g.setColor(new Color(50, 255, 50, 200));
-        g.setStroke(new BasicStroke(4));
-        g.drawRect(STOCK_TRADING_ZONE_X, STOCK_TRADING_ZONE_Y, STOCK_TRADING_ZONE_WIDTH, STOCK_TRADING_ZONE_HEIGHT);
-        
-        // Draw prompt text
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 32));
-        String prompt = "Press E to Trade Stocks";
-        int promptWidth = g.getFontMetrics().stringWidth(prompt);
-        int promptX = STOCK_TRADING_ZONE_X + (STOCK_TRADING_ZONE_WIDTH - promptWidth) / 2;
-        int promptY = STOCK_TRADING_ZONE_Y + STOCK_TRADING_ZONE_HEIGHT / 2;
-        g.drawString(prompt, promptX, promptY);
-    }
-    
     /**
      * Checks if the player is currently in the stock trading zone.
      * @return true if in stock trading zone, false otherwise
@@ -854,54 +1106,6 @@ public class GamePanel extends JPanel implements ActionListener {
         return inStockTradingZone;
     }
     
-    /**
-     * Checks if the player is in the mailbox zone (bottom middle area in Home).
-     */
-    private void checkMailboxZone() {
-        Player player = playerMovementUseCase.getPlayer();
-        Zone currentZone = gameMap.getCurrentZone();
-        
-        // Only check if in Home zone
-        if (!"Home".equals(currentZone.getName())) {
-            inMailboxZone = false;
-            return;
-        }
-        
-        double playerX = player.getX();
-        double playerY = player.getY();
-        
-        // Check if player is within mailbox zone bounds
-        inMailboxZone = playerX >= MAILBOX_ZONE_X &&
-                        playerX <= MAILBOX_ZONE_X + MAILBOX_ZONE_WIDTH &&
-                        playerY >= MAILBOX_ZONE_Y &&
-                        playerY <= MAILBOX_ZONE_Y + MAILBOX_ZONE_HEIGHT;
-    }
-    
-    /**
-     * Draws the mailbox zone indicator and prompt.
-     *
-     * @param g the Graphics2D context
-     */
-    private void drawMailboxZone(Graphics2D g) {
-        // Draw semi-transparent overlay
-        g.setColor(new Color(255, 200, 100, 77));  // Light orange/yellow with 30% opacity
-        g.fillRect(MAILBOX_ZONE_X, MAILBOX_ZONE_Y, MAILBOX_ZONE_WIDTH, MAILBOX_ZONE_HEIGHT);
-        
-        // Draw border
-        g.setColor(new Color(255, 200, 100, 200));
-        g.setStroke(new BasicStroke(4));
-        g.drawRect(MAILBOX_ZONE_X, MAILBOX_ZONE_Y, MAILBOX_ZONE_WIDTH, MAILBOX_ZONE_HEIGHT);
-        
-        // Draw prompt text
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 32));
-        String prompt = "Press E to Check Bills";
-        int promptWidth = g.getFontMetrics().stringWidth(prompt);
-        int promptX = MAILBOX_ZONE_X + (MAILBOX_ZONE_WIDTH - promptWidth) / 2;
-        int promptY = MAILBOX_ZONE_Y + MAILBOX_ZONE_HEIGHT / 2;
-        g.drawString(prompt, promptX, promptY);
-    }
-    
     /**
      * Checks if the player is currently in the mailbox zone.
      * @return true if in mailbox zone, false otherwise
@@ -919,7 +1123,7 @@ public class GamePanel extends JPanel implements ActionListener {
         if (nearbyNPC == null) return;
 
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(NPC_PROMPT_FONT);
 
         String prompt = "Press E to talk to " + nearbyNPC.getName();
         int promptWidth = g.getFontMetrics().stringWidth(prompt);
@@ -927,7 +1131,7 @@ public class GamePanel extends JPanel implements ActionListener {
         int y = VIRTUAL_HEIGHT - 100;
 
         // Semi-transparent black background
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(PROMPT_BACKGROUND);
         g.fillRect(x - 20, y - 40, promptWidth + 40, 60);
 
         // White text
@@ -935,34 +1139,6 @@ public class GamePanel extends JPanel implements ActionListener {
         g.drawString(prompt, x, y);
     }
 
-    /**
-     * Checks if the player is near any NPC in the current zone.
-     */
-    private void checkNPCProximity() {
-        Player player = playerMovementUseCase.getPlayer();
-        Zone currentZone = gameMap.getCurrentZone();
-
-        if (currentZone == null) {
-            nearbyNPC = null;
-            return;
-        }
-
-        List<NPC> npcsInZone = npcDataAccess.getNPCsInZone(currentZone.getName());
-        nearbyNPC = null;
-
-        for (NPC npc : npcsInZone) {
-            double distance = Math.sqrt(
-                Math.pow(player.getX() - npc.getX(), 2) +
-                Math.pow(player.getY() - npc.getY(), 2)
-            );
-
-            if (distance < NPC_INTERACTION_RADIUS) {
-                nearbyNPC = npc;
-                break;
-            }
-        }
-    }
-
     /**
      * Gets the NPC that is currently near the player, if any.
      * @return the nearby NPC, or null if no NPC is nearby
@@ -988,12 +1164,12 @@ public class GamePanel extends JPanel implements ActionListener {
         Player player = playerMovementUseCase.getPlayer();
         
         // Draw semi-transparent background panel for HUD (scaled for 1920x1200)
-        g.setColor(new Color(0, 0, 0, 100));
+        g.setColor(HUD_BACKGROUND);
         g.fillRect(10, 10, 500, 180);  // Increased height for day and health
         
         // Draw position and balance text
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 28));  // Scaled up
+        g.setFont(HUD_FONT);  // Scaled up
         
         String positionText = String.format("Pos: (%.0f, %.0f)", player.getX(), player.getY());
         String balanceText = String.format("Balance: $%.2f", player.getBalance());
@@ -1010,16 +1186,16 @@ public class GamePanel extends JPanel implements ActionListener {
         drawHealthBar(g, 135, 150, 305, 20, player.getHealth());
         
         // Draw instructions at bottom (using virtual dimensions)
-        g.setColor(new Color(200, 200, 200));
-        g.setFont(new Font("Arial", Font.PLAIN, 24));  // Scaled up
+        g.setColor(INSTRUCTIONS_COLOR);
+        g.setFont(INSTRUCTIONS_FONT);  // Scaled up
         String instructionsText = "WASD: Move | ESC: Exit";
         int instructionWidth = g.getFontMetrics().stringWidth(instructionsText);
         g.drawString(instructionsText, VIRTUAL_WIDTH - instructionWidth - 20, VIRTUAL_HEIGHT - 20);
         
         // Draw movement state indicator
         if (playerMovementUseCase.isMoving()) {
-            g.setColor(new Color(0, 255, 0));
-            g.setFont(new Font("Arial", Font.BOLD, 24));  // Scaled up
+            g.setColor(MOVING_COLOR);
+            g.setFont(MOVING_FONT);  // Scaled up
             g.drawString("MOVING", VIRTUAL_WIDTH - 200, 50);
         }
     }
@@ -1036,230 +1212,25 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     private void drawHealthBar(Graphics2D g, int x, int y, int width, int height, int health) {
         // Background (red)
-        g.setColor(new Color(100, 0, 0));
+        g.setColor(HEALTH_BACKGROUND);
         g.fillRect(x, y, width, height);
         
         // Health fill (green)
         int fillWidth = (int) (width * (health / 100.0));
-        g.setColor(new Color(0, 200, 0));
+        g.setColor(HEALTH_FILL);
         g.fillRect(x, y, fillWidth, height);
         
         // Border
         g.setColor(Color.WHITE);
-        g.setStroke(new BasicStroke(2));
+        g.setStroke(STROKE_2);
         g.drawRect(x, y, width, height);
         
         // Health text
-        g.setFont(new Font("Arial", Font.BOLD, 16));
+        g.setFont(SMALL_FONT);
         String healthText = health + "/100";
         int textWidth = g.getFontMetrics().stringWidth(healthText);
         g.drawString(healthText, x + (width - textWidth) / 2, y + 15);
     }
-    
-    /**
-     * Preloads all background images for all zones in the game map.
-     * This prevents the brief flash of generic background during zone transitions.
-     * Loads images synchronously in a background thread to ensure they're ready.
-     */
-    private void preloadAllBackgroundImages() {
-        new Thread(() -> {
-            System.out.println("Preloading all background images...");
-            // Get all zone names from the GameMap
-            String[] zoneNames = {
-                "Home", "Subway Station 1", "Street 1", "Street 2",
-                "Grocery Store", "Subway Station 2", "Office (Your Cubicle)",
-                "Street 3", "Office Lobby"
-            };
-
-            for (String zoneName : zoneNames) {
-                Zone zone = gameMap.getZone(zoneName);
-                if (zone != null) {
-                    String imagePath = zone.getBackgroundImagePath();
-                    if (imagePath != null && !imagePath.isEmpty()) {
-                        // Only load if not already in cache
-                        if (!backgroundImageCache.containsKey(imagePath)) {
-                            try {
-                                InputStream imageStream = getClass().getResourceAsStream(imagePath);
-                                if (imageStream != null) {
-                                    BufferedImage image = ImageIO.read(imageStream);
-                                    imageStream.close();
-
-                                    if (image != null) {
-                                        backgroundImageCache.put(imagePath, image);
-                                        System.out.println("Preloaded: " + zoneName + " (" + imagePath + ")");
-                                    }
-                                }
-                            } catch (Exception e) {
-                                System.err.println("Failed to preload background for " + zoneName + ": " + e.getMessage());
-                            }
-                        }
-                    }
-                }
-            }
-            System.out.println("Background image preloading complete!");
-        }, "BackgroundPreloader").start();
-    }
-
-    /**
-     * Loads a background image from resources with caching.
-     * Async loading to prevent EDT freezing.
-     * Returns cached image immediately, or null if not yet loaded.
-     *
-     * @param imagePath the path to the image resource
-     * @return the loaded BufferedImage, or null if not yet loaded or failed
-     */
-    private BufferedImage loadBackgroundImage(String imagePath) {
-        if (imagePath == null || imagePath.isEmpty()) {
-            return null;
-        }
-
-        // Check cache first (fast path)
-        if (backgroundImageCache.containsKey(imagePath)) {
-            return backgroundImageCache.get(imagePath);
-        }
-
-        // If not in cache and not currently being loaded, start async load
-        if (imagesBeingLoaded.add(imagePath)) {
-            // Successfully added to loading set, start load in background
-            new Thread(() -> {
-                try {
-                    System.out.println("Async loading background image: " + imagePath);
-                    InputStream imageStream = getClass().getResourceAsStream(imagePath);
-
-                    if (imageStream == null) {
-                        System.err.println("Image stream is null for: " + imagePath);
-                        backgroundImageCache.put(imagePath, null);
-                        imagesBeingLoaded.remove(imagePath);
-                        return;
-                    }
-
-                    BufferedImage image = ImageIO.read(imageStream);
-                    imageStream.close();
-
-                    if (image != null) {
-                        backgroundImageCache.put(imagePath, image);
-                        System.out.println("Successfully loaded background image: " + imagePath +
-                                         " (size: " + image.getWidth() + "x" + image.getHeight() + ")");
-                        // Trigger a repaint to show the newly loaded image
-                        SwingUtilities.invokeLater(() -> repaint());
-                    } else {
-                        System.err.println("ImageIO.read returned null for: " + imagePath);
-                        backgroundImageCache.put(imagePath, null);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Failed to load background image: " + imagePath);
-                    System.err.println("Error: " + e.getClass().getName() + ": " + e.getMessage());
-                    e.printStackTrace();
-                    backgroundImageCache.put(imagePath, null);
-                } finally {
-                    imagesBeingLoaded.remove(imagePath);
-                }
-            }, "ImageLoader-" + imagePath.hashCode()).start();
-        }
-
-        // Return null for now - image will appear when loaded
-        return null;
-    }
-    
-    /**
-     * Loads an item sprite from resources with caching.
-     * Returns cached image immediately, or null if not found.
-     *
-     * @param itemName the name of the item
-     * @return the loaded BufferedImage, or null if not found
-     */
-    private BufferedImage loadItemSprite(String itemName) {
-        if (itemName == null || itemName.isEmpty()) {
-            return null;
-        }
-
-        // Check cache first
-        if (itemSpriteCache.containsKey(itemName)) {
-            return itemSpriteCache.get(itemName);
-        }
-
-        // Convert item name to sprite filename
-        String spritePath = getItemSpritePath(itemName);
-        if (spritePath == null) {
-            itemSpriteCache.put(itemName, null);
-            return null;
-        }
-
-        try {
-            InputStream imageStream = getClass().getResourceAsStream(spritePath);
-            if (imageStream == null) {
-                System.err.println("Item sprite not found: " + spritePath);
-                itemSpriteCache.put(itemName, null);
-                return null;
-            }
-
-            BufferedImage image = ImageIO.read(imageStream);
-            imageStream.close();
-
-            if (image != null) {
-                itemSpriteCache.put(itemName, image);
-                System.out.println("Loaded item sprite: " + itemName + " (" + spritePath + ")");
-            } else {
-                itemSpriteCache.put(itemName, null);
-            }
-            return image;
-        } catch (Exception e) {
-            System.err.println("Failed to load item sprite: " + spritePath + " - " + e.getMessage());
-            itemSpriteCache.put(itemName, null);
-            return null;
-        }
-    }
-
-    /**
-     * Maps item names to their sprite file paths.
-     *
-     * @param itemName the name of the item
-     * @return the resource path to the sprite, or null if no sprite exists
-     */
-    private String getItemSpritePath(String itemName) {
-        switch (itemName) {
-            case "Apple": return "/items/apple.png";
-            case "Coffee": return "/items/coffee.png";
-            case "Steak": return "/items/steak.png";
-            case "Energy Drink": return "/items/drink.png";
-            case "Focus Pill": return "/items/pill.png";
-            case "Sandwich": return "/items/sandwich.png";
-            case "Soda": return "/items/soda.png";
-            case "Chocolate Bar": return "/items/chocolate.png";
-            case "Old Book": return "/items/book.png";
-            case "Lucky Coin": return "/items/coin.png";
-            case "Cat Toy": return "/items/cat_toy.png";
-            case "Mystery Box": return "/items/box.png";
-            default: return null;
-        }
-    }
-
-    /**
-     * Checks if the player is near any world item in the current zone.
-     */
-    private void checkWorldItemProximity() {
-        if (worldItemDataAccess == null) {
-            nearbyWorldItem = null;
-            return;
-        }
-
-        Player player = playerMovementUseCase.getPlayer();
-        Zone currentZone = gameMap.getCurrentZone();
-        if (currentZone == null) {
-            nearbyWorldItem = null;
-            return;
-        }
-
-        List<WorldItem> items = worldItemDataAccess.getItemsInZone(currentZone.getName());
-        nearbyWorldItem = null;
-
-        for (WorldItem item : items) {
-            if (item.isInRange(player.getX(), player.getY(), ITEM_INTERACTION_RADIUS)) {
-                nearbyWorldItem = item;
-                break;
-            }
-        }
-    }
 
     /**
      * Draws world items in the current zone.
@@ -1278,25 +1249,20 @@ public class GamePanel extends JPanel implements ActionListener {
             int y = (int) worldItem.getY();
             Item item = worldItem.getItem();
 
-            // Try to load and draw sprite
-            BufferedImage sprite = loadItemSprite(item.getName());
-            if (sprite != null) {
-                // Draw sprite scaled to WORLD_ITEM_SIZE
-                g.drawImage(sprite, x, y, WORLD_ITEM_SIZE, WORLD_ITEM_SIZE, null);
-            } else {
+            if (!itemSprites.draw(g, item.getName(), WORLD_ITEM_SIZE, x, y)) {
                 // Fallback: draw colored square if no sprite available
                 Color itemColor = getItemColor(item.getType());
                 g.setColor(itemColor);
                 g.fillRect(x, y, WORLD_ITEM_SIZE, WORLD_ITEM_SIZE);
                 g.setColor(Color.BLACK);
-                g.setStroke(new BasicStroke(2));
+                g.setStroke(STROKE_2);
                 g.drawRect(x, y, WORLD_ITEM_SIZE, WORLD_ITEM_SIZE);
             }
 
             // Draw price tag for store items
             if (worldItem.isStoreItem()) {
                 g.setColor(Color.WHITE);
-                g.setFont(new Font("Arial", Font.BOLD, 16));
+                g.setFont(SMALL_FONT);
                 String priceText = "$" + item.getPrice();
                 int textWidth = g.getFontMetrics().stringWidth(priceText);
                 g.drawString(priceText, x + (WORLD_ITEM_SIZE - textWidth) / 2, y - 5);
@@ -1309,13 +1275,13 @@ public class GamePanel extends JPanel implements ActionListener {
      */
     private Color getItemColor(String type) {
         switch (type) {
-            case "Hunger": return new Color(255, 140, 0);   // Orange
-            case "Energy": return new Color(255, 255, 0);   // Yellow
-            case "Mood": return new Color(255, 182, 193);   // Pink
-            case "Speed": return new Color(0, 255, 255);    // Cyan
-            case "Quest": return new Color(148, 0, 211);    // Purple
-            case "Special": return new Color(50, 205, 50);  // Lime green
-            default: return new Color(200, 200, 200);       // Gray
+            case "Hunger": return HUNGER_ITEM_COLOR;
+            case "Energy": return ENERGY_ITEM_COLOR;
+            case "Mood": return MOOD_ITEM_COLOR;
+            case "Speed": return SPEED_ITEM_COLOR;
+            case "Quest": return QUEST_ITEM_COLOR;
+            case "Special": return SPECIAL_ITEM_COLOR;
+            default: return DEFAULT_ITEM_COLOR;
         }
     }
 
@@ -1334,13 +1300,13 @@ public class GamePanel extends JPanel implements ActionListener {
             prompt = "Press E to pick up " + item.getName();
         }
 
-        g.setFont(new Font("Arial", Font.BOLD, 28));
+        g.setFont(HUD_FONT);
         int promptWidth = g.getFontMetrics().stringWidth(prompt);
         int x = (VIRTUAL_WIDTH - promptWidth) / 2;
         int y = VIRTUAL_HEIGHT - 180;
 
         // Semi-transparent black background
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(PROMPT_BACKGROUND);
         g.fillRect(x - 20, y - 30, promptWidth + 40, 50);
 
         // White text
@@ -1369,51 +1335,46 @@ public class GamePanel extends JPanel implements ActionListener {
 
             // Draw slot background
             if (i == selectedInventorySlot) {
-                g.setColor(new Color(100, 150, 255, 150));  // Highlighted
+                g.setColor(SELECTED_SLOT_FILL);  // Highlighted
             } else {
-                g.setColor(new Color(50, 50, 50, 180));  // Normal
+                g.setColor(SLOT_FILL);  // Normal
             }
             g.fillRect(slotX, slotY, INVENTORY_SLOT_SIZE, INVENTORY_SLOT_SIZE);
 
             // Draw slot border
             if (i == selectedInventorySlot) {
-                g.setColor(new Color(100, 150, 255));
-                g.setStroke(new BasicStroke(4));
+                g.setColor(SELECTED_SLOT_BORDER);
+                g.setStroke(STROKE_4);
             } else {
                 g.setColor(Color.GRAY);
-                g.setStroke(new BasicStroke(2));
+                g.setStroke(STROKE_2);
             }
             g.drawRect(slotX, slotY, INVENTORY_SLOT_SIZE, INVENTORY_SLOT_SIZE);
 
             // Draw slot number
             g.setColor(Color.WHITE);
-            g.setFont(new Font("Arial", Font.BOLD, 16));
+            g.setFont(SMALL_FONT);
             g.drawString(String.valueOf(slotKey), slotX + 5, slotY + 18);
 
             // Draw item if present
             if (item != null) {
-                int itemSize = INVENTORY_SLOT_SIZE - 20;
+                int itemSize = INVENTORY_ITEM_SIZE;
                 int itemX = slotX + 10;
                 int itemY = slotY + 10;
 
-                // Try to load and draw sprite
-                BufferedImage sprite = loadItemSprite(item.getName());
-                if (sprite != null) {
-                    // Draw sprite scaled to fit inventory slot
-                    g.drawImage(sprite, itemX, itemY, itemSize, itemSize, null);
-                } else {
+                if (!itemSprites.draw(g, item.getName(), INVENTORY_ITEM_SIZE, itemX, itemY)) {
                     // Fallback: draw colored square if no sprite available
                     Color itemColor = getItemColor(item.getType());
                     g.setColor(itemColor);
                     g.fillRect(itemX, itemY, itemSize, itemSize);
                     g.setColor(Color.BLACK);
-                    g.setStroke(new BasicStroke(1));
+                    g.setStroke(STROKE_1);
                     g.drawRect(itemX, itemY, itemSize, itemSize);
                 }
 
                 // Draw item name (abbreviated)
                 g.setColor(Color.WHITE);
-                g.setFont(new Font("Arial", Font.PLAIN, 12));
+                g.setFont(ITEM_NAME_FONT);
                 String name = item.getName();
                 if (name.length() > 8) {
                     name = name.substring(0, 7) + "..";
@@ -1429,7 +1390,7 @@ public class GamePanel extends JPanel implements ActionListener {
             Item selectedItem = inventory.get(slotKey);
             if (selectedItem != null && nearbyNPC == null && nearbyWorldItem == null && !inSleepZone && !inStockTradingZone) {
                 g.setColor(Color.WHITE);
-                g.setFont(new Font("Arial", Font.BOLD, 20));
+                g.setFont(LABEL_FONT);
                 String usePrompt = "Press E to use " + selectedItem.getName();
                 int promptWidth = g.getFontMetrics().stringWidth(usePrompt);
                 g.drawString(usePrompt, (VIRTUAL_WIDTH - promptWidth) / 2, startY - 15);
@@ -1455,7 +1416,9 @@ public class GamePanel extends JPanel implements ActionListener {
         // by synchronizing it with the loaded map's current zone
         if (newGameMap != null && newGameMap.getCurrentZone() != null) {
             String zoneName = newGameMap.getCurrentZone().getName();
-            gameMap.setCurrentZone(zoneName);
+            synchronized (simulationLock) {
+                gameMap.setCurrentZone(zoneName);
+            }
         }
 
         // Repaint to reflect any changes
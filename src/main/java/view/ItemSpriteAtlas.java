@@ -0,0 +1,220 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Every item sprite packed into one image per screen scale, pre-scaled to the pixel size each
+ * item size covers on screen.
+ *
+ * The sprites are decoded once. For each scale they are drawn at (the panel's virtual-to-screen
+ * scale, times the display's own scale on HiDPI screens) they are scaled down in halving steps
+ * (a single bilinear step from a large source to 40px aliases badly) and laid out in shelves of
+ * equal height. Drawing an item then resets the transform and copies a region of that image
+ * pixel for pixel, which Java2D can keep in video memory as a single texture, instead of a
+ * bilinear draw of a separate image per item. A sheet is rebuilt when the viewport is resized;
+ * the last two are kept, as the panel's static layer and the screen can differ in scale.
+ */
+class ItemSpriteAtlas {
+    static final int MAX_WIDTH = 1024;
+    private static final int MAX_SHEETS = 2;
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    private final int[] sizes;
+    private final GraphicsConfiguration config;
+    // name -> decoded sprite, sorted so the layout does not depend on hash order
+    private final Map<String, BufferedImage> sprites = new TreeMap<>();
+
+    // device scale -> packed sprites (guarded by this)
+    private final Map<Double, Sheet> sheets = new LinkedHashMap<>(4, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Double, Sheet> eldest) {
+            return size() > MAX_SHEETS;
+        }
+    };
+
+    /**
+     * Builds an atlas from sprite resources.
+     * @param spritePaths item name -> resource path of its sprite
+     * @param sizes the square sizes the sprites are drawn at, in the coordinates they are drawn in
+     * @param config the screen configuration to build the atlas for (may be null)
+     */
+    ItemSpriteAtlas(Map<String, String> spritePaths, int[] sizes, GraphicsConfiguration config) {
+        this(spritePaths, sizes, config, ItemSpriteAtlas::readResource);
+    }
+
+    ItemSpriteAtlas(Map<String, String> spritePaths, int[] sizes, GraphicsConfiguration config,
+                    Function<String, BufferedImage> decoder) {
+        this.sizes = sizes.clone();
+        this.config = config;
+        for (Map.Entry<String, String> entry : spritePaths.entrySet()) {
+            BufferedImage sprite = decoder.apply(entry.getValue());
+            if (sprite != null) {
+                sprites.put(entry.getKey(), sprite);
+            }
+        }
+    }
+
+    /**
+     * Draws an item's sprite.
+     *
+     * @param g the graphics to draw on, with any translation and uniform scale
+     * @param itemName the item
+     * @param size one of the sizes the atlas was built for
+     * @param x the left of the sprite
+     * @param y the top of the sprite
+     * @return false if the item has no sprite at that size, so the caller can draw a fallback
+     */
+    boolean draw(Graphics2D g, String itemName, int size, int x, int y) {
+        int index = indexOf(size);
+        if (itemName == null || !sprites.containsKey(itemName) || index < 0) {
+            return false;
+        }
+        AffineTransform transform = g.getTransform();
+        int type = transform.getType() & ~AffineTransform.TYPE_TRANSLATION;
+        if (type != AffineTransform.TYPE_IDENTITY && type != AffineTransform.TYPE_UNIFORM_SCALE) {
+            // rotated or stretched, let Java2D map the unscaled sheet
+            Sheet sheet = sheet(1.0);
+            Rectangle r = sheet.regions.get(itemName)[index];
+            g.drawImage(sheet.image, x, y, x + size, y + size, r.x, r.y, r.x + r.width, r.y + r.height, null);
+            return true;
+        }
+
+        double scale = transform.getScaleX();
+        Sheet sheet = sheet(scale);
+        Rectangle r = sheet.regions.get(itemName)[index];
+        int deviceX = (int) Math.round(transform.getTranslateX() + x * scale);
+        int deviceY = (int) Math.round(transform.getTranslateY() + y * scale);
+        // the clip is kept in device space, so it still applies
+        g.setTransform(IDENTITY);
+        try {
+            g.drawImage(sheet.image, deviceX, deviceY, deviceX + r.width, deviceY + r.height,
+                    r.x, r.y, r.x + r.width, r.y + r.height, null);
+        } finally {
+            g.setTransform(transform);
+        }
+        return true;
+    }
+
+    boolean contains(String itemName) {
+        return sprites.containsKey(itemName);
+    }
+
+    /**
+     * Gets the packed sprites for a scale, building them if needed.
+     * @param scale how many screen pixels one unit of the drawing coordinates covers
+     */
+    BufferedImage getImage(double scale) {
+        return sheet(scale).image;
+    }
+
+    private synchronized Sheet sheet(double scale) {
+        return sheets.computeIfAbsent(scale, this::pack);
+    }
+
+    /**
+     * Lays the sprites out in shelves, one or more rows of equal-sized cells per size.
+     */
+    private Sheet pack(double scale) {
+        Map<String, Rectangle[]> regions = new HashMap<>();   // name -> region per size
+        List<String> names = new ArrayList<>(sprites.keySet());
+        int width = 1;
+        int height = 0;
+        for (int s = 0; s < sizes.length; s++) {
+            int size = Math.max(1, (int) Math.round(sizes[s] * scale));
+            int perRow = Math.max(1, MAX_WIDTH / size);
+            int rows = (names.size() + perRow - 1) / perRow;
+            for (int i = 0; i < names.size(); i++) {
+                Rectangle region = new Rectangle((i % perRow) * size, height + (i / perRow) * size, size, size);
+                regions.computeIfAbsent(names.get(i), name -> new Rectangle[sizes.length])[s] = region;
+                width = Math.max(width, region.x + size);
+            }
+            height += rows * size;
+        }
+
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(width, Math.max(1, height), Transparency.TRANSLUCENT)
+                : new BufferedImage(width, Math.max(1, height), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            for (Map.Entry<String, BufferedImage> sprite : sprites.entrySet()) {
+                for (Rectangle region : regions.get(sprite.getKey())) {
+                    g.drawImage(downscale(sprite.getValue(), region.width), region.x, region.y,
+                            region.width, region.height, null);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return new Sheet(image, regions);
+    }
+
+    private int indexOf(int size) {
+        for (int i = 0; i < sizes.length; i++) {
+            if (sizes[i] == size) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Halves an image until it is less than twice the target size.
+     */
+    private static BufferedImage downscale(BufferedImage image, int size) {
+        while (image.getWidth() >= 2 * size && image.getHeight() >= 2 * size) {
+            BufferedImage half = new BufferedImage(image.getWidth() / 2, image.getHeight() / 2,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = half.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(image, 0, 0, half.getWidth(), half.getHeight(), null);
+            } finally {
+                g.dispose();
+            }
+            image = half;
+        }
+        return image;
+    }
+
+    private static final class Sheet {
+        final BufferedImage image;
+        final Map<String, Rectangle[]> regions;
+
+        Sheet(BufferedImage image, Map<String, Rectangle[]> regions) {
+            this.image = image;
+            this.regions = regions;
+        }
+    }
+
+    private static BufferedImage readResource(String path) {
+        try (InputStream stream = ItemSpriteAtlas.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                System.err.println("Item sprite not found: " + path);
+                return null;
+            }
+            return ImageIO.read(stream);
+        } catch (IOException e) {
+            System.err.println("Failed to load item sprite: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+}
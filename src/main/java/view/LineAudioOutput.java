@@ -0,0 +1,57 @@
+package view;
+
+import java.util.function.Function;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Plays through a Java Sound line.
+ */
+class LineAudioOutput implements AudioOutput {
+    private final Function<DataLine.Info, SourceDataLine> lineFinder;
+    private SourceDataLine line;
+
+    /**
+     * @param lineFinder finds a line supporting the given info, or returns null
+     */
+    LineAudioOutput(Function<DataLine.Info, SourceDataLine> lineFinder) {
+        this.lineFinder = lineFinder;
+    }
+
+    @Override
+    public boolean open(AudioFormat format, int bufferBytes) {
+        DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
+        line = lineFinder.apply(info);
+        if (line == null) {
+            System.err.println("No suitable audio output found, audio disabled");
+            return false;
+        }
+        try {
+            line.open(format, bufferBytes);
+            line.start();
+            System.out.println("Audio line opened: " + line.getLineInfo() + " (" + format + ")");
+            return true;
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Could not open audio line: " + e.getMessage());
+            line = null;
+            return false;
+        }
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        line.write(buffer, offset, length);
+    }
+
+    @Override
+    public void close() {
+        if (line != null) {
+            line.stop();
+            line.close();
+            line = null;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package view;
 
 import java.awt.CardLayout;
 import java.awt.Dimension;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.*;
 
@@ -52,8 +55,6 @@ import use_case.paybills.PaybillDataAccessInterface;
 import use_case.paybills.PaybillInputBoundary;
 import use_case.paybills.PaybillInteractor;
 import use_case.paybills.PaybillOutputBoundary;
-import use_case.save_progress.SaveProgressDataAccessInterface;
-import use_case.save_progress.SaveProgressInputData;
 import use_case.save_progress.SaveProgressInteractor;
 import use_case.sleep.SleepDataAccessInterface;
 import use_case.sleep.SleepInputBoundary;
@@ -113,11 +114,17 @@ public class MainGameWindow extends JFrame {
     private SaveProgressInteractor saveProgressInteractor;
     private SaveProgressController saveProgressController;
     private SaveProgressViewModel saveProgressViewModel;
+    private final Timer autosaveTimer;
 
     private LoadProgressInteractor loadProgressInteractor;
     private LoadProgressController loadProgressController;
     private LoadProgressViewModel loadProgressViewModel;
-    private static final String SAVE_FILE = "src/main/resources/saveFile.json";
+    private static final String SAVE_FILE = "src/main/resources/saveFile.sav";
+    // written by the autosave timer, so it never overwrites the player's own save
+    private static final String AUTOSAVE_FILE = "src/main/resources/autosave.sav";
+    // saves from before the binary format, still loaded if there is no newer save
+    private static final String LEGACY_SAVE_FILE = "src/main/resources/saveFile.json";
+    private static final int AUTOSAVE_INTERVAL_MS = 60_000;
 
     // Quest system components
     private QuestDataAccessObject questDataAccess;
@@ -153,18 +160,47 @@ public class MainGameWindow extends JFrame {
         // Initialize game settings
         this.gameSettings = new GameSettings();
 
-        // Initialize save/load system
-        SaveProgressDataAccessInterface saveDataAccess = new SaveFileUserDataAccessObject();
+        // Initialize save/load system: files are written and parsed on one I/O thread,
+        // and results come back to the event thread through the presenters
+        ThreadPoolExecutor saveLoadExecutor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "save-load-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        saveLoadExecutor.allowCoreThreadTimeOut(true);
+
+        SaveFileUserDataAccessObject saveDataAccess = new SaveFileUserDataAccessObject();
         this.saveProgressViewModel = new SaveProgressViewModel();
         SaveProgressPresenter savePresenter = new SaveProgressPresenter(saveProgressViewModel);
-        this.saveProgressInteractor = new SaveProgressInteractor(saveDataAccess, savePresenter);
+        this.saveProgressInteractor = new SaveProgressInteractor(saveDataAccess, savePresenter,
+                saveLoadExecutor, SwingUtilities::invokeLater);
         this.saveProgressController = new SaveProgressController(saveProgressInteractor);
+        saveProgressViewModel.addPropertyChangeListener(evt -> {
+            if (SaveProgressViewModel.SAVED.equals(evt.getPropertyName())) {
+                showSaveSucceeded();
+            } else if (SaveProgressViewModel.SAVE_FAILED.equals(evt.getPropertyName())) {
+                showSaveFailed();
+            }
+        });
 
         LoadProgressDataAccessInterface loadDataAccess = new LoadFileUserDataAccessObject();
         this.loadProgressViewModel = new LoadProgressViewModel();
         LoadProgressPresenter loadPresenter = new LoadProgressPresenter(loadProgressViewModel);
-        this.loadProgressInteractor = new LoadProgressInteractor(loadDataAccess, loadPresenter);
+        this.loadProgressInteractor = new LoadProgressInteractor(loadDataAccess, loadPresenter,
+                saveLoadExecutor, SwingUtilities::invokeLater);
         this.loadProgressController = new LoadProgressController(loadProgressInteractor);
+        loadProgressViewModel.addPropertyChangeListener(evt -> {
+            if (LoadProgressViewModel.LOADED.equals(evt.getPropertyName())) {
+                applyLoadedGame();
+            } else if (LoadProgressViewModel.LOAD_FAILED.equals(evt.getPropertyName())) {
+                showLoadFailed();
+            }
+        });
+
+        // Autosave while the game runs; unchanged saves are skipped by the writer
+        this.autosaveTimer = new Timer(AUTOSAVE_INTERVAL_MS, e -> autosave());
+        autosaveTimer.start();
 
 
         // Set up CardLayout for switching between views
@@ -410,7 +446,9 @@ public class MainGameWindow extends JFrame {
 
         // Set up world item interaction callbacks
         playerInputController.setWorldItemChecker(() -> gamePanel.getNearbyWorldItem());
-        playerInputController.setWorldItemActionListener((WorldItem worldItem) -> {
+        // The game loop thread reads the inventory and world items, so they are changed
+        // under the simulation lock
+        playerInputController.setWorldItemActionListener((WorldItem worldItem) -> gamePanel.runOnSimulation(() -> {
             Item item = worldItem.getItem();
             if (worldItem.isStoreItem()) {
                 // Handle store purchase
@@ -436,10 +474,10 @@ public class MainGameWindow extends JFrame {
                     System.out.println("Inventory full!");
                 }
             }
-        });
+        }));
 
         // Set up inventory item use callback
-        playerInputController.setInventoryUseListener((int slotIndex) -> {
+        playerInputController.setInventoryUseListener((int slotIndex) -> gamePanel.runOnSimulation(() -> {
             int slotKey = slotIndex + 1;  // Convert 0-4 to 1-5
             Item item = player.getInventory().get(slotKey);
             if (item != null) {
@@ -447,10 +485,10 @@ public class MainGameWindow extends JFrame {
                 System.out.println("Used " + item.getName());
                 gamePanel.setSelectedInventorySlot(-1);  // Deselect after use
             }
-        });
+        }));
 
         // Set up inventory item drop callback
-        playerInputController.setInventoryDropListener((int slotIndex) -> {
+        playerInputController.setInventoryDropListener((int slotIndex) -> gamePanel.runOnSimulation(() -> {
             int slotKey = slotIndex + 1;  // Convert 0-4 to 1-5
             Item item = player.getInventory().get(slotKey);
             if (item != null) {
@@ -466,7 +504,7 @@ public class MainGameWindow extends JFrame {
                 System.out.println("Dropped " + item.getName() + " at (" + dropX + ", " + dropY + ") in " + currentZone);
                 gamePanel.setSelectedInventorySlot(-1);  // Deselect after drop
             }
-        });
+        }));
 
         // Create sleep views
         this.daySummaryView = new DaySummaryView(sleepViewModel, viewManagerModel, cardPanel);
@@ -566,7 +604,8 @@ public class MainGameWindow extends JFrame {
         // Create Stock Game Interactor
         PlayStockGameInputBoundary stockGameInteractor = new PlayStockGameInteractor(
                 stockDataAccess,
-                stockGameView
+                stockGameView,
+                SwingGameClock::new
         );
 
         // Create Stock Trading Controller with API key
@@ -663,6 +702,17 @@ public class MainGameWindow extends JFrame {
         });
     }
 
+    /**
+     * Saves to the autosave file in the background while the game is running. Called by the
+     * autosave timer.
+     */
+    private void autosave() {
+        if (gamePanel == null || player == null || !gamePanel.isGameRunning()) {
+            return;
+        }
+        saveProgressController.autosave(gamePanel.captureSnapshot(player), AUTOSAVE_FILE);
+    }
+
     private void saveGameData(){
         if (gamePanel == null || player == null) {
             JOptionPane.showMessageDialog(
@@ -674,30 +724,28 @@ public class MainGameWindow extends JFrame {
             return;
         }
 
-        try {
-            // Get current zone name from the game map
-            String currentZone = gamePanel.getGameMap().getCurrentZone().getName();
+        // Copy the game state here and write it in the background; the presenter reports back
+        saveProgressController.saveGame(gamePanel.captureSnapshot(player), SAVE_FILE);
+    }
 
-            // Create input data and save the game using the interactor
-            saveProgressController.saveGame(player, SAVE_FILE, currentZone);
+    private void showSaveSucceeded() {
+        JOptionPane.showMessageDialog(
+                this,
+                "Game saved successfully, " + saveProgressViewModel.getPlayerName() + "!" +
+                        "\n Save Day: " + saveProgressViewModel.getCurrentDay() +
+                        "\n Last Save: " + saveProgressViewModel.getSaveDate(),
+                "Game Saved",
+                JOptionPane.INFORMATION_MESSAGE
+        );
+    }
 
-            JOptionPane.showMessageDialog(
-                    this,
-                    "Game saved successfully, " + saveProgressViewModel.getPlayerName() + "!" +
-                            "\n Save Day: " + saveProgressViewModel.getCurrentDay() +
-                            "\n Last Save: " + saveProgressViewModel.getSaveDate(),
-                    "Game Saved",
-                    JOptionPane.INFORMATION_MESSAGE
-            );
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(
-                    this,
-                    "Failed to save game: " + e.getMessage(),
-                    "Save Error",
-                    JOptionPane.ERROR_MESSAGE
-            );
-            e.printStackTrace();
-        }
+    private void showSaveFailed() {
+        JOptionPane.showMessageDialog(
+                this,
+                "Failed to save game: " + saveProgressViewModel.getError(),
+                "Save Error",
+                JOptionPane.ERROR_MESSAGE
+        );
     }
 
     /**
@@ -765,7 +813,7 @@ public class MainGameWindow extends JFrame {
             JButton giveItemBtn = new JButton("Give " + quest.getRequiredItemName());
             giveItemBtn.setBackground(new java.awt.Color(100, 200, 100));
 
-            giveItemBtn.addActionListener(e -> {
+            giveItemBtn.addActionListener(e -> gamePanel.runOnSimulation(() -> {
                 // Find and remove the item from player's inventory
                 java.util.Map<Integer, Item> inventory = player.getInventory();
                 Integer slotToRemove = null;
@@ -811,7 +859,7 @@ public class MainGameWindow extends JFrame {
 
                     System.out.println("Quest completed: " + quest.getId() + " - " + rewardMsg);
                 }
-            });
+            }));
 
             // Add quest info panel
             JPanel questPanel = new JPanel();
@@ -940,6 +988,36 @@ public class MainGameWindow extends JFrame {
     private void loadGameData() {
         // Check if save file exists
         java.io.File saveFile = new java.io.File(SAVE_FILE);
+        if (!saveFile.exists()) {
+            saveFile = new java.io.File(LEGACY_SAVE_FILE);
+        }
+
+        // Offer the autosave if it is newer than the player's own save
+        java.io.File autosaveFile = new java.io.File(AUTOSAVE_FILE);
+        if (autosaveFile.exists()) {
+            if (!saveFile.exists()) {
+                saveFile = autosaveFile;
+            } else if (autosaveFile.lastModified() > saveFile.lastModified()) {
+                Object[] options = {"Autosave", "Last Save"};
+                int choice = JOptionPane.showOptionDialog(
+                        this,
+                        "There is an autosave newer than your last save. Which one do you want to load?",
+                        "Load Game",
+                        JOptionPane.YES_NO_OPTION,
+                        JOptionPane.QUESTION_MESSAGE,
+                        null,
+                        options,
+                        options[0]
+                );
+                if (choice == JOptionPane.CLOSED_OPTION) {
+                    return;
+                }
+                if (choice == 0) {
+                    saveFile = autosaveFile;
+                }
+            }
+        }
+
         if (!saveFile.exists()) {
             JOptionPane.showMessageDialog(
                     this,
@@ -950,16 +1028,25 @@ public class MainGameWindow extends JFrame {
             return;
         }
 
-        try {
-            // Create a temporary GameMap for loading
-            GameMap tempGameMap = new GameMap();
-
-            Player loadedPlayer = loadProgressController.loadGame(tempGameMap, SAVE_FILE);
+        // Read the save into a fresh GameMap in the background; applyLoadedGame swaps it in
+        loadProgressController.loadGame(new GameMap(), saveFile.getPath());
+    }
 
+    /**
+     * Replaces the running game with the one just loaded. Called on the event thread once
+     * the save has been parsed, so the whole swap happens between two frames.
+     */
+    private void applyLoadedGame() {
+        Player loadedPlayer = loadProgressViewModel.getLoadedPlayer();
+        GameMap tempGameMap = loadProgressViewModel.getLoadedGameMap();
+        try {
             // If we haven't initialized the game panel yet, do it now
             if (gamePanel == null) {
                 initializeGamePanel(loadedPlayer, tempGameMap);
             } else {
+                // Hold the loop while the state is swapped; startGame resumes it
+                gamePanel.pauseGame();
+
                 // Replace the current player with the loaded player
                 this.player = loadedPlayer;
 
@@ -998,6 +1085,15 @@ public class MainGameWindow extends JFrame {
         }
     }
 
+    private void showLoadFailed() {
+        JOptionPane.showMessageDialog(
+                this,
+                "Failed to load game: " + loadProgressViewModel.getError(),
+                "Load Error",
+                JOptionPane.ERROR_MESSAGE
+        );
+    }
+
     /**
      * Saves settings and returns to main menu.
      */
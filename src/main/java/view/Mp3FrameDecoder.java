@@ -0,0 +1,105 @@
+package view;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.BitstreamException;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.JavaLayerException;
+import javazoom.jl.decoder.SampleBuffer;
+
+/**
+ * Decodes an MP3 held in memory one frame at a time into interleaved stereo samples.
+ *
+ * JLayer decodes every frame into the same SampleBuffer, and frames are copied straight
+ * into the caller's array, so decoding does not allocate per frame. Mono files are copied
+ * to both channels. The file can be rewound to loop it without reading the resource again.
+ */
+class Mp3FrameDecoder {
+    /** Samples per channel in the largest MP3 frame (MPEG-1 layer III). */
+    static final int MAX_FRAME_SAMPLES = 1152;
+
+    private final byte[] mp3;
+    private final Decoder decoder = new Decoder();
+    private Bitstream bitstream;
+
+    Mp3FrameDecoder(byte[] mp3) {
+        this.mp3 = mp3;
+        this.bitstream = new Bitstream(new ByteArrayInputStream(mp3));
+    }
+
+    /**
+     * Decodes the next frame.
+     *
+     * @param out receives the frame as interleaved stereo samples
+     * @param offset where in out to put the first sample (needs room for
+     *               {@value #MAX_FRAME_SAMPLES} stereo frames)
+     * @return the number of stereo frames decoded, or -1 at the end of the file
+     * @throws JavaLayerException if the file is not a valid MP3
+     */
+    int decodeFrame(short[] out, int offset) throws JavaLayerException {
+        Header header = bitstream.readFrame();
+        if (header == null) {
+            return -1;
+        }
+        try {
+            SampleBuffer output = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+            short[] samples = output.getBuffer();
+            int channels = decoder.getOutputChannels();
+            int frames = output.getBufferLength() / channels;
+            if (channels == 2) {
+                System.arraycopy(samples, 0, out, offset, frames * 2);
+            } else {
+                for (int i = 0; i < frames; i++) {
+                    out[offset + 2 * i] = samples[i];
+                    out[offset + 2 * i + 1] = samples[i];
+                }
+            }
+            return frames;
+        } finally {
+            bitstream.closeFrame();
+        }
+    }
+
+    /**
+     * @return the sample rate of the decoded frames (valid after the first frame)
+     */
+    int getSampleRate() {
+        return decoder.getOutputFrequency();
+    }
+
+    /**
+     * Goes back to the start of the file.
+     */
+    void rewind() {
+        close();
+        bitstream = new Bitstream(new ByteArrayInputStream(mp3));
+    }
+
+    void close() {
+        try {
+            bitstream.close();
+        } catch (BitstreamException e) {
+            // nothing to release for an in-memory stream
+        }
+    }
+
+    /**
+     * Reads a whole resource into memory.
+     *
+     * @param resourcePath the path of the resource
+     * @return the bytes of the resource
+     * @throws IOException if the resource is missing or cannot be read
+     */
+    static byte[] readResource(String resourcePath) throws IOException {
+        try (InputStream stream = Mp3FrameDecoder.class.getResourceAsStream(resourcePath)) {
+            if (stream == null) {
+                throw new IOException("Resource not found: " + resourcePath);
+            }
+            return stream.readAllBytes();
+        }
+    }
+}
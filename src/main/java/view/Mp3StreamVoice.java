@@ -0,0 +1,82 @@
+package view;
+
+import javazoom.jl.decoder.JavaLayerException;
+
+/**
+ * A voice that decodes an MP3 as it plays, optionally looping it.
+ *
+ * Frames are decoded into one reusable buffer and resampled to the mixer rate by linear
+ * interpolation. The last sample of each frame is carried over to the start of the buffer,
+ * so interpolation runs across frame boundaries and a loop restarts on the next sample
+ * without a gap.
+ */
+class Mp3StreamVoice implements AudioMixer.Voice {
+    private final Mp3FrameDecoder decoder;
+    private final boolean loop;
+    private final float gain;
+    // [carried-over frame, decoded frame...] as interleaved stereo
+    private final short[] frame = new short[(Mp3FrameDecoder.MAX_FRAME_SAMPLES + 1) * 2];
+    private int available = 1;
+    private double position = 1;
+    private double step = 1;
+
+    /**
+     * @param mp3 the encoded file
+     * @param loop whether to start over at the end
+     * @param gain the volume of this voice
+     */
+    Mp3StreamVoice(byte[] mp3, boolean loop, float gain) {
+        this.decoder = new Mp3FrameDecoder(mp3);
+        this.loop = loop;
+        this.gain = gain;
+    }
+
+    @Override
+    public boolean mix(float[] out, int frames) {
+        for (int i = 0; i < frames; i++) {
+            while (position >= available - 1) {
+                if (!decodeNextFrame()) {
+                    return false;
+                }
+            }
+            int index = (int) position;
+            float fraction = (float) (position - index);
+            int a = index * 2;
+            out[2 * i] += gain * (frame[a] + (frame[a + 2] - frame[a]) * fraction);
+            out[2 * i + 1] += gain * (frame[a + 1] + (frame[a + 3] - frame[a + 1]) * fraction);
+            position += step;
+        }
+        return true;
+    }
+
+    @Override
+    public void finished() {
+        decoder.close();
+    }
+
+    private boolean decodeNextFrame() {
+        // keep the last sample for interpolating into the new frame
+        int last = (available - 1) * 2;
+        short lastLeft = frame[last];
+        short lastRight = frame[last + 1];
+        try {
+            int decoded = decoder.decodeFrame(frame, 2);
+            if (decoded < 0 && loop) {
+                decoder.rewind();
+                decoded = decoder.decodeFrame(frame, 2);
+            }
+            if (decoded < 0) {
+                return false;
+            }
+            frame[0] = lastLeft;
+            frame[1] = lastRight;
+            position -= available - 1;
+            available = decoded + 1;
+            step = decoder.getSampleRate() / AudioMixer.SAMPLE_RATE;
+            return true;
+        } catch (JavaLayerException e) {
+            System.err.println("Error decoding audio: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package view;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The thread that decodes music ahead of playback.
+ *
+ * It keeps the ring of every {@link MusicStream} full (two while crossfading) and sleeps
+ * while they are; the mixer wakes it whenever it frees a chunk. The thread exits once no
+ * stream is left and is started again by the next one.
+ */
+class MusicDecoder {
+    private static final long IDLE_PARK_NANOS = 20_000_000L;
+
+    private final CopyOnWriteArrayList<MusicStream> streams = new CopyOnWriteArrayList<>();
+    private volatile Thread thread;
+
+    /**
+     * Starts decoding a stream ahead.
+     */
+    synchronized void add(MusicStream stream) {
+        streams.add(stream);
+        if (thread == null) {
+            thread = new Thread(this::run, "MusicDecoder");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY + 1);
+            thread.start();
+        } else {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Wakes the thread because a ring has room.
+     */
+    void wake() {
+        Thread decoderThread = thread;
+        if (decoderThread != null) {
+            LockSupport.unpark(decoderThread);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            boolean decoded = false;
+            for (MusicStream stream : streams) {
+                if (stream.isDone()) {
+                    streams.remove(stream);
+                    stream.close();
+                } else {
+                    decoded |= stream.fill();
+                }
+            }
+            synchronized (this) {
+                if (streams.isEmpty()) {
+                    thread = null;
+                    return;
+                }
+            }
+            if (!decoded) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+}
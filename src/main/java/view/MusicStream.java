@@ -0,0 +1,195 @@
+package view;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A music voice decoded ahead of playback.
+ *
+ * A {@link MusicDecoder} thread decodes the track into a ring of {@value #RING_CHUNKS}
+ * preallocated chunks while the mixer thread plays them, so a GC pause or a busy game loop
+ * eats into the read-ahead instead of underrunning the line. The ring has one producer and
+ * one consumer and needs no locks: each side only advances its own counter, and a chunk is
+ * only reused once the consumer has moved past it.
+ *
+ * The stream fades in when it starts and can fade out, so two streams crossfade when the
+ * music changes. It counts underruns (chunks the mixer wanted before they were decoded) and
+ * how long the first chunk took to arrive.
+ */
+class MusicStream implements AudioMixer.Voice {
+    static final int RING_CHUNKS = 16;    // about 370 ms of read-ahead
+
+    private final AudioMixer.Voice source;
+    private final MusicDecoder decoder;
+    private final float[][] chunks = new float[RING_CHUNKS][AudioMixer.FRAMES_PER_CHUNK * 2];
+    private final AtomicLong written = new AtomicLong();   // chunks decoded, advanced by the decoder
+    private final AtomicLong read = new AtomicLong();      // chunks played, advanced by the mixer
+    private volatile boolean sourceEnded;
+    private volatile boolean done;
+
+    // mixer thread only
+    private int readOffset;
+    private float gain;
+    private float gainStep;
+    private boolean started;
+
+    private volatile int fadeOutFrames = -1;   // requested by other threads
+    private volatile boolean fadingOut;
+    private volatile boolean stopped;
+    private final long createdNanos = System.nanoTime();
+    private volatile long startLatencyNanos = -1;
+    private volatile long underruns;
+
+    /**
+     * @param source the track (usually an {@link Mp3StreamVoice}), mixed only on the decoder thread
+     * @param decoder the thread that fills the ring
+     * @param fadeInFrames how long to fade in over, 0 to start at full volume
+     */
+    MusicStream(AudioMixer.Voice source, MusicDecoder decoder, int fadeInFrames) {
+        this.source = source;
+        this.decoder = decoder;
+        if (fadeInFrames > 0) {
+            gainStep = 1f / fadeInFrames;
+        } else {
+            gain = 1f;
+        }
+    }
+
+    /**
+     * Decodes into the free chunks of the ring. Called on the decoder thread.
+     *
+     * @return true if anything was decoded
+     */
+    boolean fill() {
+        boolean filled = false;
+        long w = written.get();
+        while (!sourceEnded && !done && w - read.get() < RING_CHUNKS) {
+            float[] chunk = chunks[(int) (w % RING_CHUNKS)];
+            Arrays.fill(chunk, 0f);
+            sourceEnded = !source.mix(chunk, AudioMixer.FRAMES_PER_CHUNK);
+            written.set(++w);   // publishes the chunk to the mixer
+            filled = true;
+        }
+        return filled;
+    }
+
+    /**
+     * @return true once the mixer is done with the stream and the decoder can drop it
+     */
+    boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Releases the decoder. Called on the decoder thread once the stream is done.
+     */
+    void close() {
+        source.finished();
+    }
+
+    @Override
+    public boolean mix(float[] out, int frames) {
+        if (stopped) {
+            return false;
+        }
+        int fade = fadeOutFrames;
+        if (fade >= 0) {
+            fadeOutFrames = -1;
+            if (fade == 0) {
+                return false;
+            }
+            gainStep = -gain / fade;
+        }
+
+        long r = read.get();
+        float[] chunk = chunks[(int) (r % RING_CHUNKS)];
+        for (int i = 0; i < frames; i++) {
+            if (readOffset == 0 && r == written.get()) {
+                if (sourceEnded) {
+                    return false;
+                }
+                if (started) {
+                    underruns++;
+                }
+                decoder.wake();
+                return true;   // the rest of this chunk is silent
+            }
+            if (!started) {
+                started = true;
+                startLatencyNanos = System.nanoTime() - createdNanos;
+            }
+            out[2 * i] += gain * chunk[readOffset];
+            out[2 * i + 1] += gain * chunk[readOffset + 1];
+            readOffset += 2;
+            if (readOffset == chunk.length) {
+                readOffset = 0;
+                read.set(++r);   // hands the chunk back to the decoder
+                chunk = chunks[(int) (r % RING_CHUNKS)];
+                decoder.wake();
+            }
+
+            if (gainStep != 0) {
+                gain += gainStep;
+                if (gain >= 1f) {
+                    gain = 1f;
+                    gainStep = 0;
+                } else if (gain <= 0f) {
+                    return false;   // faded out
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void finished() {
+        done = true;
+        decoder.wake();
+    }
+
+    /**
+     * Fades the stream out; it finishes once silent.
+     *
+     * @param frames how long to fade over, 0 to stop at the next chunk
+     */
+    void fadeOut(int frames) {
+        fadingOut = true;
+        fadeOutFrames = Math.max(0, frames);
+    }
+
+    /**
+     * Stops the stream at the next chunk.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return false once the stream was stopped, faded out or reached its end
+     */
+    boolean isPlaying() {
+        return !stopped && !done && !fadingOut;
+    }
+
+    /**
+     * @return how many times playback caught up with decoding since the stream started
+     */
+    long getUnderruns() {
+        return underruns;
+    }
+
+    /**
+     * @return nanoseconds from creating the stream to playing its first chunk, -1 before that
+     */
+    long getStartLatencyNanos() {
+        return startLatencyNanos;
+    }
+
+    /**
+     * @return how much decoded audio is waiting to be played, in milliseconds
+     */
+    double getBufferedMillis() {
+        long chunksBuffered = written.get() - read.get();
+        return chunksBuffered * AudioMixer.FRAMES_PER_CHUNK * 1000.0 / AudioMixer.SAMPLE_RATE;
+    }
+}
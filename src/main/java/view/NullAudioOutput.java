@@ -0,0 +1,44 @@
+package view;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Discards everything, so audio can be decoded and mixed on machines without a sound card.
+ */
+class NullAudioOutput implements AudioOutput {
+    private final boolean realTime;
+    private Pacer pacer;
+    private long bytesWritten;
+
+    /**
+     * @param realTime whether writes take as long as playing them would; without it the
+     *                 mixer runs as fast as it can
+     */
+    NullAudioOutput(boolean realTime) {
+        this.realTime = realTime;
+    }
+
+    @Override
+    public boolean open(AudioFormat format, int bufferBytes) {
+        pacer = realTime ? new Pacer(format, bufferBytes) : null;
+        bytesWritten = 0;
+        return true;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        bytesWritten += length;
+        if (pacer != null) {
+            pacer.wrote(length);
+        }
+    }
+
+    @Override
+    public void close() {
+        pacer = null;
+    }
+
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+}
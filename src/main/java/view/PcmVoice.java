@@ -0,0 +1,71 @@
+package view;
+
+import java.util.Arrays;
+
+/**
+ * A voice playing samples decoded in advance, for short sound effects.
+ */
+class PcmVoice implements AudioMixer.Voice {
+    private final short[] samples;
+    private final float gain;
+    private final Runnable onComplete;
+    private int position;   // in samples, not frames
+
+    /**
+     * @param samples interleaved stereo samples at the mixer rate
+     * @param gain the volume of this voice
+     * @param onComplete run on the mixer thread when the voice is done (may be null)
+     */
+    PcmVoice(short[] samples, float gain, Runnable onComplete) {
+        this.samples = samples;
+        this.gain = gain;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public boolean mix(float[] out, int frames) {
+        int count = Math.min(frames * 2, samples.length - position);
+        for (int i = 0; i < count; i++) {
+            out[i] += gain * samples[position + i];
+        }
+        position += count;
+        return position < samples.length;
+    }
+
+    @Override
+    public void finished() {
+        if (onComplete != null) {
+            onComplete.run();
+        }
+    }
+
+    /**
+     * Decodes a whole MP3 into interleaved stereo samples at the mixer rate.
+     *
+     * @param mp3 the encoded file
+     * @return the samples
+     */
+    static short[] decode(byte[] mp3) {
+        Mp3StreamVoice voice = new Mp3StreamVoice(mp3, false, 1f);
+        float[] chunk = new float[AudioMixer.FRAMES_PER_CHUNK * 2];
+        short[] samples = new short[chunk.length * 16];
+        int length = 0;
+        boolean playing = true;
+        while (playing) {
+            Arrays.fill(chunk, 0f);
+            playing = voice.mix(chunk, AudioMixer.FRAMES_PER_CHUNK);
+            if (length + chunk.length > samples.length) {
+                samples = Arrays.copyOf(samples, samples.length * 2);
+            }
+            for (float sample : chunk) {
+                samples[length++] = (short) sample;
+            }
+        }
+        voice.finished();
+        // the last chunk is only partly filled, drop the silence after the end
+        while (length > 0 && samples[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(samples, length + (length & 1));
+    }
+}
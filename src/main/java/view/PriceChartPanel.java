@@ -0,0 +1,217 @@
+package view;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Stroke;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JComponent;
+
+/**
+ * Lightweight bar chart of the recent price history for the stock game.
+ *
+ * Bars are rendered into a back buffer. Appending prices only draws the new bars (scrolling
+ * the buffer with copyArea once the history is full) and repaints their strip; the whole chart
+ * is redrawn only when the y-range or the size changes.
+ */
+public class PriceChartPanel extends JComponent {
+    private static final String TITLE = "Stock Price History";
+    private static final Font TITLE_FONT = new Font("SansSerif", Font.BOLD, 14);
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color PLOT_BACKGROUND = new Color(235, 235, 235);
+    private static final Color BAR_FILL = new Color(52, 152, 219, 180); // Blue with transparency
+    private static final Color BAR_OUTLINE = new Color(41, 128, 185);   // Darker blue outline
+    private static final Stroke OUTLINE_STROKE = new BasicStroke(1f);
+    private static final double PADDING = 0.05;   // 5% padding above and below the prices
+    private static final double BAR_FILL_RATIO = 0.9;
+    private static final int MARGIN = 8;
+
+    private final PriceRingBuffer prices;
+
+    private BufferedImage buffer;
+    private boolean fullRedraw = true;
+    private long drawnCount;      // prices appended when the buffer was last brought up to date
+    private double axisMin;
+    private double axisMax;
+    private double rangeMin;      // range of the current prices, compared with the drawn axis
+    private double rangeMax;
+
+    // plot area inside the buffer
+    private int plotX;
+    private int plotY;
+    private int plotWidth;
+    private int plotHeight;
+    private int slotWidth;
+
+    /**
+     * Creates a chart over a price history.
+     * @param prices the history to draw, the caller appends to it and then calls pricesChanged
+     */
+    public PriceChartPanel(PriceRingBuffer prices) {
+        this.prices = prices;
+        setPreferredSize(new Dimension(400, 200));
+        setOpaque(true);
+    }
+
+    /**
+     * Tells the chart that prices were appended (or the history was cleared).
+     */
+    public void pricesChanged() {
+        if (buffer == null || prices.getAppendedCount() < drawnCount
+                || prices.getAppendedCount() - drawnCount >= prices.capacity()) {
+            fullRedraw = true;
+            repaint();
+            return;
+        }
+
+        computeRange();
+        if (rangeMin != axisMin || rangeMax != axisMax) {
+            fullRedraw = true;
+            repaint();
+            return;
+        }
+
+        // same scale: draw only the new bars
+        Graphics2D g = buffer.createGraphics();
+        try {
+            prepare(g);
+            boolean scrolled = false;
+            int firstSlot = -1;
+            while (drawnCount < prices.getAppendedCount()) {
+                drawnCount++;
+                int slot = (int) Math.min(drawnCount, prices.capacity()) - 1;
+                if (firstSlot < 0) {
+                    firstSlot = slot;
+                }
+                if (drawnCount > prices.capacity()) {
+                    // the history is full: move every bar one slot to the left
+                    g.copyArea(plotX + slotWidth, plotY, (prices.capacity() - 1) * slotWidth, plotHeight,
+                            -slotWidth, 0);
+                    scrolled = true;
+                }
+                int index = prices.size() - (int) (prices.getAppendedCount() - drawnCount) - 1;
+                clearSlot(g, slot);
+                drawBar(g, slot, prices.get(index));
+            }
+            if (scrolled) {
+                repaint(plotX, plotY, plotWidth, plotHeight);
+            } else if (firstSlot >= 0) {
+                // every slot from the first new bar to the last one
+                int lastSlot = prices.size() - 1;
+                repaint(plotX + firstSlot * slotWidth, plotY, (lastSlot - firstSlot + 1) * slotWidth, plotHeight);
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            buffer = config != null
+                    ? config.createCompatibleImage(width, height)
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            fullRedraw = true;
+        }
+        if (fullRedraw) {
+            renderAll();
+        }
+        g.drawImage(buffer, 0, 0, null);
+    }
+
+    private void renderAll() {
+        fullRedraw = false;
+        int width = buffer.getWidth();
+        int height = buffer.getHeight();
+        Graphics2D g = buffer.createGraphics();
+        try {
+            prepare(g);
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, width, height);
+
+            g.setFont(TITLE_FONT);
+            FontMetrics metrics = g.getFontMetrics();
+            g.setColor(Color.BLACK);
+            g.drawString(TITLE, (width - metrics.stringWidth(TITLE)) / 2, MARGIN + metrics.getAscent());
+
+            int capacity = prices.capacity();
+            int top = MARGIN * 2 + metrics.getHeight();
+            slotWidth = Math.max(1, (width - 2 * MARGIN) / capacity);
+            plotWidth = slotWidth * capacity;
+            plotX = (width - plotWidth) / 2;
+            plotY = top;
+            plotHeight = Math.max(1, height - top - MARGIN);
+
+            g.setColor(PLOT_BACKGROUND);
+            g.fillRect(plotX, plotY, plotWidth, plotHeight);
+
+            computeRange();
+            axisMin = rangeMin;
+            axisMax = rangeMax;
+            for (int i = 0; i < prices.size(); i++) {
+                drawBar(g, i, prices.get(i));
+            }
+            drawnCount = prices.getAppendedCount();
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static void prepare(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    private void clearSlot(Graphics2D g, int slot) {
+        g.setColor(PLOT_BACKGROUND);
+        g.fillRect(plotX + slot * slotWidth, plotY, slotWidth, plotHeight);
+    }
+
+    private void drawBar(Graphics2D g, int slot, double price) {
+        double fraction = axisMax > axisMin ? (price - axisMin) / (axisMax - axisMin) : 0.5;
+        int barHeight = (int) Math.round(Math.max(0, Math.min(1, fraction)) * plotHeight);
+        int barWidth = Math.max(1, (int) (slotWidth * BAR_FILL_RATIO));
+        int x = plotX + slot * slotWidth + (slotWidth - barWidth) / 2;
+        int y = plotY + plotHeight - barHeight;
+
+        g.setColor(BAR_FILL);
+        g.fillRect(x, y, barWidth, barHeight);
+        if (barWidth > 2) {
+            g.setColor(BAR_OUTLINE);
+            g.setStroke(OUTLINE_STROKE);
+            g.drawRect(x, y, barWidth - 1, Math.max(0, barHeight - 1));
+        }
+    }
+
+    /**
+     * Computes the y-axis range: the window's min and max with 5% padding (or 5% of the price when flat).
+     */
+    private void computeRange() {
+        if (prices.isEmpty()) {
+            rangeMin = 0;
+            rangeMax = 1;
+            return;
+        }
+        double min = prices.getMin();
+        double max = prices.getMax();
+        double padding = max > min ? (max - min) * PADDING : Math.abs(min) * PADDING;
+        if (padding == 0) {
+            padding = 1;
+        }
+        rangeMin = min - padding;
+        rangeMax = max + padding;
+    }
+}
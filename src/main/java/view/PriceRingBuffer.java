@@ -0,0 +1,103 @@
+package view;
+
+/**
+ * Fixed-capacity history of prices in a primitive ring buffer.
+ *
+ * Appending overwrites the oldest price once full. The minimum and maximum of the window
+ * are tracked with two monotonic queues of sequence numbers, so both are O(1) to read and
+ * amortized O(1) to maintain, and nothing is allocated after construction.
+ */
+public class PriceRingBuffer {
+    private final double[] values;
+    private final long[] minQueue;   // sequence numbers with increasing values
+    private final long[] maxQueue;   // sequence numbers with decreasing values
+    private int minHead;
+    private int minSize;
+    private int maxHead;
+    private int maxSize;
+    private long appended;           // sequence number of the next price
+
+    public PriceRingBuffer(int capacity) {
+        this.values = new double[capacity];
+        this.minQueue = new long[capacity];
+        this.maxQueue = new long[capacity];
+    }
+
+    /**
+     * Appends a price, dropping the oldest one if the buffer is full.
+     */
+    public void add(double price) {
+        long sequence = appended++;
+        values[(int) (sequence % values.length)] = price;
+        long oldest = appended - values.length;
+
+        // drop expired entries from the front, then dominated entries from the back
+        if (minSize > 0 && minQueue[minHead] < oldest) {
+            minHead = (minHead + 1) % minQueue.length;
+            minSize--;
+        }
+        while (minSize > 0 && valueAt(minQueue[(minHead + minSize - 1) % minQueue.length]) >= price) {
+            minSize--;
+        }
+        minQueue[(minHead + minSize++) % minQueue.length] = sequence;
+
+        if (maxSize > 0 && maxQueue[maxHead] < oldest) {
+            maxHead = (maxHead + 1) % maxQueue.length;
+            maxSize--;
+        }
+        while (maxSize > 0 && valueAt(maxQueue[(maxHead + maxSize - 1) % maxQueue.length]) <= price) {
+            maxSize--;
+        }
+        maxQueue[(maxHead + maxSize++) % maxQueue.length] = sequence;
+    }
+
+    private double valueAt(long sequence) {
+        return values[(int) (sequence % values.length)];
+    }
+
+    /**
+     * Gets the i-th price of the window, 0 being the oldest.
+     */
+    public double get(int i) {
+        return valueAt(appended - size() + i);
+    }
+
+    public double getLast() {
+        return valueAt(appended - 1);
+    }
+
+    public int size() {
+        return (int) Math.min(appended, values.length);
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return appended == 0;
+    }
+
+    /**
+     * Gets the total number of prices ever appended (used to tell when the window scrolled).
+     */
+    public long getAppendedCount() {
+        return appended;
+    }
+
+    public double getMin() {
+        return minSize == 0 ? Double.NaN : valueAt(minQueue[minHead]);
+    }
+
+    public double getMax() {
+        return maxSize == 0 ? Double.NaN : valueAt(maxQueue[maxHead]);
+    }
+
+    public void clear() {
+        appended = 0;
+        minHead = 0;
+        minSize = 0;
+        maxHead = 0;
+        maxSize = 0;
+    }
+}
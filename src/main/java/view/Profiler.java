@@ -0,0 +1,292 @@
+package view;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import use_case.game_loop.GameLoopTimings;
+
+/**
+ * Records how long each part of a frame takes, for the debug overlay and for traces.
+ *
+ * Every section has its own preallocated ring of the last {@value #CAPACITY} spans (start,
+ * duration and thread), so recording is two nanoTime() calls and a few array writes. While
+ * the profiler is disabled nothing is recorded at all. Every {@value #REFRESH_MILLIS} ms the
+ * overlay text is rebuilt from the rings with p50/p99 per section, the GC pauses and the
+ * allocation rate since the last refresh. The rings can be written out as a Chrome trace
+ * (chrome://tracing or Perfetto) for offline analysis.
+ */
+public class Profiler implements GameLoopTimings {
+    static final int CAPACITY = 1024;
+    static final long REFRESH_MILLIS = 250;
+
+    /**
+     * The parts of a frame that are timed.
+     */
+    public enum Section {
+        FRAME("frame"),
+        STEP("update"),
+        MOVEMENT("  movement"),
+        ZONE_TRANSITION("  zone transition"),
+        PROXIMITY("  proximity"),
+        RENDER("dirty regions"),
+        PAINT("paint");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    /** Lines of overlay text: one per section, GC and allocation. */
+    static final int OVERLAY_LINES = SECTIONS.length + 2;
+
+    private final SpanRing[] rings = new SpanRing[SECTIONS.length];
+    private final long[] scratch = new long[CAPACITY];   // for percentiles, used by refresh only
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean threads;
+
+    private volatile boolean enabled;
+    private volatile String[] overlayLines = new String[0];
+    private long lastRefreshNanos;
+    private long lastGcCount;
+    private long lastGcMillis;
+    // thread id -> bytes it had allocated at the last refresh, for the threads alive then
+    private Map<Long, Long> lastAllocatedBytes = new HashMap<>();
+
+    public Profiler() {
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new SpanRing();
+        }
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops recording. Spans recorded earlier are kept for export.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the start of a span, or 0 while disabled
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends a span started with {@link #begin()}.
+     */
+    public void end(Section section, long startNanos) {
+        if (startNanos != 0) {
+            record(section, startNanos, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records a span measured elsewhere.
+     */
+    public void record(Section section, long startNanos, long endNanos) {
+        if (enabled) {
+            rings[section.ordinal()].add(startNanos, endNanos - startNanos, Thread.currentThread().getId());
+        }
+    }
+
+    @Override
+    public void record(Phase phase, long startNanos, long endNanos) {
+        switch (phase) {
+            case MOVEMENT:
+                record(Section.MOVEMENT, startNanos, endNanos);
+                break;
+            case ZONE_TRANSITION:
+                record(Section.ZONE_TRANSITION, startNanos, endNanos);
+                break;
+            case PROXIMITY:
+                record(Section.PROXIMITY, startNanos, endNanos);
+                break;
+        }
+    }
+
+    /**
+     * Rebuilds the overlay text if it is due. Called once per frame by the loop thread.
+     *
+     * @param nowNanos System.nanoTime()
+     * @return true if the text changed and the overlay should be repainted
+     */
+    boolean refresh(long nowNanos) {
+        if (!enabled || nowNanos - lastRefreshNanos < REFRESH_MILLIS * 1_000_000L) {
+            return false;
+        }
+        double seconds = lastRefreshNanos == 0 ? 0 : (nowNanos - lastRefreshNanos) / 1e9;
+        lastRefreshNanos = nowNanos;
+
+        String[] lines = new String[OVERLAY_LINES];
+        for (Section section : SECTIONS) {
+            int count = rings[section.ordinal()].copyDurations(scratch);
+            Arrays.sort(scratch, 0, count);
+            lines[section.ordinal()] = String.format("%-18s p50 %6.2f ms  p99 %6.2f ms", section.label,
+                    percentile(scratch, count, 0.50) / 1e6, percentile(scratch, count, 0.99) / 1e6);
+        }
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        long allocated = allocatedSinceLastRefresh();
+        if (seconds > 0) {
+            lines[SECTIONS.length] = String.format("GC %d pauses, %d ms in %.1f s",
+                    gcCount - lastGcCount, gcMillis - lastGcMillis, seconds);
+            lines[SECTIONS.length + 1] = allocated >= 0
+                    ? String.format("allocating %.1f MB/s", allocated / seconds / 1e6)
+                    : "allocation rate not available";
+        } else {
+            lines[SECTIONS.length] = "GC -";
+            lines[SECTIONS.length + 1] = "allocating -";
+        }
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        overlayLines = lines;
+        return true;
+    }
+
+    /**
+     * @return the overlay text as of the last refresh
+     */
+    String[] getOverlayLines() {
+        return overlayLines;
+    }
+
+    /**
+     * Writes the recorded spans as a Chrome trace of complete ("X") events.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void exportChromeTrace(Path file) throws IOException {
+        long[] starts = new long[CAPACITY];
+        long[] durations = new long[CAPACITY];
+        long[] threadIds = new long[CAPACITY];
+        long origin = Long.MAX_VALUE;
+        for (SpanRing ring : rings) {
+            origin = Math.min(origin, ring.earliestStart());
+        }
+
+        JSONArray events = new JSONArray();
+        for (Section section : SECTIONS) {
+            int count = rings[section.ordinal()].copy(starts, durations, threadIds);
+            for (int i = 0; i < count; i++) {
+                JSONObject event = new JSONObject();
+                event.put("name", section.name().toLowerCase());
+                event.put("cat", "game");
+                event.put("ph", "X");
+                event.put("ts", (starts[i] - origin) / 1000.0);   // microseconds
+                event.put("dur", durations[i] / 1000.0);
+                event.put("pid", 1);
+                event.put("tid", threadIds[i]);
+                events.put(event);
+            }
+        }
+
+        JSONObject trace = new JSONObject();
+        trace.put("traceEvents", events);
+        trace.put("displayTimeUnit", "ms");
+        Files.writeString(file, trace.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sums what each thread allocated since the last refresh. Counted per thread, because a
+     * sum over the live threads drops when a pool thread times out and takes its bytes along.
+     * Threads started since then count everything they allocated.
+     *
+     * @return bytes allocated since the last refresh, or -1 if the JVM cannot tell
+     */
+    private long allocatedSinceLastRefresh() {
+        if (threads == null) {
+            return -1;
+        }
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        Map<Long, Long> current = new HashMap<>();
+        long total = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] < 0) {
+                continue;   // the thread died in between
+            }
+            total += Math.max(0, allocated[i] - lastAllocatedBytes.getOrDefault(ids[i], 0L));
+            current.put(ids[i], allocated[i]);
+        }
+        lastAllocatedBytes = current;
+        return total;
+    }
+
+    private static long percentile(long[] sorted, int count, double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        return sorted[Math.min(count - 1, (int) Math.ceil(fraction * count) - 1)];
+    }
+
+    /**
+     * The last {@value Profiler#CAPACITY} spans of one section. Usually written by a single
+     * thread and read by another, so the methods are synchronized; they do not allocate.
+     */
+    private static class SpanRing {
+        private final long[] starts = new long[CAPACITY];
+        private final long[] durations = new long[CAPACITY];
+        private final long[] threadIds = new long[CAPACITY];
+        private int next;
+        private int count;
+
+        synchronized void add(long start, long duration, long threadId) {
+            starts[next] = start;
+            durations[next] = duration;
+            threadIds[next] = threadId;
+            next = (next + 1) % CAPACITY;
+            count = Math.min(count + 1, CAPACITY);
+        }
+
+        synchronized int copyDurations(long[] out) {
+            System.arraycopy(durations, 0, out, 0, count);
+            return count;
+        }
+
+        synchronized int copy(long[] outStarts, long[] outDurations, long[] outThreadIds) {
+            System.arraycopy(starts, 0, outStarts, 0, count);
+            System.arraycopy(durations, 0, outDurations, 0, count);
+            System.arraycopy(threadIds, 0, outThreadIds, 0, count);
+            return count;
+        }
+
+        synchronized long earliestStart() {
+            long earliest = Long.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                earliest = Math.min(earliest, starts[i]);
+            }
+            return earliest;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Zone backgrounds pre-scaled to the current viewport size.
+ *
+ * Scaling a full 1920x1200 image on every frame is the most expensive part of painting the
+ * game, so each background is scaled once, off the EDT, into an image compatible with the
+ * screen (which Java2D keeps accelerated). Painting then only copies pixels. An image is
+ * rebuilt only when the viewport size or the zone changes; until it is ready the caller
+ * keeps scaling the original image itself.
+ */
+class ScaledBackgroundCache {
+    private static final int MAX_ENTRIES = 3;  // current zone plus the ones next to it
+
+    private final Runnable onImageReady;
+    private final ThreadPoolExecutor scaler;
+    // last requested build, so a burst of resizes only scales the final size
+    private final AtomicReference<String> pendingKey = new AtomicReference<>();
+    private volatile String failedKey;  // not retried every frame, the caller keeps scaling instead
+
+    // path -> scaled image, all at width x height (guarded by this)
+    private final Map<String, BufferedImage> images = new LinkedHashMap<>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private int width;
+    private int height;
+
+    /**
+     * Creates an empty cache.
+     * @param onImageReady called from the scaler thread when a new image can be drawn
+     */
+    ScaledBackgroundCache(Runnable onImageReady) {
+        this.onImageReady = onImageReady;
+        this.scaler = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "BackgroundScaler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // the thread goes away while nothing is resized, so idle panels hold no thread
+        this.scaler.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets a background scaled to the given size, scheduling the scaling if it is not ready yet.
+     *
+     * @param path the resource path of the background, used as the key
+     * @param source the original image
+     * @param width the viewport width
+     * @param height the viewport height
+     * @param config the screen configuration to build the image for (may be null)
+     * @return the scaled image, or null if it is still being built
+     */
+    BufferedImage get(String path, BufferedImage source, int width, int height, GraphicsConfiguration config) {
+        synchronized (this) {
+            if (width != this.width || height != this.height) {
+                // every cached image has the wrong size now
+                images.clear();
+                this.width = width;
+                this.height = height;
+            }
+            BufferedImage image = images.get(path);
+            if (image != null) {
+                return image;
+            }
+        }
+
+        String key = path + '@' + width + 'x' + height;
+        if (!key.equals(failedKey) && !key.equals(pendingKey.getAndSet(key))) {
+            scaler.execute(() -> build(key, path, source, width, height, config));
+        }
+        return null;
+    }
+
+    /**
+     * Drops every scaled image (e.g. while the game is not shown).
+     */
+    synchronized void clear() {
+        images.clear();
+        pendingKey.set(null);
+    }
+
+    private void build(String key, String path, BufferedImage source, int width, int height,
+                       GraphicsConfiguration config) {
+        if (!key.equals(pendingKey.get())) {
+            return;  // superseded by a later resize or zone change
+        }
+        try {
+            BufferedImage image = config != null
+                    ? config.createCompatibleImage(width, height, source.getTransparency())
+                    : new BufferedImage(width, height, source.getTransparency() == Transparency.OPAQUE
+                            ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+
+            synchronized (this) {
+                if (width != this.width || height != this.height) {
+                    return;  // resized while scaling
+                }
+                images.put(path, image);
+            }
+            onImageReady.run();
+        } catch (RuntimeException | OutOfMemoryError e) {
+            failedKey = key;
+            System.err.println("Failed to scale background " + path + " to " + width + "x" + height
+                    + ": " + e.getMessage());
+        } finally {
+            pendingKey.compareAndSet(key, null);
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package view;
 
 import java.awt.BorderLayout;
-import java.awt.Color;
 import java.awt.Font;
 import java.awt.GridLayout;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -13,15 +10,10 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
-import javax.swing.Timer;
-
-import org.knowm.xchart.CategoryChart;
-import org.knowm.xchart.CategoryChartBuilder;
-import org.knowm.xchart.XChartPanel;
-import org.knowm.xchart.style.Styler;
 
 import entity.Portfolio;
 import entity.Stock;
+import use_case.stock_game.GameClock;
 import use_case.stock_game.PlayStockGameOutputBoundary;
 import use_case.stock_game.PlayStockGameOutputData;
 
@@ -38,8 +30,7 @@ public class StockGameView implements PlayStockGameOutputBoundary {
     private JLabel sharesLabel;
     private JLabel equityLabel;
 
-    private CategoryChart chart;
-    private XChartPanel<CategoryChart> chartPanel;
+    private PriceChartPanel chartPanel;
 
     private Portfolio portfolio;
     private Stock stock;
@@ -65,18 +56,18 @@ public class StockGameView implements PlayStockGameOutputBoundary {
     
     // view at the start of the game
     @Override
-    public void presentGameStart(Portfolio portfolio, Stock stock, Timer timer) {
+    public void presentGameStart(Portfolio portfolio, Stock stock, GameClock clock) {
         this.portfolio = portfolio;
         this.stock = stock;
         this.initialInvestment = portfolio.getCash();  // Store initial investment
 
         // Clear any old price history and add initial price
         viewModel.priceHistory.clear();
-        viewModel.lastPrice = stock.stockPrice;  // set initial price
-        viewModel.addPriceToHistory(stock.stockPrice);  // Add initial price to history
+        viewModel.lastPrice = stock.getStockPrice();  // set initial price
+        viewModel.addPriceToHistory(stock.getStockPrice());  // Add initial price to history
 
         buildUI();
-        timer.start();
+        clock.start();
     }
 
     // update the view after price is changed
@@ -88,7 +79,7 @@ public class StockGameView implements PlayStockGameOutputBoundary {
         viewModel.addPriceToHistory(data.price);
 
         // Update stock price so equity calculation uses current price
-        stock.stockPrice = data.price;
+        portfolio.updatePrice(stock, data.price);
 
         // set text
         priceLabel.setText("Price: " + String.format("%.2f", viewModel.price));
@@ -105,40 +96,15 @@ public class StockGameView implements PlayStockGameOutputBoundary {
     }
 
     private void updateChartData() {
-        // Convert queue to list for chart
-        List<Double> prices = new ArrayList<>(viewModel.priceHistory);
-
-        // Don't update if no price data yet
-        if (prices.isEmpty()) {
-            return;
-        }
-
-        // Create x-axis data (time indices)
-        List<Integer> xData = new ArrayList<>();
-        for (int i = 0; i < prices.size(); i++) {
-            xData.add(i);
-        }
-
-        // Calculate min and max prices for dynamic y-axis
-        double minPrice = prices.stream().min(Double::compare).orElse(0.0);
-        double maxPrice = prices.stream().max(Double::compare).orElse(100.0);
-
-        // Add 5% padding to top and bottom for better visualization
-        double range = maxPrice - minPrice;
-        double padding = range * 0.05;
-        chart.getStyler().setYAxisMin(minPrice - padding);
-        chart.getStyler().setYAxisMax(maxPrice + padding);
-
-        // Update chart series
-        chart.updateCategorySeries("Price", xData, prices, null);
-        chartPanel.repaint();
+        // the chart only draws the new bar unless the y-range changed
+        chartPanel.pricesChanged();
     }
 
     // end of game view
     @Override
     public void presentGameOver(PlayStockGameOutputData data) {
         // Auto-sell all shares at current price before calculating final equity
-        stock.stockPrice = data.price;
+        portfolio.updatePrice(stock, data.price);
         if (portfolio.getShares(stock) > 0) {
             portfolio.sell(stock);
         }
@@ -205,49 +171,8 @@ public class StockGameView implements PlayStockGameOutputBoundary {
         priceLabel = new JLabel("Price: 0", SwingConstants.CENTER);
         priceLabel.setFont(new Font("Arial", Font.BOLD, 26));
 
-        // Create chart for price history
-        chart = new CategoryChartBuilder()
-                .width(400)
-                .height(200)
-                .title("Stock Price History")
-                .xAxisTitle("")
-                .yAxisTitle("")
-                .build();
-
-        // Style the chart to look like candlesticks
-        chart.getStyler().setLegendPosition(Styler.LegendPosition.InsideNE);
-        chart.getStyler().setXAxisTicksVisible(false); // Hide x-axis ticks
-        chart.getStyler().setLabelsVisible(false); // Remove x-axis labels
-        chart.getStyler().setYAxisTicksVisible(false); // Remove y-axis labels
-        chart.getStyler().setAvailableSpaceFill(0.9); // Make bars wider (90% of space)
-        chart.getStyler().setOverlapped(true); // Allow bars to be close together
-
-        // Initialize with initial price from history (or placeholder if empty)
-        List<Integer> xData = new ArrayList<>();
-        List<Double> yData = new ArrayList<>();
-        if (!viewModel.priceHistory.isEmpty()) {
-            // Use actual initial price
-            List<Double> prices = new ArrayList<>(viewModel.priceHistory);
-            for (int i = 0; i < prices.size(); i++) {
-                xData.add(i);
-            }
-            yData.addAll(prices);
-
-            // Set initial y-axis range based on initial price
-            double initialPrice = prices.get(0);
-            double padding = initialPrice * 0.05;
-            chart.getStyler().setYAxisMin(initialPrice - padding);
-            chart.getStyler().setYAxisMax(initialPrice + padding);
-        } else {
-            // Fallback to placeholder
-            xData.add(0);
-            yData.add(0.0);
-        }
-        chart.addSeries("Price", xData, yData)
-                .setFillColor(new Color(52, 152, 219, 180)); // Blue with transparency
-        chart.getStyler().setSeriesColors(new Color[]{new Color(41, 128, 185)}); // Darker blue outline
-
-        chartPanel = new XChartPanel<>(chart);
+        // Create chart for price history (bars drawn from the view model's ring buffer)
+        chartPanel = new PriceChartPanel(viewModel.priceHistory);
 
         cashLabel = new JLabel("Cash: 0");
         sharesLabel = new JLabel("Shares: 0");
@@ -267,7 +192,7 @@ public class StockGameView implements PlayStockGameOutputBoundary {
 
         buyButton.addActionListener(e -> {
             if (portfolio.getCash() > 0) {
-                stock.stockPrice = viewModel.price;
+                portfolio.updatePrice(stock, viewModel.price);
                 portfolio.buy(stock);
                 // Update labels immediately after buy
                 cashLabel.setText("Cash: " + String.format("%.2f", portfolio.getCash()));
@@ -279,7 +204,7 @@ public class StockGameView implements PlayStockGameOutputBoundary {
 
         sellButton.addActionListener(e -> {
             if (portfolio.getShares(stock) > 0) {
-                stock.stockPrice = viewModel.price;
+                portfolio.updatePrice(stock, viewModel.price);
                 portfolio.sell(stock);
                 // Update labels immediately after sell
                 cashLabel.setText("Cash: " + String.format("%.2f", portfolio.getCash()));
@@ -2,9 +2,6 @@ package view;
 
 import use_case.stock_game.PlayStockGameOutputData;
 
-import java.util.LinkedList;
-import java.util.Queue;
-
 public class StockGameViewModel {
 
     public static final int MAX_HISTORY_SIZE = 50;
@@ -16,7 +13,7 @@ public class StockGameViewModel {
 
     public double lastPrice; // to calculate next price and present green/red arrow
 
-    public Queue<Double> priceHistory = new LinkedList<>();
+    public final PriceRingBuffer priceHistory = new PriceRingBuffer(MAX_HISTORY_SIZE);
 
     public void update(PlayStockGameOutputData data) {
         this.price = data.price;
@@ -26,9 +23,6 @@ public class StockGameViewModel {
     }
 
     public void addPriceToHistory(double price) {
-        priceHistory.add(price);
-        if (priceHistory.size() > MAX_HISTORY_SIZE) {
-            priceHistory.poll(); // Remove oldest price
-        }
+        priceHistory.add(price); // the ring buffer drops the oldest price itself
     }
 }
\ No newline at end of file
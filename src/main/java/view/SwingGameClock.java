@@ -0,0 +1,36 @@
+package view;
+
+import javax.swing.Timer;
+
+import use_case.stock_game.GameClock;
+
+/**
+ * Game clock backed by a Swing timer, so ticks run on the event dispatch thread.
+ */
+public class SwingGameClock implements GameClock {
+    private final Timer timer;
+
+    public SwingGameClock(int intervalMs, Runnable onTick) {
+        this.timer = new Timer(intervalMs, e -> onTick.run());
+    }
+
+    @Override
+    public void start() {
+        timer.start();
+    }
+
+    @Override
+    public void stop() {
+        timer.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    @Override
+    public int getIntervalMs() {
+        return timer.getDelay();
+    }
+}
@@ -0,0 +1,104 @@
+package view;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Records everything into a 16-bit PCM WAV file instead of playing it.
+ *
+ * The header is written with empty sizes when the file is opened and filled in when it is
+ * closed, so the file is only complete after {@link #close()}.
+ */
+class WavFileAudioOutput implements AudioOutput {
+    private static final int HEADER_BYTES = 44;
+
+    private final Path file;
+    private final boolean realTime;
+    private FileChannel channel;
+    private Pacer pacer;
+    private long dataBytes;
+
+    /**
+     * @param file the file to write, replaced if it exists
+     * @param realTime whether writes take as long as playing them would
+     */
+    WavFileAudioOutput(Path file, boolean realTime) {
+        this.file = file;
+        this.realTime = realTime;
+    }
+
+    @Override
+    public boolean open(AudioFormat format, int bufferBytes) {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(header(format, 0));
+            dataBytes = 0;
+            pacer = realTime ? new Pacer(format, bufferBytes) : null;
+            System.out.println("Recording audio to " + file + " (" + format + ")");
+            return true;
+        } catch (IOException e) {
+            System.err.println("Could not open audio file: " + e.getMessage());
+            close();
+            return false;
+        }
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            ByteBuffer data = ByteBuffer.wrap(buffer, offset, length);
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            dataBytes += length;
+        } catch (IOException e) {
+            System.err.println("Could not write audio file, recording stopped: " + e.getMessage());
+            close();
+            return;
+        }
+        if (pacer != null) {
+            pacer.wrote(length);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            ByteBuffer sizes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            channel.write(sizes.putInt(0, (int) (HEADER_BYTES - 8 + dataBytes)), 4);
+            channel.write(sizes.putInt(0, (int) dataBytes).rewind(), HEADER_BYTES - 4);
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Could not finish audio file: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private static ByteBuffer header(AudioFormat format, int dataBytes) {
+        int channels = format.getChannels();
+        int sampleRate = (int) format.getSampleRate();
+        int frameSize = format.getFrameSize();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[] {'R', 'I', 'F', 'F'}).putInt(HEADER_BYTES - 8 + dataBytes);
+        header.put(new byte[] {'W', 'A', 'V', 'E'});
+        header.put(new byte[] {'f', 'm', 't', ' '}).putInt(16);
+        header.putShort((short) 1).putShort((short) channels);         // PCM
+        header.putInt(sampleRate).putInt(sampleRate * frameSize);
+        header.putShort((short) frameSize).putShort((short) format.getSampleSizeInBits());
+        header.put(new byte[] {'d', 'a', 't', 'a'}).putInt(dataBytes);
+        return header.flip();
+    }
+}
@@ -0,0 +1,48 @@
+package api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeriodIndexTest {
+
+    @Test
+    void testWindowsExcludePlayedPeriods() {
+        PeriodIndex index = new PeriodIndex("recent", 10,
+                List.of("recent_day1-5", "recent_day3-7_REPLAY", "2024-01_day2-6", "recent_day40-44"));
+
+        assertEquals(6, index.getWindowCount());
+        assertEquals(5, index.getUnplayedCount());
+        assertFalse(index.isUnplayed(1));
+        assertTrue(index.isUnplayed(3));
+    }
+
+    @Test
+    void testRandomSamplingOnlyReturnsUnplayedWindows() {
+        PeriodIndex index = new PeriodIndex("recent", 8, List.of());
+        Random random = new Random(42);
+        Set<Integer> seen = new HashSet<>();
+
+        while (index.getUnplayedCount() > 0) {
+            int start = index.randomUnplayedStart(random);
+            assertTrue(seen.add(start), "window " + start + " returned twice");
+            assertTrue(index.markPlayed(PeriodIndex.periodId("recent", start)));
+        }
+
+        assertEquals(Set.of(0, 1, 2, 3), seen);
+        assertEquals(-1, index.randomUnplayedStart(random));
+        assertFalse(index.markPlayed(2));
+    }
+
+    @Test
+    void testTooFewDaysHasNoWindows() {
+        PeriodIndex index = new PeriodIndex("recent", 3, List.of());
+        assertEquals(0, index.getWindowCount());
+        assertEquals(-1, index.randomUnplayedStart(new Random()));
+    }
+}
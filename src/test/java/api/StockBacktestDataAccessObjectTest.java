@@ -0,0 +1,58 @@
+package api;
+
+import org.junit.jupiter.api.Test;
+import use_case.stock_backtest.EquityDistribution;
+import use_case.stock_backtest.ScriptedStrategy;
+import use_case.stock_backtest.StockBacktestInputData;
+import use_case.stock_backtest.StockBacktestInteractor;
+import use_case.stock_backtest.StockBacktestOutputBoundary;
+import use_case.stock_backtest.StockBacktestOutputData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockBacktestDataAccessObjectTest {
+
+    private StockBacktestOutputData run(long seed) {
+        StockBacktestOutputData[] result = {null};
+        StockBacktestOutputBoundary presenter = new StockBacktestOutputBoundary() {
+            @Override public void presentResults(StockBacktestOutputData outputData) { result[0] = outputData; }
+            @Override public void presentError(String message) { fail("Unexpected error: " + message); }
+        };
+        new StockBacktestInteractor(new StockBacktestDataAccessObject(), presenter, new ForkJoinPool(4))
+                .execute(new StockBacktestInputData(List.of(ScriptedStrategy.BUY_AND_HOLD), 1000, 2, seed));
+        return result[0];
+    }
+
+    @Test
+    void testSimulatedIntradayPricesFollowTheGenerator() throws Exception {
+        StockBacktestDataAccessObject dao = new StockBacktestDataAccessObject();
+
+        // the bundled files are daily, so these prices are made up from each day's bar
+        Map<Integer, List<Double>> first = dao.getFiveDayPrices("KO", "recent", 0, new SplittableRandom(5));
+        Map<Integer, List<Double>> second = dao.getFiveDayPrices("KO", "recent", 0, new SplittableRandom(5));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testSameSeedGivesSameResultsOnBundledData() {
+        StockBacktestOutputData first = run(11);
+        StockBacktestOutputData second = run(11);
+
+        assertTrue(first.getWindowCount() > 0);
+        assertEquals(first.getBySymbol().keySet(), second.getBySymbol().keySet());
+        first.getBySymbol().forEach((symbol, byStrategy) -> byStrategy.forEach((strategy, a) -> {
+            EquityDistribution b = second.getBySymbol().get(symbol).get(strategy);
+            assertEquals(a.getCount(), b.getCount());
+            assertEquals(a.getMean(), b.getMean(), 1e-9, symbol);
+            assertEquals(a.getMin(), b.getMin(), 0.0, symbol);
+            assertEquals(a.getMax(), b.getMax(), 0.0, symbol);
+            assertEquals(a.getPercentile(50), b.getPercentile(50), 0.0, symbol);
+        }));
+    }
+}
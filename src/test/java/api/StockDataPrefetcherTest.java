@@ -0,0 +1,162 @@
+package api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockDataPrefetcherTest {
+
+    private static final String SERIES = "{ \"Time Series (Daily)\": { \"2024-02-05\": { \"1. open\": \"10\" } } }";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Queue<Integer> statusCodes = new ConcurrentLinkedQueue<>();
+    private final Queue<String> bodies = new ConcurrentLinkedQueue<>();
+
+    /** database pointed at the stub server that records saves instead of writing files */
+    static class RecordingDB extends AlphaStockDataBase {
+        final Map<String, String> saved = new ConcurrentHashMap<>();
+
+        RecordingDB(String baseUrl) { super("TEST_KEY", baseUrl); }
+
+        @Override
+        public void saveToStore(InputStream body, String filename) throws IOException {
+            // parse like the real store does, but keep the payload instead of writing files
+            byte[] json = body.readAllBytes();
+            TimeSeriesStreamParser.parse(new ByteArrayInputStream(json));
+            saved.put(filename, new String(json, StandardCharsets.UTF_8));
+        }
+    }
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/query", exchange -> {
+            requests.incrementAndGet();
+            Integer status = statusCodes.poll();
+            String json = bodies.poll();
+            byte[] body = (json == null ? SERIES : json).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/query";
+    }
+
+    @Test
+    void testFetchSavesResponse() throws Exception {
+        RecordingDB db = new RecordingDB(baseUrl());
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(db, 0, 25, 3, 1);
+
+        prefetcher.fetch("STUB").get(5, TimeUnit.SECONDS);
+
+        assertEquals(SERIES, db.saved.get("STUB_recent"));
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void testServerErrorIsRetried() throws Exception {
+        statusCodes.add(503);
+        statusCodes.add(503);
+        RecordingDB db = new RecordingDB(baseUrl());
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(db, 0, 25, 3, 1);
+
+        prefetcher.fetch("RETRY").get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, requests.get());
+        assertTrue(db.saved.containsKey("RETRY_recent"));
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void testThrottleNoteIsRetried() throws Exception {
+        bodies.add("{ \"Note\": \"Thank you for using Alpha Vantage! Please slow down.\" }");
+        RecordingDB db = new RecordingDB(baseUrl());
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(db, 0, 25, 3, 1);
+
+        prefetcher.fetch("NOTE").get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, requests.get());
+        assertEquals(SERIES, db.saved.get("NOTE_recent"));
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        for (int i = 0; i < 5; i++) statusCodes.add(500);
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(new RecordingDB(baseUrl()), 0, 25, 2, 1);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> prefetcher.fetch("FAIL").get(5, TimeUnit.SECONDS));
+        assertTrue(ex.getCause().getMessage().contains("500"));
+        assertEquals(2, requests.get());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void testRequestsAreSpacedByRateLimit() throws Exception {
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(new RecordingDB(baseUrl()), 150, 25, 1, 1);
+
+        long start = System.nanoTime();
+        CompletableFuture.allOf(prefetcher.fetch("A"), prefetcher.fetch("B"), prefetcher.fetch("C"))
+                .get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs >= 300, "three requests need at least two intervals, took " + elapsedMs + "ms");
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void testQuotaStopsFetching() {
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(new RecordingDB(baseUrl()), 0, 0, 1, 1);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> prefetcher.fetch("QUOTA").get(5, TimeUnit.SECONDS));
+        assertTrue(ex.getCause().getMessage().contains("quota"));
+        assertEquals(0, requests.get());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void testQuotaStartsOverTheNextDay() throws Exception {
+        ZoneId zone = ZoneId.of("UTC");
+        Instant[] now = {Instant.parse("2024-02-05T23:59:00Z")};
+        Clock clock = new Clock() {
+            @Override public ZoneId getZone() { return zone; }
+            @Override public Clock withZone(ZoneId ignored) { return this; }
+            @Override public Instant instant() { return now[0]; }
+        };
+        StockDataPrefetcher prefetcher = new StockDataPrefetcher(new RecordingDB(baseUrl()), 0, 1, 1, 1, clock);
+
+        prefetcher.fetch("DAY1").get(5, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> prefetcher.fetch("DAY1B").get(5, TimeUnit.SECONDS));
+
+        now[0] = Instant.parse("2024-02-06T00:01:00Z");
+        prefetcher.fetch("DAY2").get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, requests.get());
+        prefetcher.shutdown();
+    }
+}
@@ -0,0 +1,129 @@
+package api;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockPriceStoreTest {
+
+    private Path buildStore(String json) throws Exception {
+        Path dir = Files.createTempDirectory("price_store");
+        Path storePath = dir.resolve("TEST" + StockPriceStore.EXTENSION);
+        StockPriceStore.build(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), storePath, 0, 0);
+        return storePath;
+    }
+
+    @Test
+    void testDailyColumnsAreMostRecentDayFirst() throws Exception {
+        String json = """
+        {
+          "Time Series (Daily)": {
+            "2024-02-05": { "1. open": "10", "2. high": "20", "3. low": "5", "4. close": "15", "5. volume": "100" },
+            "2024-02-02": { "1. open": "13", "2. high": "23", "3. low": "8", "4. close": "18", "5. volume": "200" },
+            "2024-02-01": { "1. open": "14", "2. high": "24", "3. low": "9", "4. close": "19", "5. volume": "300" }
+          }
+        }
+        """;
+        StockPriceStore store = StockPriceStore.map(buildStore(json));
+
+        assertTrue(store.isDaily());
+        assertEquals(3, store.getDayCount());
+        int row = store.dayStart(0);
+        assertEquals(10.0, store.open(row));
+        assertEquals(20.0, store.high(row));
+        assertEquals(5.0, store.low(row));
+        assertEquals(15.0, store.close(row));
+        assertEquals(100.0, store.volume(row));
+        assertEquals(14.0, store.open(store.dayStart(2)));
+        assertArrayEquals(new double[]{19.0, 18.0, 15.0}, store.closes());
+    }
+
+    @Test
+    void testIntradayDaySlicesAreChronological() throws Exception {
+        String json = """
+        {
+          "Time Series (5min)": {
+            "2024-02-03 09:40:00": { "1. open": "12" },
+            "2024-02-03 09:30:00": { "1. open": "10" },
+            "2024-02-02 09:30:00": { "1. open": "7" },
+            "2024-02-03 09:35:00": { "1. open": "11" }
+          }
+        }
+        """;
+        StockPriceStore store = StockPriceStore.map(buildStore(json));
+
+        assertFalse(store.isDaily());
+        assertEquals(2, store.getDayCount());
+        assertArrayEquals(new double[]{10.0, 11.0, 12.0}, store.opensForDay(0));
+        assertArrayEquals(new double[]{7.0}, store.opensForDay(1));
+        assertTrue(Double.isNaN(store.close(store.dayStart(1))));
+    }
+
+    @Test
+    void testMissingTimeSeriesThrows() {
+        Exception ex = assertThrows(RuntimeException.class, () -> buildStore("{ \"Meta Data\": {} }"));
+        assertTrue(ex.getMessage().contains("No 'Time Series"));
+    }
+
+    @Test
+    void testConverterWritesStoreNextToJson() throws Exception {
+        Path dir = Files.createTempDirectory("price_store");
+        Files.writeString(dir.resolve("ABC_recent.json"), """
+        { "Time Series (Daily)": { "2024-02-05": { "1. open": "1", "2. high": "2", "3. low": "1", "4. close": "2" } } }
+        """);
+        Files.writeString(dir.resolve("ignored.json"), "{}");
+
+        assertEquals(1, StockPriceStoreConverter.convertDirectory(dir));
+        assertEquals(1, StockPriceStore.map(dir.resolve("ABC_recent" + StockPriceStore.EXTENSION)).getDayCount());
+    }
+
+    @Test
+    void testIngestKeepsJsonAndWritesFreshStore() throws Exception {
+        Path dir = Files.createTempDirectory("price_store");
+        Path jsonPath = dir.resolve("XYZ_recent.json");
+        String json = "{ \"Meta Data\": { \"1. Information\": \"Daily Prices\" }, "
+                + "\"Time Series (Daily)\": { \"2024-02-05\": { \"1. open\": \"3\", \"4. close\": \"4\" } } }\n";
+
+        Path storePath = StockPriceStore.ingest(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), jsonPath);
+
+        assertEquals(json, Files.readString(jsonPath));
+        StockPriceStore store = StockPriceStore.map(storePath);
+        assertEquals(3.0, store.open(store.dayStart(0)));
+        assertEquals(4.0, store.close(store.dayStart(0)));
+    }
+
+    @Test
+    void testIngestOfThrottledResponseKeepsOldFile() throws Exception {
+        Path dir = Files.createTempDirectory("price_store");
+        Path jsonPath = dir.resolve("XYZ_recent.json");
+        Files.writeString(jsonPath, "old");
+        String note = "{ \"Note\": \"Thank you for using Alpha Vantage!\" }";
+
+        TimeSeriesStreamParser.NoTimeSeriesException ex = assertThrows(TimeSeriesStreamParser.NoTimeSeriesException.class,
+                () -> StockPriceStore.ingest(new ByteArrayInputStream(note.getBytes(StandardCharsets.UTF_8)), jsonPath));
+        assertTrue(ex.isThrottled());
+        assertEquals("old", Files.readString(jsonPath));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testIngestOfMalformedTimestampFails() throws Exception {
+        Path dir = Files.createTempDirectory("price_store");
+        Path jsonPath = dir.resolve("XYZ_recent.json");
+        Files.writeString(jsonPath, "old");
+        String json = "{ \"Time Series (Daily)\": { \"2024-02-05\": { \"1. open\": \"3\" }, "
+                + "\"05/02/2024\": { \"1. open\": \"4\" } } }";
+
+        IOException ex = assertThrows(IOException.class,
+                () -> StockPriceStore.ingest(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), jsonPath));
+        assertTrue(ex.getMessage().contains("05/02/2024"));
+        assertEquals("old", Files.readString(jsonPath));
+    }
+}
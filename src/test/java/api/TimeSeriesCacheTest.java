@@ -0,0 +1,95 @@
+package api;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeSeriesCacheTest {
+
+    // not the real stock_data folder, which the game scans for symbols
+    @TempDir
+    Path stockData;
+
+    private static final String TWO_DAYS = """
+    {
+      "Time Series (Daily)": {
+        "2024-02-02": { "1. open": "10", "2. high": "20", "3. low": "5", "4. close": "15" },
+        "2024-02-01": { "1. open": "11", "2. high": "21", "3. low": "6", "4. close": "16" }
+      }
+    }
+    """;
+
+    private static final String THREE_DAYS = """
+    {
+      "Time Series (Daily)": {
+        "2024-02-03": { "1. open": "12", "2. high": "22", "3. low": "7", "4. close": "17" },
+        "2024-02-02": { "1. open": "10", "2. high": "20", "3. low": "5", "4. close": "15" },
+        "2024-02-01": { "1. open": "11", "2. high": "21", "3. low": "6", "4. close": "16" }
+      }
+    }
+    """;
+
+    @Test
+    void testSecondLookupIsHit() throws Exception {
+        Files.writeString(stockData.resolve("CACHEHIT_recent.json"), TWO_DAYS);
+        TimeSeriesCache cache = new TimeSeriesCache(4, stockData);
+
+        StockPriceStore first = cache.get("CACHEHIT", "recent");
+        StockPriceStore second = cache.get("CACHEHIT", "recent");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testChangedFileIsReloaded() throws Exception {
+        Path file = stockData.resolve("CACHEMOD_recent.json");
+        Files.writeString(file, TWO_DAYS);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000L));
+        TimeSeriesCache cache = new TimeSeriesCache(4, stockData);
+        assertEquals(2, cache.get("CACHEMOD", "recent").getDayCount());
+
+        Files.writeString(file, THREE_DAYS);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000L));
+
+        assertEquals(3, cache.get("CACHEMOD", "recent").getDayCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() throws Exception {
+        Files.writeString(stockData.resolve("CACHEA_recent.json"), TWO_DAYS);
+        Files.writeString(stockData.resolve("CACHEB_recent.json"), TWO_DAYS);
+        TimeSeriesCache cache = new TimeSeriesCache(1, stockData);
+
+        cache.get("CACHEA", "recent");
+        cache.get("CACHEB", "recent");
+        cache.get("CACHEA", "recent");
+
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void testInvalidatedSeriesIsLoadedAgain() throws Exception {
+        Files.writeString(stockData.resolve("CACHEDROP_recent.json"), TWO_DAYS);
+        TimeSeriesCache cache = new TimeSeriesCache(4, stockData);
+
+        StockPriceStore first = cache.get("CACHEDROP", "recent");
+        cache.invalidate("CACHEDROP", "recent");
+
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.get("CACHEDROP", "recent"));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testMissingFileReturnsNull() throws Exception {
+        assertNull(new TimeSeriesCache(4, stockData).get("NOSUCHCACHE", "recent"));
+    }
+}
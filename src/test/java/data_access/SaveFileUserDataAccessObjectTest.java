@@ -0,0 +1,79 @@
+package data_access;
+
+import entity.GameMap;
+import entity.GameSnapshot;
+import entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveFileUserDataAccessObjectTest {
+
+    @Test
+    void testAutosaveSkipsUnchangedSaves() throws Exception {
+        Path file = Files.createTempFile("autosave", ".sav");
+        try {
+            SaveFileUserDataAccessObject saves = new SaveFileUserDataAccessObject();
+            Player player = new Player("Anya");
+
+            saves.autosave(GameSnapshot.capture(player, "Subway Station 1"), file.toString());
+            saves.flush();
+            saves.autosave(GameSnapshot.capture(player, "Subway Station 1"), file.toString());
+            saves.flush();
+            assertEquals(1, saves.getAutosavesWritten());
+            assertEquals(1, saves.getAutosavesSkipped());
+
+            player.setBalance(12.5);
+            saves.autosave(GameSnapshot.capture(player, "Subway Station 1"), file.toString());
+            saves.flush();
+            assertEquals(2, saves.getAutosavesWritten());
+
+            GameMap gameMap = new GameMap();
+            Player loaded = new LoadFileUserDataAccessObject().load(gameMap, file.toString());
+            assertEquals(12.5, loaded.getBalance());
+            assertEquals("Subway Station 1", gameMap.getCurrentZone().getName());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testWriteLeavesNoTemporaryFiles() throws Exception {
+        Path dir = Files.createTempDirectory("saves");
+        Path file = dir.resolve("save.sav");
+        try {
+            new SaveFileUserDataAccessObject().save(GameSnapshot.capture(new Player("Anya"), "Subway Station 1"), file.toString());
+            new SaveFileUserDataAccessObject().save(GameSnapshot.capture(new Player("Armand"), "Subway Station 1"), file.toString());
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(1, files.count());
+            }
+            Player loaded = new LoadFileUserDataAccessObject().load(new GameMap(), file.toString());
+            assertEquals("Armand", loaded.getName());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    void testDamagedSaveIsRejected() throws Exception {
+        Path file = Files.createTempFile("damaged", ".sav");
+        try {
+            new SaveFileUserDataAccessObject().save(GameSnapshot.capture(new Player("Anya"), "Subway Station 1"), file.toString());
+            byte[] data = Files.readAllBytes(file);
+            data[data.length / 2] ^= 1;
+            Files.write(file, data);
+
+            IOException exception = assertThrows(IOException.class,
+                    () -> new LoadFileUserDataAccessObject().load(new GameMap(), file.toString()));
+            assertEquals("Save file is damaged", exception.getMessage());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortfolioTest {
+
+    @Test
+    void testAllInBuyAndSell() {
+        Portfolio portfolio = new Portfolio();
+        Stock stock = new Stock("ALLIN", 10.0);
+        portfolio.loadStock(stock);
+        portfolio.setCash(1000);
+
+        portfolio.buy(stock);
+        assertEquals(0.0, portfolio.getCash());
+        assertEquals(100.0, portfolio.getShares(stock));
+
+        portfolio.updatePrice(stock, 12.0);
+        assertEquals(1200.0, portfolio.getTotalEquity(), 1e-9);
+        assertEquals(12.0, stock.getStockPrice());
+
+        portfolio.sell(stock);
+        assertEquals(1200.0, portfolio.getCash(), 1e-9);
+        assertEquals(0.0, portfolio.getShares(stock));
+    }
+
+    @Test
+    void testPartialOrdersAcrossSeveralStocks() {
+        Portfolio portfolio = new Portfolio();
+        Stock a = new Stock("MULTI_A", 10.0);
+        Stock b = new Stock("MULTI_B", 50.0);
+        portfolio.setCash(1000);
+
+        portfolio.buy(a, 20);
+        portfolio.buy(b, 4);
+        assertEquals(600.0, portfolio.getCash(), 1e-9);
+        assertEquals(1000.0, portfolio.getTotalEquity(), 1e-9);
+
+        portfolio.updatePrice(Portfolio.symbolId("MULTI_B"), 60.0);
+        assertEquals(1040.0, portfolio.getTotalEquity(), 1e-9);
+
+        portfolio.sell(a, 5);
+        assertEquals(15.0, portfolio.getShares(a));
+        assertEquals(650.0, portfolio.getCash(), 1e-9);
+        assertEquals(650.0 + 15 * 10 + 4 * 60, portfolio.getTotalEquity(), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> portfolio.sell(a, 16));
+        assertThrows(IllegalArgumentException.class, () -> portfolio.buy(b, 100));
+    }
+
+    @Test
+    void testInvestmentsRoundTrip() {
+        HashMap<Stock, Double> investments = new HashMap<>();
+        investments.put(new Stock("MCD", "McDonalds", 426.14), 3.57);
+        investments.put(new Stock("NVDA", "NVIDIA Corp", 253.72), 6.32);
+
+        Portfolio portfolio = new Portfolio(803.21, investments);
+        Map<Stock, Double> copy = portfolio.getInvestments();
+
+        assertEquals(investments, copy);
+        assertEquals(3.57 * 426.14 + 6.32 * 253.72, portfolio.getTotalEquity(), 1e-9);
+        assertEquals(portfolio, new Portfolio(803.21, new HashMap<>(copy)));
+        assertEquals("McDonalds", copy.keySet().stream()
+                .filter(s -> s.getTicketSymbol().equals("MCD")).findFirst().orElseThrow().getCompanyName());
+    }
+
+    @Test
+    void testEquityIsExactAfterClosingEveryPosition() {
+        Portfolio portfolio = new Portfolio();
+        Stock a = new Stock("DRIFT_A", 0.1);
+        Stock b = new Stock("DRIFT_B", 0.3);
+        portfolio.setCash(1000);
+
+        portfolio.buy(a, 1234.5678);
+        portfolio.buy(b, 777.777);
+        for (int tick = 1; tick <= 5000; tick++) {
+            portfolio.updatePrice(a, 0.1 + (tick % 7) * 0.01);
+            portfolio.updatePrice(b, 0.3 + (tick % 11) * 0.03);
+        }
+        portfolio.sell(a, portfolio.getShares(a));
+        portfolio.sell(b, portfolio.getShares(b));
+
+        // nothing is held, so the equity is the cash and nothing else
+        assertEquals(portfolio.getCash(), portfolio.getTotalEquity(), 0.0);
+    }
+
+    @Test
+    void testStockPricesOnlyChangeThroughThePortfolio() {
+        Portfolio portfolio = new Portfolio();
+        Stock stock = new Stock("ROUTED", 10.0);
+        portfolio.loadStock(stock);
+        portfolio.setCash(100);
+        portfolio.buy(stock);
+
+        portfolio.updatePrice(Portfolio.symbolId("ROUTED"), 15.0);
+
+        assertEquals(15.0, stock.getStockPrice());
+        assertEquals(150.0, portfolio.getTotalEquity(), 1e-9);
+    }
+}
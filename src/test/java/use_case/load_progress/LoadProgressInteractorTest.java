@@ -11,14 +11,11 @@ import org.junit.jupiter.api.Test;
 import use_case.inventory.ItemDataAccessInterface;
 import use_case.npc_interactions.NpcInteractionsUserDataAccessInterface;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
-
 public class LoadProgressInteractorTest {
     LoadProgressDataAccessInterface loadFileDAO = new LoadFileUserDataAccessObject();
     LoadProgressViewModel loadProgressViewModel = new LoadProgressViewModel();
@@ -38,7 +35,8 @@ public class LoadProgressInteractorTest {
         GameMap gameMap = new GameMap();
 
         LoadProgressInputData inputData = new LoadProgressInputData(gameMap, "src/main/resources/test_JSON_files/testLoadFile.json");
-        Player player = loadProgressInteractor.loadGame(inputData);
+        loadProgressInteractor.loadGame(inputData);
+        Player player = loadProgressViewModel.getLoadedPlayer();
         HashMap<String, Integer> stats = new HashMap<>();
         stats.put("Hunger", 30);
         stats.put("Energy", 70);
@@ -75,7 +73,8 @@ public class LoadProgressInteractorTest {
         GameMap gameMap = new GameMap();
 
         LoadProgressInputData inputData = new LoadProgressInputData(gameMap, "src/main/resources/test_JSON_files/testLoadFile.json");
-        Player player = loadProgressInteractor.loadGame(inputData);
+        loadProgressInteractor.loadGame(inputData);
+        Player player = loadProgressViewModel.getLoadedPlayer();
         HashMap<String, Integer> stats = new HashMap<>();
         stats.put("Hunger", 30);
         stats.put("Energy", 70);
@@ -88,15 +87,13 @@ public class LoadProgressInteractorTest {
         assert(!player.equals(testPlayer));
     }
 
-    // Test for file not found.
+    // Test for file not found: the failure is reported through the presenter.
     @Test
     void failLoadProgress_FileNotFound() {
         GameMap gameMap = new GameMap();
         LoadProgressInputData inputData = new LoadProgressInputData(gameMap, "this/file/is/invalid.json");
-        Exception exception = assertThrows(FileNotFoundException.class, () -> {
-            loadProgressInteractor.loadGame(inputData);
-        });
-        assert(exception.getMessage().equals("Save File not found! Cannot load progress into Game!"));
-
+        loadProgressInteractor.loadGame(inputData);
+        assert(loadProgressViewModel.getLoadedPlayer() == null);
+        assert("Save File not found! Cannot load progress into Game!".equals(loadProgressViewModel.getError()));
     }
 }
@@ -0,0 +1,77 @@
+package use_case.proximity;
+
+import data_access.InteractionZoneDataAccessObject;
+import entity.InteractionZone;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InteractionZoneIndexTest {
+
+    private static InteractionZone zone(double x, double y, double width, double height) {
+        return new InteractionZone(InteractionZone.Type.SLEEP, "Test", x, y, width, height, "Press E", Color.BLUE);
+    }
+
+    @Test
+    void testReturnsEveryZoneContainingThePoint() {
+        InteractionZone wide = zone(0, 0, 1000, 100);
+        InteractionZone inner = zone(400, 0, 100, 100);
+        InteractionZone other = zone(600, 0, 100, 100);
+        InteractionZoneIndex index = new InteractionZoneIndex(List.of(other, wide, inner));
+        InteractionZone[] out = new InteractionZone[4];
+
+        int count = index.query(450, 50, out);
+        assertEquals(2, count);
+        assertTrue(List.of(out[0], out[1]).containsAll(List.of(wide, inner)));
+
+        assertEquals(1, index.query(1000, 100, out));   // edges are included
+        assertSame(wide, out[0]);
+        assertEquals(0, index.query(1001, 50, out));
+        assertEquals(0, index.query(450, 101, out));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(11);
+        List<InteractionZone> zones = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            zones.add(zone(random.nextInt(1800), random.nextInt(1100), 20 + random.nextInt(400), 20 + random.nextInt(300)));
+        }
+        InteractionZoneIndex index = new InteractionZoneIndex(zones);
+        InteractionZone[] out = new InteractionZone[zones.size()];
+
+        for (int q = 0; q < 500; q++) {
+            double x = random.nextDouble() * 1920;
+            double y = random.nextDouble() * 1200;
+            int expected = 0;
+            for (InteractionZone zone : zones) {
+                if (zone.contains(x, y)) expected++;
+            }
+            assertEquals(expected, index.query(x, y, out));
+        }
+    }
+
+    @Test
+    void testZonesFileDefinesTheHomeAndOfficeZones() {
+        List<InteractionZone> zones = new InteractionZoneDataAccessObject().getInteractionZones();
+
+        assertEquals(3, zones.size());
+        InteractionZone[] out = new InteractionZone[4];
+        List<InteractionZone> home = new ArrayList<>();
+        List<InteractionZone> office = new ArrayList<>();
+        for (InteractionZone zone : zones) {
+            ("Home".equals(zone.getZoneName()) ? home : office).add(zone);
+        }
+        assertEquals(1, new InteractionZoneIndex(home).query(1700, 200, out));
+        assertEquals(InteractionZone.Type.SLEEP, out[0].getType());
+        assertEquals(1, new InteractionZoneIndex(home).query(900, 1000, out));
+        assertEquals(InteractionZone.Type.MAILBOX, out[0].getType());
+        assertEquals(1, new InteractionZoneIndex(office).query(1300, 300, out));
+        assertEquals(InteractionZone.Type.STOCK_TRADING, out[0].getType());
+    }
+}
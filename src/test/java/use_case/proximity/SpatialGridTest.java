@@ -0,0 +1,65 @@
+package use_case.proximity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+
+    @Test
+    void testFindsNearestWithinRadiusOnly() {
+        SpatialGrid<String> grid = new SpatialGrid<>(1920, 1200, 128);
+        grid.add("far", 500, 500);
+        grid.add("near", 130, 100);   // in the next cell over
+        grid.add("nearer", 90, 110);
+
+        assertEquals("nearer", grid.findNearest(100, 100, 100));
+        assertEquals("near", grid.findNearest(140, 100, 25));
+        assertNull(grid.findNearest(300, 300, 100));
+        // the radius is exclusive
+        assertNull(grid.findNearest(500, 400, 100));
+        assertEquals("far", grid.findNearest(500, 400, 100.001));
+    }
+
+    @Test
+    void testPositionsOutsideTheAreaAreStillFound() {
+        SpatialGrid<String> grid = new SpatialGrid<>(1920, 1200, 128);
+        grid.add("outside", -50, 1250);
+
+        assertEquals("outside", grid.findNearest(0, 1200, 80));
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertNull(grid.findNearest(0, 1200, 80));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(3);
+        SpatialGrid<Integer> grid = new SpatialGrid<>(1920, 1200, 128);
+        double[][] points = new double[500][2];
+        for (int i = 0; i < points.length; i++) {
+            points[i][0] = random.nextDouble() * 1920;
+            points[i][1] = random.nextDouble() * 1200;
+            grid.add(i, points[i][0], points[i][1]);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            double x = random.nextDouble() * 1920;
+            double y = random.nextDouble() * 1200;
+            double radius = 20 + random.nextDouble() * 200;
+            Integer expected = null;
+            double best = radius * radius;
+            for (int i = 0; i < points.length; i++) {
+                double dx = points[i][0] - x;
+                double dy = points[i][1] - y;
+                if (dx * dx + dy * dy < best) {
+                    best = dx * dx + dy * dy;
+                    expected = i;
+                }
+            }
+            assertEquals(expected, grid.findNearest(x, y, radius));
+        }
+    }
+}
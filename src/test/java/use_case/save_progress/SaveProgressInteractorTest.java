@@ -2,28 +2,32 @@ package use_case.save_progress;
 
 import data_access.EventDataAccessObject;
 import data_access.ItemDataAccessObject;
+import data_access.LoadFileUserDataAccessObject;
 import data_access.NPCDataAccessObject;
 import data_access.SaveFileUserDataAccessObject;
 import entity.*;
 import interface_adapter.save_progress.SaveProgressPresenter;
 import interface_adapter.save_progress.SaveProgressViewModel;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import use_case.inventory.ItemDataAccessInterface;
 import use_case.npc_interactions.NpcInteractionsUserDataAccessInterface;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static data_access.LoadFileUserDataAccessObject.JSONFileReader;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SaveProgressInteractorTest {
+    @TempDir
+    Path tempDir;
+
     SaveProgressDataAccessInterface saveFileUserDAO = new SaveFileUserDataAccessObject();
     SaveProgressViewModel saveProgressViewModel = new SaveProgressViewModel();
     SaveProgressOutputBoundary saveProgressPresenter = new SaveProgressPresenter(saveProgressViewModel);
@@ -63,14 +67,15 @@ public class SaveProgressInteractorTest {
         testPlayer.setPortfolio(new Portfolio(803.21, investments));
         testPlayer.setCurrentDay(Day.WEDNESDAY);
 
-        String SAVE_FILE_PATH = "src/main/resources/test_JSON_files/testSuccessSaveFile.json";
+        String SAVE_FILE_PATH = tempDir.resolve("testSuccessSaveFile.sav").toString();
 
-        SaveProgressInputData inputData = new SaveProgressInputData(testPlayer,
-                SAVE_FILE_PATH, gameMap.getCurrentZone().getName());
+        SaveProgressInputData inputData = new SaveProgressInputData(
+                GameSnapshot.capture(testPlayer, gameMap.getCurrentZone().getName()), SAVE_FILE_PATH);
         saveProgressInteractor.saveGame(inputData);
 
-        assert(testJSONFile(SAVE_FILE_PATH, testPlayer, gameMap, LocalDate.now().toString()));
-        assert(testPlayer.equals(inputData.getPlayer()));
+        assert(testSaveFile(SAVE_FILE_PATH, testPlayer, gameMap, LocalDate.now().toString()));
+        assert(saveProgressViewModel.getPlayerName().equals("Anya"));
+        assert(saveProgressViewModel.getCurrentDay().equals("Wednesday"));
     }
 
     // Test for successful save, but comparing it to different Player/File Mismatch
@@ -79,9 +84,9 @@ public class SaveProgressInteractorTest {
         Player player = new Player("Armand");
         GameMap gameMap = new GameMap();
 
-        String SAVE_FILE_PATH = "src/main/resources/test_JSON_files/testSuccessSaveFile.json";
-        SaveProgressInputData inputData = new SaveProgressInputData(player,
-                SAVE_FILE_PATH, gameMap.getCurrentZone().getName());
+        String SAVE_FILE_PATH = tempDir.resolve("testSuccessSaveFile.sav").toString();
+        SaveProgressInputData inputData = new SaveProgressInputData(
+                GameSnapshot.capture(player, gameMap.getCurrentZone().getName()), SAVE_FILE_PATH);
 
         saveProgressInteractor.saveGame(inputData);
 
@@ -92,119 +97,109 @@ public class SaveProgressInteractorTest {
         Player testPlayer = new Player("Anya", 308.06, 37.2, 56.1, stats);
         testPlayer.addNPCScore(npcs.get("Bob"), 5);
 
-        assert(!testJSONFile(SAVE_FILE_PATH, testPlayer, gameMap, LocalDate.now().toString()));
+        assert(!testSaveFile(SAVE_FILE_PATH, testPlayer, gameMap, LocalDate.now().toString()));
     }
 
-    // Test for file not found.
+    // Test for file not found: the failure is reported through the presenter.
     @Test
-    void failSaveProgress_ThrowsException() {
+    void failSaveProgress_ReportsFailure() {
         Player player = new Player("Cynthia");
         GameMap gameMap = new GameMap();
 
-        SaveProgressInputData inputData = new SaveProgressInputData(player,
-                "invalid/file/path/.json", gameMap.getCurrentZone().getName());
+        SaveProgressInputData inputData = new SaveProgressInputData(
+                GameSnapshot.capture(player, gameMap.getCurrentZone().getName()), "invalid/file/path/.json");
 
-        Exception exception = assertThrows(FileNotFoundException.class, () -> {
-            saveProgressInteractor.saveGame(inputData);
-        });
-        assert(exception.getMessage().equals("Invalid Filepath! Unable to save!"));
+        saveProgressInteractor.saveGame(inputData);
+        assert("Invalid Filepath! Unable to save!".equals(saveProgressViewModel.getError()));
     }
 
-    public boolean testJSONFile(String saveFilePath, Player player, GameMap gameMap, String date) throws IOException {
-        JSONArray data = JSONFileReader(saveFilePath);
-        JSONObject playerData = data.getJSONObject(0);
-        JSONObject relationshipData = data.getJSONObject(1);
-        JSONObject eventData = data.getJSONObject(2);
-        JSONObject inventoryData = data.getJSONObject(3);
-        JSONObject portfolioData = data.getJSONObject(4);
-
-        return data.length() == 7 &&
-                playerDataAssertion(playerData, player) &&
-                relationshipsAssertion(relationshipData, player) &&
-                eventAssertion(eventData, player) &&
-                inventoryAssertion(inventoryData, player) &&
-                portfolioAssertion(portfolioData, player) &&
-                gameMap.getCurrentZone().getName().equals(data.get(5)) &&
-                date.equals(data.get(6));
+    // Test that the save runs on the I/O executor and reports back on the presenter executor.
+    @Test
+    void saveRunsOnExecutors() throws IOException {
+        List<Runnable> io = new ArrayList<>();
+        List<Runnable> presenter = new ArrayList<>();
+        SaveProgressInteractor interactor = new SaveProgressInteractor(saveFileUserDAO, saveProgressPresenter,
+                io::add, presenter::add);
+        Player player = new Player("Dana");
+        String SAVE_FILE_PATH = tempDir.resolve("testSuccessSaveFile.sav").toString();
+
+        interactor.saveGame(new SaveProgressInputData(GameSnapshot.capture(player, "Home"), SAVE_FILE_PATH));
+        player.setBalance(1.0);   // changes after the snapshot are not saved
+        assert(io.size() == 1 && presenter.isEmpty());
+
+        io.get(0).run();
+        assert(presenter.size() == 1);
+        assert(!"Dana".equals(saveProgressViewModel.getPlayerName()));
+        presenter.get(0).run();
+        assert("Dana".equals(saveProgressViewModel.getPlayerName()));
+
+        Player loaded = new LoadFileUserDataAccessObject().load(new GameMap(), SAVE_FILE_PATH);
+        assert(loaded.getBalance() == 10000.0);
     }
 
-    public boolean inventoryAssertion(JSONObject inventoryData, Player player) {
-        Map<Integer, Item> inventory = player.getInventory();
-
-        if (inventoryData.length() != inventory.size()) {
-            return false;
-        }
-
-        for (String inventoryIndex : inventoryData.keySet()) {
-            Item item = items.get(inventoryData.getString(inventoryIndex));
-            if (inventory.get(Integer.parseInt(inventoryIndex)) != item) {
-                return false;
-            }
-        }
-        return true;
+    public boolean testSaveFile(String saveFilePath, Player player, GameMap gameMap, String date) throws IOException {
+        LoadFileUserDataAccessObject loadFileDAO = new LoadFileUserDataAccessObject();
+        GameMap loadedMap = new GameMap();
+        Player loaded = loadFileDAO.load(loadedMap, saveFilePath);
+
+        // the save records the equity at the time of saving, which becomes the loaded total
+        return loaded.getName().equals(player.getName()) &&
+                loaded.getBalance() == player.getBalance() &&
+                loaded.getX() == player.getX() &&
+                loaded.getY() == player.getY() &&
+                loaded.getStats().equals(player.getStats()) &&
+                loaded.getCurrentDay() == player.getCurrentDay() &&
+                loaded.getRelationships().equals(player.getRelationships()) &&
+                loaded.getEvents().equals(player.getEvents()) &&
+                loaded.getInventory().equals(player.getInventory()) &&
+                loaded.getPortfolio().getInvestments().equals(player.getPortfolio().getInvestments()) &&
+                loaded.getPortfolio().totalEquity == player.getPortfolio().getTotalEquity() &&
+                gameMap.getCurrentZone().getName().equals(loadedMap.getCurrentZone().getName()) &&
+                date.equals(loadFileDAO.getRecentSaveDate());
     }
 
-    public boolean portfolioAssertion(JSONObject portfolioData, Player player) {
-        Portfolio portfolio = player.getPortfolio();
-        Map<Stock, Double> investments = portfolio.getInvestments();
-        JSONObject investmentData = portfolioData.getJSONObject("investments");
-        if (investmentData.length() != investments.size()) {
-            return false;
-        }
-
-        Map<Stock, Double> testInvestments = new HashMap<>();
-
-        for (String shares : investmentData.keySet()) {
-            JSONObject investment = investmentData.getJSONObject(shares);
-            Stock testStock = new Stock(investment.getString("ticketSymbol"),
-                    investment.getString("companyName"), investment.getDouble("stockPrice"));
-            testInvestments.put(testStock, Double.parseDouble(shares));
-        }
-
-        return portfolioData.getDouble("totalEquity") == portfolio.getTotalEquity() &&
-                testInvestments.equals(portfolio.getInvestments());
-    }
+    // Test that autosaves are handed to the DAO's background writer and not reported.
+    @Test
+    void autosaveGoesToDataAccess() {
+        List<String> autosaved = new ArrayList<>();
+        SaveProgressDataAccessInterface dataAccess = new SaveProgressDataAccessInterface() {
+            @Override
+            public void save(GameSnapshot snapshot, String SAVE_FILE) {
+                throw new AssertionError("autosave must not write on the calling thread");
+            }
 
-    public boolean eventAssertion(JSONObject eventData, Player player) {
-        int i = 0;
-        List<Event> playerEvents = player.getEvents();
-        if (playerEvents.size() != eventData.length()) {
-            return false;
-        }
-        for (String eventName : eventData.keySet()) {
-            if (!playerEvents.contains(events.get(eventData.getInt(eventName)))){
-                return false;
+            @Override
+            public void autosave(GameSnapshot snapshot, String saveFile) {
+                autosaved.add(snapshot.getName() + "@" + saveFile);
             }
-        }
-        return true;
+        };
+        SaveProgressInteractor interactor = new SaveProgressInteractor(dataAccess, saveProgressPresenter);
+
+        interactor.autosave(new SaveProgressInputData(GameSnapshot.capture(new Player("Eve"), "Home"), "autosave.sav"));
+        assert(autosaved.equals(List.of("Eve@autosave.sav")));
+        assert(saveProgressViewModel.getPlayerName() == null);
     }
 
-    public boolean relationshipsAssertion(JSONObject relationshipData, Player player){
-        if (relationshipData.length() != player.getRelationships().size()) {
-            return false;
-        }
+    // Test that the binary save is much smaller than the same save as JSON used to be.
+    @Test
+    void savedFileIsCompact() throws IOException {
+        HashMap<String, Integer> stats = new HashMap<>();
+        stats.put("Hunger", 30);
+        stats.put("Energy", 70);
+        stats.put("Mood", 80);
+        Player testPlayer = new Player("Anya", 308.06, 1567.9, 601.2, stats);
+        testPlayer.addNPCScore(npcs.get("Bob"), 5);
+        testPlayer.addEvent(events.get(0));
+        testPlayer.addEvent(events.get(1));
+        testPlayer.addInventory(1, items.get("Coffee"));
+        testPlayer.addInventory(3, items.get("Energy Drink"));
 
-        for (String npc : relationshipData.keySet()) {
-            if (relationshipData.getInt(npc) != player.getNPCScore(npcs.get(npc))) {
-                return false;
-            }
-        }
-        return true;
-    }
+        String SAVE_FILE_PATH = tempDir.resolve("testSuccessSaveFile.sav").toString();
+        saveProgressInteractor.saveGame(new SaveProgressInputData(
+                GameSnapshot.capture(testPlayer, "Subway Station 1"), SAVE_FILE_PATH));
 
-    public boolean playerDataAssertion(JSONObject playerData, Player player){
-        JSONObject stats = playerData.getJSONObject("stats");
-        Map<String, Integer> statsMap = new HashMap<>();
-        for (String stat : stats.keySet()) {
-            statsMap.put(stat, stats.getInt(stat));
-        }
-
-        return playerData.get("name").equals(player.getName()) &
-                playerData.getDouble("balance") == player.getBalance() &
-                playerData.getDouble("xLocation") == player.getX() &
-                playerData.getDouble("yLocation") == player.getY() &
-                statsMap.equals(player.getStats()) &
-                playerData.getString("currentDay").equals(player.getCurrentDay().toString());
+        long binarySize = Files.size(Paths.get(SAVE_FILE_PATH));
+        long jsonSize = Files.size(Paths.get("src/main/resources/test_JSON_files/testLoadFile.json"));
+        assert(binarySize * 2 < jsonSize);
     }
-
 }
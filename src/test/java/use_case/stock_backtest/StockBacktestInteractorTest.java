@@ -0,0 +1,120 @@
+package use_case.stock_backtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockBacktestInteractorTest {
+
+    /** two symbols with 7 days of rising prices each, so 3 windows per symbol */
+    static class StubDAO implements StockBacktestDataAccessInterface {
+        @Override
+        public List<BacktestWindow> getAllWindows() {
+            List<BacktestWindow> windows = new ArrayList<>();
+            for (int start = 0; start < 3; start++) {
+                windows.add(new BacktestWindow("UP", "recent", start, "LOW"));
+                windows.add(new BacktestWindow("FLAT", "recent", start, "LOW"));
+            }
+            return windows;
+        }
+
+        @Override
+        public List<Double> getIntradayPrices(String symbol, int day) {
+            return List.of();
+        }
+
+        @Override
+        public Map<Integer, List<Double>> getFiveDayPrices(String symbol, String month, int start) {
+            Map<Integer, List<Double>> days = new HashMap<>();
+            for (int day = 1; day <= 5; day++) {
+                List<Double> prices = new ArrayList<>();
+                for (int i = 0; i < 30; i++) {
+                    prices.add("UP".equals(symbol) ? 100.0 + (start + day) * 30 + i : 100.0);
+                }
+                days.put(day, prices);
+            }
+            return days;
+        }
+
+        @Override
+        public Map<Integer, List<Double>> getFiveDayPrices(String symbol, String month, int start,
+                                                           SplittableRandom random) {
+            return getFiveDayPrices(symbol, month, start);
+        }
+    }
+
+    private StockBacktestOutputData run(ForkJoinPool pool, long seed) {
+        StockBacktestOutputData[] result = {null};
+        StockBacktestOutputBoundary presenter = new StockBacktestOutputBoundary() {
+            @Override public void presentResults(StockBacktestOutputData outputData) { result[0] = outputData; }
+            @Override public void presentError(String message) { fail("Unexpected error: " + message); }
+        };
+        new StockBacktestInteractor(new StubDAO(), presenter, pool).execute(new StockBacktestInputData(
+                Arrays.asList(ScriptedStrategy.values()), 1000, 10, seed));
+        return result[0];
+    }
+
+    @Test
+    void testEveryWindowStrategyAndRunIsPlayed() {
+        StockBacktestOutputData output = run(ForkJoinPool.commonPool(), 1);
+
+        assertEquals(6, output.getWindowCount());
+        assertEquals(6L * ScriptedStrategy.values().length * 10, output.getSessionCount());
+        assertEquals(Set.of("FLAT", "UP"), output.getBySymbol().keySet());
+        assertEquals(30, output.getBySymbol().get("UP").get("BUY_AND_HOLD").getCount());
+        assertEquals(60, output.getByRiskLevel().get("LOW").get("MOMENTUM").getCount());
+
+        EquityDistribution cash = output.getBySymbol().get("UP").get("HOLD_CASH");
+        assertEquals(1000.0, cash.getMin());
+        assertEquals(1000.0, cash.getMax());
+        assertTrue(output.getBySymbol().get("UP").get("BUY_AND_HOLD").getMean() > 1000.0);
+    }
+
+    @Test
+    void testResultsDoNotDependOnParallelism() {
+        StockBacktestOutputData parallel = run(new ForkJoinPool(4), 7);
+        StockBacktestOutputData serial = run(new ForkJoinPool(1), 7);
+
+        for (String symbol : List.of("UP", "FLAT")) {
+            for (ScriptedStrategy strategy : ScriptedStrategy.values()) {
+                EquityDistribution a = parallel.getBySymbol().get(symbol).get(strategy.getName());
+                EquityDistribution b = serial.getBySymbol().get(symbol).get(strategy.getName());
+                assertEquals(b.getPercentile(50), a.getPercentile(50));
+                assertEquals(b.getMean(), a.getMean(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testSessionAppliesButtonRules() {
+        double[] prices = new double[200];
+        Arrays.fill(prices, 50.0);
+
+        // selling with no shares and buying with no cash are ignored, like disabled buttons
+        TradingStrategy alwaysSell = new TradingStrategy() {
+            @Override public Action decide(int tick, double price, double previous, double cash, double shares) {
+                return Action.SELL;
+            }
+            @Override public String getName() { return "SELL"; }
+        };
+        assertEquals(1000.0, StockBacktestInteractor.playSession(prices, alwaysSell, 1000, 3));
+
+        double held = StockBacktestInteractor.playSession(prices, ScriptedStrategy.BUY_AND_HOLD, 1000, 3);
+        assertTrue(held > 0 && Math.abs(held - 1000) < 200, "held " + held);
+    }
+
+    @Test
+    void testDistributionStatistics() {
+        EquityDistribution distribution = new EquityDistribution();
+        for (int i = 1; i <= 100; i++) distribution.add(i * 100);
+
+        assertEquals(5050.0, distribution.getMean(), 1e-9);
+        assertEquals(5000.0, distribution.getPercentile(50));
+        assertEquals(100.0, distribution.getMin());
+        assertEquals(10000.0, distribution.getMax());
+        assertEquals(0.81, distribution.getFractionAtLeast(2000), 1e-9);
+    }
+}
@@ -4,7 +4,6 @@ import entity.Portfolio;
 import entity.Stock;
 import org.junit.jupiter.api.Test;
 
-import javax.swing.Timer;
 import java.awt.event.ActionListener;
 import java.util.*;
 
@@ -91,7 +90,7 @@ class PlayStockGameInteractorTest {
         final boolean[] startCalled = {false};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
-            @Override public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 assertEquals("GOOG", s.getTicketSymbol());
                 assertEquals(11.0, s.getStockPrice());
                 startCalled[0] = true;
@@ -102,7 +101,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) { }
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
         PlayStockGameInputData input = new PlayStockGameInputData(
                 "GOOG", 2000, "2024-01", 0, "PERIOD1"
         );
@@ -126,7 +125,7 @@ class PlayStockGameInteractorTest {
         final boolean[] errorCalled = {false};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
-            @Override public void presentGameStart(Portfolio p, Stock s, Timer t) { }
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock t) { }
             @Override public void presentPriceUpdate(PlayStockGameOutputData o) { }
             @Override public void presentGameOver(PlayStockGameOutputData o) { }
             @Override public void presentError(String errMsg) {
@@ -136,7 +135,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) { }
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
         PlayStockGameInputData input = new PlayStockGameInputData(
                 "TEST", 1000, "2024-01", 0, "PERIODX"
         );
@@ -163,7 +162,7 @@ class PlayStockGameInteractorTest {
         final FakeTimer[] savedTimer = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
-            @Override public void presentGameStart(Portfolio p, Stock s, Timer t) { startCalled[0] = true; }
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock t) { startCalled[0] = true; }
             @Override public void presentPriceUpdate(PlayStockGameOutputData o) {
                 updateCount[0]++;
                 if (updateCount[0] >= 3) {
@@ -177,7 +176,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) { }
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter) {
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new) {
             @Override
             public void execute(PlayStockGameInputData inputData) {
                 List<Double> real = dao.getIntradayPrices("X", 1);
@@ -236,7 +235,7 @@ class PlayStockGameInteractorTest {
         final boolean[] errorCalled = {false};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
-            @Override public void presentGameStart(Portfolio p, Stock s, Timer t) { }
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock t) { }
             @Override public void presentPriceUpdate(PlayStockGameOutputData o) { }
             @Override public void presentGameOver(PlayStockGameOutputData o) { }
             @Override public void presentError(String errMsg) {
@@ -246,7 +245,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) { }
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
         PlayStockGameInputData input = new PlayStockGameInputData("BAD", 500, 1);
         interactor.execute(input);
 
@@ -259,7 +258,7 @@ class PlayStockGameInteractorTest {
     @Test
     void testPrepareSuccessViewCall() {
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
-            @Override public void presentGameStart(Portfolio p, Stock s, Timer t) { }
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock t) { }
             @Override public void presentPriceUpdate(PlayStockGameOutputData o) { }
             @Override public void presentGameOver(PlayStockGameOutputData o) { }
             @Override public void presentError(String errMsg) { }
@@ -281,12 +280,12 @@ class PlayStockGameInteractorTest {
         final boolean[] gameOverCalled = {false};
         final Portfolio[] capturedPortfolio = {null};
         final Stock[] capturedStock = {null};
-        final Timer[] capturedTimer = {null};
+        final GameClock[] capturedTimer = {null};
 
         // --- Presenter implementation ---
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
             @Override
-            public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 startCalled[0] = true;
                 capturedPortfolio[0] = p;
                 capturedStock[0] = s;
@@ -315,7 +314,7 @@ class PlayStockGameInteractorTest {
         };
 
         // --- Interactor override to inject synchronous fake timer ---
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter) {
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new) {
         };
 
         // --- Legacy input: month == null triggers legacy path ---
@@ -343,11 +342,11 @@ class PlayStockGameInteractorTest {
 
         final Portfolio[] capturedPortfolio = {null};
         final Stock[] capturedStock = {null};
-        final Timer[] capturedTimer = {null};
+        final GameClock[] capturedTimer = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
             @Override
-            public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 startCalled[0] = true;
                 capturedPortfolio[0] = p;
                 capturedStock[0] = s;
@@ -368,7 +367,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) { }
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
 
         // Call execute ONCE — this is the real behavior
         interactor.execute(new PlayStockGameInputData("AAPL", 1000, 1));
@@ -378,9 +377,7 @@ class PlayStockGameInteractorTest {
 
         // manually run the timer 3 times
         for (int i = 0; i < 3; i++) {
-            for (var listener : capturedTimer[0].getActionListeners()) {
-                listener.actionPerformed(null);
-            }
+            ((VirtualGameClock) capturedTimer[0]).tick();
         }
 
         assertTrue(priceCalled[0], "presentPriceUpdate should be called");
@@ -397,11 +394,11 @@ class PlayStockGameInteractorTest {
         StubDAO dao = new StubDAO(prices);
 
         final boolean[] gameOverCalled = {false};
-        final Timer[] capturedTimer = {null};
+        final GameClock[] capturedTimer = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
             @Override
-            public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 capturedTimer[0] = t;
             }
 
@@ -417,7 +414,7 @@ class PlayStockGameInteractorTest {
         };
 
         // Interactor under test
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
 
         // Input for LEGACY mode
         PlayStockGameInputData input = new PlayStockGameInputData("AAPL", 1000, 1);
@@ -430,20 +427,7 @@ class PlayStockGameInteractorTest {
         // Force portfolio equity negative so branch triggers immediately
         // Retrieve the portfolio through reflection (since no direct access)
         // Instead, modify the stock price to be huge negative so equity <0:
-        for (var listener : capturedTimer[0].getActionListeners()) {
-
-            // Force the condition:
-            // portfolio.getTotalEquity() <= 0
-            // by manually setting the stock’s price very negative:
-            // We know the listener uses lastPrice[0], so spoof e.getSource()
-            //
-            // But the simplest way (and fully correct):
-            // Call actionPerformed BEFORE changing price:
-            listener.actionPerformed(new java.awt.event.ActionEvent(capturedTimer[0], 0, "tick"));
-
-            // After 1 tick, gameOver should have been called
-            break;
-        }
+        ((VirtualGameClock) capturedTimer[0]).tick();
 
         assertTrue(gameOverCalled[0], "GameOver branch must be executed due to negative equity.");
     }
@@ -467,7 +451,7 @@ class PlayStockGameInteractorTest {
         final String[] errorMsg = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
-            @Override public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 fail("presentGameStart should NOT be called when DAO errors.");
             }
 
@@ -483,7 +467,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) {}
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
 
         // timerIntervalMs <= 0 forces default = 250ms branch
         // String symbol, double startAmount, String month, int startDayIndex, String periodId, int timerIntervalMs
@@ -506,11 +490,11 @@ class PlayStockGameInteractorTest {
         StubDAO dao = new StubDAO(prices);
 
         final boolean[] gameOverCalled = {false};
-        final Timer[] capturedTimer = {null};
+        final GameClock[] capturedTimer = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
             @Override
-            public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 capturedTimer[0] = t;
             }
             @Override public void presentPriceUpdate(PlayStockGameOutputData o) {}
@@ -520,7 +504,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) {}
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
 
         // Legacy mode
         PlayStockGameInputData input = new PlayStockGameInputData("AAPL", 1000, 1);
@@ -530,11 +514,7 @@ class PlayStockGameInteractorTest {
 
         // Fire > MAX_TICKS = 120
         for (int i = 0; i < 125; i++) {
-            for (ActionListener listener : capturedTimer[0].getActionListeners()) {
-                listener.actionPerformed(
-                        new java.awt.event.ActionEvent(capturedTimer[0], 0, "tick")
-                );
-            }
+            ((VirtualGameClock) capturedTimer[0]).tick();
         }
 
         assertTrue(gameOverCalled[0], "Game over must trigger when ticks >= MAX_TICKS");
@@ -546,11 +526,11 @@ class PlayStockGameInteractorTest {
         StubDAO dao = new StubDAO(prices);
 
         final boolean[] gameOverCalled = {false};
-        final Timer[] capturedTimer = {null};
+        final GameClock[] capturedTimer = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
             @Override
-            public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 capturedTimer[0] = t;
             }
             @Override public void presentPriceUpdate(PlayStockGameOutputData o) {}
@@ -560,7 +540,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) {}
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
 
         // Legacy mode
         PlayStockGameInputData input = new PlayStockGameInputData("AAPL", 1000, 1);
@@ -569,11 +549,7 @@ class PlayStockGameInteractorTest {
         assertNotNull(capturedTimer[0], "Timer must not be null");
 
         // Only 1 tick required
-        for (ActionListener listener : capturedTimer[0].getActionListeners()) {
-            listener.actionPerformed(
-                    new java.awt.event.ActionEvent(capturedTimer[0], 0, "tick")
-            );
-        }
+        ((VirtualGameClock) capturedTimer[0]).tick();
 
         assertTrue(gameOverCalled[0], "Game over must trigger when ticks >= realPrices.size()");
     }
@@ -586,14 +562,14 @@ class PlayStockGameInteractorTest {
         StubDAO dao = new StubDAO(prices);
 
         final boolean[] gameOverCalled = {false};
-        final Timer[] capturedTimer = {null};
+        final GameClock[] capturedTimer = {null};
         final Portfolio[] capturedPortfolio = {null};
         final Stock[] capturedStock = {null};
 
         PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
 
             @Override
-            public void presentGameStart(Portfolio p, Stock s, Timer t) {
+            public void presentGameStart(Portfolio p, Stock s, GameClock t) {
                 capturedTimer[0] = t;
                 capturedPortfolio[0] = p;
                 capturedStock[0] = s;
@@ -618,7 +594,7 @@ class PlayStockGameInteractorTest {
             @Override public void prepareSuccessView(PlayStockGameOutputData outputData) {}
         };
 
-        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter);
+        PlayStockGameInteractor interactor = new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new);
 
         // Run legacy path
         PlayStockGameInputData input = new PlayStockGameInputData("AAPL", 1000, 1);
@@ -627,14 +603,42 @@ class PlayStockGameInteractorTest {
         assertNotNull(capturedTimer[0], "Timer must not be null");
 
         // --- Fire ONE tick: equity is already 0 so game over is triggered ---
-        for (ActionListener listener : capturedTimer[0].getActionListeners()) {
-            listener.actionPerformed(
-                    new java.awt.event.ActionEvent(capturedTimer[0], 0, "tick")
-            );
-        }
+        ((VirtualGameClock) capturedTimer[0]).tick();
 
         assertTrue(gameOverCalled[0], "Game over must trigger when total equity <= 0");
     }
 
+    @Test
+    void testHeadlessSessionRunsOnVirtualTime() {
+        List<Double> prices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) prices.add(100.0 + i);
+        StubDAO dao = new StubDAO(prices);
 
+        final VirtualGameClock[] clock = {null};
+        final int[] updates = {0};
+        final int[] gameOvers = {0};
+
+        PlayStockGameOutputBoundary presenter = new PlayStockGameOutputBoundary() {
+            @Override public void presentGameStart(Portfolio p, Stock s, GameClock c) {
+                clock[0] = (VirtualGameClock) c;
+                c.start();
+            }
+            @Override public void presentPriceUpdate(PlayStockGameOutputData o) { updates[0]++; }
+            @Override public void presentGameOver(PlayStockGameOutputData o) { gameOvers[0]++; }
+            @Override public void presentError(String errMsg) { fail("Unexpected error: " + errMsg); }
+            @Override public void prepareSuccessView(PlayStockGameOutputData outputData) {}
+        };
+
+        new PlayStockGameInteractor(dao, presenter, VirtualGameClock::new).execute(new PlayStockGameInputData("AAPL", 1000, 1));
+
+        // a third of the session, then the rest
+        clock[0].advance(40 * 250);
+        assertEquals(40, updates[0]);
+        clock[0].runUntilStopped(1000);
+
+        assertEquals(PriceTickEngine.MAX_TICKS - 1, updates[0]);
+        assertEquals(1, gameOvers[0]);
+        assertFalse(clock[0].isRunning());
+        assertEquals(PriceTickEngine.MAX_TICKS * 250L, clock[0].getNow());
+    }
 }
@@ -0,0 +1,73 @@
+package use_case.stock_game;
+
+import entity.Portfolio;
+import entity.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceTickEngineTest {
+
+    private PriceTickEngine newEngine(List<Double> prices, int maxTicks, long seed) {
+        Portfolio portfolio = new Portfolio();
+        Stock stock = new Stock("TEST", prices.get(0));
+        portfolio.loadStock(stock);
+        portfolio.setCash(1000);
+        return new PriceTickEngine(prices, maxTicks, seed, portfolio, stock);
+    }
+
+    private List<Double> run(PriceTickEngine engine) {
+        List<Double> prices = new ArrayList<>();
+        while (engine.tick()) {
+            prices.add(engine.getUpdate().getPrice());
+        }
+        return prices;
+    }
+
+    @Test
+    void testSameSeedReplaysSameSession() {
+        List<Double> real = new ArrayList<>();
+        for (int i = 0; i < 200; i++) real.add(100.0 + Math.sin(i / 5.0) * 10);
+
+        List<Double> first = run(newEngine(real, PriceTickEngine.MAX_TICKS, 42));
+        List<Double> second = run(newEngine(real, PriceTickEngine.MAX_TICKS, 42));
+        List<Double> other = run(newEngine(real, PriceTickEngine.MAX_TICKS, 43));
+
+        assertEquals(PriceTickEngine.MAX_TICKS - 1, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void testGameOverKeepsLastPriceAndReusesSnapshots() {
+        PriceTickEngine engine = newEngine(List.of(10.0, 11.0, 12.0), PriceTickEngine.MAX_TICKS, 7);
+
+        assertTrue(engine.tick());
+        PriceTickEngine.Snapshot update = engine.getUpdate();
+        PlayStockGameOutputData first = update.toOutputData();
+        assertTrue(engine.tick());
+        assertSame(update, engine.getUpdate());
+        double last = update.getPrice();
+        // output data handed out earlier does not change with the snapshot
+        assertNotEquals(last, first.price);
+
+        assertFalse(engine.tick());
+        assertTrue(engine.isOver());
+        assertEquals(last, engine.getGameOver().getPrice());
+        assertEquals(1000.0, engine.getGameOver().getTotalEquity());
+        assertFalse(engine.tick());
+    }
+
+    @Test
+    void testPricesFollowRealPricesWithinNoise() {
+        List<Double> real = List.of(50.0, 50.0, 50.0, 50.0, 50.0);
+        PriceTickEngine engine = newEngine(real, PriceTickEngine.MAX_TICKS, 1);
+
+        for (double price : run(engine)) {
+            assertEquals(50.0, price, 50.0 * 0.01 * 6 * (1 + 0.34));
+        }
+    }
+}
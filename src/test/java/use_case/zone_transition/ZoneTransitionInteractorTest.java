@@ -0,0 +1,85 @@
+package use_case.zone_transition;
+
+import entity.GameMap;
+import entity.Player;
+import entity.Zone;
+import entity.ZoneGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneTransitionInteractorTest {
+    private static final double SIZE = 64;
+
+    private final GameMap gameMap = new GameMap();
+    private final Player player = new Player("Test");
+    private final List<ZoneTransitionOutputData> outputs = new ArrayList<>();
+    private final ZoneTransitionInteractor interactor =
+            new ZoneTransitionInteractor(gameMap, player, outputs::add);
+
+    @Test
+    void testGraphHasIdsAndNeighbourEdges() {
+        ZoneGraph graph = gameMap.getGraph();
+        int home = graph.getId("Home");
+        int street1 = graph.getId("Street 1");
+
+        assertEquals(home, gameMap.getCurrentZoneId());
+        assertEquals(street1, graph.getTarget(home, Zone.Edge.DOWN));
+        assertEquals(ZoneGraph.NO_ZONE, graph.getTarget(home, Zone.Edge.UP));
+        assertEquals(ZoneGraph.NO_ZONE, graph.getId("Nowhere"));
+    }
+
+    @Test
+    void testEdgeTransitionMovesPlayerToOppositeSide() {
+        player.setX(500);
+        player.setY(1200 - SIZE);
+
+        assertTrue(interactor.checkAndPerformTransition(500, 1200 - SIZE, SIZE, SIZE));
+
+        assertEquals("Street 1", gameMap.getCurrentZone().getName());
+        assertEquals(5, player.getY());
+        assertEquals(1, outputs.size());
+        assertEquals("Street 1", outputs.get(0).getNewZoneName());
+    }
+
+    @Test
+    void testNoTransitionAwayFromEdgesOrOnEdgesLeadingNowhere() {
+        assertFalse(interactor.checkAndPerformTransition(500, 500, SIZE, SIZE));
+        assertFalse(interactor.checkAndPerformTransition(500, 0, SIZE, SIZE));   // Home has nothing above
+        assertEquals("Home", gameMap.getCurrentZone().getName());
+        assertTrue(outputs.isEmpty());
+    }
+
+    @Test
+    void testSubwayTunnelKeepsTheOriginalCoordinates() {
+        gameMap.setCurrentZone("Subway Station 1");
+
+        // Station 1 triggers once the player's y reaches 900, whatever their size
+        assertFalse(interactor.checkAndPerformTransition(900, 899, SIZE, SIZE));
+        assertTrue(interactor.checkAndPerformTransition(900, 900, SIZE, SIZE));
+        assertEquals("Subway Station 2", gameMap.getCurrentZone().getName());
+        assertEquals(350, player.getY());
+
+        // the spawn point is outside the return band, so the player does not bounce back
+        assertFalse(interactor.checkAndPerformTransition(900, player.getY(), SIZE, SIZE));
+        assertFalse(interactor.checkAndPerformTransition(900, 301, SIZE, SIZE));
+        assertTrue(interactor.checkAndPerformTransition(900, 300, SIZE, SIZE));
+        assertEquals("Subway Station 1", gameMap.getCurrentZone().getName());
+        assertEquals(850, player.getY());
+    }
+
+    @Test
+    void testOnlyTheFirstEdgeReachedIsConsidered() {
+        // Street 2 leads right to the Grocery Store but nowhere up; in the top-right corner
+        // the top edge is reached first, and the right edge is not tried instead
+        gameMap.setCurrentZone("Street 2");
+
+        assertFalse(interactor.checkAndPerformTransition(1920 - SIZE, 0, SIZE, SIZE));
+        assertEquals("Street 2", gameMap.getCurrentZone().getName());
+        assertTrue(interactor.checkAndPerformTransition(1920 - SIZE, 500, SIZE, SIZE));
+        assertEquals("Grocery Store", gameMap.getCurrentZone().getName());
+    }
+}
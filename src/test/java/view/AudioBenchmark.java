@@ -0,0 +1,109 @@
+package view;
+
+import java.util.Arrays;
+
+import javazoom.jl.decoder.JavaLayerException;
+
+/**
+ * Measures the audio pipeline without a sound card, so numbers can be compared before and
+ * after an audio change on any build machine.
+ *
+ * Every stage is reported as nanoseconds of work per second of audio and as a multiple of
+ * real time. Run it from the test classpath:
+ * {@code mvn test-compile exec:java -Dexec.mainClass=view.AudioBenchmark -Dexec.classpathScope=test}
+ * with an optional MP3 resource path as the argument.
+ */
+public class AudioBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 10;
+    private static final double AUDIO_SECONDS_PER_ITERATION = 10;
+    private static final int CHUNKS_PER_ITERATION =
+            (int) (AUDIO_SECONDS_PER_ITERATION * AudioMixer.SAMPLE_RATE / AudioMixer.FRAMES_PER_CHUNK);
+    private static final int MIXED_VOICES = 4;
+
+    private static volatile Object sink;   // keeps results alive so nothing is optimized away
+
+    /**
+     * One stage of the pipeline; runs some work and returns the seconds of audio it covered.
+     */
+    private interface Stage {
+        double run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String resource = args.length > 0 ? args[0] : "/audio/siren.mp3";
+        byte[] mp3 = Mp3FrameDecoder.readResource(resource);
+
+        float[] mixBuffer = new float[AudioMixer.FRAMES_PER_CHUNK * 2];
+        byte[] bytes = new byte[mixBuffer.length * 2];
+        for (int i = 0; i < mixBuffer.length; i++) {
+            mixBuffer[i] = (float) (Math.sin(i * 0.01) * 40000);   // some of it clips
+        }
+        short[] pcm = new short[CHUNKS_PER_ITERATION * mixBuffer.length];
+        for (int i = 0; i < pcm.length; i++) {
+            pcm[i] = (short) (Math.sin(i * 0.01) * 20000);
+        }
+
+        System.out.printf("%-22s %14s %12s%n", "stage", "ns/audio s", "x realtime");
+        measure("mp3 frame decode", () -> decodeAll(mp3));
+        measure("byte conversion", () -> {
+            for (int i = 0; i < CHUNKS_PER_ITERATION; i++) {
+                AudioMixer.toPcm16(mixBuffer, 1f, bytes);
+            }
+            sink = bytes;
+            return AUDIO_SECONDS_PER_ITERATION;
+        });
+        measure("volume application", () -> {
+            PcmVoice voice = new PcmVoice(pcm, 0.5f, null);
+            Arrays.fill(mixBuffer, 0f);
+            while (voice.mix(mixBuffer, AudioMixer.FRAMES_PER_CHUNK)) {
+                // accumulate every chunk into the same buffer
+            }
+            sink = mixBuffer;
+            return AUDIO_SECONDS_PER_ITERATION;
+        });
+        measure("mix " + MIXED_VOICES + " voices", () -> {
+            AudioMixer mixer = new AudioMixer(new NullAudioOutput(false));
+            for (int i = 0; i < MIXED_VOICES; i++) {
+                mixer.add(new PcmVoice(pcm, 0.5f, null));
+            }
+            for (int i = 0; i < CHUNKS_PER_ITERATION; i++) {
+                mixer.mixChunk();
+            }
+            sink = mixer.getLineBuffer();
+            return AUDIO_SECONDS_PER_ITERATION;
+        });
+    }
+
+    /**
+     * Decodes a whole file frame by frame.
+     */
+    private static double decodeAll(byte[] mp3) throws JavaLayerException {
+        Mp3FrameDecoder decoder = new Mp3FrameDecoder(mp3);
+        short[] frame = new short[Mp3FrameDecoder.MAX_FRAME_SAMPLES * 2];
+        long frames = 0;
+        int decoded;
+        while ((decoded = decoder.decodeFrame(frame, 0)) >= 0) {
+            frames += decoded;
+        }
+        decoder.close();
+        sink = frame;
+        return frames == 0 ? 0 : frames / (double) decoder.getSampleRate();
+    }
+
+    private static void measure(String name, Stage stage) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            stage.run();
+        }
+        double[] nanosPerAudioSecond = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            double audioSeconds = stage.run();
+            long elapsed = System.nanoTime() - start;
+            nanosPerAudioSecond[i] = audioSeconds > 0 ? elapsed / audioSeconds : Double.NaN;
+        }
+        Arrays.sort(nanosPerAudioSecond);
+        double median = nanosPerAudioSecond[ITERATIONS / 2];
+        System.out.printf("%-22s %14.0f %12.1f%n", name, median, 1e9 / median);
+    }
+}
@@ -0,0 +1,58 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioMixerTest {
+
+    private static short sampleAt(byte[] buffer, int index) {
+        return (short) ((buffer[2 * index] & 0xFF) | (buffer[2 * index + 1] << 8));
+    }
+
+    private static short[] constant(int frames, short value) {
+        short[] samples = new short[frames * 2];
+        java.util.Arrays.fill(samples, value);
+        return samples;
+    }
+
+    @Test
+    void testOverlappingVoicesAreSummedAndClipped() {
+        AudioMixer mixer = new AudioMixer(new NullAudioOutput(false));
+        mixer.add(new PcmVoice(constant(AudioMixer.FRAMES_PER_CHUNK, (short) 1000), 1f, null));
+        mixer.add(new PcmVoice(constant(AudioMixer.FRAMES_PER_CHUNK, (short) 2000), 0.5f, null));
+        mixer.add(new PcmVoice(constant(10, (short) 32000), 1f, null));
+
+        mixer.setMasterGain(1f);
+        mixer.mixChunk();
+
+        byte[] out = mixer.getLineBuffer();
+        assertEquals(Short.MAX_VALUE, sampleAt(out, 0));   // 1000 + 1000 + 32000 clipped
+        assertEquals(2000, sampleAt(out, 20));              // the short voice has ended
+        assertEquals(2000, sampleAt(out, AudioMixer.FRAMES_PER_CHUNK * 2 - 1));
+    }
+
+    @Test
+    void testFinishedVoicesAreRemovedAndReported() {
+        AudioMixer mixer = new AudioMixer(new NullAudioOutput(false));
+        AtomicInteger completed = new AtomicInteger();
+        mixer.add(new PcmVoice(constant(AudioMixer.FRAMES_PER_CHUNK + 1, (short) 100), 1f,
+                completed::incrementAndGet));
+        mixer.setMasterGain(0.5f);
+
+        mixer.mixChunk();
+        assertEquals(0, completed.get());
+        assertEquals(50, sampleAt(mixer.getLineBuffer(), 0));
+
+        mixer.mixChunk();
+        assertEquals(1, completed.get());
+        assertEquals(50, sampleAt(mixer.getLineBuffer(), 1));
+        assertEquals(0, sampleAt(mixer.getLineBuffer(), 2));
+
+        mixer.mixChunk();
+        assertEquals(1, completed.get());
+        assertEquals(0, sampleAt(mixer.getLineBuffer(), 0));
+    }
+}
@@ -0,0 +1,74 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioOutputTest {
+
+    @Test
+    void testMixerRunsHeadlessIntoNullSink() throws InterruptedException {
+        NullAudioOutput output = new NullAudioOutput(false);
+        AudioMixer mixer = new AudioMixer(output);
+        short[] samples = new short[AudioMixer.FRAMES_PER_CHUNK * 2 * 3];
+        CountDownLatch done = new CountDownLatch(1);
+
+        mixer.play(new PcmVoice(samples, 1f, done::countDown));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        mixer.shutdown();
+        assertTrue(output.getBytesWritten() >= samples.length * 2L);
+    }
+
+    @Test
+    void testWavFileHasHeaderAndData() throws Exception {
+        Path file = Files.createTempFile("mix", ".wav");
+        try {
+            WavFileAudioOutput output = new WavFileAudioOutput(file, false);
+            assertTrue(output.open(AudioMixer.FORMAT, 4096));
+            byte[] chunk = new byte[400];
+            Arrays.fill(chunk, (byte) 7);
+            output.write(chunk, 0, chunk.length);
+            output.write(chunk, 100, 200);
+            output.close();
+
+            byte[] written = Files.readAllBytes(file);
+            assertEquals(44 + 600, written.length);
+            ByteBuffer header = ByteBuffer.wrap(written).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals("RIFF", new String(written, 0, 4));
+            assertEquals(36 + 600, header.getInt(4));
+            assertEquals("WAVE", new String(written, 8, 4));
+            assertEquals(2, header.getShort(22));          // channels
+            assertEquals(44100, header.getInt(24));        // sample rate
+            assertEquals(16, header.getShort(34));         // bits per sample
+            assertEquals("data", new String(written, 36, 4));
+            assertEquals(600, header.getInt(40));
+            assertEquals(7, written[written.length - 1]);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testRealTimeNullSinkIsPaced() {
+        NullAudioOutput output = new NullAudioOutput(true);
+        int chunkBytes = AudioMixer.FRAMES_PER_CHUNK * 4;
+        output.open(AudioMixer.FORMAT, chunkBytes);
+        byte[] chunk = new byte[chunkBytes];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            output.write(chunk, 0, chunk.length);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        // five chunks of ~23 ms with one chunk of buffer: at least ~90 ms
+        assertTrue(elapsedMillis >= 80, "took " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,80 @@
+package view;
+
+import entity.GameMap;
+import entity.ZoneGraph;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundAssetStreamerTest {
+    private static final long IMAGE_BYTES = 10 * 10 * 4;
+
+    private final GameMap gameMap = new GameMap();
+    private final Set<String> decoded = ConcurrentHashMap.newKeySet();
+    private final Semaphore ready = new Semaphore(0);
+
+    private BackgroundAssetStreamer newStreamer(long budget) {
+        return new BackgroundAssetStreamer(gameMap, budget, 1, ready::release, path -> {
+            decoded.add(path);
+            return new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        });
+    }
+
+    private String path(String zoneName) {
+        return gameMap.getZone(zoneName).getBackgroundImagePath();
+    }
+
+    @Test
+    void testFocusDecodesZoneAndNeighboursIncludingSpecialTransitions() throws InterruptedException {
+        BackgroundAssetStreamer streamer = newStreamer(Long.MAX_VALUE);
+        ZoneGraph graph = gameMap.getGraph();
+
+        // Subway Station 1: Street 1 above, Subway Station 2 through the tunnel
+        streamer.focus(graph.getId("Subway Station 1"));
+        assertTrue(ready.tryAcquire(3, 5, TimeUnit.SECONDS));
+
+        assertEquals(Set.of(path("Subway Station 1"), path("Street 1"), path("Subway Station 2")), decoded);
+        assertNotNull(streamer.get(path("Subway Station 2")));
+        assertFalse(streamer.isResident(path("Office Lobby")));
+    }
+
+    @Test
+    void testDistantZonesAreEvictedOverBudget() throws InterruptedException {
+        BackgroundAssetStreamer streamer = newStreamer(3 * IMAGE_BYTES);
+        ZoneGraph graph = gameMap.getGraph();
+
+        streamer.focus(graph.getId("Home"));   // Home, Street 1
+        assertTrue(ready.tryAcquire(2, 5, TimeUnit.SECONDS));
+        streamer.focus(graph.getId("Street 2"));   // Street 2, Street 1, Grocery Store
+        assertTrue(ready.tryAcquire(2, 5, TimeUnit.SECONDS));
+
+        assertFalse(streamer.isResident(path("Home")));
+        assertTrue(streamer.isResident(path("Street 1")));
+        assertTrue(streamer.isResident(path("Street 2")));
+        assertTrue(streamer.isResident(path("Grocery Store")));
+        assertEquals(3 * IMAGE_BYTES, streamer.getResidentBytes());
+    }
+
+    @Test
+    void testMissingImagesAreNotRetried() throws InterruptedException {
+        Semaphore attempts = new Semaphore(0);
+        BackgroundAssetStreamer streamer = new BackgroundAssetStreamer(gameMap, Long.MAX_VALUE, 1, () -> { },
+                path -> {
+                    attempts.release();
+                    return null;
+                });
+
+        assertNull(streamer.get("/backgrounds/missing.png"));
+        assertTrue(attempts.tryAcquire(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertNull(streamer.get("/backgrounds/missing.png"));
+        Thread.sleep(50);
+        assertEquals(0, attempts.availablePermits());
+    }
+}
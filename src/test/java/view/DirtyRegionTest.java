@@ -0,0 +1,49 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyRegionTest {
+
+    private static Rectangle[] newOut() {
+        Rectangle[] out = new Rectangle[DirtyRegion.MAX_RECTANGLES];
+        for (int i = 0; i < out.length; i++) out[i] = new Rectangle();
+        return out;
+    }
+
+    @Test
+    void testOverlappingRectanglesMergeAndSeparateOnesStaySeparate() {
+        DirtyRegion region = new DirtyRegion();
+        assertTrue(region.isEmpty());
+
+        region.add(0, 0, 10, 10);
+        region.add(5, 5, 10, 10);        // overlaps the first
+        region.add(1000, 1000, 10, 10);  // far away, kept apart
+        region.add(0, 0, 0, 10);         // empty, ignored
+
+        Rectangle[] out = newOut();
+        assertEquals(2, region.drain(out));
+        assertEquals(new Rectangle(0, 0, 15, 15), out[0]);
+        assertEquals(new Rectangle(1000, 1000, 10, 10), out[1]);
+        assertTrue(region.isEmpty());
+        assertEquals(0, region.drain(out));
+    }
+
+    @Test
+    void testTooManyRectanglesBecomeFullRepaint() {
+        DirtyRegion region = new DirtyRegion();
+        for (int i = 0; i <= DirtyRegion.MAX_RECTANGLES; i++) {
+            region.add(i * 100, 0, 10, 10);
+        }
+
+        assertEquals(-1, region.drain(newOut()));
+        assertTrue(region.isEmpty());
+
+        region.addAll();
+        region.add(0, 0, 10, 10);
+        assertEquals(-1, region.drain(newOut()));
+    }
+}
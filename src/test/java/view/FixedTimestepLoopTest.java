@@ -0,0 +1,98 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepLoopTest {
+
+    private static class RecordingCallbacks implements FixedTimestepLoop.Callbacks {
+        final List<Double> steps = new ArrayList<>();
+        final CountDownLatch frames = new CountDownLatch(3);
+
+        @Override
+        public void step(double stepSeconds) {
+            steps.add(stepSeconds);
+        }
+
+        @Override
+        public void render(double alpha) {
+            frames.countDown();
+        }
+    }
+
+    @Test
+    void testStepsAreFixedAndLeftoverBecomesAlpha() {
+        RecordingCallbacks callbacks = new RecordingCallbacks();
+        FixedTimestepLoop loop = new FixedTimestepLoop(callbacks, 144);
+        long step = FixedTimestepLoop.STEP_NANOS;
+
+        assertEquals(0.5, loop.advance(step / 2), 1e-9);
+        assertTrue(callbacks.steps.isEmpty());
+
+        // the leftover half step carries over
+        assertEquals(0.0, loop.advance(step * 3 / 2), 1e-6);
+        assertEquals(2, callbacks.steps.size());
+        for (double seconds : callbacks.steps) {
+            assertEquals(1.0 / FixedTimestepLoop.SIMULATION_HZ, seconds, 1e-9);
+        }
+        assertEquals(2, loop.getStats().getTotalSteps());
+        assertEquals(2, loop.getStats().getTotalFrames());
+    }
+
+    @Test
+    void testLongFramesAreClampedInsteadOfCaughtUp() {
+        RecordingCallbacks callbacks = new RecordingCallbacks();
+        FixedTimestepLoop loop = new FixedTimestepLoop(callbacks, 60);
+
+        loop.advance(5_000_000_000L);
+
+        long maxSteps = FixedTimestepLoop.MAX_FRAME_NANOS / FixedTimestepLoop.STEP_NANOS;
+        assertEquals(maxSteps, callbacks.steps.size());
+        assertEquals(4750.0, loop.getStats().getDroppedMillis(), 1e-6);
+    }
+
+    @Test
+    void testThreadRendersUntilStopped() throws InterruptedException {
+        RecordingCallbacks callbacks = new RecordingCallbacks();
+        FixedTimestepLoop loop = new FixedTimestepLoop(callbacks, 200);
+
+        loop.start();
+        assertTrue(loop.isRunning());
+        assertTrue(callbacks.frames.await(5, TimeUnit.SECONDS));
+        loop.stop();
+
+        assertFalse(loop.isRunning());
+        int steps = callbacks.steps.size();
+        Thread.sleep(50);
+        assertEquals(steps, callbacks.steps.size());
+    }
+
+    @Test
+    void testLoopThatThrowsIsNoLongerRunning() throws InterruptedException {
+        CountDownLatch failed = new CountDownLatch(1);
+        FixedTimestepLoop loop = new FixedTimestepLoop(new FixedTimestepLoop.Callbacks() {
+            @Override
+            public void step(double stepSeconds) {
+            }
+
+            @Override
+            public void render(double alpha) {
+                failed.countDown();
+                throw new IllegalStateException("render failed");
+            }
+        }, 200);
+
+        loop.start();
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && loop.isRunning(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(loop.isRunning());
+    }
+}
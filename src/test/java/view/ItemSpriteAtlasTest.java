@@ -0,0 +1,86 @@
+package view;
+
+import data_access.ItemDataAccessObject;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemSpriteAtlasTest {
+
+    private static BufferedImage solid(int size, Color color) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, size, size);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    void testSpritesAreDrawnPreScaledFromOneImage() {
+        Map<String, String> paths = Map.of("Apple", "red", "Soda", "blue", "Ghost", "missing");
+        ItemSpriteAtlas atlas = new ItemSpriteAtlas(paths, new int[] {40, 60}, null, path -> {
+            switch (path) {
+                case "red": return solid(256, Color.RED);
+                case "blue": return solid(100, Color.BLUE);
+                default: return null;
+            }
+        });
+
+        assertTrue(atlas.contains("Apple"));
+        assertFalse(atlas.contains("Ghost"));
+        assertEquals(120, atlas.getImage(1).getWidth());  // two 60px cells in the second shelf
+        assertEquals(100, atlas.getImage(1).getHeight()); // one 40px shelf and one 60px shelf
+
+        BufferedImage canvas = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = canvas.createGraphics();
+        assertTrue(atlas.draw(g, "Apple", 40, 0, 0));
+        assertTrue(atlas.draw(g, "Soda", 60, 40, 40));
+        assertFalse(atlas.draw(g, "Ghost", 40, 0, 0));
+        assertFalse(atlas.draw(g, "Apple", 80, 0, 0));
+        assertFalse(atlas.draw(g, null, 40, 0, 0));
+        g.dispose();
+
+        assertEquals(Color.RED.getRGB(), canvas.getRGB(20, 20));
+        assertEquals(Color.BLUE.getRGB(), canvas.getRGB(70, 70));
+        assertEquals(0, canvas.getRGB(45, 20));   // only the sprite's region was copied
+    }
+
+    @Test
+    void testSpritesArePreScaledToTheScreenScale() {
+        ItemSpriteAtlas atlas = new ItemSpriteAtlas(Map.of("Apple", "red"), new int[] {40, 60}, null,
+                path -> solid(256, Color.RED));
+
+        // a 1280x800 viewport shows the 1920x1200 virtual space at 2/3 scale
+        BufferedImage canvas = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = canvas.createGraphics();
+        g.translate(10, 0);
+        g.scale(2 / 3.0, 2 / 3.0);
+        AffineTransform transform = g.getTransform();
+        assertTrue(atlas.draw(g, "Apple", 60, 30, 30));
+        assertEquals(transform, g.getTransform());
+        g.dispose();
+
+        assertEquals(67, atlas.getImage(2 / 3.0).getHeight());  // a 27px shelf and a 40px shelf
+        assertEquals(Color.RED.getRGB(), canvas.getRGB(30, 20));
+        assertEquals(Color.RED.getRGB(), canvas.getRGB(69, 59));
+        assertEquals(0, canvas.getRGB(70, 60));   // 60 virtual pixels cover exactly 40 on screen
+    }
+
+    @Test
+    void testEveryItemHasASprite() {
+        Map<String, String> spritePaths = new ItemDataAccessObject().getSpritePaths();
+        ItemSpriteAtlas atlas = new ItemSpriteAtlas(spritePaths, new int[] {40, 60}, null);
+
+        assertEquals(12, spritePaths.size());
+        for (String name : spritePaths.keySet()) {
+            assertTrue(atlas.contains(name), name);
+        }
+    }
+}
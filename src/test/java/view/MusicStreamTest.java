@@ -0,0 +1,91 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MusicStreamTest {
+
+    private static final int CHUNK = AudioMixer.FRAMES_PER_CHUNK;
+
+    private static PcmVoice constant(int frames, short value) {
+        short[] samples = new short[frames * 2];
+        Arrays.fill(samples, value);
+        return new PcmVoice(samples, 1f, null);
+    }
+
+    @Test
+    void testDecodesAheadAndPlaysInOrder() {
+        MusicStream stream = new MusicStream(constant(CHUNK * 100, (short) 1000), new MusicDecoder(), 0);
+        assertTrue(stream.fill());
+        assertFalse(stream.fill());   // the ring is full
+        assertEquals(MusicStream.RING_CHUNKS * CHUNK * 1000.0 / AudioMixer.SAMPLE_RATE,
+                stream.getBufferedMillis(), 1e-9);
+
+        float[] out = new float[CHUNK * 2];
+        assertTrue(stream.mix(out, CHUNK));
+        assertEquals(1000f, out[0]);
+        assertEquals(1000f, out[out.length - 1]);
+        assertTrue(stream.getStartLatencyNanos() >= 0);
+        assertTrue(stream.fill());    // one chunk was freed
+    }
+
+    @Test
+    void testUnderrunsAreCountedOnceStarted() {
+        MusicStream stream = new MusicStream(constant(CHUNK * 100, (short) 1000), new MusicDecoder(), 0);
+        float[] out = new float[CHUNK * 2];
+
+        assertTrue(stream.mix(out, CHUNK));   // not started yet
+        assertEquals(0, stream.getUnderruns());
+        assertEquals(-1, stream.getStartLatencyNanos());
+        assertEquals(0f, out[0]);
+
+        stream.fill();
+        for (int i = 0; i < MusicStream.RING_CHUNKS; i++) {
+            stream.mix(out, CHUNK);
+        }
+        assertEquals(0, stream.getUnderruns());
+        assertTrue(stream.mix(out, CHUNK));
+        assertEquals(1, stream.getUnderruns());
+    }
+
+    @Test
+    void testEndsAfterTheLastDecodedChunk() {
+        MusicStream stream = new MusicStream(constant(CHUNK + 10, (short) 1000), new MusicDecoder(), 0);
+        stream.fill();
+        float[] out = new float[CHUNK * 2];
+        assertTrue(stream.mix(out, CHUNK));
+        assertTrue(stream.mix(out, CHUNK));
+        assertFalse(stream.mix(out, CHUNK));
+    }
+
+    @Test
+    void testCrossfadeRampsOneTrackDownAndTheOtherUp() {
+        MusicDecoder decoder = new MusicDecoder();
+        MusicStream old = new MusicStream(constant(CHUNK * 100, (short) 1000), decoder, 0);
+        MusicStream next = new MusicStream(constant(CHUNK * 100, (short) 1000), decoder, CHUNK);
+        old.fill();
+        next.fill();
+
+        old.fadeOut(CHUNK);
+        assertFalse(old.isPlaying());
+        float[] out = new float[CHUNK * 2];
+        boolean oldPlaying = old.mix(out, CHUNK);
+        assertTrue(next.mix(out, CHUNK));
+
+        // the gains sum to one across the fade, so the level stays constant
+        assertEquals(1000f, out[0], 2f);
+        assertEquals(1000f, out[CHUNK], 2f);
+        assertEquals(1000f, out[out.length - 2], 2f);
+
+        if (oldPlaying) {
+            Arrays.fill(out, 0f);
+            assertFalse(old.mix(out, CHUNK));
+        }
+        old.finished();
+        assertTrue(old.isDone());
+        assertTrue(next.isPlaying());
+    }
+}
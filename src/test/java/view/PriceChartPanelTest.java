@@ -0,0 +1,49 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceChartPanelTest {
+
+    /**
+     * Records the area asked to be repainted instead of scheduling a paint.
+     */
+    private static class RecordingChart extends PriceChartPanel {
+        Rectangle dirty;
+
+        RecordingChart(PriceRingBuffer prices) {
+            super(prices);
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            Rectangle area = new Rectangle(x, y, width, height);
+            dirty = dirty == null ? area : dirty.union(area);
+        }
+    }
+
+    @Test
+    void testEveryBarAppendedAtOnceIsRepainted() {
+        PriceRingBuffer prices = new PriceRingBuffer(10);
+        prices.add(10);
+        prices.add(20);
+        RecordingChart chart = new RecordingChart(prices);
+        chart.setSize(400, 200);
+        BufferedImage screen = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        chart.paint(screen.getGraphics());
+        chart.dirty = null;
+
+        // two bars inside the drawn range, so neither scrolls nor rescales the chart
+        prices.add(15);
+        prices.add(12);
+        chart.pricesChanged();
+
+        int slotWidth = (400 - 2 * 8) / 10;
+        assertNotNull(chart.dirty);
+        assertEquals(2 * slotWidth, chart.dirty.width);
+    }
+}
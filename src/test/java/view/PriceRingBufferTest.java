@@ -0,0 +1,42 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceRingBufferTest {
+
+    @Test
+    void testKeepsLatestPricesInOrder() {
+        PriceRingBuffer buffer = new PriceRingBuffer(3);
+        for (int i = 1; i <= 5; i++) buffer.add(i);
+
+        assertEquals(3, buffer.size());
+        assertEquals(3.0, buffer.get(0));
+        assertEquals(5.0, buffer.get(2));
+        assertEquals(5.0, buffer.getLast());
+        assertEquals(5, buffer.getAppendedCount());
+    }
+
+    @Test
+    void testRunningMinMaxMatchesWindow() {
+        PriceRingBuffer buffer = new PriceRingBuffer(4);
+        double[] prices = {5, 1, 7, 3, 2, 9, 4, 4, 0, 6, 8, 8};
+
+        for (int n = 0; n < prices.length; n++) {
+            buffer.add(prices[n]);
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int i = Math.max(0, n - 3); i <= n; i++) {
+                min = Math.min(min, prices[i]);
+                max = Math.max(max, prices[i]);
+            }
+            assertEquals(min, buffer.getMin(), "min after " + (n + 1));
+            assertEquals(max, buffer.getMax(), "max after " + (n + 1));
+        }
+
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        assertTrue(Double.isNaN(buffer.getMin()));
+    }
+}
@@ -0,0 +1,128 @@
+package view;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import use_case.game_loop.GameLoopTimings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfilerTest {
+
+    @Test
+    void testNothingIsRecordedWhileDisabled() {
+        Profiler profiler = new Profiler();
+
+        assertEquals(0, profiler.begin());
+        profiler.record(Profiler.Section.PAINT, 0, 1_000_000);
+        assertFalse(profiler.refresh(System.nanoTime()));
+        assertEquals(0, profiler.getOverlayLines().length);
+    }
+
+    @Test
+    void testOverlayShowsPercentilesPerSection() {
+        Profiler profiler = new Profiler();
+        profiler.setEnabled(true);
+        for (int i = 1; i <= 100; i++) {
+            profiler.record(Profiler.Section.PAINT, 0, i * 1_000_000L);   // 1..100 ms
+        }
+
+        assertTrue(profiler.refresh(System.nanoTime()));
+        assertFalse(profiler.refresh(System.nanoTime()));   // not due again yet
+
+        String[] lines = profiler.getOverlayLines();
+        assertEquals(Profiler.OVERLAY_LINES, lines.length);
+        String paint = lines[Profiler.Section.PAINT.ordinal()];
+        assertTrue(paint.contains("p50  50.00 ms"), paint);
+        assertTrue(paint.contains("p99  99.00 ms"), paint);
+    }
+
+    private static volatile byte[] sink;
+
+    private static void allocateMegabytes(int megabytes) {
+        for (int i = 0; i < megabytes; i++) {
+            sink = new byte[1_000_000];
+        }
+    }
+
+    @Test
+    void testAllocationRateSurvivesThreadsEnding() throws Exception {
+        Profiler profiler = new Profiler();
+        profiler.setEnabled(true);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread worker = new Thread(() -> {
+            allocateMegabytes(50);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+        while (worker.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        long start = System.nanoTime();
+        profiler.refresh(start);
+        release.countDown();
+        worker.join();
+        allocateMegabytes(20);
+        profiler.refresh(start + 1_000_000_000L);
+
+        // the worker's 50 MB leave the live threads' total, that must not hide these 20 MB
+        String line = profiler.getOverlayLines()[Profiler.OVERLAY_LINES - 1];
+        assertTrue(line.startsWith("allocating "), line);
+        double rate = Double.parseDouble(line.replaceAll("[^0-9.,]", "").replace(',', '.'));
+        assertTrue(rate >= 15, line);
+    }
+
+    @Test
+    void testRingKeepsOnlyTheLatestSpans() throws IOException {
+        Profiler profiler = new Profiler();
+        profiler.setEnabled(true);
+        for (int i = 0; i < Profiler.CAPACITY + 10; i++) {
+            profiler.record(Profiler.Section.STEP, i * 1000L, i * 1000L + 500);
+        }
+        Path file = Files.createTempFile("trace", ".json");
+        try {
+            profiler.exportChromeTrace(file);
+            JSONArray events = new JSONObject(Files.readString(file)).getJSONArray("traceEvents");
+            assertEquals(Profiler.CAPACITY, events.length());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testChromeTraceHasCompleteEventsInMicroseconds() throws IOException {
+        Profiler profiler = new Profiler();
+        profiler.setEnabled(true);
+        profiler.record(Profiler.Section.FRAME, 5_000_000, 21_000_000);
+        profiler.record(GameLoopTimings.Phase.MOVEMENT, 6_000_000, 6_250_000);
+
+        Path file = Files.createTempFile("trace", ".json");
+        JSONArray events;
+        try {
+            profiler.exportChromeTrace(file);
+            events = new JSONObject(Files.readString(file)).getJSONArray("traceEvents");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertEquals(2, events.length());
+        JSONObject frame = events.getJSONObject(0);
+        assertEquals("frame", frame.getString("name"));
+        assertEquals("X", frame.getString("ph"));
+        assertEquals(0.0, frame.getDouble("ts"), 1e-9);
+        assertEquals(16_000.0, frame.getDouble("dur"), 1e-9);
+        JSONObject movement = events.getJSONObject(1);
+        assertEquals("movement", movement.getString("name"));
+        assertEquals(1_000.0, movement.getDouble("ts"), 1e-9);
+        assertEquals(250.0, movement.getDouble("dur"), 1e-9);
+    }
+}